@@ -2,7 +2,16 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -11,10 +20,12 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.logic.PomodoroManager;
+import seedu.address.logic.ReminderScheduler;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.Pet;
@@ -25,21 +36,17 @@ import seedu.address.model.ReadOnlyStatistics;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.Statistics;
+import seedu.address.model.TaskArchive;
 import seedu.address.model.TaskList;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.JsonPetStorage;
-import seedu.address.storage.JsonPomodoroStorage;
-import seedu.address.storage.JsonStatisticsStorage;
-import seedu.address.storage.JsonTaskListStorage;
+import seedu.address.storage.ContainerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
-import seedu.address.storage.PetStorage;
-import seedu.address.storage.PomodoroStorage;
-import seedu.address.storage.StatisticsStorage;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
-import seedu.address.storage.TaskListStorage;
+import seedu.address.storage.StorageConverter;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -50,12 +57,17 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    /** The number of threads that read the stores at startup, one per store. */
+    private static final int STORE_LOADER_THREADS = 4;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
     protected PomodoroManager pomodoro;
+    protected WriteBehindSaver saver;
+    protected ReminderScheduler reminders;
 
     @Override
     public void init() throws Exception {
@@ -68,29 +80,29 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TaskListStorage taskListStorage = new JsonTaskListStorage(userPrefs.getTaskListFilePath());
-        PetStorage petStorage = new JsonPetStorage(userPrefs.getPetFilePath());
-        PomodoroStorage pomodoroStorage = new JsonPomodoroStorage(userPrefs.getPomodoroFilePath());
-        StatisticsStorage statisticsStorage =
-                new JsonStatisticsStorage(userPrefs.getStatisticsFilePath());
-
-        storage =
-                new StorageManager(
-                        taskListStorage,
-                        petStorage,
-                        pomodoroStorage,
-                        statisticsStorage,
+        ContainerStorage containerStorage =
+                new ContainerStorage(
+                        userPrefs.getDataFilePath(),
+                        userPrefs.getStorageFormat(),
+                        userPrefs.getJournalCompactionThreshold(),
                         userPrefsStorage);
+        migrateToContainer(userPrefs, containerStorage);
+        convertStorageFormat(containerStorage);
+        storage = containerStorage;
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        saver = new WriteBehindSaver(storage);
+
+        logic = new LogicManager(model, saver);
 
         pomodoro = new PomodoroManager();
 
         ui = new UiManager(logic, pomodoro);
+
+        reminders = new ReminderScheduler(ui::showReminder);
     }
 
     /**
@@ -98,85 +110,203 @@ public class MainApp extends Application {
      * userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book
      * is not found, or an empty address book will be used instead if errors occur when reading
-     * {@code storage}'s address book.
+     * {@code storage}'s address book. The stores are read concurrently, and the time taken to read
+     * each of them is logged.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyTaskList> taskListOptional;
-        Optional<ReadOnlyPet> petOptional;
-        Optional<ReadOnlyPomodoro> pomodoroOptional;
-        Optional<ReadOnlyStatistics> statisticsOptional;
+        ExecutorService executor =
+                Executors.newFixedThreadPool(
+                        STORE_LOADER_THREADS,
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "store-loader");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        try {
+            Future<ReadOnlyTaskList> initialData =
+                    executor.submit(timed("TaskList", () -> initTaskList(storage)));
+            Future<ReadOnlyPet> initialPet = executor.submit(timed("Pet", () -> initPet(storage)));
+            Future<ReadOnlyPomodoro> initialPomodoro =
+                    executor.submit(timed("Pomodoro", () -> initPomodoro(storage)));
+            Future<ReadOnlyStatistics> initialDayDataList =
+                    executor.submit(timed("Statistics", () -> initStatistics(storage)));
+
+            return new ModelManager(
+                    getLoaded(initialData),
+                    getLoaded(initialPet),
+                    getLoaded(initialPomodoro),
+                    getLoaded(initialDayDataList),
+                    new TaskArchive(() -> loadArchive(storage)),
+                    userPrefs);
+        } finally {
+            executor.shutdown();
+        }
+    }
 
-        ReadOnlyTaskList initialData;
-        ReadOnlyPet initialPet;
-        ReadOnlyPomodoro initialPomodoro;
-        ReadOnlyStatistics initialDayDataList;
+    /** Returns {@code loader}, logging how long it takes to load the store called {@code name}. */
+    private static <T> Callable<T> timed(String name, Supplier<T> loader) {
+        return () -> {
+            long start = System.nanoTime();
+            T store = loader.get();
+            logger.info(
+                    String.format(
+                            "Loaded %s in %d ms",
+                            name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+            return store;
+        };
+    }
 
+    /** Waits for a store to be loaded, rethrowing anything unexpected thrown while loading it. */
+    private static <T> T getLoaded(Future<T> store) {
+        try {
+            return store.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading the data", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the task list in {@code storage}, the sample task list if there is none, or an empty
+     * task list if it cannot be read.
+     */
+    private static ReadOnlyTaskList initTaskList(Storage storage) {
+        Optional<ReadOnlyTaskList> taskListOptional;
+        ReadOnlyTaskList initial;
         try {
             taskListOptional = storage.readTaskList();
             if (!taskListOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample TaskList");
             }
-            initialData = taskListOptional.orElseGet(SampleDataUtil::getSampleTaskList);
+            initial = taskListOptional.orElseGet(SampleDataUtil::getSampleTaskList);
         } catch (DataConversionException e) {
             logger.warning(
                     "Data file not in the correct format. Will be starting with an empty TaskList");
-            initialData = new TaskList();
+            initial = new TaskList();
         } catch (IOException e) {
             logger.warning(
                     "Problem while reading from the file. Will be starting with an empty TaskList");
-            initialData = new TaskList();
+            initial = new TaskList();
         }
+        return initial;
+    }
 
+    /** Returns the pet in {@code storage}, or a new pet if there is none or it cannot be read. */
+    private static ReadOnlyPet initPet(Storage storage) {
+        Optional<ReadOnlyPet> petOptional;
+        ReadOnlyPet initial;
         try {
             petOptional = storage.readPet();
             if (!petOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample Pet");
             }
-            initialPet = petOptional.orElse(new Pet());
+            initial = petOptional.orElse(new Pet());
         } catch (DataConversionException e) {
             logger.warning(
                     "Data file not in the correct format. Will be starting with an empty Pet");
-            initialPet = new Pet();
+            initial = new Pet();
         } catch (IOException e) {
             logger.warning(
                     "Problem while reading from the file. Will be starting with an empty Pet");
-            initialPet = new Pet();
+            initial = new Pet();
         }
+        return initial;
+    }
 
+    /**
+     * Returns the pomodoro in {@code storage}, or a new pomodoro if there is none or it cannot be
+     * read.
+     */
+    private static ReadOnlyPomodoro initPomodoro(Storage storage) {
+        Optional<ReadOnlyPomodoro> pomodoroOptional;
+        ReadOnlyPomodoro initial;
         try {
             pomodoroOptional = storage.readPomodoro();
             if (!pomodoroOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample Pomodoro");
             }
-            initialPomodoro = pomodoroOptional.orElse(new Pomodoro());
+            initial = pomodoroOptional.orElse(new Pomodoro());
         } catch (DataConversionException e) {
             logger.warning(
                     "Data file not in the correct format. Will be starting with an empty Pomodoro");
-            initialPomodoro = new Pomodoro();
+            initial = new Pomodoro();
         } catch (IOException e) {
             logger.warning(
                     "Problem while reading from the file. Will be starting with an empty Pomodoro");
-            initialPomodoro = new Pomodoro();
+            initial = new Pomodoro();
         }
+        return initial;
+    }
 
+    /**
+     * Returns the statistics in {@code storage}, or empty statistics if there are none or they
+     * cannot be read.
+     */
+    private static ReadOnlyStatistics initStatistics(Storage storage) {
+        Optional<ReadOnlyStatistics> statisticsOptional;
+        ReadOnlyStatistics initial;
         try {
             statisticsOptional = storage.readStatistics();
             if (!statisticsOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample Statistics");
             }
-            initialDayDataList = statisticsOptional.orElse(new Statistics());
+            initial = statisticsOptional.orElse(new Statistics());
         } catch (DataConversionException e) {
             logger.warning(
                     "Data file not in the correct format. Will be starting with an empty Statistics");
-            initialDayDataList = new Statistics();
+            initial = new Statistics();
         } catch (IOException e) {
             logger.warning(
                     "Problem while reading from the file. Will be starting with an empty Statistics");
-            initialDayDataList = new Statistics();
+            initial = new Statistics();
         }
+        return initial;
+    }
 
-        return new ModelManager(
-                initialData, initialPet, initialPomodoro, initialDayDataList, userPrefs);
+    /**
+     * Returns the archived tasks in {@code storage}, or no tasks if they cannot be read. Called the
+     * first time the archived tasks are needed, rather than at startup.
+     */
+    private static List<Task> loadArchive(Storage storage) {
+        try {
+            return storage.readArchive();
+        } catch (IOException e) {
+            logger.warning(
+                    "Problem while reading from the archive. Will be using an empty archive");
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Moves the data in the separate files used by earlier versions into {@code container}, if it
+     * does not exist yet. Data that cannot be moved is left in its file.
+     */
+    private void migrateToContainer(ReadOnlyUserPrefs userPrefs, ContainerStorage container) {
+        try {
+            StorageConverter.migrateToContainer(userPrefs, container);
+        } catch (IOException e) {
+            logger.warning("Failed to move data files into the container " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Converts the task list and statistics in {@code container} to its storage format, if they were
+     * last saved in another format. Data that cannot be converted is left as it is.
+     */
+    private void convertStorageFormat(ContainerStorage container) {
+        try {
+            container.convertSections();
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert the data file " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -213,6 +343,8 @@ public class MainApp extends Application {
             initializedConfig = new Config();
         }
 
+        FileUtil.setDurability(initializedConfig.getDurability());
+
         // Update config file in case it was missing to begin with or there are new/unused fields
         try {
             ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
@@ -261,12 +393,23 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting TaskList " + MainApp.VERSION);
         ui.start(primaryStage);
+        reminders.watch(model.getTaskList().getTaskList());
     }
 
     @Override
     public void stop() {
         logger.info(
                 "============================ [ Stopping Address Book ] =============================");
+        reminders.shutdown();
+        try {
+            saver.flush();
+            logger.info(
+                    "Flushed pending saves in " + saver.getLastFlushLatency().toMillis() + "ms");
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        } finally {
+            saver.shutdown();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,19 @@
+package seedu.address.commons.core;
+
+/**
+ * How hard the app tries to keep saved data safe, from fastest to safest. Set in the config file.
+ */
+public enum Durability {
+    /** Files are overwritten in place. A crash while saving can leave a file half written. */
+    NONE,
+    /**
+     * Files are written to a temporary file that is renamed over the original, so a crash of the
+     * app leaves either the old or the new file. Data may still be lost if the machine crashes.
+     */
+    FLUSH,
+    /**
+     * As {@link #FLUSH}, but the data and the renamed directory entry are also forced to disk, so
+     * saved data survives a power loss.
+     */
+    FSYNC
+}
@@ -1,5 +1,7 @@
 package seedu.address.commons.core;
 
+import static java.util.Objects.requireNonNull;
+
 import java.awt.Point;
 import java.io.Serializable;
 import java.util.Objects;
@@ -13,17 +15,39 @@ public class GuiSettings implements Serializable {
     private final double windowWidth;
     private final double windowHeight;
     private final Point windowCoordinates;
+    private final TaskSortOrder taskSortOrder;
 
     public GuiSettings() {
         windowWidth = DEFAULT_WIDTH;
         windowHeight = DEFAULT_HEIGHT;
         windowCoordinates = null; // null represent no coordinates
+        taskSortOrder = TaskSortOrder.ADDED;
     }
 
     public GuiSettings(double windowWidth, double windowHeight, int xPosition, int yPosition) {
+        this(windowWidth, windowHeight, xPosition, yPosition, TaskSortOrder.ADDED);
+    }
+
+    /** Creates settings that show the task list in {@code taskSortOrder}. */
+    public GuiSettings(
+            double windowWidth,
+            double windowHeight,
+            int xPosition,
+            int yPosition,
+            TaskSortOrder taskSortOrder) {
+        this(windowWidth, windowHeight, new Point(xPosition, yPosition), taskSortOrder);
+    }
+
+    private GuiSettings(
+            double windowWidth,
+            double windowHeight,
+            Point windowCoordinates,
+            TaskSortOrder taskSortOrder) {
+        requireNonNull(taskSortOrder);
         this.windowWidth = windowWidth;
         this.windowHeight = windowHeight;
-        windowCoordinates = new Point(xPosition, yPosition);
+        this.windowCoordinates = windowCoordinates;
+        this.taskSortOrder = taskSortOrder;
     }
 
     public double getWindowWidth() {
@@ -38,6 +62,15 @@ public class GuiSettings implements Serializable {
         return windowCoordinates != null ? new Point(windowCoordinates) : null;
     }
 
+    public TaskSortOrder getTaskSortOrder() {
+        return taskSortOrder;
+    }
+
+    /** Returns a copy of these settings that shows the task list in {@code taskSortOrder}. */
+    public GuiSettings withTaskSortOrder(TaskSortOrder taskSortOrder) {
+        return new GuiSettings(windowWidth, windowHeight, windowCoordinates, taskSortOrder);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -51,12 +84,13 @@ public class GuiSettings implements Serializable {
 
         return windowWidth == o.windowWidth
                 && windowHeight == o.windowHeight
-                && Objects.equals(windowCoordinates, o.windowCoordinates);
+                && Objects.equals(windowCoordinates, o.windowCoordinates)
+                && taskSortOrder == o.taskSortOrder;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(windowWidth, windowHeight, windowCoordinates);
+        return Objects.hash(windowWidth, windowHeight, windowCoordinates, taskSortOrder);
     }
 
     @Override
@@ -64,7 +98,8 @@ public class GuiSettings implements Serializable {
         StringBuilder sb = new StringBuilder();
         sb.append("Width : " + windowWidth + "\n");
         sb.append("Height : " + windowHeight + "\n");
-        sb.append("Position : " + windowCoordinates);
+        sb.append("Position : " + windowCoordinates + "\n");
+        sb.append("Task order : " + taskSortOrder);
         return sb.toString();
     }
 }
@@ -0,0 +1,40 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+/** The on-disk formats that the task list and statistics can be stored in. */
+public enum StorageFormat {
+    JSON(".json"),
+    BINARY(".bin");
+
+    private final String fileExtension;
+
+    StorageFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /** Returns {@code filePath} with its extension replaced by the one of this format. */
+    public Path withFileExtension(Path filePath) {
+        requireNonNull(filePath);
+        String fileName = filePath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return filePath.resolveSibling(baseName + fileExtension);
+    }
+
+    /**
+     * Returns the format with the given name, ignoring case.
+     *
+     * @throws IllegalArgumentException if there is no such format.
+     */
+    public static StorageFormat fromName(String name) {
+        requireNonNull(name);
+        return valueOf(name.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/** The formats that tasks can be imported from and exported to, one task per row. */
+public enum TaskFileFormat {
+    /** Comma-separated values, with a header row. */
+    CSV(".csv"),
+    /** One JSON object per line, with the same fields as a task in the data file. */
+    JSON_LINES(".jsonl");
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "The file name should end in .csv or .jsonl, which sets its format";
+
+    private final String fileExtension;
+
+    TaskFileFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format of the file at {@code filePath}, going by its extension, or {@code
+     * Optional.empty()} if it is not the extension of any format.
+     */
+    public static Optional<TaskFileFormat> fromFilePath(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String name = fileName.toString().toLowerCase();
+        for (TaskFileFormat format : values()) {
+            if (name.endsWith(format.fileExtension)
+                    && name.length() > format.fileExtension.length()) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Locale;
+
+/** The orders that the task list can be shown in. */
+public enum TaskSortOrder {
+    /** The order the tasks were added in. */
+    ADDED,
+    /** Highest priority first. */
+    PRIORITY,
+    /** Tasks not done first. */
+    DONE,
+    /** Alphabetical order of name. */
+    NAME,
+    /** Earliest reminder first, and tasks without a reminder last. */
+    REMINDER;
+
+    /**
+     * Returns the order with the given name, ignoring case.
+     *
+     * @throws IllegalArgumentException if there is no such order.
+     */
+    public static TaskSortOrder fromName(String name) {
+        requireNonNull(name);
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -1,15 +1,39 @@
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import seedu.address.commons.core.Durability;
 
 /** Writes and reads files */
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static volatile Durability durability = Durability.FSYNC;
+
+    // The directories waiting to be synced by the group commit running on the current thread
+    private static final ThreadLocal<Set<Path>> pendingDirectorySyncs = new ThreadLocal<>();
+    private static final AtomicLong directorySyncCount = new AtomicLong();
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -66,8 +90,202 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
-    /** Writes given string to a file. Will create the file if it does not exist yet. */
+    /**
+     * Writes given string to a file atomically, as described in {@link #writeAtomically(Path,
+     * ContentWriter)}. Will create the file if it does not exist yet.
+     */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, content.getBytes(CHARSET));
+    }
+
+    /**
+     * Replaces the contents of {@code file} with {@code content}. See {@link #writeAtomically(Path,
+     * ContentWriter)}.
+     */
+    public static void writeAtomically(Path file, byte[] content) throws IOException {
+        writeAtomically(file, out -> out.write(content));
+    }
+
+    /**
+     * Replaces the contents of {@code file} with what {@code writer} writes, as safely as the
+     * current {@link Durability} allows. Unless it is {@link Durability#NONE}, the content is
+     * written to a new temporary file next to {@code file}, which is then renamed over it, so that
+     * readers see either the old or the new contents but never a partly written file. With {@link
+     * Durability#FSYNC} the temporary file is forced to disk before the rename, and the directory
+     * after it, unless that is deferred by {@link #groupCommit(IoAction)}.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        createParentDirsOfFile(file);
+        Durability level = durability;
+        if (level == Durability.NONE) {
+            try (OutputStream out =
+                    new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE)) {
+                writer.writeTo(new UnclosableOutputStream(out));
+            }
+            return;
+        }
+
+        Path tempFile =
+                Files.createTempFile(
+                        file.toAbsolutePath().getParent(),
+                        file.getFileName().toString(),
+                        TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out =
+                        new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                writer.writeTo(new UnclosableOutputStream(out));
+                out.flush();
+                if (level == Durability.FSYNC) {
+                    channel.force(true);
+                }
+            }
+            try {
+                Files.move(
+                        tempFile,
+                        file,
+                        StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException deleteFailure) {
+                e.addSuppressed(deleteFailure);
+            }
+            throw e;
+        }
+        if (level == Durability.FSYNC) {
+            syncDirectoryOf(file);
+        }
+    }
+
+    /**
+     * Appends {@code content} to {@code file}, creating it if needed. With {@link Durability#FSYNC}
+     * the appended data is forced to disk before this method returns.
+     */
+    public static void append(Path file, byte[] content) throws IOException {
+        createParentDirsOfFile(file);
+        boolean isNewFile = !Files.exists(file);
+        try (FileChannel channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND,
+                        StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (durability == Durability.FSYNC) {
+                channel.force(false);
+            }
+        }
+        if (isNewFile && durability == Durability.FSYNC) {
+            syncDirectoryOf(file);
+        }
+    }
+
+    /**
+     * Runs {@code writes}, deferring the directory syncs of the files they write until all of them
+     * are done, so that every directory is synced once for the whole group rather than once per
+     * file. Groups on the same thread nest into the outermost one.
+     */
+    public static void groupCommit(IoAction writes) throws IOException {
+        if (pendingDirectorySyncs.get() != null) {
+            writes.run();
+            return;
+        }
+
+        Set<Path> directories = new LinkedHashSet<>();
+        pendingDirectorySyncs.set(directories);
+        try {
+            writes.run();
+        } catch (IOException | RuntimeException e) {
+            // Files that were written before a failure are still made durable, but a failure to
+            // sync them must not hide the error that stopped the writes
+            for (Path directory : directories) {
+                try {
+                    syncDirectory(directory);
+                } catch (IOException syncFailure) {
+                    e.addSuppressed(syncFailure);
+                }
+            }
+            throw e;
+        } finally {
+            pendingDirectorySyncs.remove();
+        }
+        for (Path directory : directories) {
+            syncDirectory(directory);
+        }
+    }
+
+    public static Durability getDurability() {
+        return durability;
+    }
+
+    /** Sets how safely files are written from now on. */
+    public static void setDurability(Durability durability) {
+        requireNonNull(durability);
+        FileUtil.durability = durability;
+    }
+
+    /** Returns the number of directory syncs made so far. */
+    public static long getDirectorySyncCount() {
+        return directorySyncCount.get();
+    }
+
+    private static void syncDirectoryOf(Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Set<Path> directories = pendingDirectorySyncs.get();
+        if (directories != null) {
+            directories.add(directory);
+        } else {
+            syncDirectory(directory);
+        }
+    }
+
+    /** Forces the entries of {@code directory} to disk, where the platform supports it. */
+    private static void syncDirectory(Path directory) throws IOException {
+        directorySyncCount.incrementAndGet();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (AccessDeniedException | UnsupportedOperationException e) {
+            // Directories cannot be opened or synced on some platforms, e.g. Windows
+        }
+    }
+
+    /** Writes the content of a file. */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /** A group of file writes. */
+    @FunctionalInterface
+    public interface IoAction {
+        void run() throws IOException;
+    }
+
+    /**
+     * Passes writes through to another stream but ignores {@code close()}, so that a writer which
+     * closes its stream does not close the file before it is synced.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 }
@@ -116,6 +116,18 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into a JSON string on a single line, e.g. for use as a
+     * record in a line-oriented file.
+     *
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /** Contains methods that retrieve logging level from serialized string. */
     private static class LevelDeserializer extends FromStringDeserializer<Level> {
 
@@ -15,7 +15,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyPet;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.task.Task;
-import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /** The main LogicManager of the app. */
 public class LogicManager implements Logic {
@@ -23,13 +23,23 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindSaver saver;
     private final TaskListParser taskListParser;
 
-    public LogicManager(Model model, Storage storage) {
+    /**
+     * Creates a {@code LogicManager} that persists the model through {@code saver}, which the caller
+     * flushes and shuts down.
+     */
+    public LogicManager(Model model, WriteBehindSaver saver) {
         this.model = model;
-        this.storage = storage;
+        this.saver = saver;
         taskListParser = new TaskListParser();
+        saver.markSaved(
+                model.getTaskList(),
+                model.getPet(),
+                model.getPomodoro(),
+                model.getStatistics(),
+                model.getTaskArchive());
     }
 
     @Override
@@ -38,30 +48,28 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = taskListParser.parseCommand(commandText);
+        // Changes made outside of commands, such as by the pomodoro timer, are undone on their own
+        model.commitTaskList();
         commandResult = command.execute(model);
+        model.commitTaskList();
 
-        try {
-            storage.saveTaskList(model.getTaskList());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-        }
+        // Only stores changed by the command are written, in the background.
+        // A failed write is reported by the next command.
+        saver.submit(
+                model.getTaskList(),
+                model.getPet(),
+                model.getPomodoro(),
+                model.getStatistics(),
+                model.getTaskArchive());
 
         try {
-            storage.savePet(model.getPet());
+            saver.rethrowFailure();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
-
-        try {
-            storage.savePomodoro(model.getPomodoro());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-        }
-
-        try {
-            storage.saveStatistics(model.getStatistics());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        // Archived tasks are held in memory until they are saved
+        if (saver.isSaved(model.getTaskArchive())) {
+            model.archiveSaved();
         }
 
         return commandResult;
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.util.Optional;
 import java.util.Set;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
@@ -28,8 +29,8 @@ public class PomodoroManager {
     private ResultDisplay resultDisplay;
     private IntegerProperty timeSeconds;
     private Model model;
-    private List<Task> originList;
-    private int taskIndex;
+    // The task being pommed, found by id as the list may change before the timer ends
+    private Long taskId;
 
     public enum PROMPT_STATE {
         NONE,
@@ -145,32 +146,42 @@ public class PomodoroManager {
                 });
     }
 
-    public void setDoneParams(Model model, List<Task> originList, int taskIndex) {
+    public void setDoneParams(Model model, long taskId) {
         this.model = model;
-        this.originList = originList;
-        this.taskIndex = taskIndex;
+        this.taskId = taskId;
     }
 
     private void clearDoneParams() {
         this.model = null;
-        this.originList = null;
-        this.taskIndex = -1;
+        this.taskId = null;
     }
 
+    /**
+     * Marks the pommed task as done. Nothing is changed if the task has since been deleted or done.
+     */
     public void doneTask() {
-        Task taskToEdit = originList.get(taskIndex);
+        LocalDate today = LocalDate.now();
+        Optional<Task> task = model.getTask(taskId);
+        if (!task.isPresent() || task.get().getDone().isDone) {
+            clearDoneParams();
+            return;
+        }
+        Task taskToEdit = task.get();
         Name updatedName = taskToEdit.getName();
         Priority updatedPriority = taskToEdit.getPriority();
         Description updatedDescription = taskToEdit.getDescription();
         Set<Tag> updatedTags = taskToEdit.getTags();
         Task editedTask =
                 new Task(
+                        taskToEdit.getId(),
                         updatedName,
                         updatedPriority,
                         updatedDescription,
-                        new Done("Y"),
-                        updatedTags);
+                        Done.of(today),
+                        updatedTags,
+                        Optional.empty());
         model.setTask(taskToEdit, editedTask);
+        model.archiveDoneTasks(today);
         clearDoneParams();
     }
 }
@@ -0,0 +1,177 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.task.Reminder;
+import seedu.address.model.task.Task;
+
+/**
+ * Fires the reminders of tasks at their times, from a single queue of reminders on one background
+ * thread, however many tasks have reminders. Each task has at most one reminder waiting, keyed by
+ * its id: scheduling a task again moves its reminder to the task's new time, or only updates the
+ * task shown if the time is the same, and cancelling it drops the reminder.
+ *
+ * <p>Only reminders of tasks that are not done, and that are still to come, are scheduled. When a
+ * reminder is due, the task is handed to the listener on the scheduler's thread, which must move
+ * to the thread it needs, such as the JavaFX application thread, itself.
+ */
+public class ReminderScheduler {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+
+    private final Consumer<Task> listener;
+    private final Clock clock;
+    private final ScheduledThreadPoolExecutor executor;
+
+    // The reminder waiting for each task, by the task's id. Guarded by this
+    private final Map<Long, Scheduled> scheduled = new HashMap<>();
+
+    /** Creates a scheduler that hands the task of each reminder to {@code listener} when due. */
+    public ReminderScheduler(Consumer<Task> listener) {
+        this(listener, Clock.systemDefaultZone());
+    }
+
+    /** Creates a scheduler that tells the time by {@code clock}. */
+    ReminderScheduler(Consumer<Task> listener, Clock clock) {
+        requireNonNull(listener);
+        requireNonNull(clock);
+        this.listener = listener;
+        this.clock = clock;
+        this.executor =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "reminder-scheduler");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        // Cancelled reminders are taken out of the queue at once, so rescheduling does not fill it
+        executor.setRemoveOnCancelPolicy(true);
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Keeps the reminders scheduled to those of the tasks in {@code tasks}, from now on: schedules
+     * the tasks in it now, and each task added, edited or removed as it is.
+     */
+    public void watch(ObservableList<Task> tasks) {
+        requireNonNull(tasks);
+        tasks.forEach(this::schedule);
+        tasks.addListener(
+                (ListChangeListener<Task>)
+                        c -> {
+                            while (c.next()) {
+                                Set<Long> addedIds = new HashSet<>();
+                                for (Task added : c.getAddedSubList()) {
+                                    addedIds.add(added.getId());
+                                }
+                                for (Task removed : c.getRemoved()) {
+                                    if (!addedIds.contains(removed.getId())) {
+                                        cancel(removed.getId());
+                                    }
+                                }
+                                c.getAddedSubList().forEach(this::schedule);
+                            }
+                        });
+    }
+
+    /**
+     * Schedules the reminder of {@code task}, in place of any reminder waiting for a task with the
+     * same id. The reminder is cancelled instead if the task has none, is done, or its reminder has
+     * passed.
+     */
+    public synchronized void schedule(Task task) {
+        requireNonNull(task);
+        LocalDateTime dateTime =
+                task.getOptionalReminder().map(Reminder::getReminderDateTime).orElse(null);
+        if (dateTime == null || task.getDone().isDone) {
+            cancel(task.getId());
+            return;
+        }
+
+        Scheduled waiting = scheduled.get(task.getId());
+        if (waiting != null && waiting.dateTime.equals(dateTime)) {
+            waiting.task = task;
+            return;
+        }
+        cancel(task.getId());
+        long delayMillis = Duration.between(LocalDateTime.now(clock), dateTime).toMillis();
+        if (delayMillis < 0) {
+            return;
+        }
+        Scheduled reminder = new Scheduled(task, dateTime);
+        reminder.future =
+                executor.schedule(() -> fire(reminder), delayMillis, TimeUnit.MILLISECONDS);
+        scheduled.put(task.getId(), reminder);
+    }
+
+    /** Cancels the reminder waiting for the task with the given {@code id}, if any. */
+    public synchronized void cancel(long id) {
+        Scheduled waiting = scheduled.remove(id);
+        if (waiting != null) {
+            waiting.future.cancel(false);
+        }
+    }
+
+    /** Returns the number of reminders waiting to fire. */
+    public synchronized int getScheduledCount() {
+        return scheduled.size();
+    }
+
+    /** Stops the background thread. Reminders that have not fired are dropped. */
+    public void shutdown() {
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Hands the task of {@code reminder} to the listener. Runs on the scheduler thread only. */
+    private void fire(Scheduled reminder) {
+        Task task;
+        synchronized (this) {
+            if (scheduled.get(reminder.task.getId()) != reminder) {
+                return;
+            }
+            scheduled.remove(reminder.task.getId());
+            task = reminder.task;
+        }
+        try {
+            listener.accept(task);
+        } catch (RuntimeException e) {
+            logger.warning("Failed to show the reminder of " + task.getName() + ": " + e);
+        }
+    }
+
+    /** A reminder waiting to fire, for the latest version of its task. */
+    private static class Scheduled {
+        private final LocalDateTime dateTime;
+        // Guarded by the scheduler
+        private Task task;
+        private ScheduledFuture<?> future;
+
+        Scheduled(Task task, LocalDateTime dateTime) {
+            this.task = task;
+            this.dateTime = dateTime;
+        }
+    }
+}
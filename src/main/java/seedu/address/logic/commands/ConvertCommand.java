@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+
+/** Changes the format that the task list and statistics are stored in. */
+public class ConvertCommand extends Command {
+
+    public static final String COMMAND_WORD = "convert";
+
+    public static final String MESSAGE_USAGE =
+            COMMAND_WORD
+                    + ": Changes the format the task list and statistics are saved in. "
+                    + "The data file is converted the next time the app starts.\n"
+                    + "Parameters: FORMAT (json or binary)\n"
+                    + "Example: "
+                    + COMMAND_WORD
+                    + " binary";
+
+    public static final String MESSAGE_SUCCESS =
+            "Data will be converted to %1$s format the next time the app starts";
+    public static final String MESSAGE_SAME_FORMAT = "Data is already saved in %1$s format";
+
+    private final StorageFormat format;
+
+    public ConvertCommand(StorageFormat format) {
+        requireNonNull(format);
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        String formatName = format.name().toLowerCase();
+        if (model.getUserPrefs().getStorageFormat() == format) {
+            throw new CommandException(String.format(MESSAGE_SAME_FORMAT, formatName));
+        }
+
+        UserPrefs userPrefs = new UserPrefs(model.getUserPrefs());
+        userPrefs.setStorageFormat(format);
+        model.setUserPrefs(userPrefs);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, formatName));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ConvertCommand // instanceof handles nulls
+                        && format == ((ConvertCommand) other).format); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return format.hashCode();
+    }
+}
@@ -2,13 +2,15 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskBatch;
 
 /** Deletes a person identified using it's displayed index from the address book. */
 public class DeleteCommand extends Command {
@@ -36,7 +38,8 @@ public class DeleteCommand extends Command {
         requireNonNull(model);
         List<Task> lastShownList = model.getFilteredTaskList();
         StringBuilder tasksDeleted = new StringBuilder(MESSAGE_DELETE_TASK_SUCCESS);
-        List<Task> toDeleteTasks = new ArrayList<>();
+        // A task given twice is only deleted once
+        Set<Task> toDeleteTasks = new LinkedHashSet<>();
         for (Index targetIndex : targetIndices) {
             targetIndex.getZeroBased();
             if (targetIndex.getZeroBased() >= lastShownList.size()) {
@@ -45,10 +48,12 @@ public class DeleteCommand extends Command {
             Task taskToDelete = lastShownList.get(targetIndex.getZeroBased());
             toDeleteTasks.add(taskToDelete);
         }
+        TaskBatch batch = new TaskBatch();
         for (Task t : toDeleteTasks) {
-            model.deleteTask(t);
+            batch.remove(t);
             tasksDeleted.append(String.format("%n%s", t));
         }
+        model.applyBatch(batch);
         return new CommandResult(tasksDeleted.toString());
     }
 
@@ -2,7 +2,10 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -14,6 +17,7 @@ import seedu.address.model.task.Done;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Priority;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskBatch;
 
 /** Deletes a person identified using it's displayed index from the address book. */
 public class DoneCommand extends Command {
@@ -29,6 +33,7 @@ public class DoneCommand extends Command {
                     + " 1";
 
     public static final String MESSAGE_DONE_TASK_SUCCESS = "Done Task(s): ";
+    public static final String MESSAGE_TASKS_ARCHIVED = "%n%d done task(s) moved to the archive";
 
     private final Index[] targetIndices;
 
@@ -41,6 +46,9 @@ public class DoneCommand extends Command {
         requireNonNull(model);
         List<Task> lastShownList = model.getFilteredTaskList();
         StringBuilder tasksDone = new StringBuilder(MESSAGE_DONE_TASK_SUCCESS);
+        LocalDate today = LocalDate.now();
+        TaskBatch batch = new TaskBatch();
+        Set<Task> tasksToEdit = new HashSet<>();
         for (Index targetIndex : targetIndices) {
             targetIndex.getZeroBased();
             if (targetIndex.getZeroBased() >= lastShownList.size()) {
@@ -48,21 +56,32 @@ public class DoneCommand extends Command {
             }
             // Person person = lastShownList.get(targetIndex.getZeroBased());
             Task taskToEdit = lastShownList.get(targetIndex.getZeroBased());
-            if (taskToEdit.getDone().isDone) {
+            // A task given twice is already done by the time it is reached the second time
+            if (taskToEdit.getDone().isDone || !tasksToEdit.add(taskToEdit)) {
                 throw new CommandException(Messages.MESSAGE_INVALID_TASK_TO_BE_DONED);
             }
-            Task editedTask = createDoneTask(taskToEdit);
+            Task editedTask = createDoneTask(taskToEdit, today);
             tasksDone.append(String.format("%n%s", editedTask));
-            model.setTask(taskToEdit, editedTask);
+            batch.set(taskToEdit, editedTask);
+        }
+        // Every task is checked before any is done, so that the list is refreshed once
+        model.applyBatch(batch);
+        for (int i = 0; i < tasksToEdit.size(); i++) {
             // increment Pet EXP after completing a task
             model.incrementExp();
         }
         // model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
+        // Only archived after every task is done, as archiving changes the displayed indices
+        int archivedTasks = model.archiveDoneTasks(today);
+        if (archivedTasks > 0) {
+            tasksDone.append(String.format(MESSAGE_TASKS_ARCHIVED, archivedTasks));
+        }
+
         return new CommandResult(tasksDone.toString());
     }
 
-    private static Task createDoneTask(Task taskToEdit) {
+    private static Task createDoneTask(Task taskToEdit, LocalDate doneOn) {
         assert taskToEdit != null;
 
         Name updatedName = taskToEdit.getName();
@@ -71,7 +90,13 @@ public class DoneCommand extends Command {
         Set<Tag> updatedTags = taskToEdit.getTags();
 
         return new Task(
-                updatedName, updatedPriority, updatedDescription, new Done("Y"), updatedTags);
+                taskToEdit.getId(),
+                updatedName,
+                updatedPriority,
+                updatedDescription,
+                Done.of(doneOn),
+                updatedTags,
+                Optional.empty());
     }
 
     @Override
@@ -112,6 +112,7 @@ public class EditCommand extends Command {
         Optional<Reminder> updatedOptionalReminder = editTaskDescriptor.getReminder();
 
         return new Task(
+                taskToEdit.getId(),
                 updatedName,
                 updatedPriority,
                 updatedDescription,
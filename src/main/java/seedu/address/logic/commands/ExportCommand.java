@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import seedu.address.commons.core.TaskFileFormat;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.TaskFileWriter;
+
+/** Writes every task in the task list to a CSV or JSON lines file. */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE =
+            COMMAND_WORD
+                    + ": Writes every task in the task list to a file, replacing the file.\n"
+                    + "Parameters: FILE (ending in .csv or .jsonl)\n"
+                    + "Example: "
+                    + COMMAND_WORD
+                    + " tasks.jsonl";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d task(s) to %2$s";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write %1$s: %2$s";
+
+    private final Path filePath;
+    private final TaskFileFormat format;
+
+    /** Creates an ExportCommand to export the task list to the file at {@code filePath}. */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        checkArgument(
+                TaskFileFormat.fromFilePath(filePath).isPresent(),
+                TaskFileFormat.MESSAGE_CONSTRAINTS);
+        this.filePath = filePath;
+        this.format = TaskFileFormat.fromFilePath(filePath).get();
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        try {
+            int exported =
+                    TaskFileWriter.write(filePath, format, model.getTaskList().getTaskList());
+            return new CommandResult(String.format(MESSAGE_SUCCESS, exported, filePath));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, filePath, ioe), ioe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                        && filePath.equals(((ExportCommand) other).filePath)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return filePath.hashCode();
+    }
+}
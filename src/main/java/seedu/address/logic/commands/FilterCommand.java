@@ -0,0 +1,140 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import seedu.address.commons.core.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.TagIndex;
+import seedu.address.model.task.TaskQuery;
+import seedu.address.model.task.TaskQueryPlan;
+
+/**
+ * Filters the task list to the tasks that match a {@link TaskQuery}: a range of priorities, being
+ * done or not, all or any of some tags, words in their names and a window of days with a reminder.
+ * Tag names are case sensitive, as they are everywhere else.
+ *
+ * <p>The tasks are found by the query's {@link TaskQueryPlan}, which reads them from the most
+ * selective index it can instead of checking every task. The plan, and the number of tasks it
+ * examined, are shown if {@link #EXPLAIN_KEYWORD} is given. Tasks that are added or edited while
+ * the filter is shown are checked against the query as they change.
+ */
+public class FilterCommand extends Command {
+
+    public static final String COMMAND_WORD = "filter";
+
+    public static final String ANY_KEYWORD = "any";
+    public static final String EXPLAIN_KEYWORD = "explain";
+
+    public static final String MESSAGE_USAGE =
+            COMMAND_WORD
+                    + ": Lists the tasks that match all of the given conditions: a priority or "
+                    + "range of priorities, done (Y) or not (N), all of the given tags, or any of "
+                    + "them if "
+                    + ANY_KEYWORD
+                    + " is given, the words of a name, and a reminder from and to the given "
+                    + "days. Shows how many tasks have each tag, and how the tasks were found if "
+                    + EXPLAIN_KEYWORD
+                    + " is given.\n"
+                    + "Parameters: ["
+                    + EXPLAIN_KEYWORD
+                    + "] ["
+                    + ANY_KEYWORD
+                    + "] ["
+                    + PREFIX_PRIORITY
+                    + "PRIORITY[-PRIORITY]] ["
+                    + PREFIX_DONE
+                    + "Y|N] ["
+                    + PREFIX_TAG
+                    + "TAG]... ["
+                    + PREFIX_NAME
+                    + "KEYWORDS]... ["
+                    + PREFIX_FROM
+                    + "yyyy-mm-dd] ["
+                    + PREFIX_TO
+                    + "yyyy-mm-dd]\n"
+                    + "Example: "
+                    + COMMAND_WORD
+                    + " "
+                    + EXPLAIN_KEYWORD
+                    + " "
+                    + PREFIX_PRIORITY
+                    + "2-3 "
+                    + PREFIX_DONE
+                    + "N "
+                    + PREFIX_TAG
+                    + "MA1521 "
+                    + PREFIX_FROM
+                    + "2020-03-01";
+
+    public static final String MESSAGE_TAG_COUNT = "%1$s: %2$d";
+
+    public static final String MESSAGE_PLAN = "Plan: %1$s";
+
+    public static final String MESSAGE_EXAMINED = "Examined %1$d tasks, of which %2$d matched.";
+
+    private final TaskQuery query;
+    private final boolean isExplain;
+
+    /**
+     * Creates a FilterCommand that lists the tasks matching {@code query}, and shows how they were
+     * found if {@code isExplain} is true.
+     */
+    public FilterCommand(TaskQuery query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        TaskQueryPlan plan = model.planTaskQuery(query);
+        TaskQueryPlan.Result matches = plan.execute();
+        model.updateFilteredTaskList(matches.asPredicate());
+
+        StringBuilder result =
+                new StringBuilder(
+                        String.format(
+                                Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+                                model.getFilteredTaskList().size()));
+        TagIndex tagIndex = model.getTagIndex();
+        List<Tag> sortedTags = new ArrayList<>(query.getTags());
+        sortedTags.sort(Comparator.comparing(tag -> tag.tagName, String.CASE_INSENSITIVE_ORDER));
+        for (Tag tag : sortedTags) {
+            result.append(String.format("%n" + MESSAGE_TAG_COUNT, tag, tagIndex.count(tag)));
+        }
+        if (isExplain) {
+            result.append(String.format("%n" + MESSAGE_PLAN, plan.describe()))
+                    .append(
+                            String.format(
+                                    "%n" + MESSAGE_EXAMINED,
+                                    matches.getExaminedCount(),
+                                    matches.getMatchCount()));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FilterCommand // instanceof handles nulls
+                        && query.equals(((FilterCommand) other).query)
+                        && isExplain == ((FilterCommand) other).isExplain); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, isExplain);
+    }
+}
@@ -2,47 +2,104 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.task.NameContainsKeywordsPredicate;
+import seedu.address.model.task.NameOrTagSimilarToKeywordsPredicate;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TextIndex;
+import seedu.address.model.task.TrigramIndex;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all tasks whose name or description contains any, or all, of the argument
+ * keywords, the most relevant first. Keyword matching is case insensitive.
+ *
+ * <p>If a keyword ends with {@link TrigramIndex#PREFIX_WILDCARD}, or no task has the keywords, the
+ * tasks with words in their names or tags that start with, or are spelt like, the keywords are
+ * listed instead, the most similar first.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String ALL_KEYWORD = "all";
+
     public static final String MESSAGE_USAGE =
             COMMAND_WORD
-                    + ": Finds all persons whose names contain any of "
-                    + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-                    + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+                    + ": Finds all tasks whose names or descriptions contain any of "
+                    + "the specified keywords (case-insensitive), or all of them if "
+                    + ALL_KEYWORD
+                    + " is given, and displays them as a list with index numbers, "
+                    + "the tasks with the keywords in their names first. "
+                    + "A keyword ending with "
+                    + TrigramIndex.PREFIX_WILDCARD
+                    + " matches the words starting with it. "
+                    + "If no task has the keywords, tasks with similarly spelt names or tags are "
+                    + "listed.\n"
+                    + "Parameters: ["
+                    + ALL_KEYWORD
+                    + "] KEYWORD [MORE_KEYWORDS]...\n"
                     + "Example: "
                     + COMMAND_WORD
-                    + " alice bob charlie";
+                    + " math homew"
+                    + TrigramIndex.PREFIX_WILDCARD;
+
+    public static final String MESSAGE_SIMILAR_TASKS =
+            "No task has the keywords, so tasks with similar names or tags are listed.";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final List<String> keywords;
+    private final boolean isMatchAll;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
+    /**
+     * Creates a FindCommand that finds the tasks with all of {@code keywords} if {@code isMatchAll}
+     * is true, and those with any of them otherwise.
+     */
+    public FindCommand(List<String> keywords, boolean isMatchAll) {
+        requireNonNull(keywords);
+        this.keywords = new ArrayList<>(keywords);
+        this.isMatchAll = isMatchAll;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredTaskList(predicate);
-        return new CommandResult(
-                String.format(
-                        Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
-                        model.getFilteredTaskList().size()));
+        boolean hasPrefix =
+                keywords.stream().anyMatch(k -> k.endsWith(TrigramIndex.PREFIX_WILDCARD));
+        if (!hasPrefix) {
+            Set<String> terms = TextIndex.toTerms(String.join(" ", keywords));
+            Map<Long, Integer> scores = model.getTextIndex().search(terms, isMatchAll);
+            if (!scores.isEmpty()) {
+                Comparator<Task> byRelevance =
+                        Comparator.comparingInt((Task task) -> scores.get(task.getId())).reversed();
+                model.updateFilteredTaskList(task -> scores.containsKey(task.getId()), byRelevance);
+                return new CommandResult(getListedMessage(model));
+            }
+        }
+
+        NameOrTagSimilarToKeywordsPredicate predicate =
+                new NameOrTagSimilarToKeywordsPredicate(
+                        keywords, isMatchAll, model.getTrigramIndex());
+        model.updateFilteredTaskList(predicate, predicate.getComparator());
+        if (hasPrefix || model.getFilteredTaskList().isEmpty()) {
+            return new CommandResult(getListedMessage(model));
+        }
+        return new CommandResult(getListedMessage(model) + "\n" + MESSAGE_SIMILAR_TASKS);
+    }
+
+    private static String getListedMessage(Model model) {
+        return String.format(
+                Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredTaskList().size());
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                        && predicate.equals(((FindCommand) other).predicate)); // state check
+                        && keywords.equals(((FindCommand) other).keywords)
+                        && isMatchAll == ((FindCommand) other).isMatchAll); // state check
     }
 }
@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import seedu.address.commons.core.TaskFileFormat;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.task.Task;
+import seedu.address.storage.TaskFileReader;
+
+/**
+ * Adds the tasks in a CSV or JSON lines file to the task list. The file is read and added in
+ * chunks, so that importing a large file neither holds all of its rows nor adds them one by one.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE =
+            COMMAND_WORD
+                    + ": Adds the tasks in a file to the task list. "
+                    + "Tasks that are already in the task list are skipped.\n"
+                    + "Parameters: FILE (ending in .csv or .jsonl)\n"
+                    + "Example: "
+                    + COMMAND_WORD
+                    + " tasks.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d task(s) from %2$s";
+    public static final String MESSAGE_DUPLICATES_SKIPPED =
+            "%n%1$d task(s) already in the task list were skipped";
+    public static final String MESSAGE_INVALID_ROWS_SKIPPED = "%n%1$d invalid row(s) were skipped:";
+    public static final String MESSAGE_READ_FAILED =
+            "Could not read %1$s after importing %2$d task(s): %3$s";
+
+    /** The number of tasks that are read and added at a time. */
+    static final int CHUNK_SIZE = 1000;
+
+    private final Path filePath;
+    private final TaskFileFormat format;
+
+    /** Creates an ImportCommand to import the tasks in the file at {@code filePath}. */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        checkArgument(
+                TaskFileFormat.fromFilePath(filePath).isPresent(),
+                TaskFileFormat.MESSAGE_CONSTRAINTS);
+        this.filePath = filePath;
+        this.format = TaskFileFormat.fromFilePath(filePath).get();
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        int imported = 0;
+        int duplicates = 0;
+        try (TaskFileReader reader = new TaskFileReader(filePath, format)) {
+            List<Task> chunk = reader.readChunk(CHUNK_SIZE);
+            while (!chunk.isEmpty()) {
+                int added = model.addTasks(chunk);
+                imported += added;
+                duplicates += chunk.size() - added;
+                chunk = reader.readChunk(CHUNK_SIZE);
+            }
+
+            StringBuilder result =
+                    new StringBuilder(String.format(MESSAGE_SUCCESS, imported, filePath));
+            if (duplicates > 0) {
+                result.append(String.format(MESSAGE_DUPLICATES_SKIPPED, duplicates));
+            }
+            if (reader.getInvalidRowCount() > 0) {
+                result.append(
+                        String.format(MESSAGE_INVALID_ROWS_SKIPPED, reader.getInvalidRowCount()));
+                for (String error : reader.getErrors()) {
+                    result.append(System.lineSeparator()).append(error);
+                }
+            }
+            return new CommandResult(result.toString());
+        } catch (IOException ioe) {
+            throw new CommandException(
+                    String.format(MESSAGE_READ_FAILED, filePath, imported, ioe), ioe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                        && filePath.equals(((ImportCommand) other).filePath)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return filePath.hashCode();
+    }
+}
@@ -3,19 +3,61 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.List;
 import seedu.address.model.Model;
+import seedu.address.model.task.Task;
 
-/** Lists all persons in the address book to the user. */
+/**
+ * Lists all persons in the address book to the user, or the archived tasks if asked for. Archived
+ * tasks are listed in the result rather than in the task list, as no other command acts on them.
+ */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String ARCHIVED_KEYWORD = "archived";
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
 
+    public static final String MESSAGE_ARCHIVED_SUCCESS = "Listed %d archived task(s)";
+
+    private final boolean isArchived;
+
+    public ListCommand() {
+        this(false);
+    }
+
+    /** Creates a ListCommand that lists the archived tasks if {@code isArchived} is true. */
+    public ListCommand(boolean isArchived) {
+        this.isArchived = isArchived;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (!isArchived) {
+            model.updateFilteredTaskList(PREDICATE_SHOW_ALL_PERSONS);
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+
+        List<Task> archivedTasks = model.getArchivedTasks();
+        StringBuilder result =
+                new StringBuilder(String.format(MESSAGE_ARCHIVED_SUCCESS, archivedTasks.size()));
+        for (int i = 0; i < archivedTasks.size(); i++) {
+            result.append(String.format("%n%d. %s", i + 1, archivedTasks.get(i)));
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListCommand // instanceof handles nulls
+                        && isArchived == ((ListCommand) other).isArchived); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(isArchived);
     }
 }
@@ -55,12 +55,12 @@ public class PomCommand extends Command {
         requireNonNull(model);
         if (isPause) {
             return new PomCommandResult(
-                    PAUSE_MESSAGE, null, 0, model, -1, null, isPause, isContinue);
+                    PAUSE_MESSAGE, null, 0, model, null, isPause, isContinue);
         }
 
         if (isContinue) {
             return new PomCommandResult(
-                    COMMAND_WORD, null, 0, model, -1, null, isPause, isContinue);
+                    COMMAND_WORD, null, 0, model, null, isPause, isContinue);
         }
 
         List<Task> lastShownList = model.getFilteredTaskList();
@@ -76,8 +76,7 @@ public class PomCommand extends Command {
                 taskToPom.getName().toString(),
                 timerAmount,
                 model,
-                index,
-                lastShownList,
+                taskToPom.getId(),
                 isPause,
                 isContinue);
     }
@@ -2,9 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
 import seedu.address.model.Model;
-import seedu.address.model.task.Task;
 
 public class PomCommandResult extends CommandResult {
 
@@ -18,9 +16,7 @@ public class PomCommandResult extends CommandResult {
 
     private final Model model;
 
-    private final int taskIndex;
-
-    private List<Task> originList;
+    private final Long taskId;
 
     /** Constructs a {@code PomCommandResult} with the specified fields. */
     public PomCommandResult(
@@ -28,8 +24,7 @@ public class PomCommandResult extends CommandResult {
             String pommedTask,
             float timerAmount,
             Model model,
-            int taskIndex,
-            List<Task> originList,
+            Long taskId,
             boolean isPause,
             boolean isContinue) {
         super(requireNonNull(feedbackToUser), false, false);
@@ -38,8 +33,7 @@ public class PomCommandResult extends CommandResult {
         this.model = requireNonNull(model);
         this.isPause = requireNonNull(isPause);
         this.isContinue = requireNonNull(isContinue);
-        this.taskIndex = taskIndex;
-        this.originList = originList;
+        this.taskId = taskId;
     }
 
     public String getPommedTask() {
@@ -62,11 +56,8 @@ public class PomCommandResult extends CommandResult {
         return model;
     }
 
-    public int getTaskIndex() {
-        return taskIndex;
-    }
-
-    public List<Task> getOriginList() {
-        return originList;
+    /** Returns the id of the task being pommed, or null if the pomodoro is paused or continued. */
+    public Long getTaskId() {
+        return taskId;
     }
 }
@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.Locale;
+import seedu.address.commons.core.TaskSortOrder;
+import seedu.address.model.Model;
+
+/**
+ * Shows all tasks in a sort order, which the task list keeps as tasks are added, edited and
+ * removed, and is kept for the next time the app is opened.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    public static final String MESSAGE_USAGE =
+            COMMAND_WORD
+                    + ": Shows the tasks in an order, which is kept from then on: the order they "
+                    + "were added in, highest priority first, not done first, by name, or "
+                    + "earliest reminder first.\n"
+                    + "Parameters: added|priority|done|name|reminder\n"
+                    + "Example: "
+                    + COMMAND_WORD
+                    + " priority";
+
+    public static final String MESSAGE_SUCCESS = "Sorted tasks by %1$s";
+
+    private final TaskSortOrder sortOrder;
+
+    /** Creates a SortCommand to show the tasks in {@code sortOrder}. */
+    public SortCommand(TaskSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.setTaskSortOrder(sortOrder);
+        model.updateFilteredTaskList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(
+                String.format(MESSAGE_SUCCESS, sortOrder.name().toLowerCase(Locale.ROOT)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SortCommand // instanceof handles nulls
+                        && sortOrder == ((SortCommand) other).sortOrder); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return sortOrder.hashCode();
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyStatistics;
+
+/**
+ * Shows the total and daily average pomodoro minutes and tasks done over a range of days, and the
+ * streak of days with either up to the end of the range.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String WEEK_KEYWORD = "week";
+    public static final String MONTH_KEYWORD = "month";
+    public static final String YEAR_KEYWORD = "year";
+
+    public static final int DAYS_IN_WEEK = 7;
+    public static final int DAYS_IN_MONTH = 30;
+    public static final int DAYS_IN_YEAR = 365;
+
+    public static final String MESSAGE_USAGE =
+            COMMAND_WORD
+                    + ": Shows the pomodoro minutes and tasks done over the last "
+                    + WEEK_KEYWORD
+                    + " (the default), "
+                    + MONTH_KEYWORD
+                    + ", "
+                    + YEAR_KEYWORD
+                    + " or number of days, or between two dates.\n"
+                    + "Parameters: ["
+                    + WEEK_KEYWORD
+                    + "|"
+                    + MONTH_KEYWORD
+                    + "|"
+                    + YEAR_KEYWORD
+                    + "|DAYS] or "
+                    + PREFIX_FROM
+                    + "yyyy-mm-dd ["
+                    + PREFIX_TO
+                    + "yyyy-mm-dd]\n"
+                    + "Example: "
+                    + COMMAND_WORD
+                    + " "
+                    + PREFIX_FROM
+                    + "2020-03-01 "
+                    + PREFIX_TO
+                    + "2020-03-31";
+
+    public static final String MESSAGE_INVALID_RANGE =
+            "The start date must not be after the end date.";
+
+    public static final String MESSAGE_SUCCESS =
+            "From %1$s to %2$s (%3$d days):%n"
+                    + "Pomodoro minutes: %4$d (%5$.1f a day)%n"
+                    + "Tasks done: %6$d (%7$.1f a day)%n"
+                    + "Streak: %8$d days";
+
+    private final LocalDate start;
+    private final LocalDate end;
+
+    /** Creates a StatsCommand for the days from {@code start} to {@code end}, both included. */
+    public StatsCommand(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ReadOnlyStatistics statistics = model.getStatistics();
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+        long pomDuration = statistics.getPomDurationBetween(start, end);
+        long tasksDone = statistics.getTasksDoneBetween(start, end);
+        return new CommandResult(
+                String.format(
+                        MESSAGE_SUCCESS,
+                        start,
+                        end,
+                        days,
+                        pomDuration,
+                        (double) pomDuration / days,
+                        tasksDone,
+                        (double) tasksDone / days,
+                        statistics.getStreak(end)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                        && start.equals(((StatsCommand) other).start)
+                        && end.equals(((StatsCommand) other).end)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end);
+    }
+}
@@ -10,4 +10,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_REMINDER = new Prefix("r/");
     public static final Prefix PREFIX_TIMER = new Prefix("tm/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
+    public static final Prefix PREFIX_DONE = new Prefix("done/");
 }
@@ -0,0 +1,108 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.task.Done;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.TaskQuery;
+
+/** Parses input arguments and creates a new FilterCommand object */
+public class FilterCommandParser implements Parser<FilterCommand> {
+
+    private static final String PRIORITY_RANGE_SEPARATOR = "-";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FilterCommand and returns
+     * a FilterCommand object for execution. The tasks must have every tag given, unless the tags
+     * are preceded by {@code any}, and the plan is shown if they are preceded by {@code explain}.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FilterCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(
+                        args, PREFIX_PRIORITY, PREFIX_DONE, PREFIX_TAG, PREFIX_NAME, PREFIX_FROM,
+                        PREFIX_TO);
+        boolean isMatchAny = false;
+        boolean isExplain = false;
+        String preamble = argMultimap.getPreamble();
+        for (String keyword : preamble.isEmpty() ? new String[0] : preamble.split("\\s+")) {
+            if (keyword.equalsIgnoreCase(FilterCommand.ANY_KEYWORD)) {
+                isMatchAny = true;
+            } else if (keyword.equalsIgnoreCase(FilterCommand.EXPLAIN_KEYWORD)) {
+                isExplain = true;
+            } else {
+                throw invalidFormat();
+            }
+        }
+
+        TaskQuery query = new TaskQuery();
+        Optional<String> priorities = argMultimap.getValue(PREFIX_PRIORITY);
+        if (priorities.isPresent()) {
+            parsePriorities(priorities.get(), query);
+        }
+        Optional<String> done = argMultimap.getValue(PREFIX_DONE);
+        if (done.isPresent()) {
+            query.withDone(parseDone(done.get()));
+        }
+        List<String> tagNames = argMultimap.getAllValues(PREFIX_TAG);
+        if (!tagNames.isEmpty()) {
+            query.withTags(ParserUtil.parseTags(tagNames), !isMatchAny);
+        }
+        query.withNameKeywords(argMultimap.getAllValues(PREFIX_NAME));
+        Optional<String> from = argMultimap.getValue(PREFIX_FROM);
+        Optional<String> to = argMultimap.getValue(PREFIX_TO);
+        if (from.isPresent() || to.isPresent()) {
+            LocalDate fromDate = from.isPresent() ? ParserUtil.parseDate(from.get()) : null;
+            LocalDate toDate = to.isPresent() ? ParserUtil.parseDate(to.get()) : null;
+            if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+                throw new ParseException(TaskQuery.MESSAGE_INVALID_REMINDER_WINDOW);
+            }
+            query.withReminderWindow(fromDate, toDate);
+        }
+
+        if (query.isEmpty()) {
+            throw invalidFormat();
+        }
+        return new FilterCommand(query, isExplain);
+    }
+
+    /** Adds to {@code query} the priority, or range of priorities, in {@code priorities}. */
+    private static void parsePriorities(String priorities, TaskQuery query) throws ParseException {
+        String[] bounds = priorities.split(PRIORITY_RANGE_SEPARATOR, -1);
+        if (bounds.length > 2) {
+            throw new ParseException(Priority.MESSAGE_CONSTRAINTS);
+        }
+        Priority min = ParserUtil.parsePriority(bounds[0]);
+        Priority max = bounds.length == 1 ? min : ParserUtil.parsePriority(bounds[1]);
+        if (min.value.compareTo(max.value) > 0) {
+            throw new ParseException(TaskQuery.MESSAGE_INVALID_PRIORITY_RANGE);
+        }
+        query.withPriorities(min, max);
+    }
+
+    private static boolean parseDone(String done) throws ParseException {
+        String trimmedDone = done.trim().toUpperCase(Locale.ROOT);
+        if (!Done.isValidDone(trimmedDone)) {
+            throw new ParseException(Done.MESSAGE_CONSTRAINTS);
+        }
+        return trimmedDone.equals(Done.DONE);
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+}
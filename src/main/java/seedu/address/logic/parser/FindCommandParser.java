@@ -3,16 +3,17 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
+import java.util.List;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.task.NameContainsKeywordsPredicate;
 
 /** Parses input arguments and creates a new FindCommand object */
 public class FindCommandParser implements Parser<FindCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand and returns a
-     * FindCommand object for execution.
+     * FindCommand object for execution. The tasks must have every keyword if the keywords are
+     * preceded by {@code all}.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
@@ -23,8 +24,13 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        List<String> keywords = Arrays.asList(trimmedArgs.split("\\s+"));
+        boolean isMatchAll =
+                keywords.size() > 1 && keywords.get(0).equalsIgnoreCase(FindCommand.ALL_KEYWORD);
+        if (isMatchAll) {
+            keywords = keywords.subList(1, keywords.size());
+        }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindCommand(keywords, isMatchAll);
     }
 }
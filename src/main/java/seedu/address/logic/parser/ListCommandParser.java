@@ -0,0 +1,15 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.ListCommand;
+
+/** Parses input arguments and creates a new ListCommand object */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand and returns a
+     * ListCommand object for execution. Arguments other than {@code archived} are ignored.
+     */
+    public ListCommand parse(String args) {
+        return new ListCommand(args.trim().equalsIgnoreCase(ListCommand.ARCHIVED_KEYWORD));
+    }
+}
@@ -2,13 +2,19 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import seedu.address.commons.core.TaskFileFormat;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.dayData.Date;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Description;
 import seedu.address.model.task.Name;
@@ -35,6 +41,21 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses a {@code String date} in the form yyyy-mm-dd into a {@code LocalDate}. Leading and
+     * trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        String trimmedDate = date.trim();
+        if (!Date.isValidDate(trimmedDate)) {
+            throw new ParseException(Date.MESSAGE_CONSTRAINTS);
+        }
+        return LocalDate.parse(trimmedDate, Date.dateFormatter);
+    }
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing
      * whitespaces will be trimmed.
@@ -96,6 +117,27 @@ public class ParserUtil {
         return new Name(trimmedName);
     }
 
+    /**
+     * Parses a {@code String filePath} into the {@code Path} of a task file to import or export.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is not a path, or does not end in the
+     *     extension of a {@link TaskFileFormat}.
+     */
+    public static Path parseTaskFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        try {
+            Path path = Paths.get(trimmedFilePath);
+            if (!TaskFileFormat.fromFilePath(path).isPresent()) {
+                throw new ParseException(TaskFileFormat.MESSAGE_CONSTRAINTS);
+            }
+            return path;
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(TaskFileFormat.MESSAGE_CONSTRAINTS, ipe);
+        }
+    }
+
     /**
      * Parses a {@code String priority} into a {@code Priority}. Leading and trailing whitespaces
      * will be trimmed.
@@ -108,7 +150,7 @@ public class ParserUtil {
         if (!Priority.isValidPriority(trimmedPriority)) {
             throw new ParseException(Priority.MESSAGE_CONSTRAINTS);
         }
-        return new Priority(trimmedPriority);
+        return Priority.of(trimmedPriority);
     }
 
     /**
@@ -138,7 +180,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /** Parses {@code Collection<String> tags} into a {@code Set<Tag>}. */
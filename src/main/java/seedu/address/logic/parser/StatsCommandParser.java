@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Optional;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/** Parses input arguments and creates a new StatsCommand object */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand and returns a
+     * StatsCommand object for execution. A period or number of days is counted back from today,
+     * and a range without an end date ends today.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FROM, PREFIX_TO);
+        String preamble = argMultimap.getPreamble();
+        Optional<String> from = argMultimap.getValue(PREFIX_FROM);
+        Optional<String> to = argMultimap.getValue(PREFIX_TO);
+        LocalDate today = LocalDate.now();
+
+        if (!from.isPresent()) {
+            if (to.isPresent()) {
+                throw invalidFormat();
+            }
+            int days = parseDays(preamble);
+            return new StatsCommand(today.minusDays(days - 1), today);
+        }
+
+        if (!preamble.isEmpty()) {
+            throw invalidFormat();
+        }
+        LocalDate start = ParserUtil.parseDate(from.get());
+        LocalDate end = to.isPresent() ? ParserUtil.parseDate(to.get()) : today;
+        if (start.isAfter(end)) {
+            throw new ParseException(StatsCommand.MESSAGE_INVALID_RANGE);
+        }
+        return new StatsCommand(start, end);
+    }
+
+    /** Returns the number of days in the period or number {@code preamble} names. */
+    private static int parseDays(String preamble) throws ParseException {
+        switch (preamble.toLowerCase(Locale.ROOT)) {
+            case "":
+            case StatsCommand.WEEK_KEYWORD:
+                return StatsCommand.DAYS_IN_WEEK;
+            case StatsCommand.MONTH_KEYWORD:
+                return StatsCommand.DAYS_IN_MONTH;
+            case StatsCommand.YEAR_KEYWORD:
+                return StatsCommand.DAYS_IN_YEAR;
+            default:
+                if (!StringUtil.isNonZeroUnsignedInteger(preamble)) {
+                    throw invalidFormat();
+                }
+                return Integer.parseInt(preamble);
+        }
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
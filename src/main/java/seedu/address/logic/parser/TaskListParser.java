@@ -8,14 +8,22 @@ import java.util.regex.Pattern;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DoneCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PomCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /** Parses user input. */
@@ -57,14 +65,29 @@ public class TaskListParser {
             case PomCommand.COMMAND_WORD:
                 return new PomCommandParser().parse(arguments);
 
+            case StatsCommand.COMMAND_WORD:
+                return new StatsCommandParser().parse(arguments);
+
+            case SortCommand.COMMAND_WORD:
+                return new SortCommandParser().parse(arguments);
+
             case ClearCommand.COMMAND_WORD:
                 return new ClearCommand();
 
             case FindCommand.COMMAND_WORD:
                 return new FindCommandParser().parse(arguments);
 
+            case FilterCommand.COMMAND_WORD:
+                return new FilterCommandParser().parse(arguments);
+
             case ListCommand.COMMAND_WORD:
-                return new ListCommand();
+                return new ListCommandParser().parse(arguments);
+
+            case UndoCommand.COMMAND_WORD:
+                return new UndoCommand();
+
+            case RedoCommand.COMMAND_WORD:
+                return new RedoCommand();
 
             case ExitCommand.COMMAND_WORD:
                 return new ExitCommand();
@@ -72,6 +95,15 @@ public class TaskListParser {
             case HelpCommand.COMMAND_WORD:
                 return new HelpCommand();
 
+            case ConvertCommand.COMMAND_WORD:
+                return new ConvertCommandParser().parse(arguments);
+
+            case ImportCommand.COMMAND_WORD:
+                return new ImportCommandParser().parse(arguments);
+
+            case ExportCommand.COMMAND_WORD:
+                return new ExportCommandParser().parse(arguments);
+
             default:
                 throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
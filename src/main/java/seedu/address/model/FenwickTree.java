@@ -0,0 +1,48 @@
+package seedu.address.model;
+
+/**
+ * A Fenwick (binary indexed) tree over a fixed number of values, which finds the sum of any range
+ * of them, and changes any one of them, in O(log n).
+ */
+class FenwickTree {
+
+    // tree[i] is the sum of the values in (i - lowestOneBit(i), i], counting values from 1
+    private final long[] tree;
+
+    /** Creates a tree over {@code values}, in O(n). */
+    FenwickTree(long[] values) {
+        tree = new long[values.length + 1];
+        System.arraycopy(values, 0, tree, 1, values.length);
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + Integer.lowestOneBit(i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /** Creates a tree over the same values as {@code toBeCopied}, in O(n). */
+    FenwickTree(FenwickTree toBeCopied) {
+        tree = toBeCopied.tree.clone();
+    }
+
+    /** Adds {@code delta} to the value at {@code index}. */
+    void add(int index, long delta) {
+        for (int i = index + 1; i < tree.length; i += Integer.lowestOneBit(i)) {
+            tree[i] += delta;
+        }
+    }
+
+    /** Returns the sum of the values from {@code from} up to but not including {@code to}. */
+    long sum(int from, int to) {
+        return prefixSum(to) - prefixSum(from);
+    }
+
+    private long prefixSum(int end) {
+        long sum = 0;
+        for (int i = end; i > 0; i -= Integer.lowestOneBit(i)) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+}
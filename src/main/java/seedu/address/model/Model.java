@@ -1,10 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.TaskSortOrder;
+import seedu.address.model.task.TagIndex;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskBatch;
+import seedu.address.model.task.TaskQuery;
+import seedu.address.model.task.TaskQueryPlan;
+import seedu.address.model.task.TextIndex;
+import seedu.address.model.task.TrigramIndex;
 
 /** The API of the Model component. */
 public interface Model {
@@ -40,12 +51,41 @@ public interface Model {
      */
     boolean hasTask(Task task);
 
+    /**
+     * Returns the task with the given {@code id}, or {@code Optional.empty()} if it is no longer in
+     * the task list.
+     */
+    Optional<Task> getTask(long id);
+
+    /** Returns the index of the tasks in the task list with each tag. */
+    TagIndex getTagIndex();
+
+    /** Returns the index of the words in the names and descriptions of the task list's tasks. */
+    TextIndex getTextIndex();
+
+    /** Returns the trigram index of the words in the names and tags of the task list's tasks. */
+    TrigramIndex getTrigramIndex();
+
+    /**
+     * Returns the plan that answers {@code query} over the task list, starting from the most
+     * selective index the query can use.
+     */
+    TaskQueryPlan planTaskQuery(TaskQuery query);
+
     /** Deletes the given person. The person must exist in the address book. */
     void deleteTask(Task target);
 
     /** Adds the given person. {@code person} must not already exist in the address book. */
     void addTask(Task task);
 
+    /**
+     * Adds the given tasks as a single change, skipping those that are already in the task list or
+     * repeat an earlier one in {@code tasks}.
+     *
+     * @return the number of tasks added.
+     */
+    int addTasks(List<Task> tasks);
+
     /**
      * Replaces the given person {@code target} with {@code editedTask}. {@code target} must exist
      * in the address book. The person identity of {@code editedTask} must not be the same as
@@ -53,6 +93,55 @@ public interface Model {
      */
     void setTask(Task target, Task editedTask);
 
+    /**
+     * Makes the adds, edits and removals in {@code batch} as a single change to the task list. They
+     * are checked together first, and none is made if any could not be.
+     *
+     * @throws seedu.address.model.task.exceptions.TaskNotFoundException if a task to edit or
+     *     remove is not in the task list, or is the target of another change in the batch.
+     * @throws seedu.address.model.task.exceptions.DuplicateTaskException if the task list would
+     *     then hold duplicate tasks.
+     */
+    void applyBatch(TaskBatch batch);
+
+    /** Returns true if the model has earlier task list states to restore. */
+    boolean canUndoTaskList();
+
+    /** Returns true if the model has undone task list states to restore. */
+    boolean canRedoTaskList();
+
+    /** Restores the model's task list to its previous state. */
+    void undoTaskList();
+
+    /** Restores the model's previously undone task list state. */
+    void redoTaskList();
+
+    /**
+     * Saves the current task list state for undo/redo, if the task list has changed since the
+     * last commit.
+     */
+    void commitTaskList();
+
+    /**
+     * Moves done tasks from the task list to the archive: those done at least the user prefs'
+     * archive age before {@code today}, and beyond the user prefs' done task limit, the ones done
+     * the longest ago. Returns the number of tasks moved. Undoing the move takes the tasks back out
+     * of the archive.
+     */
+    int archiveDoneTasks(LocalDate today);
+
+    /** Returns the archive of done tasks. */
+    ReadOnlyTaskArchive getTaskArchive();
+
+    /**
+     * Records that the archive, as it is now, is saved, so that the archived tasks that cannot be
+     * taken back out of it by an undo are dropped from memory.
+     */
+    void archiveSaved();
+
+    /** Returns every archived task, oldest first. Loads the archive if it has not been loaded. */
+    List<Task> getArchivedTasks();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Task> getFilteredTaskList();
 
@@ -63,6 +152,23 @@ public interface Model {
      */
     void updateFilteredTaskList(Predicate<Task> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and
+     * orders the tasks shown by {@code comparator}. Tasks that compare equal keep their order in
+     * the task list.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredTaskList(Predicate<Task> predicate, Comparator<Task> comparator);
+
+    /**
+     * Orders the tasks shown by {@code sortOrder}, in place of the order of the filter, if any, and
+     * saves it in the GUI settings as the order to show them in from then on.
+     *
+     * @throws NullPointerException if {@code sortOrder} is null.
+     */
+    void setTaskSortOrder(TaskSortOrder sortOrder);
+
     ReadOnlyPet getPet();
 
     void setPetName(String name);
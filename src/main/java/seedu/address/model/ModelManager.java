@@ -4,47 +4,85 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.TaskSortOrder;
+import seedu.address.model.task.SortedTaskView;
+import seedu.address.model.task.TagIndex;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskBatch;
+import seedu.address.model.task.TaskQuery;
+import seedu.address.model.task.TaskQueryPlan;
+import seedu.address.model.task.TextIndex;
+import seedu.address.model.task.TrigramIndex;
 
 /** Represents the in-memory model of the address book data. */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final TaskList taskList;
+    private final VersionedTaskList taskList;
     private final Pomodoro pomodoro;
     private final Statistics statistics;
     private final Pet pet;
+    private final TaskArchive archive;
     private final UserPrefs userPrefs;
+    private final SortedTaskView sortedTasks;
     private final FilteredList<Task> filteredTasks;
+    private final SortedList<Task> shownTasks;
 
-    /** Initializes a ModelManager with the given taskList and userPrefs. */
+    /** Initializes a ModelManager with the given taskList and userPrefs, and an empty archive. */
     public ModelManager(
             ReadOnlyTaskList taskList,
             ReadOnlyPet pet,
             ReadOnlyPomodoro pomodoro,
             ReadOnlyStatistics statistics,
             ReadOnlyUserPrefs userPrefs) {
+        this(taskList, pet, pomodoro, statistics, new TaskArchive(), userPrefs);
+    }
+
+    /**
+     * Initializes a ModelManager with the given taskList, userPrefs and archive. The archive is
+     * used as is, so that it is only loaded when its tasks are asked for.
+     */
+    public ModelManager(
+            ReadOnlyTaskList taskList,
+            ReadOnlyPet pet,
+            ReadOnlyPomodoro pomodoro,
+            ReadOnlyStatistics statistics,
+            TaskArchive archive,
+            ReadOnlyUserPrefs userPrefs) {
         super();
-        requireAllNonNull(taskList, userPrefs);
+        requireAllNonNull(taskList, archive, userPrefs);
 
         logger.fine("Initializing with Task List: " + taskList + " and user prefs " + userPrefs);
 
-        this.taskList = new TaskList(taskList);
+        this.taskList =
+                new VersionedTaskList(taskList, archive, userPrefs.getUndoHistoryLimit());
         this.pet = new Pet(pet); // initialize a pet as a model
         this.pomodoro = new Pomodoro(pomodoro); // initialize a pomodoro as a model
         this.statistics = new Statistics(statistics); // initialize a Statistics as a model
+        this.archive = archive;
         logger.info(String.format("Initializing with Pet: %s", this.pet.toString()));
         logger.info(String.format("Initializing with Pomodoro: %s", this.pomodoro.toString()));
         logger.info(String.format("Initializing with DayDataList: %s", this.statistics.toString()));
 
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredTasks = new FilteredList<>(this.taskList.getTaskList());
+        sortedTasks =
+                new SortedTaskView(
+                        this.taskList.getTaskList(),
+                        this.userPrefs.getGuiSettings().getTaskSortOrder());
+        filteredTasks = new FilteredList<>(sortedTasks);
+        shownTasks = new SortedList<>(filteredTasks);
     }
 
     public ModelManager() {
@@ -58,6 +96,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        sortedTasks.setSortOrder(getGuiSettings().getTaskSortOrder());
     }
 
     @Override
@@ -74,6 +113,7 @@ public class ModelManager implements Model {
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
         userPrefs.setGuiSettings(guiSettings);
+        sortedTasks.setSortOrder(guiSettings.getTaskSortOrder());
     }
 
     @Override
@@ -117,6 +157,40 @@ public class ModelManager implements Model {
         updateFilteredTaskList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public Optional<Task> getTask(long id) {
+        return taskList.getTask(id);
+    }
+
+    @Override
+    public TagIndex getTagIndex() {
+        return taskList.getTagIndex();
+    }
+
+    @Override
+    public TextIndex getTextIndex() {
+        return taskList.getTextIndex();
+    }
+
+    @Override
+    public TrigramIndex getTrigramIndex() {
+        return taskList.getTrigramIndex();
+    }
+
+    @Override
+    public TaskQueryPlan planTaskQuery(TaskQuery query) {
+        requireNonNull(query);
+        return taskList.plan(query);
+    }
+
+    @Override
+    public int addTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        int added = taskList.addTasks(tasks);
+        updateFilteredTaskList(PREDICATE_SHOW_ALL_PERSONS);
+        return added;
+    }
+
     @Override
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
@@ -124,24 +198,133 @@ public class ModelManager implements Model {
         taskList.setTask(target, editedTask);
     }
 
+    @Override
+    public void applyBatch(TaskBatch batch) {
+        requireNonNull(batch);
+        taskList.applyBatch(batch);
+        if (batch.hasAdditions()) {
+            updateFilteredTaskList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
+    @Override
+    public boolean canUndoTaskList() {
+        return taskList.canUndo();
+    }
+
+    @Override
+    public boolean canRedoTaskList() {
+        return taskList.canRedo();
+    }
+
+    @Override
+    public void undoTaskList() {
+        taskList.undo();
+    }
+
+    @Override
+    public void redoTaskList() {
+        taskList.redo();
+    }
+
+    @Override
+    public void commitTaskList() {
+        taskList.commit();
+    }
+
+    // =========== Archive
+    // =================================================================================
+
+    @Override
+    public int archiveDoneTasks(LocalDate today) {
+        requireNonNull(today);
+        LocalDate cutoff = today.minusDays(userPrefs.getArchiveAfterDays());
+        List<Task> toArchive = new ArrayList<>();
+        List<Task> keptDoneTasks = new ArrayList<>();
+        for (Task task : taskList.getTaskList()) {
+            if (!task.getDone().isDone) {
+                continue;
+            }
+            Optional<LocalDate> doneOn = task.getDone().getDoneOn();
+            if (doneOn.isPresent() && !doneOn.get().isAfter(cutoff)) {
+                toArchive.add(task);
+            } else {
+                keptDoneTasks.add(task);
+            }
+        }
+
+        int excess = keptDoneTasks.size() - Math.max(userPrefs.getArchiveDoneTaskLimit(), 0);
+        if (excess > 0) {
+            // Tasks done before done days were recorded count as the ones done the longest ago
+            keptDoneTasks.sort(
+                    Comparator.comparing(
+                            (Task task) -> task.getDone().getDoneOn().orElse(LocalDate.MIN)));
+            toArchive.addAll(keptDoneTasks.subList(0, excess));
+        }
+
+        if (toArchive.isEmpty()) {
+            return 0;
+        }
+        // The tasks leave the list as a single change, however many there are
+        TaskBatch batch = new TaskBatch();
+        for (Task task : toArchive) {
+            batch.remove(task);
+            archive.addTask(task);
+        }
+        taskList.applyBatch(batch);
+        logger.fine("Archived " + toArchive.size() + " done tasks");
+        return toArchive.size();
+    }
+
+    @Override
+    public ReadOnlyTaskArchive getTaskArchive() {
+        return archive;
+    }
+
+    @Override
+    public void archiveSaved() {
+        taskList.archiveSaved();
+    }
+
+    @Override
+    public List<Task> getArchivedTasks() {
+        return archive.getArchivedTasks();
+    }
+
     // =========== Filtered Task List Accessors
     // =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Task} backed by the internal list of
-     * {@code versionedTaskList}
+     * {@code versionedTaskList}, in the order set with the filter, if any, or else in the sort
+     * order.
      */
     @Override
     public ObservableList<Task> getFilteredTaskList() {
-        return filteredTasks;
+        return shownTasks;
     }
 
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
+        shownTasks.setComparator(null);
         filteredTasks.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredTaskList(Predicate<Task> predicate, Comparator<Task> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredTasks.setPredicate(predicate);
+        shownTasks.setComparator(comparator);
+    }
+
+    @Override
+    public void setTaskSortOrder(TaskSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        setGuiSettings(getGuiSettings().withTaskSortOrder(sortOrder));
+        shownTasks.setComparator(null);
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -158,7 +341,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return taskList.equals(other.taskList)
                 && userPrefs.equals(other.userPrefs)
-                && filteredTasks.equals(other.filteredTasks);
+                && shownTasks.equals(other.shownTasks);
     }
 
     // TODO Add a manager for pets
@@ -7,6 +7,7 @@ public class Pet implements ReadOnlyPet {
     public String exp;
     public String level;
     public String name;
+    private long version;
 
     public Pet(String name, String exp, String level) {
         this.exp = exp;
@@ -18,6 +19,7 @@ public class Pet implements ReadOnlyPet {
         this.exp = source.getExp();
         this.level = source.getLevel();
         this.name = source.getName();
+        this.version = source.getVersion();
     }
 
     public Pet() {
@@ -26,6 +28,7 @@ public class Pet implements ReadOnlyPet {
 
     public void setName(String name) {
         this.name = name;
+        version++;
     }
 
     // When a task is done, exp level increases by 5
@@ -37,6 +40,7 @@ public class Pet implements ReadOnlyPet {
         int expInteger = Integer.parseInt(this.exp);
         int levelInteger = (int) Math.ceil(expInteger / 99.0);
         this.level = Integer.toString(levelInteger);
+        version++;
     }
 
     public void incrementPomExp() {
@@ -47,6 +51,7 @@ public class Pet implements ReadOnlyPet {
         int expInteger = Integer.parseInt(this.exp);
         int levelInteger = (int) Math.ceil(expInteger / 99.0);
         this.level = Integer.toString(levelInteger);
+        version++;
     }
 
     @Override
@@ -64,6 +69,11 @@ public class Pet implements ReadOnlyPet {
         return this.exp;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return String.format("Hi I'm pet %s! my Exp is %s and my level is %s", name, exp, level);
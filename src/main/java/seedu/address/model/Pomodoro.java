@@ -9,6 +9,7 @@ public class Pomodoro implements ReadOnlyPomodoro {
     public String defaultTime;
     public String timeLeft;
     public Task runningTask; // runningTask will be null if not running tasks
+    private long version;
 
     public Pomodoro(String defaultTime, String timeLeft, Task runningTask) {
         if (defaultTime == null || !defaultTime.matches(TIME_REGEX)) {
@@ -26,6 +27,7 @@ public class Pomodoro implements ReadOnlyPomodoro {
 
     public Pomodoro(ReadOnlyPomodoro source) {
         this(source.getDefaultTime(), source.getTimeLeft(), source.getRunningTask());
+        this.version = source.getVersion();
     }
 
     public Pomodoro() {
@@ -34,6 +36,7 @@ public class Pomodoro implements ReadOnlyPomodoro {
 
     public void setTask(Task runningTask) {
         this.runningTask = runningTask;
+        version++;
     }
 
     @Override
@@ -51,6 +54,11 @@ public class Pomodoro implements ReadOnlyPomodoro {
         return this.timeLeft;
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return String.format(
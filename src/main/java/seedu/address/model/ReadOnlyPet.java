@@ -6,4 +6,7 @@ public interface ReadOnlyPet {
     public String getLevel();
 
     public String getExp();
+
+    /** Returns a counter that is incremented every time the data is modified. */
+    public long getVersion();
 }
@@ -8,4 +8,7 @@ public interface ReadOnlyPomodoro {
     public String getDefaultTime();
 
     public String getTimeLeft();
+
+    /** Returns a counter that is incremented every time the data is modified. */
+    public long getVersion();
 }
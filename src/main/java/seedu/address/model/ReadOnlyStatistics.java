@@ -1,14 +1,61 @@
 package seedu.address.model;
 
+import java.time.LocalDate;
 import java.util.List;
 import seedu.address.model.dayData.DayData;
 
 public interface ReadOnlyStatistics {
     /**
-     * Returns an unmodifiable view of the persons list. This list will not contain any duplicate
-     * persons.
-     *
-     * @return
+     * Returns a new list of the recorded days, earliest first. Reading the days with {@link
+     * #forEachDay(DayVisitor)} does not create a {@code DayData} for each.
      */
     List<DayData> getDayDataList();
+
+    /** Returns true if there is a record for {@code date}. */
+    boolean hasDay(LocalDate date);
+
+    /** Returns the pomodoro minutes recorded for {@code date}, or 0 if there is no record. */
+    int getPomDuration(LocalDate date);
+
+    /** Returns the number of tasks recorded as done on {@code date}, or 0 if there is no record. */
+    int getTasksDone(LocalDate date);
+
+    /**
+     * Returns the total pomodoro minutes recorded from {@code start} to {@code end}, both
+     * included.
+     */
+    long getPomDurationBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Returns the number of tasks recorded as done from {@code start} to {@code end}, both
+     * included.
+     */
+    long getTasksDoneBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Returns the number of days in a row, up to and including {@code end}, with pomodoro minutes
+     * or tasks done recorded.
+     */
+    int getStreak(LocalDate end);
+
+    /** Returns the number of recorded days. */
+    int getDayCount();
+
+    /** Calls {@code visitor} with each recorded day, earliest first. */
+    void forEachDay(DayVisitor visitor);
+
+    /** Returns a counter that is incremented every time the data is modified. */
+    long getVersion();
+
+    /**
+     * Returns a copy of the statistics as they are now, which later changes to them do not
+     * affect. The copy can be handed to another thread and read there without locks.
+     */
+    ReadOnlyStatistics snapshot();
+
+    /** Receives the record of a day. */
+    @FunctionalInterface
+    interface DayVisitor {
+        void visit(long epochDay, int pomDuration, int tasksDone);
+    }
 }
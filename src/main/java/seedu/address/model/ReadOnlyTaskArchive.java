@@ -0,0 +1,24 @@
+package seedu.address.model;
+
+import java.util.List;
+import seedu.address.model.task.Task;
+
+/** Unmodifiable view of the archive of done tasks. */
+public interface ReadOnlyTaskArchive {
+
+    /**
+     * Returns the tasks archived since the archive was opened that are still held in memory, in the
+     * order they were archived. These are the only archived tasks known without loading the
+     * archive.
+     */
+    List<Task> getNewlyArchivedTasks();
+
+    /**
+     * Returns the number of tasks archived since the archive was opened that were saved and dropped
+     * from memory. They come before the tasks of {@link #getNewlyArchivedTasks()}.
+     */
+    int getDroppedTaskCount();
+
+    /** Returns a counter that is incremented every time the data is modified. */
+    long getVersion();
+}
@@ -11,4 +11,15 @@ public interface ReadOnlyTaskList {
      * persons.
      */
     ObservableList<Task> getTaskList();
+
+    /** Returns a counter that is incremented every time the data is modified. */
+    long getVersion();
+
+    /**
+     * Returns a copy of the task list as it is now, which later changes to it do not affect. The
+     * copy never changes, so it can be handed to another thread and read there without locks.
+     */
+    default ReadOnlyTaskList snapshot() {
+        return new TaskList(this).snapshot();
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /** Unmodifiable view of user prefs. */
 public interface ReadOnlyUserPrefs {
@@ -15,4 +16,16 @@ public interface ReadOnlyUserPrefs {
     Path getPomodoroFilePath();
 
     Path getStatisticsFilePath();
+
+    Path getDataFilePath();
+
+    int getJournalCompactionThreshold();
+
+    StorageFormat getStorageFormat();
+
+    int getArchiveAfterDays();
+
+    int getArchiveDoneTaskLimit();
+
+    int getUndoHistoryLimit();
 }
@@ -1,83 +1,389 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import seedu.address.model.dayData.Date;
 import seedu.address.model.dayData.DayData;
+import seedu.address.model.dayData.PomDurationData;
+import seedu.address.model.dayData.TasksDoneData;
 
 /**
- * Wraps all data at the address-book level Duplicates are not allowed (by .isSameTask comparison)
+ * Wraps the pomodoro minutes and the number of tasks done on each day. There is at most one record
+ * for a day.
+ *
+ * <p>The records are stored by column, in one array of minutes and one of counts, with a slot for
+ * each day from the first day the arrays cover. Finding the record for a day is an index into the
+ * arrays, and the arrays grow at either end as earlier or later days are recorded. A {@link
+ * FenwickTree} over each column sums the records of any range of days in O(log n).
+ *
+ * <p>The arrays and trees are held in one {@link Columns}, which is never changed once the
+ * statistics hold it: a change is made to a copy, which then takes its place. So a {@link
+ * #snapshot()} shares them in O(1), and can be taken and read on any thread while the statistics
+ * are changed on another. The statistics are changed from one thread at a time.
  */
 public class Statistics implements ReadOnlyStatistics {
 
-    private final ArrayList<DayData> dayDataList;
+    private static final int INITIAL_CAPACITY = 16;
 
-    public Statistics() {
-        dayDataList = new ArrayList<>();
-    }
+    // The minutes of a day with no record, which no recorded day can have
+    private static final int NOT_RECORDED = -1;
+
+    private volatile Columns columns = new Columns();
 
-    /** Creates an DayDataList using the DayDatas in the {@code toBeCopied} */
+    public Statistics() {}
+
+    /** Creates a Statistics with the records in {@code toBeCopied} */
     public Statistics(ReadOnlyStatistics toBeCopied) {
-        this();
-        resetData(toBeCopied);
+        requireNonNull(toBeCopied);
+        Columns copied = new Columns();
+        toBeCopied.forEachDay(copied::putDay);
+        copied.version = toBeCopied.getVersion();
+        columns = copied;
     }
 
     //// list overwrite operations
+
     /**
-     * Replaces the contents of the person list with {@code persons}. {@code persons} must not
-     * contain duplicate persons.
+     * Replaces the records with {@code dayDataList}. A later record for a day replaces an earlier
+     * one.
      */
     public void setDayDatas(List<DayData> dayDataList) {
-        this.dayDataList.clear();
-        this.dayDataList.addAll(dayDataList);
+        Columns changed = new Columns();
+        for (DayData dayData : dayDataList) {
+            requireNonNull(dayData);
+            int pomDuration = Integer.parseInt(dayData.getPomDurationData().value);
+            int tasksDone = Integer.parseInt(dayData.getTasksDoneData().value);
+            checkDay(pomDuration, tasksDone);
+            changed.putDay(
+                    LocalDate.parse(dayData.getDate().value).toEpochDay(), pomDuration, tasksDone);
+        }
+        replaceColumns(changed);
     }
 
-    /** Resets the existing data of this {@code TaskList} with {@code newData}. */
+    /** Resets the existing data of this {@code Statistics} with {@code newData}. */
     public void resetData(ReadOnlyStatistics newData) {
         requireNonNull(newData);
-        setDayDatas(newData.getDayDataList());
+        Columns changed = new Columns();
+        newData.forEachDay(changed::putDay);
+        replaceColumns(changed);
     }
 
-    //// person-level operations
+    //// day-level operations
 
-    /**
-     * Returns true if a person with the same identity as {@code person} exists in the address book.
-     */
+    /** Returns true if {@code dayData} is recorded, with the same minutes and count. */
     public boolean hasTask(DayData dayData) {
         requireNonNull(dayData);
-        return dayDataList.contains(dayData);
+        Columns current = columns;
+        int slot = current.getSlot(LocalDate.parse(dayData.getDate().value).toEpochDay());
+        return slot >= 0
+                && current.pomDurations[slot] != NOT_RECORDED
+                && current.pomDurations[slot]
+                        == Integer.parseInt(dayData.getPomDurationData().value)
+                && current.tasksDone[slot] == Integer.parseInt(dayData.getTasksDoneData().value);
     }
 
-    /** Adds a person to the address book. The person must not already exist in the address book. */
+    /** Records {@code dayData}, replacing any record for its day. */
     public void addDayData(DayData dayData) {
-        dayDataList.add(dayData);
+        requireNonNull(dayData);
+        setDay(
+                LocalDate.parse(dayData.getDate().value),
+                Integer.parseInt(dayData.getPomDurationData().value),
+                Integer.parseInt(dayData.getTasksDoneData().value));
+    }
+
+    /** Removes the record for the day of {@code dayData}, if there is one. */
+    public void removeTask(DayData dayData) {
+        requireNonNull(dayData);
+        Columns changed = columns.copy();
+        int slot = changed.getSlot(LocalDate.parse(dayData.getDate().value).toEpochDay());
+        if (slot >= 0 && changed.pomDurations[slot] != NOT_RECORDED) {
+            changed.removeDay(slot);
+        }
+        replaceColumns(changed);
     }
 
     /**
-     * Removes {@code key} from this {@code TaskList}. {@code key} must exist in the address book.
+     * Records {@code pomDuration} minutes and {@code tasksDone} tasks done on {@code date},
+     * replacing any record for that day.
      */
-    public void removeTask(DayData dayData) {
-        dayDataList.remove(dayData);
+    public void setDay(LocalDate date, int pomDuration, int tasksDone) {
+        requireNonNull(date);
+        checkDay(pomDuration, tasksDone);
+        Columns changed = columns.copy();
+        changed.putDay(date.toEpochDay(), pomDuration, tasksDone);
+        replaceColumns(changed);
+    }
+
+    private static void checkDay(int pomDuration, int tasksDone) {
+        checkArgument(pomDuration >= 0 && pomDuration < 1440, PomDurationData.MESSAGE_CONSTRAINTS);
+        checkArgument(tasksDone >= 0, TasksDoneData.MESSAGE_CONSTRAINTS);
+    }
+
+    /** Puts {@code changed} in place of the columns, as the next version of the statistics. */
+    private void replaceColumns(Columns changed) {
+        changed.version = columns.version + 1;
+        columns = changed;
     }
 
     //// util methods
 
+    @Override
+    public boolean hasDay(LocalDate date) {
+        requireNonNull(date);
+        Columns current = columns;
+        int slot = current.getSlot(date.toEpochDay());
+        return slot >= 0 && current.pomDurations[slot] != NOT_RECORDED;
+    }
+
+    @Override
+    public int getPomDuration(LocalDate date) {
+        requireNonNull(date);
+        Columns current = columns;
+        int slot = current.getSlot(date.toEpochDay());
+        return slot >= 0 && current.pomDurations[slot] != NOT_RECORDED
+                ? current.pomDurations[slot]
+                : 0;
+    }
+
+    @Override
+    public int getTasksDone(LocalDate date) {
+        requireNonNull(date);
+        Columns current = columns;
+        int slot = current.getSlot(date.toEpochDay());
+        return slot >= 0 ? current.tasksDone[slot] : 0;
+    }
+
+    @Override
+    public long getPomDurationBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        Columns current = columns;
+        return current.pomDurationSums.sum(current.toSlotFrom(start), current.toSlotTo(end));
+    }
+
+    @Override
+    public long getTasksDoneBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        Columns current = columns;
+        return current.tasksDoneSums.sum(current.toSlotFrom(start), current.toSlotTo(end));
+    }
+
+    @Override
+    public int getStreak(LocalDate end) {
+        requireNonNull(end);
+        Columns current = columns;
+        int slot = current.getSlot(end.toEpochDay());
+        int streak = 0;
+        while (slot - streak >= 0
+                && (current.pomDurations[slot - streak] > 0
+                        || current.tasksDone[slot - streak] > 0)) {
+            streak++;
+        }
+        return streak;
+    }
+
+    @Override
+    public int getDayCount() {
+        return columns.dayCount;
+    }
+
+    @Override
+    public void forEachDay(DayVisitor visitor) {
+        requireNonNull(visitor);
+        Columns current = columns;
+        for (int slot = 0; slot < current.pomDurations.length; slot++) {
+            if (current.pomDurations[slot] != NOT_RECORDED) {
+                visitor.visit(
+                        current.firstDay + slot,
+                        current.pomDurations[slot],
+                        current.tasksDone[slot]);
+            }
+        }
+    }
+
     @Override
     public String toString() {
-        return dayDataList.size() + " dayDats";
-        // TODO: refine later
+        return columns.dayCount + " days";
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Statistics // instanceof handles nulls
-                        && dayDataList.equals(((Statistics) other).dayDataList));
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof Statistics)) {
+            return false;
+        }
+        Columns current = columns;
+        Columns otherColumns = ((Statistics) other).columns;
+        if (current.dayCount != otherColumns.dayCount) {
+            return false;
+        }
+        for (int slot = 0; slot < current.pomDurations.length; slot++) {
+            if (current.pomDurations[slot] == NOT_RECORDED) {
+                continue;
+            }
+            int otherSlot = otherColumns.getSlot(current.firstDay + slot);
+            if (otherSlot < 0
+                    || otherColumns.pomDurations[otherSlot] != current.pomDurations[slot]
+                    || otherColumns.tasksDone[otherSlot] != current.tasksDone[slot]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public List<DayData> getDayDataList() {
+        List<DayData> dayDataList = new ArrayList<>(getDayCount());
+        forEachDay(
+                (epochDay, pomDuration, tasksDone) ->
+                        dayDataList.add(
+                                new DayData(
+                                        new Date(LocalDate.ofEpochDay(epochDay).toString()),
+                                        new PomDurationData(String.valueOf(pomDuration)),
+                                        new TasksDoneData(String.valueOf(tasksDone)))));
         return dayDataList;
     }
+
+    @Override
+    public long getVersion() {
+        return columns.version;
+    }
+
+    /**
+     * Returns the statistics as they are now, which later changes to them do not affect. Takes
+     * O(1), as the snapshot shares the columns, which are never changed. It can be taken on any
+     * thread.
+     */
+    @Override
+    public Statistics snapshot() {
+        Statistics snapshot = new Statistics();
+        snapshot.columns = columns;
+        return snapshot;
+    }
+
+    /**
+     * The arrays and trees of the records, and the number of days and version they are of. A
+     * {@code Columns} is only changed before it is put in {@link #columns}, and never after, so it
+     * is safe to read from any thread once it is there.
+     */
+    private static final class Columns {
+        // The epoch day of slot 0 of the arrays
+        private long firstDay;
+        private int[] pomDurations = new int[0];
+        private int[] tasksDone = new int[0];
+        private FenwickTree pomDurationSums = new FenwickTree(new long[0]);
+        private FenwickTree tasksDoneSums = new FenwickTree(new long[0]);
+        private int dayCount;
+        private long version;
+
+        /** Returns a copy of these columns, which can be changed without changing these. */
+        Columns copy() {
+            Columns copy = new Columns();
+            copy.firstDay = firstDay;
+            copy.pomDurations = pomDurations.clone();
+            copy.tasksDone = tasksDone.clone();
+            copy.pomDurationSums = new FenwickTree(pomDurationSums);
+            copy.tasksDoneSums = new FenwickTree(tasksDoneSums);
+            copy.dayCount = dayCount;
+            copy.version = version;
+            return copy;
+        }
+
+        /** Records a day, replacing any record for that day. */
+        void putDay(long epochDay, int pomDuration, int tasksDone) {
+            int slot = ensureSlot(epochDay);
+            if (pomDurations[slot] == NOT_RECORDED) {
+                dayCount++;
+            } else {
+                pomDurationSums.add(slot, -pomDurations[slot]);
+            }
+            pomDurationSums.add(slot, pomDuration);
+            tasksDoneSums.add(slot, tasksDone - this.tasksDone[slot]);
+            pomDurations[slot] = pomDuration;
+            this.tasksDone[slot] = tasksDone;
+        }
+
+        /** Removes the record in {@code slot}, which must be recorded. */
+        void removeDay(int slot) {
+            pomDurationSums.add(slot, -pomDurations[slot]);
+            tasksDoneSums.add(slot, -tasksDone[slot]);
+            pomDurations[slot] = NOT_RECORDED;
+            tasksDone[slot] = 0;
+            dayCount--;
+        }
+
+        /** Builds the trees over the columns, for when the arrays have been replaced. */
+        private void buildSums() {
+            long[] pomDurationValues = new long[pomDurations.length];
+            long[] tasksDoneValues = new long[tasksDone.length];
+            for (int slot = 0; slot < pomDurations.length; slot++) {
+                pomDurationValues[slot] = Math.max(0, pomDurations[slot]);
+                tasksDoneValues[slot] = tasksDone[slot];
+            }
+            pomDurationSums = new FenwickTree(pomDurationValues);
+            tasksDoneSums = new FenwickTree(tasksDoneValues);
+        }
+
+        /** Returns the slot of {@code epochDay}, or -1 if the arrays do not cover it. */
+        int getSlot(long epochDay) {
+            long slot = epochDay - firstDay;
+            return slot >= 0 && slot < pomDurations.length ? (int) slot : -1;
+        }
+
+        /** Returns the slot of {@code epochDay}, growing the arrays to cover it if they do not. */
+        private int ensureSlot(long epochDay) {
+            int slot = getSlot(epochDay);
+            if (slot >= 0) {
+                return slot;
+            }
+            int length = pomDurations.length;
+            if (length == 0) {
+                firstDay = epochDay;
+                pomDurations = new int[INITIAL_CAPACITY];
+                tasksDone = new int[INITIAL_CAPACITY];
+                Arrays.fill(pomDurations, NOT_RECORDED);
+                buildSums();
+                return 0;
+            }
+            long newFirstDay;
+            int newLength;
+            if (epochDay < firstDay) {
+                // Double towards earlier days, so that recording days in reverse is amortised O(1)
+                newFirstDay = Math.min(epochDay, firstDay - length);
+                newLength = Math.toIntExact(firstDay - newFirstDay + length);
+            } else {
+                newFirstDay = firstDay;
+                newLength = Math.toIntExact(Math.max(epochDay - firstDay + 1, 2L * length));
+            }
+            int shift = (int) (firstDay - newFirstDay);
+            int[] newPomDurations = new int[newLength];
+            int[] newTasksDone = new int[newLength];
+            Arrays.fill(newPomDurations, NOT_RECORDED);
+            System.arraycopy(pomDurations, 0, newPomDurations, shift, length);
+            System.arraycopy(tasksDone, 0, newTasksDone, shift, length);
+            pomDurations = newPomDurations;
+            tasksDone = newTasksDone;
+            firstDay = newFirstDay;
+            buildSums();
+            return (int) (epochDay - firstDay);
+        }
+
+        /** Returns the first slot on or after {@code start}, clamped to the slots there are. */
+        int toSlotFrom(LocalDate start) {
+            return (int) Math.min(Math.max(start.toEpochDay() - firstDay, 0), pomDurations.length);
+        }
+
+        /** Returns the slot after {@code end}, clamped to the slots there are. */
+        int toSlotTo(LocalDate end) {
+            return (int)
+                    Math.min(Math.max(end.toEpochDay() - firstDay + 1, 0), pomDurations.length);
+        }
+    }
 }
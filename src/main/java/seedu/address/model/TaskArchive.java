@@ -0,0 +1,149 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.task.Task;
+
+/**
+ * The archive of done tasks that were moved out of the task list. Tasks are only ever added to the
+ * archive, so adding a task does not need the tasks archived earlier. Those are loaded the first
+ * time they are asked for, which keeps them out of memory until then.
+ *
+ * <p>The tasks archived since the archive was opened are held in memory until they are saved and
+ * can no longer be undone, and are then dropped. Undoing and redoing a move to the archive only
+ * moves the end of the held tasks, so the tasks taken back out are held until they are redone or
+ * another task is archived.
+ */
+public class TaskArchive implements ReadOnlyTaskArchive {
+
+    private static final Logger logger = LogsCenter.getLogger(TaskArchive.class);
+
+    private final Supplier<List<Task>> loader;
+    // The newly archived tasks that are not dropped yet, followed by the ones taken back out of the
+    // archive that can be redone
+    private final List<Task> heldTasks = new ArrayList<>();
+    private int heldArchivedCount;
+    private int droppedTaskCount;
+    // The ids of the tasks taken back out for good since the archive was last saved
+    private final Set<Long> discardedIds = new HashSet<>();
+    private List<Task> storedTasks;
+    private long version;
+
+    /** Creates an empty archive. */
+    public TaskArchive() {
+        this(Collections::emptyList);
+    }
+
+    /**
+     * Creates an archive whose earlier tasks are returned by {@code loader} the first time they are
+     * asked for.
+     */
+    public TaskArchive(Supplier<List<Task>> loader) {
+        requireNonNull(loader);
+        this.loader = loader;
+    }
+
+    /** Returns true if the tasks archived before the archive was opened have been loaded. */
+    public boolean isLoaded() {
+        return storedTasks != null;
+    }
+
+    /** Adds {@code task} to the end of the archive. */
+    public void addTask(Task task) {
+        requireNonNull(task);
+        // The tasks taken back out can no longer be redone
+        List<Task> undoneTasks = heldTasks.subList(heldArchivedCount, heldTasks.size());
+        undoneTasks.forEach(undoneTask -> discardedIds.add(undoneTask.getId()));
+        undoneTasks.clear();
+        heldTasks.add(task);
+        heldArchivedCount++;
+        version++;
+    }
+
+    /** Returns the number of tasks archived since the archive was opened. */
+    int getArchivedCount() {
+        return droppedTaskCount + heldArchivedCount;
+    }
+
+    /**
+     * Makes the first {@code count} tasks archived since the archive was opened the archived ones,
+     * e.g. to undo or redo moving tasks to the archive. The tasks past them must be held still.
+     */
+    void setArchivedCount(int count) {
+        int heldCount = count - droppedTaskCount;
+        checkArgument(heldCount >= 0 && heldCount <= heldTasks.size(), "Tasks are not held");
+        if (heldCount == heldArchivedCount) {
+            return;
+        }
+        heldArchivedCount = heldCount;
+        version++;
+    }
+
+    /**
+     * Records that the archive, as it is now, is saved, and drops the first {@code undoneCount}
+     * tasks archived since the archive was opened from memory, as no undo takes them back out.
+     * Dropped tasks are read back from the saved archive if they are asked for.
+     */
+    void dropSavedTasks(int undoneCount) {
+        discardedIds.clear();
+        int count = Math.min(undoneCount - droppedTaskCount, heldArchivedCount);
+        if (count <= 0) {
+            return;
+        }
+        List<Task> droppedTasks = heldTasks.subList(0, count);
+        if (storedTasks != null) {
+            storedTasks.addAll(droppedTasks);
+        }
+        droppedTasks.clear();
+        droppedTaskCount += count;
+        heldArchivedCount -= count;
+    }
+
+    /** Returns every archived task, oldest first, loading the earlier tasks if needed. */
+    public List<Task> getArchivedTasks() {
+        if (storedTasks == null) {
+            long start = System.nanoTime();
+            storedTasks = new ArrayList<>(loader.get());
+            // The saved archive also has the tasks held here, or taken out but not saved as such
+            Set<Long> heldIds = new HashSet<>(discardedIds);
+            heldTasks.forEach(task -> heldIds.add(task.getId()));
+            storedTasks.removeIf(task -> heldIds.contains(task.getId()));
+            logger.info(
+                    String.format(
+                            "Loaded %d archived tasks in %d ms",
+                            storedTasks.size(), (System.nanoTime() - start) / 1_000_000));
+        }
+        List<Task> tasks = new ArrayList<>(storedTasks);
+        tasks.addAll(getNewlyArchivedTasks());
+        return Collections.unmodifiableList(tasks);
+    }
+
+    @Override
+    public List<Task> getNewlyArchivedTasks() {
+        return Collections.unmodifiableList(heldTasks.subList(0, heldArchivedCount));
+    }
+
+    @Override
+    public int getDroppedTaskCount() {
+        return droppedTaskCount;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return getArchivedCount() + " newly archived tasks";
+    }
+}
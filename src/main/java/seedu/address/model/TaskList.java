@@ -3,8 +3,15 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 import javafx.collections.ObservableList;
+import seedu.address.model.task.TagIndex;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskBatch;
+import seedu.address.model.task.TaskQuery;
+import seedu.address.model.task.TaskQueryPlan;
+import seedu.address.model.task.TextIndex;
+import seedu.address.model.task.TrigramIndex;
 import seedu.address.model.task.UniqueTaskList;
 
 /**
@@ -13,6 +20,9 @@ import seedu.address.model.task.UniqueTaskList;
 public class TaskList implements ReadOnlyTaskList {
 
     private final UniqueTaskList tasklist;
+    // The tasks and the version they are of, as of the last change. It is replaced after every
+    // change, so that a snapshot can be taken on any thread while the task list is changed.
+    private volatile TaskListSnapshot current;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -23,6 +33,7 @@ public class TaskList implements ReadOnlyTaskList {
      */
     {
         tasklist = new UniqueTaskList();
+        current = new TaskListSnapshot(tasklist.snapshot(), 0);
     }
 
     public TaskList() {}
@@ -31,6 +42,7 @@ public class TaskList implements ReadOnlyTaskList {
     public TaskList(ReadOnlyTaskList toBeCopied) {
         this();
         resetData(toBeCopied);
+        current = new TaskListSnapshot(tasklist.snapshot(), toBeCopied.getVersion());
     }
 
     //// list overwrite operations
@@ -41,6 +53,7 @@ public class TaskList implements ReadOnlyTaskList {
      */
     public void setTasks(List<Task> tasklist) {
         this.tasklist.setTasks(tasklist);
+        changed();
     }
 
     /** Resets the existing data of this {@code TaskList} with {@code newData}. */
@@ -60,9 +73,55 @@ public class TaskList implements ReadOnlyTaskList {
         return tasklist.contains(task);
     }
 
+    /** Returns true if a task with the given {@code id} exists in the task list. */
+    public boolean hasTaskId(long id) {
+        return tasklist.containsId(id);
+    }
+
+    /** Returns the task with the given {@code id}, if it is in the task list. */
+    public Optional<Task> getTask(long id) {
+        return tasklist.get(id);
+    }
+
+    /** Returns the index of the tasks with each tag, which is kept up to date with the list. */
+    public TagIndex getTagIndex() {
+        return tasklist.getTagIndex();
+    }
+
+    /** Returns the index of the words in the tasks, which is kept up to date with the list. */
+    public TextIndex getTextIndex() {
+        return tasklist.getTextIndex();
+    }
+
+    /** Returns the trigram index of the words in the tasks, which is kept up to date. */
+    public TrigramIndex getTrigramIndex() {
+        return tasklist.getTrigramIndex();
+    }
+
+    /** Returns the plan that answers {@code query} from the most selective index of the tasks. */
+    public TaskQueryPlan plan(TaskQuery query) {
+        requireNonNull(query);
+        return query.plan(tasklist);
+    }
+
     /** Adds a person to the address book. The person must not already exist in the address book. */
     public void addTask(Task t) {
         tasklist.add(t);
+        changed();
+    }
+
+    /**
+     * Adds the tasks in {@code tasks} that are not already in the task list, skipping any that
+     * repeat an earlier one.
+     *
+     * @return the number of tasks added.
+     */
+    public int addTasks(List<Task> tasks) {
+        int added = tasklist.addAll(tasks);
+        if (added > 0) {
+            changed();
+        }
+        return added;
     }
 
     /**
@@ -74,6 +133,7 @@ public class TaskList implements ReadOnlyTaskList {
         requireNonNull(editedTask);
 
         tasklist.setTask(target, editedTask);
+        changed();
     }
 
     /**
@@ -81,6 +141,30 @@ public class TaskList implements ReadOnlyTaskList {
      */
     public void removeTask(Task key) {
         tasklist.remove(key);
+        changed();
+    }
+
+    /**
+     * Makes the changes in {@code batch} as a single change to the task list, or none of them if
+     * any could not be made.
+     *
+     * @see UniqueTaskList#applyBatch(TaskBatch)
+     */
+    public void applyBatch(TaskBatch batch) {
+        tasklist.applyBatch(batch);
+        changed();
+    }
+
+    /** Replaces the tasks with those in {@code snapshot}, which is done in O(1). */
+    public void restore(TaskListSnapshot snapshot) {
+        requireNonNull(snapshot);
+        tasklist.restore(snapshot.getTasks());
+        changed();
+    }
+
+    /** Makes the tasks as they are now the next version of the task list. */
+    private void changed() {
+        current = new TaskListSnapshot(tasklist.snapshot(), current.getVersion() + 1);
     }
 
     //// util methods
@@ -96,6 +180,21 @@ public class TaskList implements ReadOnlyTaskList {
         return tasklist.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return current.getVersion();
+    }
+
+    /**
+     * Returns the task list as it was after the last change, which later changes to the task list
+     * do not affect. Takes O(1), as the snapshot shares its tasks with the task list, and can be
+     * called on any thread.
+     */
+    @Override
+    public TaskListSnapshot snapshot() {
+        return current;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -0,0 +1,48 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.UniqueTaskList;
+
+/**
+ * A task list at one point in time, which later changes to the task list it was taken of do not
+ * affect. A snapshot is taken in O(1), as it shares its tasks with the task list, and never
+ * changes, so a background thread can read it without locks while the task list is changed.
+ */
+public final class TaskListSnapshot implements ReadOnlyTaskList {
+
+    private final UniqueTaskList.Snapshot tasks;
+    private final long version;
+
+    TaskListSnapshot(UniqueTaskList.Snapshot tasks, long version) {
+        requireNonNull(tasks);
+        this.tasks = tasks;
+        this.version = version;
+    }
+
+    UniqueTaskList.Snapshot getTasks() {
+        return tasks;
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return tasks.asUnmodifiableObservableList();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public TaskListSnapshot snapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return tasks.size() + " persons";
+    }
+}
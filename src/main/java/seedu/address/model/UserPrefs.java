@@ -6,15 +6,27 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /** Represents User's preferences. */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 100;
+    public static final int DEFAULT_ARCHIVE_AFTER_DAYS = 7;
+    public static final int DEFAULT_ARCHIVE_DONE_TASK_LIMIT = 20;
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 20;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path taskListFilePath = Paths.get("data", "tasklist.json");
     private Path petFilePath = Paths.get("data", "pet.json");
     private Path pomodoroFilePath = Paths.get("data", "pomodoro.json");
     private Path statisticsFilePath = Paths.get("data", "statistics.json");
+    private Path dataFilePath = Paths.get("data", "bbproductive.dat");
+    private int journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private int archiveAfterDays = DEFAULT_ARCHIVE_AFTER_DAYS;
+    private int archiveDoneTaskLimit = DEFAULT_ARCHIVE_DONE_TASK_LIMIT;
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
 
     /** Creates a {@code UserPrefs} with default values. */
     public UserPrefs() {}
@@ -33,6 +45,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setPetFilePath(newUserPrefs.getPetFilePath());
         setPomodoroFilePath(newUserPrefs.getPomodoroFilePath());
         setStatisticsFilePath(newUserPrefs.getStatisticsFilePath());
+        setDataFilePath(newUserPrefs.getDataFilePath());
+        setJournalCompactionThreshold(newUserPrefs.getJournalCompactionThreshold());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setArchiveAfterDays(newUserPrefs.getArchiveAfterDays());
+        setArchiveDoneTaskLimit(newUserPrefs.getArchiveDoneTaskLimit());
+        setUndoHistoryLimit(newUserPrefs.getUndoHistoryLimit());
     }
 
     public GuiSettings getGuiSettings() {
@@ -80,6 +98,76 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.statisticsFilePath = statisticsFilePath;
     }
 
+    public Path getDataFilePath() {
+        return dataFilePath;
+    }
+
+    /**
+     * Sets the container file that holds every store. The separate task list, pet, pomodoro and
+     * statistics files are only read once, to move their data into this file.
+     */
+    public void setDataFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        this.dataFilePath = dataFilePath;
+    }
+
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    /**
+     * Sets the number of task list journal records after which the task list file is rewritten in
+     * full. A threshold of 0 or less rewrites the file on every save.
+     */
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    /** Sets the format that the task list and statistics are stored in. */
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public int getArchiveAfterDays() {
+        return archiveAfterDays;
+    }
+
+    /**
+     * Sets the number of days after which a done task is moved from the task list to the archive.
+     */
+    public void setArchiveAfterDays(int archiveAfterDays) {
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
+    public int getArchiveDoneTaskLimit() {
+        return archiveDoneTaskLimit;
+    }
+
+    /**
+     * Sets the number of done tasks kept in the task list. The tasks that were done the longest ago
+     * are moved to the archive beyond it.
+     */
+    public void setArchiveDoneTaskLimit(int archiveDoneTaskLimit) {
+        this.archiveDoneTaskLimit = archiveDoneTaskLimit;
+    }
+
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    /**
+     * Sets the number of changes to the task list that can be undone. A limit of 0 or less turns
+     * undo off.
+     */
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,167 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@code TaskList} that keeps its states after each commit, so that changes to it can be undone
+ * and redone. Each state is a {@link TaskListSnapshot}, which shares all but the changed tasks
+ * with the states next to it, so a state costs memory in proportion to the tasks changed since the
+ * one before. Only the latest {@code historyLimit} states before the current one are kept.
+ *
+ * <p>Each state also holds the number of tasks newly archived in the {@link TaskArchive} of the
+ * task list, so that undoing a move of done tasks to the archive takes them back out of it.
+ */
+public class VersionedTaskList extends TaskList {
+
+    private final TaskArchive archive;
+    private final int historyLimit;
+    private final List<State> taskListStateList = new ArrayList<>();
+    private int currentStatePointer;
+    private long committedVersion;
+    private long committedArchiveVersion;
+
+    /**
+     * Creates a VersionedTaskList with the tasks in {@code initialState} as its only state, which
+     * keeps up to {@code historyLimit} states to undo.
+     */
+    public VersionedTaskList(ReadOnlyTaskList initialState, int historyLimit) {
+        this(initialState, new TaskArchive(), historyLimit);
+    }
+
+    /**
+     * Creates a VersionedTaskList with the tasks in {@code initialState} as its only state, whose
+     * done tasks are moved to {@code archive}, which keeps up to {@code historyLimit} states to
+     * undo.
+     */
+    public VersionedTaskList(ReadOnlyTaskList initialState, TaskArchive archive, int historyLimit) {
+        super(initialState);
+        requireNonNull(archive);
+        this.archive = archive;
+        this.historyLimit = Math.max(historyLimit, 0);
+        discardHistory();
+    }
+
+    /**
+     * Saves the current state of the task list as the latest state, discarding the states that
+     * were undone. Does nothing if neither the task list nor the archive has changed since the
+     * last commit.
+     */
+    public void commit() {
+        if (!hasUncommittedChanges()) {
+            return;
+        }
+        taskListStateList.subList(currentStatePointer + 1, taskListStateList.size()).clear();
+        taskListStateList.add(takeState());
+        if (taskListStateList.size() > historyLimit + 1) {
+            taskListStateList.remove(0);
+        }
+        currentStatePointer = taskListStateList.size() - 1;
+        markCommitted();
+    }
+
+    /** Discards every state but the current one, so that the changes so far cannot be undone. */
+    public void discardHistory() {
+        taskListStateList.clear();
+        taskListStateList.add(takeState());
+        currentStatePointer = 0;
+        markCommitted();
+    }
+
+    /** Returns true if there is an earlier state to restore. */
+    public boolean canUndo() {
+        return currentStatePointer > 0 || (hasUncommittedChanges() && historyLimit > 0);
+    }
+
+    /** Returns true if there is an undone state to restore. */
+    public boolean canRedo() {
+        return currentStatePointer < taskListStateList.size() - 1 && !hasUncommittedChanges();
+    }
+
+    /**
+     * Restores the state before the current one. Changes since the last commit are committed
+     * first, so that they are the ones undone.
+     *
+     * @throws NoUndoableStateException if there is no earlier state.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        commit();
+        currentStatePointer--;
+        restoreCurrentState();
+    }
+
+    /**
+     * Restores the state that was undone last.
+     *
+     * @throws NoRedoableStateException if no state has been undone since the last commit.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        currentStatePointer++;
+        restoreCurrentState();
+    }
+
+    /**
+     * Records that the archive, as it is now, is saved, so that the archived tasks that no state
+     * takes back out of it are dropped from memory.
+     */
+    public void archiveSaved() {
+        archive.dropSavedTasks(taskListStateList.get(0).archivedCount);
+    }
+
+    private boolean hasUncommittedChanges() {
+        return getVersion() != committedVersion || archive.getVersion() != committedArchiveVersion;
+    }
+
+    private void markCommitted() {
+        committedVersion = getVersion();
+        committedArchiveVersion = archive.getVersion();
+    }
+
+    private State takeState() {
+        return new State(snapshot(), archive.getArchivedCount());
+    }
+
+    private void restoreCurrentState() {
+        State state = taskListStateList.get(currentStatePointer);
+        restore(state.taskList);
+        archive.setArchivedCount(state.archivedCount);
+        markCommitted();
+    }
+
+    /** A state of the task list, and the number of tasks newly archived from it up to then. */
+    private static class State {
+        private final TaskListSnapshot taskList;
+        private final int archivedCount;
+
+        State(TaskListSnapshot taskList, int archivedCount) {
+            this.taskList = taskList;
+            this.archivedCount = archivedCount;
+        }
+    }
+
+    /** Thrown when trying to {@link #undo()} but there is no earlier state to restore. */
+    public static class NoUndoableStateException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private NoUndoableStateException() {
+            super("Current state pointer at start of taskListState list, unable to undo.");
+        }
+    }
+
+    /** Thrown when trying to {@link #redo()} but there is no undone state to restore. */
+    public static class NoRedoableStateException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private NoRedoableStateException() {
+            super("Current state pointer at end of taskListState list, unable to redo.");
+        }
+    }
+}
@@ -3,26 +3,43 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Represents a Tag in the address book. Guarantees: immutable; name is valid as declared in {@link
  * #isValidTagName(String)}
+ *
+ * <p>Tags are got with {@link #of(String)}, which hands out one shared instance for each name, so
+ * the many tasks with the same tag share it.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    // Tag names are few next to the tasks tagged with them, so the pool is kept for the session
+    private static final ConcurrentMap<String, Tag> POOL = new ConcurrentHashMap<>();
+
     public final String tagName;
 
+    private Tag(String tagName) {
+        this.tagName = tagName;
+    }
+
     /**
-     * Constructs a {@code Tag}.
+     * Returns the {@code Tag} with the given name.
      *
      * @param tagName A valid tag name.
      */
-    public Tag(String tagName) {
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
+        Tag tag = POOL.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
+        return POOL.computeIfAbsent(tagName, Tag::new);
     }
 
     /** Returns true if a given string is a valid tag name. */
@@ -0,0 +1,60 @@
+package seedu.address.model.task;
+
+/**
+ * A range of an old version of a list, and the range of a new version that took its place. The
+ * elements just before and after the two ranges are the same in both versions.
+ */
+public final class ChangedRange {
+
+    private final int oldFrom;
+    private final int oldTo;
+    private final int newFrom;
+    private final int newTo;
+
+    ChangedRange(int oldFrom, int oldTo, int newFrom, int newTo) {
+        this.oldFrom = oldFrom;
+        this.oldTo = oldTo;
+        this.newFrom = newFrom;
+        this.newTo = newTo;
+    }
+
+    /** Returns the index of the first element of the range in the old list. */
+    public int getOldFrom() {
+        return oldFrom;
+    }
+
+    /** Returns the index after the last element of the range in the old list. */
+    public int getOldTo() {
+        return oldTo;
+    }
+
+    /** Returns the index of the first element of the range in the new list. */
+    public int getNewFrom() {
+        return newFrom;
+    }
+
+    /** Returns the index after the last element of the range in the new list. */
+    public int getNewTo() {
+        return newTo;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof ChangedRange
+                        && oldFrom == ((ChangedRange) other).oldFrom
+                        && oldTo == ((ChangedRange) other).oldTo
+                        && newFrom == ((ChangedRange) other).newFrom
+                        && newTo == ((ChangedRange) other).newTo);
+    }
+
+    @Override
+    public int hashCode() {
+        return ((oldFrom * 31 + oldTo) * 31 + newFrom) * 31 + newTo;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + oldFrom + ", " + oldTo + ") -> [" + newFrom + ", " + newTo + ")";
+    }
+}
@@ -3,9 +3,19 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
  * Represents a Task's Done in the address book. Guarantees: immutable; is valid as declared in
  * {@link #isValidDone(String)}
+ *
+ * <p>{@code Done}s are got with {@link #of(String)} and {@link #of(LocalDate)}, which hand out one
+ * shared instance for each value, so the tasks that are not done, or were done on the same day,
+ * share their {@code Done}.
  */
 public class Done {
 
@@ -16,23 +26,49 @@ public class Done {
 
     public static final String VALIDATION_REGEX = "Y|N";
 
-    public final Boolean isDone;
+    private static final Done DONE_VALUE = new Done(true, null);
+    private static final Done NOT_DONE_VALUE = new Done(false, null);
+    // The days are few next to the tasks done on them, so the pool is kept for the whole session
+    private static final ConcurrentMap<LocalDate, Done> DONE_ON_POOL = new ConcurrentHashMap<>();
+
+    public final boolean isDone;
+
+    // The day the task was done, if it is done and the day is known
+    private final LocalDate doneOn;
+
+    private Done(boolean isDone, LocalDate doneOn) {
+        this.isDone = isDone;
+        this.doneOn = doneOn;
+    }
 
     /**
-     * Constructs a {@code Done}.
+     * Returns the {@code Done} for the given flag, with no day recorded.
      *
      * @param isDone A valid Done.
      */
-    public Done(String isDone) {
+    public static Done of(String isDone) {
         requireNonNull(isDone);
         checkArgument(isValidDone(isDone), MESSAGE_CONSTRAINTS);
-        this.isDone = isDone.equals(DONE);
+        return isDone.equals(DONE) ? DONE_VALUE : NOT_DONE_VALUE;
     }
 
-    public
-    Done() { // TODO maybe don't need, but i don't get why we should use a PersonBuilder to inject
-        // default values
-        this.isDone = false;
+    /** Returns the {@code Done} for a task that was done on {@code doneOn}. */
+    public static Done of(LocalDate doneOn) {
+        requireNonNull(doneOn);
+        return DONE_ON_POOL.computeIfAbsent(doneOn, day -> new Done(true, day));
+    }
+
+    /** Returns the {@code Done} for a task that is not done. */
+    public static Done notDone() {
+        return NOT_DONE_VALUE;
+    }
+
+    /**
+     * Returns the day the task was done, or {@code Optional.empty()} if it is not done or was done
+     * before the day was recorded.
+     */
+    public Optional<LocalDate> getDoneOn() {
+        return Optional.ofNullable(doneOn);
     }
 
     /** Returns true if a given string is a valid name. */
@@ -49,11 +85,12 @@ public class Done {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Done // instanceof handles nulls
-                        && isDone == (((Done) other).isDone)); // state check
+                        && isDone == (((Done) other).isDone) // state check
+                        && Objects.equals(doneOn, ((Done) other).doneOn));
     }
 
     @Override
     public int hashCode() {
-        return isDone.hashCode();
+        return Objects.hash(isDone, doneOn);
     }
 }
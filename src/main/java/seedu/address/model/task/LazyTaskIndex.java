@@ -0,0 +1,56 @@
+package seedu.address.model.task;
+
+import java.util.List;
+
+/**
+ * An index of the tasks in a {@link UniqueTaskList} that is only built from the list the first
+ * time it is read, and is kept up to date with the list from then on. Loading or replacing a list
+ * does not pay for the indexes that are never read.
+ *
+ * <p>The list tells the index about a change before it makes it. An index that is not built yet
+ * ignores the change, as it will be built from the list as it is when it is first read.
+ */
+abstract class LazyTaskIndex {
+
+    private final List<Task> tasks;
+    private boolean isBuilt;
+
+    /** Creates an index of {@code tasks}, which must be the list that tells it of its changes. */
+    LazyTaskIndex(List<Task> tasks) {
+        this.tasks = tasks;
+    }
+
+    /** Builds the index if it has not been built. Must be called before the index is read. */
+    protected final void ensureBuilt() {
+        if (!isBuilt) {
+            tasks.forEach(this::index);
+            isBuilt = true;
+        }
+    }
+
+    /** Adds {@code task}, which is about to be added to the list, to the index. */
+    final void add(Task task) {
+        if (isBuilt) {
+            index(task);
+        }
+    }
+
+    /** Removes {@code task}, which is about to be removed from the list, from the index. */
+    final void remove(Task task) {
+        if (isBuilt) {
+            unindex(task);
+        }
+    }
+
+    /** Empties the index, to be built again the next time it is read. */
+    final void reset() {
+        clear();
+        isBuilt = false;
+    }
+
+    abstract void index(Task task);
+
+    abstract void unindex(Task task);
+
+    abstract void clear();
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.task;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Task} has a word in its name or tags that starts with, or is spelt like, any
+ * or all of the keywords given, as found by a {@link TrigramIndex} when the predicate is created.
+ * The tasks can be ordered by how similar their words are to the keywords with {@link
+ * #getComparator()}.
+ */
+public class NameOrTagSimilarToKeywordsPredicate implements Predicate<Task> {
+    private final List<String> keywords;
+    private final boolean isMatchAll;
+    private final TrigramIndex trigramIndex;
+
+    // The ids of the tasks that matched when the predicate was created, and their similarity
+    private final Map<Long, Double> scores;
+
+    /**
+     * Creates a predicate for the tasks in {@code trigramIndex} with words similar to all of {@code
+     * keywords} if {@code isMatchAll} is true, and to any of them otherwise. A keyword ending with
+     * {@link TrigramIndex#PREFIX_WILDCARD} matches the words starting with the rest of it.
+     */
+    public NameOrTagSimilarToKeywordsPredicate(
+            List<String> keywords, boolean isMatchAll, TrigramIndex trigramIndex) {
+        requireAllNonNull(keywords, trigramIndex);
+        this.keywords = new ArrayList<>(keywords);
+        this.isMatchAll = isMatchAll;
+        this.trigramIndex = trigramIndex;
+        scores = trigramIndex.search(toWordKeywords(keywords), isMatchAll);
+    }
+
+    /**
+     * Splits {@code keywords} into words as the index does, keeping a prefix wildcard on the last
+     * word of the keyword it ends.
+     */
+    private static List<String> toWordKeywords(List<String> keywords) {
+        List<String> wordKeywords = new ArrayList<>();
+        for (String keyword : keywords) {
+            List<String> words = new ArrayList<>(TextIndex.toTerms(keyword));
+            if (!words.isEmpty() && keyword.endsWith(TrigramIndex.PREFIX_WILDCARD)) {
+                int last = words.size() - 1;
+                words.set(last, words.get(last) + TrigramIndex.PREFIX_WILDCARD);
+            }
+            wordKeywords.addAll(words);
+        }
+        return wordKeywords;
+    }
+
+    /**
+     * Returns a comparator that puts the tasks with the words most similar to the keywords first.
+     */
+    public Comparator<Task> getComparator() {
+        return Comparator.comparingDouble((Task task) -> scores.getOrDefault(task.getId(), 0.0))
+                .reversed();
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return scores.containsKey(task.getId());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NameOrTagSimilarToKeywordsPredicate // instanceof handles nulls
+                        && keywords.equals(((NameOrTagSimilarToKeywordsPredicate) other).keywords)
+                        && isMatchAll == ((NameOrTagSimilarToKeywordsPredicate) other).isMatchAll
+                        && trigramIndex
+                                == ((NameOrTagSimilarToKeywordsPredicate) other)
+                                        .trigramIndex); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(keywords, isMatchAll, System.identityHashCode(trigramIndex));
+    }
+}
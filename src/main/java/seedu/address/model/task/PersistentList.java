@@ -0,0 +1,475 @@
+package seedu.address.model.task;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * An immutable list that is changed by making a new list, which shares all but O(log n) of its
+ * nodes with the old one. Keeping every version of a list therefore costs memory in proportion to
+ * the elements changed between them, not to the length of the list.
+ *
+ * <p>The elements are held in order in a balanced (AVL) binary tree, with the size of each subtree
+ * in its root, so finding, replacing, inserting or removing the element at an index takes O(log n).
+ * The inherited mutators throw {@code UnsupportedOperationException}.
+ *
+ * @param <E> the type of the elements.
+ */
+final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /** Returns the empty list. */
+    @SuppressWarnings("unchecked")
+    static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /** Returns a list of the elements of {@code elements}, in order, built in O(n). */
+    static <E> PersistentList<E> of(Collection<? extends E> elements) {
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build(array, 0, array.length));
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the index of {@code key} in this list, which must be in the order of {@code
+     * comparator}, found in O(log n). If there is no element equal to {@code key} by {@code
+     * comparator}, returns {@code -(insertion point) - 1}, like {@code Collections.binarySearch}.
+     */
+    int binarySearch(E key, Comparator<? super E> comparator) {
+        Node<E> node = root;
+        int offset = 0;
+        while (node != null) {
+            int comparison = comparator.compare(node.element, key);
+            if (comparison < 0) {
+                offset += size(node.left) + 1;
+                node = node.right;
+            } else if (comparison > 0) {
+                node = node.left;
+            } else {
+                return offset + size(node.left);
+            }
+        }
+        return -offset - 1;
+    }
+
+    /** Returns a list with {@code element} in place of the element at {@code index}. */
+    PersistentList<E> with(int index, E element) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /** Returns a list with {@code element} added at the end. */
+    PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /** Returns a list with {@code element} inserted at {@code index}. */
+    PersistentList<E> plus(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /** Returns a list with the elements of {@code elements} added at the end, in order. */
+    PersistentList<E> plusAll(Collection<? extends E> elements) {
+        Node<E> newRoot = root;
+        for (E element : elements) {
+            newRoot = insert(newRoot, size(newRoot), element);
+        }
+        return new PersistentList<>(newRoot);
+    }
+
+    /** Returns a list without the element at {@code index}. */
+    PersistentList<E> minus(int index) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns a list without the elements at {@code sortedIndices}, which must be distinct and in
+     * ascending order. Only the nodes above the removed elements are made again, so removing k
+     * elements takes O(k log(n / k)), and the new list shares the rest with this one.
+     */
+    PersistentList<E> minusAll(int[] sortedIndices) {
+        for (int i = 0; i < sortedIndices.length; i++) {
+            Objects.checkIndex(sortedIndices[i], size());
+            if (i > 0 && sortedIndices[i] <= sortedIndices[i - 1]) {
+                throw new IllegalArgumentException("Indices must be distinct and ascending");
+            }
+        }
+        return new PersistentList<>(removeAll(root, 0, sortedIndices, 0, sortedIndices.length));
+    }
+
+    /**
+     * Returns the ranges in which {@code newer} differs from {@code older}, in order. The elements
+     * between the ranges are the same in both lists. Only the nodes that the two lists do not
+     * share are visited, so for lists made from one another this takes time in proportion to the
+     * nodes changed between them rather than to their length. If the subtrees they share are not
+     * in the same order in both, the whole of both lists is returned as one range.
+     */
+    static <E> List<ChangedRange> changedRanges(PersistentList<E> older, PersistentList<E> newer) {
+        if (older.root == newer.root) {
+            return Collections.emptyList();
+        }
+        Set<Node<E>> shared = sharedSubtrees(older.root, newer.root);
+        List<Node<E>> oldShared = new ArrayList<>();
+        List<Integer> oldStarts = new ArrayList<>();
+        collectShared(older.root, 0, shared, oldShared, oldStarts);
+        List<Node<E>> newShared = new ArrayList<>();
+        List<Integer> newStarts = new ArrayList<>();
+        collectShared(newer.root, 0, shared, newShared, newStarts);
+        if (!isSameOrder(oldShared, newShared)) {
+            return List.of(new ChangedRange(0, older.size(), 0, newer.size()));
+        }
+
+        List<ChangedRange> ranges = new ArrayList<>();
+        int oldFrom = 0;
+        int newFrom = 0;
+        for (int i = 0; i <= oldShared.size(); i++) {
+            int oldTo = i < oldShared.size() ? oldStarts.get(i) : older.size();
+            int newTo = i < newShared.size() ? newStarts.get(i) : newer.size();
+            if (oldFrom < oldTo || newFrom < newTo) {
+                ranges.add(new ChangedRange(oldFrom, oldTo, newFrom, newTo));
+            }
+            if (i < oldShared.size()) {
+                oldFrom = oldTo + oldShared.get(i).size;
+                newFrom = newTo + newShared.get(i).size;
+            }
+        }
+        return ranges;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return iterator(0);
+    }
+
+    /** Returns an iterator over the elements from {@code index} on, made in O(log n). */
+    Iterator<E> iterator(int index) {
+        Objects.checkIndex(index, size() + 1);
+        // The nodes whose elements are still to come, next on top, but not their right subtrees
+        Deque<Node<E>> pending = new ArrayDeque<>();
+        Node<E> node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index <= leftSize) {
+                pending.push(node);
+                node = node.left;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !pending.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (pending.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> next = pending.pop();
+                for (Node<E> n = next.right; n != null; n = n.left) {
+                    pending.push(n);
+                }
+                return next.element;
+            }
+        };
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+        for (E element : this) {
+            if (Objects.equals(o, element)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the largest subtrees found in both trees. The nodes are visited from the highest
+     * down, so a node of one tree that is also in the other is met while it is still pending in
+     * both: its parents, which are higher, have been expanded in both trees by then.
+     */
+    private static <E> Set<Node<E>> sharedSubtrees(Node<E> oldRoot, Node<E> newRoot) {
+        Set<Node<E>> shared = Collections.newSetFromMap(new IdentityHashMap<>());
+        Comparator<Node<E>> highestFirst = (a, b) -> Integer.compare(b.height, a.height);
+        PriorityQueue<Node<E>> oldQueue = new PriorityQueue<>(highestFirst);
+        PriorityQueue<Node<E>> newQueue = new PriorityQueue<>(highestFirst);
+        Set<Node<E>> oldPending = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Node<E>> newPending = Collections.newSetFromMap(new IdentityHashMap<>());
+        addPending(oldRoot, oldQueue, oldPending);
+        addPending(newRoot, newQueue, newPending);
+
+        while (!oldQueue.isEmpty() || !newQueue.isEmpty()) {
+            boolean isOld =
+                    newQueue.isEmpty()
+                            || (!oldQueue.isEmpty()
+                                    && oldQueue.peek().height >= newQueue.peek().height);
+            PriorityQueue<Node<E>> queue = isOld ? oldQueue : newQueue;
+            Set<Node<E>> pending = isOld ? oldPending : newPending;
+            Set<Node<E>> otherPending = isOld ? newPending : oldPending;
+            Node<E> node = queue.poll();
+            if (!pending.remove(node)) {
+                // Already found in the other tree
+                continue;
+            }
+            if (otherPending.remove(node)) {
+                shared.add(node);
+            } else {
+                addPending(node.left, queue, pending);
+                addPending(node.right, queue, pending);
+            }
+        }
+        return shared;
+    }
+
+    private static <E> boolean isSameOrder(List<Node<E>> oldShared, List<Node<E>> newShared) {
+        if (oldShared.size() != newShared.size()) {
+            return false;
+        }
+        for (int i = 0; i < oldShared.size(); i++) {
+            if (oldShared.get(i) != newShared.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <E> void addPending(
+            Node<E> node, PriorityQueue<Node<E>> queue, Set<Node<E>> pending) {
+        if (node != null) {
+            queue.add(node);
+            pending.add(node);
+        }
+    }
+
+    /**
+     * Adds the subtrees in {@code shared} found under {@code node}, whose first element is at
+     * {@code offset} in the list, to {@code subtrees} in order, and the index of the first element
+     * of each to {@code starts}.
+     */
+    private static <E> void collectShared(
+            Node<E> node,
+            int offset,
+            Set<Node<E>> shared,
+            List<Node<E>> subtrees,
+            List<Integer> starts) {
+        if (node == null) {
+            return;
+        }
+        if (shared.contains(node)) {
+            subtrees.add(node);
+            starts.add(offset);
+            return;
+        }
+        collectShared(node.left, offset, shared, subtrees, starts);
+        collectShared(node.right, offset + size(node.left) + 1, shared, subtrees, starts);
+    }
+
+    private static <E> Node<E> build(Object[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        @SuppressWarnings("unchecked")
+        E element = (E) elements[mid];
+        return node(build(elements, from, mid), element, build(elements, mid + 1, to));
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return node(set(node.left, index, element), node.element, node.right);
+        } else if (index == leftSize) {
+            return node(node.left, element, node.right);
+        } else {
+            return node(node.left, node.element, set(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return node(null, element, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.element, node.right);
+        } else {
+            return balance(
+                    node.left, node.element, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.element, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.element, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // Replace the removed element with the one after it
+            Node<E> next = node.right;
+            while (next.left != null) {
+                next = next.left;
+            }
+            return balance(node.left, next.element, remove(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns {@code node}, whose first element is at {@code offset} in the list, without the
+     * elements at {@code sortedIndices[from]} up to but not including {@code sortedIndices[to]}.
+     */
+    private static <E> Node<E> removeAll(
+            Node<E> node, int offset, int[] sortedIndices, int from, int to) {
+        if (from == to) {
+            return node;
+        }
+        int nodeIndex = offset + size(node.left);
+        int found = Arrays.binarySearch(sortedIndices, from, to, nodeIndex);
+        boolean isNodeRemoved = found >= 0;
+        // The indices from split on are those of this node's element and of its right subtree
+        int split = isNodeRemoved ? found : -found - 1;
+        Node<E> left = removeAll(node.left, offset, sortedIndices, from, split);
+        Node<E> right =
+                removeAll(
+                        node.right,
+                        nodeIndex + 1,
+                        sortedIndices,
+                        isNodeRemoved ? split + 1 : split,
+                        to);
+        if (!isNodeRemoved) {
+            return join(left, node.element, right);
+        }
+        if (left == null) {
+            return right;
+        }
+        E last = left.element;
+        for (Node<E> n = left.right; n != null; n = n.right) {
+            last = n.element;
+        }
+        return join(remove(left, left.size - 1), last, right);
+    }
+
+    /**
+     * Returns a balanced node of the elements of {@code left}, then {@code element}, then the
+     * elements of {@code right}, whatever the heights of {@code left} and {@code right}.
+     */
+    private static <E> Node<E> join(Node<E> left, E element, Node<E> right) {
+        if (height(left) > height(right) + 1) {
+            return balance(left.left, left.element, join(left.right, element, right));
+        }
+        if (height(right) > height(left) + 1) {
+            return balance(join(left, element, right.left), right.element, right.right);
+        }
+        return node(left, element, right);
+    }
+
+    /**
+     * Returns a node of {@code left}, {@code element} and {@code right}, rotated to be balanced.
+     * The heights of {@code left} and {@code right} must differ by at most 2.
+     */
+    private static <E> Node<E> balance(Node<E> left, E element, Node<E> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return node(left.left, left.element, node(left.right, element, right));
+            }
+            Node<E> middle = left.right;
+            return node(
+                    node(left.left, left.element, middle.left),
+                    middle.element,
+                    node(middle.right, element, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return node(node(left, element, right.left), right.element, right.right);
+            }
+            Node<E> middle = right.left;
+            return node(
+                    node(left, element, middle.left),
+                    middle.element,
+                    node(middle.right, right.element, right.right));
+        }
+        return node(left, element, right);
+    }
+
+    private static <E> Node<E> node(Node<E> left, E element, Node<E> right) {
+        return new Node<>(left, element, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /** A node of the tree, which is never changed once made. */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E element;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E element, Node<E> right) {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            size = size(left) + 1 + size(right);
+            height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
@@ -6,22 +6,34 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Task's priority number in the address book. Guarantees: immutable; is valid as
  * declared in {@link #isValidPriority(String)}
+ *
+ * <p>There is one {@code Priority} for each priority number, got with {@link #of(String)}, which
+ * all tasks with that priority share.
  */
 public class Priority {
 
     public static final String MESSAGE_CONSTRAINTS = "Priority only contain numbers {1,2,3}";
     public static final String VALIDATION_REGEX = "[1-3]";
+
+    private static final Priority[] PRIORITIES = {
+        new Priority("1"), new Priority("2"), new Priority("3")
+    };
+
     public final String value;
 
+    private Priority(String priority) {
+        value = priority;
+    }
+
     /**
-     * Constructs a {@code Priority}.
+     * Returns the {@code Priority} with the given number.
      *
      * @param priority A valid priority number.
      */
-    public Priority(String priority) {
+    public static Priority of(String priority) {
         requireNonNull(priority);
         checkArgument(isValidPriority(priority), MESSAGE_CONSTRAINTS);
-        value = priority;
+        return PRIORITIES[priority.charAt(0) - '1'];
     }
 
     /** Returns true if a given string is a valid priority number. */
@@ -1,12 +1,14 @@
 package seedu.address.model.task;
 
-import java.time.Duration;
+import static java.util.Objects.requireNonNull;
+
 import java.time.LocalDateTime;
 import seedu.address.model.task.exceptions.InvalidReminderException;
 
 /**
- * Represents a Task's priority number in the address book. Guarantees: immutable; is valid as
- * declared in {@link #isValidPriority(String)}
+ * Represents the time at which a Task's reminder is shown. The reminder is fired by the {@code
+ * ReminderScheduler}, not by the reminder itself. Guarantees: immutable; is not in the past when
+ * created, and its input is valid as declared in {@link #isValidReminder(String)}
  */
 public class Reminder {
 
@@ -15,59 +17,26 @@ public class Reminder {
     public static final String VALIDATION_REGEX =
             "(0[1-9]|[12][0-9]|3[01])/(0[1-9]|1[012])/(2[0-9])@(([0-1][0-9]|2[0-4]):([0-5][0-9]))";
     private final LocalDateTime reminderDateTime;
-    private boolean hasFired;
-    private long delay;
 
     /**
-     * Constructs a reminder with the corresponding time, description and name.
+     * Constructs a reminder at {@code reminderDateTime}.
      *
-     * @param reminderDateTime
-     * @param Description
-     * @param Name
-     * @throws InvalidReminderException
+     * @throws InvalidReminderException if {@code reminderDateTime} is in the past.
      */
     public Reminder(LocalDateTime reminderDateTime) throws InvalidReminderException {
+        requireNonNull(reminderDateTime);
+        if (reminderDateTime.isBefore(LocalDateTime.now())) {
+            throw new InvalidReminderException();
+        }
         this.reminderDateTime = reminderDateTime;
-        this.hasFired = false;
-        this.delay = Integer.MAX_VALUE;
-        setDelay();
-    }
-
-    private long calculateDelay(LocalDateTime reminderDateTime) {
-        LocalDateTime currentTime = LocalDateTime.now();
-        Duration duration = Duration.between(currentTime, reminderDateTime);
-        long delay = duration.getSeconds();
-        return delay;
-    }
-
-    public void setHasFired() {
-        this.hasFired = true;
     }
 
     public static boolean isValidReminder(String reminderString) {
         return reminderString.matches(VALIDATION_REGEX);
     }
 
-    /**
-     * Sets the reminder based on the time delay calculated. If it has fired then nothing is
-     * triggered.
-     *
-     * @throws InvalidReminderException if the time delay is negative and has not been fired before.
-     */
-    private void setDelay() throws InvalidReminderException {
-        long timeDelay = calculateDelay(reminderDateTime);
-        if (timeDelay < 0) {
-            if (!hasFired) {
-                throw new InvalidReminderException();
-            }
-        } else {
-            this.delay = timeDelay;
-        }
-    }
-
-    /** @return the delay */
-    public long getDelay() {
-        return delay;
+    public LocalDateTime getReminderDateTime() {
+        return reminderDateTime;
     }
 
     @Override
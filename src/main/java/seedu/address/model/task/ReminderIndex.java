@@ -0,0 +1,101 @@
+package seedu.address.model.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The ids of the tasks with reminders, in the order of their reminders, kept up to date by the
+ * {@link UniqueTaskList} that owns it. The reminders are held in a {@link PersistentList}, whose
+ * subtrees know their sizes, so the number of reminders between two times is found in O(log n)
+ * and the tasks with them are read without looking at the rest.
+ */
+public class ReminderIndex extends LazyTaskIndex {
+
+    private static final Comparator<Entry> BY_TIME_AND_ID =
+            Comparator.comparing((Entry entry) -> entry.dateTime)
+                    .thenComparingLong(entry -> entry.id);
+
+    private PersistentList<Entry> entries = PersistentList.empty();
+
+    ReminderIndex(List<Task> tasks) {
+        super(tasks);
+    }
+
+    /**
+     * Returns the number of tasks with reminders from {@code start}, inclusive, to {@code end},
+     * exclusive. A null bound leaves that end of the window open.
+     */
+    public int count(LocalDateTime start, LocalDateTime end) {
+        ensureBuilt();
+        return Math.max(rank(end, entries.size()) - rank(start, 0), 0);
+    }
+
+    /**
+     * Returns the ids of the tasks with reminders from {@code start}, inclusive, to {@code end},
+     * exclusive, the earliest first. A null bound leaves that end of the window open.
+     */
+    public List<Long> getIds(LocalDateTime start, LocalDateTime end) {
+        ensureBuilt();
+        int count = count(start, end);
+        List<Long> ids = new ArrayList<>(count);
+        Iterator<Entry> iterator = entries.iterator(rank(start, 0));
+        for (int i = 0; i < count; i++) {
+            ids.add(iterator.next().id);
+        }
+        return ids;
+    }
+
+    /** Returns the number of reminders before {@code dateTime}, or {@code ifNull} if it is null. */
+    private int rank(LocalDateTime dateTime, int ifNull) {
+        if (dateTime == null) {
+            return ifNull;
+        }
+        int index = entries.binarySearch(new Entry(dateTime, Long.MIN_VALUE), BY_TIME_AND_ID);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    @Override
+    void index(Task task) {
+        task.getOptionalReminder()
+                .ifPresent(
+                        reminder -> {
+                            Entry entry = new Entry(reminder.getReminderDateTime(), task.getId());
+                            int index = entries.binarySearch(entry, BY_TIME_AND_ID);
+                            if (index < 0) {
+                                entries = entries.plus(-index - 1, entry);
+                            }
+                        });
+    }
+
+    @Override
+    void unindex(Task task) {
+        task.getOptionalReminder()
+                .ifPresent(
+                        reminder -> {
+                            Entry entry = new Entry(reminder.getReminderDateTime(), task.getId());
+                            int index = entries.binarySearch(entry, BY_TIME_AND_ID);
+                            if (index >= 0) {
+                                entries = entries.minus(index);
+                            }
+                        });
+    }
+
+    @Override
+    void clear() {
+        entries = PersistentList.empty();
+    }
+
+    /** The time of a reminder and the id of its task. */
+    private static class Entry {
+        private final LocalDateTime dateTime;
+        private final long id;
+
+        Entry(LocalDateTime dateTime, long id) {
+            this.dateTime = dateTime;
+            this.id = id;
+        }
+    }
+}
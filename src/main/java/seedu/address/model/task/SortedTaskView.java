@@ -0,0 +1,223 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.commons.core.TaskSortOrder;
+
+/**
+ * A view of a list of tasks in a {@link TaskSortOrder}, which is kept in order as the list changes.
+ * The tasks are held in a {@link PersistentList} in order, so an added, edited or removed task is
+ * found and moved to its place in O(log n), instead of the whole list being sorted again.
+ *
+ * <p>The tasks of a {@link UniqueTaskList} never have the same name and priority, so ordering them
+ * by name and then priority after the fields of the sort order puts every task in one place. In
+ * the {@link TaskSortOrder#ADDED added} order, the view is in the order of the list.
+ */
+public class SortedTaskView extends TransformationList<Task, Task> {
+
+    // A change to more than this part of the list is made by sorting the whole list again
+    private static final int MAX_INCREMENTAL_CHANGE_DIVISOR = 8;
+
+    private static final Comparator<Task> BY_NAME_AND_PRIORITY =
+            Comparator.comparing(
+                            (Task task) -> task.getName().fullName, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(task -> task.getName().fullName)
+                    .thenComparing(task -> task.getPriority().value);
+
+    private TaskSortOrder sortOrder;
+    // Null in the added order, in which the view follows the list
+    private Comparator<Task> comparator;
+    private PersistentList<Task> tasks;
+
+    /** Creates a view of {@code source} in {@code sortOrder}. */
+    public SortedTaskView(ObservableList<Task> source, TaskSortOrder sortOrder) {
+        super(source);
+        requireNonNull(sortOrder);
+        this.sortOrder = sortOrder;
+        comparator = comparatorOf(sortOrder);
+        tasks = sortedSource();
+    }
+
+    public TaskSortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    /** Puts the view in {@code sortOrder}, sorting the whole list again if it is a new order. */
+    public void setSortOrder(TaskSortOrder sortOrder) {
+        requireNonNull(sortOrder);
+        if (sortOrder == this.sortOrder) {
+            return;
+        }
+        this.sortOrder = sortOrder;
+        comparator = comparatorOf(sortOrder);
+        resort();
+    }
+
+    /**
+     * Returns the order of {@code sortOrder}, ending with the name and priority of the tasks, or
+     * null for the added order.
+     */
+    static Comparator<Task> comparatorOf(TaskSortOrder sortOrder) {
+        switch (sortOrder) {
+            case PRIORITY:
+                // Priority 3 is the highest, and comes first
+                return Comparator.comparing((Task task) -> task.getPriority().value)
+                        .reversed()
+                        .thenComparing(BY_NAME_AND_PRIORITY);
+            case DONE:
+                return Comparator.comparing((Task task) -> task.getDone().isDone)
+                        .thenComparing(BY_NAME_AND_PRIORITY);
+            case NAME:
+                return BY_NAME_AND_PRIORITY;
+            case REMINDER:
+                return Comparator.comparing(
+                                (Task task) ->
+                                        task.getOptionalReminder()
+                                                .map(Reminder::getReminderDateTime)
+                                                .orElse(null),
+                                Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+                        .thenComparing(BY_NAME_AND_PRIORITY);
+            case ADDED:
+                return null;
+            default:
+                throw new AssertionError("Unknown sort order: " + sortOrder);
+        }
+    }
+
+    @Override
+    public Task get(int index) {
+        return tasks.get(index);
+    }
+
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+
+    /** Returns the index in the source list of the task at {@code index}, which takes O(n). */
+    @Override
+    public int getSourceIndex(int index) {
+        return comparator == null ? index : getSource().indexOf(tasks.get(index));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return comparator == null
+                ? index
+                : tasks.binarySearch(getSource().get(index), comparator);
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Task> c) {
+        int changedTasks = 0;
+        boolean wasPermutated = false;
+        while (c.next()) {
+            changedTasks += c.getRemovedSize() + c.getAddedSize();
+            wasPermutated |= c.wasPermutated();
+        }
+        c.reset();
+        // In the added order a permutation moves every task, so it is followed by sorting again,
+        // before any other part of the change is made in the view
+        if (changedTasks > size() / MAX_INCREMENTAL_CHANGE_DIVISOR + 1
+                || (wasPermutated && comparator == null)) {
+            resort();
+            return;
+        }
+
+        if (comparator == null) {
+            beginChange();
+            try {
+                while (c.next()) {
+                    follow(c);
+                }
+            } finally {
+                endChange();
+            }
+        } else {
+            sort(c);
+        }
+    }
+
+    /**
+     * Makes {@code c}, a change to the source, in the view in a sort order. The tasks the change
+     * removes leave the view in one change, and the tasks it adds join it in a second change. The
+     * parts of one change are reported in the order of their indices, so a task removed from
+     * after the place a task is added at would otherwise be reported after the addition.
+     */
+    private void sort(Change<? extends Task> c) {
+        List<Task> addedTasks = new ArrayList<>();
+        beginChange();
+        try {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    continue;
+                }
+                for (Task removed : c.getRemoved()) {
+                    int index = tasks.binarySearch(removed, comparator);
+                    tasks = tasks.minus(index);
+                    nextRemove(index, removed);
+                }
+                addedTasks.addAll(c.getAddedSubList());
+            }
+        } finally {
+            endChange();
+        }
+
+        beginChange();
+        try {
+            for (Task added : addedTasks) {
+                int index = -tasks.binarySearch(added, comparator) - 1;
+                tasks = tasks.plus(index, added);
+                nextAdd(index, index + 1);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /** Makes the part {@code c} of a change to the source in the view, in the added order. */
+    private void follow(Change<? extends Task> c) {
+        int from = c.getFrom();
+        List<? extends Task> removed = c.getRemoved();
+        if (!removed.isEmpty()) {
+            int[] indices = new int[removed.size()];
+            Arrays.setAll(indices, i -> from + i);
+            tasks = tasks.minusAll(indices);
+            nextRemove(from, new ArrayList<>(removed));
+        }
+        for (int i = from; i < c.getTo(); i++) {
+            tasks = tasks.plus(i, getSource().get(i));
+        }
+        if (c.wasAdded()) {
+            nextAdd(from, c.getTo());
+        }
+    }
+
+    /** Sorts the source again, as a replacement of the whole view. */
+    private void resort() {
+        PersistentList<Task> oldTasks = tasks;
+        beginChange();
+        try {
+            tasks = sortedSource();
+            nextReplace(0, tasks.size(), oldTasks);
+        } finally {
+            endChange();
+        }
+    }
+
+    private PersistentList<Task> sortedSource() {
+        List<Task> sorted = new ArrayList<>(getSource());
+        if (comparator != null) {
+            sorted.sort(comparator);
+        }
+        return PersistentList.of(sorted);
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The ids of the tasks with each tag, kept up to date by the {@link UniqueTaskList} that owns it.
+ * Whether a task has a tag, and how many tasks have it, are found with a hash lookup instead of a
+ * scan of the list.
+ */
+public class TagIndex extends LazyTaskIndex {
+
+    // Only tags that at least one task has are keys, so the key set is the set of tags in use
+    private final Map<Tag, Set<Long>> taggedIds = new HashMap<>();
+
+    TagIndex(List<Task> tasks) {
+        super(tasks);
+    }
+
+    /** Returns the number of tasks tagged with {@code tag}. */
+    public int count(Tag tag) {
+        requireNonNull(tag);
+        ensureBuilt();
+        Set<Long> ids = taggedIds.get(tag);
+        return ids == null ? 0 : ids.size();
+    }
+
+    /** Returns true if the task with the given {@code id} is tagged with {@code tag}. */
+    public boolean isTagged(long id, Tag tag) {
+        requireNonNull(tag);
+        ensureBuilt();
+        Set<Long> ids = taggedIds.get(tag);
+        return ids != null && ids.contains(id);
+    }
+
+    /** Returns the ids of the tasks tagged with {@code tag}. */
+    public Set<Long> getIds(Tag tag) {
+        requireNonNull(tag);
+        ensureBuilt();
+        Set<Long> ids = taggedIds.get(tag);
+        return ids == null ? Collections.emptySet() : Collections.unmodifiableSet(ids);
+    }
+
+    /** Returns the tags that at least one task has. */
+    public Set<Tag> getTags() {
+        ensureBuilt();
+        return new HashSet<>(taggedIds.keySet());
+    }
+
+    @Override
+    void index(Task task) {
+        for (Tag tag : task.getTags()) {
+            taggedIds.computeIfAbsent(tag, unused -> new HashSet<>()).add(task.getId());
+        }
+    }
+
+    @Override
+    void unindex(Task task) {
+        for (Tag tag : task.getTags()) {
+            Set<Long> ids = taggedIds.get(tag);
+            if (ids != null && ids.remove(task.getId()) && ids.isEmpty()) {
+                taggedIds.remove(tag);
+            }
+        }
+    }
+
+    @Override
+    void clear() {
+        taggedIds.clear();
+    }
+}
@@ -2,29 +2,43 @@ package seedu.address.model.task;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import seedu.address.model.tag.Tag;
-import seedu.address.ui.MainWindow;
 
 /**
  * Represents a Task in the task list. Guarantees: details are present and not null, field values
  * are validated, immutable.
+ *
+ * <p>Every task has an id that stays the same when the task is edited or done, so that it can be
+ * found again after the list has changed. The id is not part of equality: two tasks with the same
+ * fields are equal whatever their ids.
  */
 public class Task {
 
+    private static final Tag[] NO_TAGS = new Tag[0];
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Priority priority;
 
-    // Data fields'
+    // Data fields. Priority, done and tags are shared instances, so they cost a reference each. The
+    // tags are a plain array, as tasks have few of them, and the reminder is null if there is none.
     private final Description description;
     private final Done done;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Optional<Reminder> optionalReminder;
+    private final Tag[] tags;
+    private final Reminder reminder;
+
+    // The fields never change, so the hash is worked out once
+    private final int hash;
 
     /** Every field must be present and not null. */
     public Task(
@@ -34,25 +48,24 @@ public class Task {
             Done done,
             Set<Tag> tags,
             Optional<Reminder> optionalReminder) {
-        requireAllNonNull(name, priority, description, tags);
-        this.name = name;
-        this.priority = priority;
-        this.description = description;
-        this.done = done;
-        this.tags.addAll(tags);
-        this.optionalReminder = optionalReminder;
-        triggerReminderIfPresent();
+        this(newId(), name, priority, description, done, tags, optionalReminder);
+    }
+
+    /** Constructs a task with the given {@code id}, e.g. an edited version of an existing task. */
+    public Task(
+            long id,
+            Name name,
+            Priority priority,
+            Description description,
+            Done done,
+            Set<Tag> tags,
+            Optional<Reminder> optionalReminder) {
+        this(id, name, priority, description, done, tags, optionalReminder.orElse(null));
     }
 
     /** With done and no reminder */
     public Task(Name name, Priority priority, Description description, Done done, Set<Tag> tags) {
-        requireAllNonNull(name, priority, description, tags);
-        this.name = name;
-        this.priority = priority;
-        this.description = description;
-        this.done = done;
-        this.tags.addAll(tags);
-        this.optionalReminder = Optional.empty();
+        this(newId(), name, priority, description, done, tags, (Reminder) null);
     }
 
     // without done provided
@@ -62,32 +75,40 @@ public class Task {
             Description description,
             Set<Tag> tags,
             Optional<Reminder> optionalReminder) {
-        requireAllNonNull(name, priority, description, tags);
-        this.name = name;
-        this.priority = priority;
-        this.description = description;
-        this.done = new Done();
-        this.optionalReminder = optionalReminder;
-        this.tags.addAll(tags);
-        triggerReminderIfPresent();
+        this(newId(), name, priority, description, Done.notDone(), tags, optionalReminder);
     }
 
     // without Reminder or done provided
     public Task(Name name, Priority priority, Description description, Set<Tag> tags) {
-        requireAllNonNull(name, priority, description, tags);
+        this(newId(), name, priority, description, Done.notDone(), tags, (Reminder) null);
+    }
+
+    private Task(
+            long id,
+            Name name,
+            Priority priority,
+            Description description,
+            Done done,
+            Set<Tag> tags,
+            Reminder reminder) {
+        requireAllNonNull(name, priority, description, done, tags);
+        this.id = id;
         this.name = name;
         this.priority = priority;
         this.description = description;
-        this.done = new Done();
-        this.optionalReminder = Optional.empty();
-        this.tags.addAll(tags);
+        this.done = done;
+        this.tags = tags.isEmpty() ? NO_TAGS : tags.toArray(NO_TAGS);
+        this.reminder = reminder;
+        this.hash = Objects.hash(name, priority, description, getTags());
     }
 
-    public void triggerReminderIfPresent() {
-        if (optionalReminder.isPresent()) {
-            Reminder reminder = optionalReminder.get();
-            MainWindow.triggerReminder(reminder, name.toString(), description.toString());
-        }
+    /** Returns a new random id. Ids are 64-bit, so two tasks are not expected to share one. */
+    private static long newId() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -107,8 +128,7 @@ public class Task {
     }
 
     public Optional<Reminder> getOptionalReminder() {
-        // System.out.println("getReminder task: " + optionalReminder.get() );
-        return optionalReminder;
+        return Optional.ofNullable(reminder);
     }
 
     /**
@@ -116,7 +136,7 @@ public class Task {
      * modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return Collections.unmodifiableSet(new TagSet(tags));
     }
 
     /**
@@ -148,16 +168,21 @@ public class Task {
         }
 
         Task otherTask = (Task) other;
-        return otherTask.getName().equals(getName())
+        return otherTask.hash == hash
+                && otherTask.getName().equals(getName())
                 && otherTask.getPriority().equals(getPriority())
                 && otherTask.getDescription().equals(getDescription())
-                && otherTask.getTags().equals(getTags());
+                && hasSameTags(otherTask.tags, tags);
+    }
+
+    private static boolean hasSameTags(Tag[] tags, Tag[] otherTags) {
+        return tags.length == otherTags.length
+                && new TagSet(tags).containsAll(new TagSet(otherTags));
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, priority, description, tags);
+        return hash;
     }
 
     @Override
@@ -172,4 +197,33 @@ public class Task {
         getTags().forEach(builder::append);
         return builder.toString();
     }
+
+    /** A view of the tags of a task as a set, without copying them. */
+    private static class TagSet extends AbstractSet<Tag> {
+        private final Tag[] tags;
+
+        TagSet(Tag[] tags) {
+            this.tags = tags;
+        }
+
+        @Override
+        public boolean contains(Object other) {
+            for (Tag tag : tags) {
+                if (tag.equals(other)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<Tag> iterator() {
+            return Arrays.asList(tags).iterator();
+        }
+
+        @Override
+        public int size() {
+            return tags.length;
+        }
+    }
 }
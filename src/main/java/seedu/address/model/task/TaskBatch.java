@@ -0,0 +1,71 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A set of tasks to add, edit and remove, to be made to a {@link UniqueTaskList} all at once. The
+ * tasks to edit and remove are those in the list before the batch is applied, so each may be the
+ * target of only one edit or removal. The batch is checked as a whole before any of it is made, and
+ * is made as a single change to the list.
+ */
+public class TaskBatch {
+
+    private final List<Task> toAdd = new ArrayList<>();
+    private final List<Task> setTargets = new ArrayList<>();
+    private final List<Task> editedTasks = new ArrayList<>();
+    private final List<Task> toRemove = new ArrayList<>();
+
+    /** Adds {@code task} to the tasks to add. */
+    public TaskBatch add(Task task) {
+        requireNonNull(task);
+        toAdd.add(task);
+        return this;
+    }
+
+    /** Adds {@code target} to the tasks to replace, with {@code editedTask}. */
+    public TaskBatch set(Task target, Task editedTask) {
+        requireAllNonNull(target, editedTask);
+        setTargets.add(target);
+        editedTasks.add(editedTask);
+        return this;
+    }
+
+    /** Adds {@code task} to the tasks to remove. */
+    public TaskBatch remove(Task task) {
+        requireNonNull(task);
+        toRemove.add(task);
+        return this;
+    }
+
+    /** Returns true if the batch has no changes. */
+    public boolean isEmpty() {
+        return toAdd.isEmpty() && setTargets.isEmpty() && toRemove.isEmpty();
+    }
+
+    /** Returns true if the batch adds any tasks. */
+    public boolean hasAdditions() {
+        return !toAdd.isEmpty();
+    }
+
+    List<Task> getTasksToAdd() {
+        return Collections.unmodifiableList(toAdd);
+    }
+
+    List<Task> getSetTargets() {
+        return Collections.unmodifiableList(setTargets);
+    }
+
+    /** Returns the edited tasks, in the order of their targets in {@link #getSetTargets()}. */
+    List<Task> getEditedTasks() {
+        return Collections.unmodifiableList(editedTasks);
+    }
+
+    List<Task> getTasksToRemove() {
+        return Collections.unmodifiableList(toRemove);
+    }
+}
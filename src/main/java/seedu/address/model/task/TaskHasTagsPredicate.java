@@ -0,0 +1,65 @@
+package seedu.address.model.task;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Task} has all, or any, of the tags given. Tags are looked up in a {@link
+ * TagIndex} by the task's id rather than in the task's own tags.
+ */
+public class TaskHasTagsPredicate implements Predicate<Task> {
+    private final Set<Tag> tags;
+    private final boolean isMatchAll;
+    private final TagIndex tagIndex;
+
+    // The tags in the order they are checked in: the rarest first when every tag must match, so a
+    // task is rejected as early as possible, and the most common first otherwise
+    private final List<Tag> checkOrder;
+
+    /**
+     * Creates a predicate that looks tags up in {@code tagIndex}, which must be the index of the
+     * list that the tasks tested are in.
+     */
+    public TaskHasTagsPredicate(Set<Tag> tags, boolean isMatchAll, TagIndex tagIndex) {
+        requireAllNonNull(tags, tagIndex);
+        this.tags = new HashSet<>(tags);
+        this.isMatchAll = isMatchAll;
+        this.tagIndex = tagIndex;
+
+        checkOrder = new ArrayList<>(tags);
+        Comparator<Tag> byCount = Comparator.comparingInt(tagIndex::count);
+        checkOrder.sort(isMatchAll ? byCount : byCount.reversed());
+    }
+
+    @Override
+    public boolean test(Task task) {
+        for (Tag tag : checkOrder) {
+            if (tagIndex.isTagged(task.getId(), tag) != isMatchAll) {
+                return !isMatchAll;
+            }
+        }
+        return isMatchAll;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TaskHasTagsPredicate // instanceof handles nulls
+                        && tags.equals(((TaskHasTagsPredicate) other).tags)
+                        && isMatchAll == ((TaskHasTagsPredicate) other).isMatchAll
+                        && tagIndex == ((TaskHasTagsPredicate) other).tagIndex); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tags, isMatchAll, System.identityHashCode(tagIndex));
+    }
+}
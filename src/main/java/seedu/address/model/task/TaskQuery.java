@@ -0,0 +1,352 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A query for the tasks that match all of its conditions: a range of priorities, being done or
+ * not, having all or any of some tags, having some words in their names, and having a reminder in
+ * a window of days. A query with no conditions matches every task.
+ *
+ * <p>A query is answered by a {@link TaskQueryPlan}, made by {@link #plan(UniqueTaskList)}. The
+ * tags, name words and reminder window can each be looked up in an index of the list, and the plan
+ * reads the tasks from the index that gives the fewest, or from the whole list if none has fewer.
+ * The other conditions are checked on each of those tasks.
+ */
+public class TaskQuery {
+
+    public static final String MESSAGE_INVALID_PRIORITY_RANGE =
+            "The lowest priority must not be higher than the highest.";
+    public static final String MESSAGE_INVALID_REMINDER_WINDOW =
+            "The first day of the reminder window must not be after the last.";
+
+    private Priority minPriority;
+    private Priority maxPriority;
+    private Boolean isDone;
+    private final Set<Tag> tags = new HashSet<>();
+    private boolean isMatchAllTags = true;
+    private final Set<String> nameTerms = new LinkedHashSet<>();
+    private LocalDate reminderFrom;
+    private LocalDate reminderTo;
+
+    /**
+     * Limits the query to the tasks with priorities from {@code minPriority} to {@code
+     * maxPriority}, both included.
+     */
+    public TaskQuery withPriorities(Priority minPriority, Priority maxPriority) {
+        requireAllNonNull(minPriority, maxPriority);
+        checkArgument(
+                toNumber(minPriority) <= toNumber(maxPriority), MESSAGE_INVALID_PRIORITY_RANGE);
+        this.minPriority = minPriority;
+        this.maxPriority = maxPriority;
+        return this;
+    }
+
+    /** Limits the query to the tasks that are done if {@code isDone}, and not done otherwise. */
+    public TaskQuery withDone(boolean isDone) {
+        this.isDone = isDone;
+        return this;
+    }
+
+    /**
+     * Limits the query to the tasks with all of {@code tags} if {@code isMatchAll} is true, and any
+     * of them otherwise.
+     */
+    public TaskQuery withTags(Set<Tag> tags, boolean isMatchAll) {
+        requireNonNull(tags);
+        this.tags.clear();
+        this.tags.addAll(tags);
+        isMatchAllTags = isMatchAll;
+        return this;
+    }
+
+    /**
+     * Limits the query to the tasks with all the words of {@code keywords} in their names. Words
+     * are matched case insensitively, as they are split by {@link TextIndex#toTerms(String)}.
+     */
+    public TaskQuery withNameKeywords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        nameTerms.clear();
+        nameTerms.addAll(TextIndex.toTerms(String.join(" ", keywords)));
+        return this;
+    }
+
+    /**
+     * Limits the query to the tasks with a reminder on a day from {@code from} to {@code to}, both
+     * included. Either may be null, to leave that end of the window open, but not both.
+     */
+    public TaskQuery withReminderWindow(LocalDate from, LocalDate to) {
+        checkArgument(from != null || to != null);
+        checkArgument(
+                from == null || to == null || !from.isAfter(to), MESSAGE_INVALID_REMINDER_WINDOW);
+        reminderFrom = from;
+        reminderTo = to;
+        return this;
+    }
+
+    /** Returns the tags that the query looks for. */
+    public Set<Tag> getTags() {
+        return new HashSet<>(tags);
+    }
+
+    /** Returns true if the query has no conditions, and so matches every task. */
+    public boolean isEmpty() {
+        return minPriority == null
+                && isDone == null
+                && tags.isEmpty()
+                && nameTerms.isEmpty()
+                && reminderFrom == null
+                && reminderTo == null;
+    }
+
+    /** Makes the plan that answers this query over {@code tasks} from the most selective index. */
+    public TaskQueryPlan plan(UniqueTaskList tasks) {
+        requireNonNull(tasks);
+        List<Condition> conditions = getConditions(tasks);
+        int size = tasks.asUnmodifiableObservableList().size();
+
+        Condition source = null;
+        int estimate = size;
+        for (Condition condition : conditions) {
+            if (condition.access != null && condition.access.estimate < estimate) {
+                source = condition;
+                estimate = condition.access.estimate;
+            }
+        }
+
+        List<Condition> checks = new ArrayList<>(conditions);
+        if (source != null && source.access.isExact) {
+            checks.remove(source);
+        }
+        List<String> checkDescriptions =
+                checks.stream()
+                        .map(condition -> condition.description)
+                        .collect(Collectors.toList());
+        Predicate<Task> check = allOf(checks);
+        Predicate<Task> queryCheck = allOf(conditions);
+        if (source == null) {
+            return new TaskQueryPlan(
+                    tasks,
+                    "the whole list",
+                    size,
+                    size,
+                    () -> tasks,
+                    checkDescriptions,
+                    check,
+                    queryCheck);
+        }
+        Supplier<Collection<Long>> ids = source.access.ids;
+        Supplier<Iterable<Task>> candidates =
+                () ->
+                        ids.get().stream()
+                                .map(tasks::get)
+                                .flatMap(Optional::stream)
+                                .collect(Collectors.toList());
+        return new TaskQueryPlan(
+                tasks,
+                source.access.description,
+                estimate,
+                size,
+                candidates,
+                checkDescriptions,
+                check,
+                queryCheck);
+    }
+
+    private static Predicate<Task> allOf(List<Condition> conditions) {
+        return conditions.stream()
+                .map(condition -> condition.check)
+                .reduce(task -> true, Predicate::and);
+    }
+
+    /** Returns the conditions of the query, with the indexes of {@code tasks} they can use. */
+    private List<Condition> getConditions(UniqueTaskList tasks) {
+        List<Condition> conditions = new ArrayList<>();
+        if (minPriority != null) {
+            int min = toNumber(minPriority);
+            int max = toNumber(maxPriority);
+            conditions.add(
+                    new Condition(
+                            min == max ? "priority " + min : "priority " + min + "-" + max,
+                            task -> {
+                                int priority = toNumber(task.getPriority());
+                                return min <= priority && priority <= max;
+                            },
+                            null));
+        }
+        if (isDone != null) {
+            boolean done = isDone;
+            conditions.add(
+                    new Condition(
+                            done ? "done" : "not done",
+                            task -> task.getDone().isDone == done,
+                            null));
+        }
+        if (!tags.isEmpty()) {
+            conditions.add(getTagCondition(tasks.getTagIndex()));
+        }
+        if (!nameTerms.isEmpty()) {
+            conditions.add(getNameCondition(tasks.getTextIndex()));
+        }
+        if (reminderFrom != null || reminderTo != null) {
+            conditions.add(getReminderCondition(tasks.getReminderIndex()));
+        }
+        return conditions;
+    }
+
+    private Condition getTagCondition(TagIndex tagIndex) {
+        List<Tag> sortedTags = new ArrayList<>(tags);
+        sortedTags.sort(Comparator.comparing(tag -> tag.tagName, String.CASE_INSENSITIVE_ORDER));
+        String description =
+                (isMatchAllTags ? "all of tags " : "any of tags ")
+                        + sortedTags.stream().map(Tag::toString).collect(Collectors.joining());
+        Predicate<Task> check = new TaskHasTagsPredicate(tags, isMatchAllTags, tagIndex);
+        if (!isMatchAllTags) {
+            int estimate = tags.stream().mapToInt(tagIndex::count).sum();
+            Supplier<Collection<Long>> ids =
+                    () -> {
+                        Set<Long> tagged = new HashSet<>();
+                        tags.forEach(tag -> tagged.addAll(tagIndex.getIds(tag)));
+                        return tagged;
+                    };
+            return new Condition(
+                    description,
+                    check,
+                    new IndexAccess("the tag index for " + description, estimate, true, ids));
+        }
+
+        // Every task with all the tags has the rarest of them
+        Tag rarest = sortedTags.stream().min(Comparator.comparingInt(tagIndex::count)).get();
+        return new Condition(
+                description,
+                check,
+                new IndexAccess(
+                        "the tag index for tag " + rarest,
+                        tagIndex.count(rarest),
+                        tags.size() == 1,
+                        () -> new ArrayList<>(tagIndex.getIds(rarest))));
+    }
+
+    private Condition getNameCondition(TextIndex textIndex) {
+        Set<String> terms = new LinkedHashSet<>(nameTerms);
+        // The text index has the words of descriptions too, so the names are checked again
+        int estimate = terms.stream().mapToInt(textIndex::count).min().getAsInt();
+        return new Condition(
+                "name has " + terms,
+                task -> TextIndex.toTerms(task.getName().fullName).containsAll(terms),
+                new IndexAccess(
+                        "the word index for " + terms,
+                        estimate,
+                        false,
+                        () -> textIndex.search(terms, true).keySet()));
+    }
+
+    private Condition getReminderCondition(ReminderIndex reminderIndex) {
+        LocalDateTime start = reminderFrom == null ? null : reminderFrom.atStartOfDay();
+        LocalDateTime end = reminderTo == null ? null : reminderTo.plusDays(1).atStartOfDay();
+        String description =
+                "reminder "
+                        + (reminderFrom == null ? "" : "from " + reminderFrom)
+                        + (reminderFrom != null && reminderTo != null ? " " : "")
+                        + (reminderTo == null ? "" : "to " + reminderTo);
+        Predicate<Task> check =
+                task ->
+                        task.getOptionalReminder()
+                                .map(Reminder::getReminderDateTime)
+                                .filter(time -> start == null || !time.isBefore(start))
+                                .filter(time -> end == null || time.isBefore(end))
+                                .isPresent();
+        return new Condition(
+                description,
+                check,
+                new IndexAccess(
+                        "the reminder index for " + description,
+                        reminderIndex.count(start, end),
+                        true,
+                        () -> reminderIndex.getIds(start, end)));
+    }
+
+    private static int toNumber(Priority priority) {
+        return Integer.parseInt(priority.value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        // short circuit if same object
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TaskQuery)) {
+            return false;
+        }
+
+        // state check
+        TaskQuery otherQuery = (TaskQuery) other;
+        return Objects.equals(minPriority, otherQuery.minPriority)
+                && Objects.equals(maxPriority, otherQuery.maxPriority)
+                && Objects.equals(isDone, otherQuery.isDone)
+                && tags.equals(otherQuery.tags)
+                && isMatchAllTags == otherQuery.isMatchAllTags
+                && nameTerms.equals(otherQuery.nameTerms)
+                && Objects.equals(reminderFrom, otherQuery.reminderFrom)
+                && Objects.equals(reminderTo, otherQuery.reminderTo);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                minPriority, maxPriority, isDone, tags, isMatchAllTags, nameTerms, reminderFrom,
+                reminderTo);
+    }
+
+    /** A condition of the query, and the index it can be looked up in, if any. */
+    private static class Condition {
+        private final String description;
+        private final Predicate<Task> check;
+        private final IndexAccess access;
+
+        Condition(String description, Predicate<Task> check, IndexAccess access) {
+            this.description = description;
+            this.check = check;
+            this.access = access;
+        }
+    }
+
+    /**
+     * A lookup of the ids of the tasks that may match a condition in an index, which finds about
+     * {@code estimate} ids, and only those that match if {@code isExact} is true.
+     */
+    private static class IndexAccess {
+        private final String description;
+        private final int estimate;
+        private final boolean isExact;
+        private final Supplier<Collection<Long>> ids;
+
+        IndexAccess(
+                String description, int estimate, boolean isExact, Supplier<Collection<Long>> ids) {
+            this.description = description;
+            this.estimate = estimate;
+            this.isExact = isExact;
+            this.ids = ids;
+        }
+    }
+}
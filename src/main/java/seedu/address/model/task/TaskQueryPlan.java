@@ -0,0 +1,132 @@
+package seedu.address.model.task;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The way a {@link TaskQuery} is answered: the tasks to examine, read from the most selective index
+ * the query can use or else from the whole list, and the checks left to make on each of them.
+ */
+public class TaskQueryPlan {
+
+    private final UniqueTaskList tasks;
+    private final String source;
+    private final int estimate;
+    private final int size;
+    private final Supplier<Iterable<Task>> candidates;
+    private final List<String> checkDescriptions;
+    private final Predicate<Task> check;
+    private final Predicate<Task> queryCheck;
+
+    /**
+     * Creates a plan that examines the {@code candidates} read from {@code source}, about {@code
+     * estimate} of the {@code size} tasks in {@code tasks}, and keeps those that pass {@code
+     * check}. {@code queryCheck} checks every condition of the query, for tasks that change after
+     * the plan is executed.
+     */
+    TaskQueryPlan(
+            UniqueTaskList tasks,
+            String source,
+            int estimate,
+            int size,
+            Supplier<Iterable<Task>> candidates,
+            List<String> checkDescriptions,
+            Predicate<Task> check,
+            Predicate<Task> queryCheck) {
+        this.tasks = tasks;
+        this.source = source;
+        this.estimate = estimate;
+        this.size = size;
+        this.candidates = candidates;
+        this.checkDescriptions = checkDescriptions;
+        this.check = check;
+        this.queryCheck = queryCheck;
+    }
+
+    /** Returns a description of the plan, for users to see how their query is answered. */
+    public String describe() {
+        StringBuilder description =
+                new StringBuilder(
+                        String.format(
+                                "Read %1$s (about %2$d of %3$d tasks)", source, estimate, size));
+        if (!checkDescriptions.isEmpty()) {
+            description.append(", then check ").append(String.join(", ", checkDescriptions));
+        }
+        return description.toString();
+    }
+
+    /** Examines the tasks of the plan, and returns the ids of those that match the query. */
+    public Result execute() {
+        UniqueTaskList.Snapshot examinedTasks = tasks.snapshot();
+        Set<Long> matchingIds = new HashSet<>();
+        Set<Task> matchingTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        int examined = 0;
+        for (Task task : candidates.get()) {
+            examined++;
+            if (check.test(task)) {
+                matchingIds.add(task.getId());
+                matchingTasks.add(task);
+            }
+        }
+        return new Result(
+                matchingIds,
+                matchingTasks,
+                examined,
+                () -> tasks.isUnchangedSince(examinedTasks),
+                queryCheck);
+    }
+
+    /** The tasks that matched a query, and the number of tasks examined to find them. */
+    public static class Result {
+        private final Set<Long> matchingIds;
+        private final Set<Task> matchingTasks;
+        private final int examinedCount;
+        private final BooleanSupplier isListUnchanged;
+        private final Predicate<Task> queryCheck;
+
+        Result(
+                Set<Long> matchingIds,
+                Set<Task> matchingTasks,
+                int examinedCount,
+                BooleanSupplier isListUnchanged,
+                Predicate<Task> queryCheck) {
+            this.matchingIds = matchingIds;
+            this.matchingTasks = matchingTasks;
+            this.examinedCount = examinedCount;
+            this.isListUnchanged = isListUnchanged;
+            this.queryCheck = queryCheck;
+        }
+
+        /** Returns true if the task with the given {@code id} matched. */
+        public boolean matches(long id) {
+            return matchingIds.contains(id);
+        }
+
+        /**
+         * Returns a predicate that is true for the tasks that match the query, as they are now or
+         * as they change. Tasks never change, so the tasks that matched are known without checking
+         * them again. While the list is as it was when the plan was executed, no other task
+         * matches. Once it has changed, a list such as a {@code FilteredList} only tests the tasks
+         * in the slots that changed, and those have every condition of the query checked.
+         */
+        public Predicate<Task> asPredicate() {
+            return task ->
+                    matchingTasks.contains(task)
+                            || (!isListUnchanged.getAsBoolean() && queryCheck.test(task));
+        }
+
+        public int getMatchCount() {
+            return matchingIds.size();
+        }
+
+        public int getExaminedCount() {
+            return examinedCount;
+        }
+    }
+}
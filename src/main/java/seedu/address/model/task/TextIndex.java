@@ -0,0 +1,136 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index of the words in the names and descriptions of tasks, kept up to date by the
+ * {@link UniqueTaskList} that owns it. Each term maps to the ids of the tasks it is in, so the
+ * tasks matching a search are found from the terms searched for rather than by reading every task.
+ *
+ * <p>A term is a run of letters and digits, case folded. Each task a term is in is given a weight:
+ * {@link #NAME_WEIGHT} if the term is in its name, plus {@link #DESCRIPTION_WEIGHT} if it is in its
+ * description.
+ */
+public class TextIndex extends LazyTaskIndex {
+
+    public static final int NAME_WEIGHT = 2;
+    public static final int DESCRIPTION_WEIGHT = 1;
+
+    // The posting list of each term: the ids of the tasks with the term, and its weight in each
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    TextIndex(List<Task> tasks) {
+        super(tasks);
+    }
+
+    /**
+     * Returns the distinct terms of {@code text}, in the order they first appear. These are the
+     * terms that a task with {@code text} in its name or description is indexed under.
+     */
+    public static Set<String> toTerms(String text) {
+        requireNonNull(text);
+        Set<String> terms = new LinkedHashSet<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isTermChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isTermChar && start == -1) {
+                start = i;
+            } else if (!isTermChar && start != -1) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /** Returns the number of tasks that {@code term} is in. */
+    public int count(String term) {
+        requireNonNull(term);
+        ensureBuilt();
+        Map<Long, Integer> posting = postings.get(term);
+        return posting == null ? 0 : posting.size();
+    }
+
+    /**
+     * Returns the ids of the tasks with all of {@code terms} if {@code isMatchAll} is true, or with
+     * any of them otherwise, mapped to their relevance: the sum of the weights of the terms in each
+     * task. {@code terms} must already be folded as by {@link #toTerms(String)}.
+     */
+    public Map<Long, Integer> search(Collection<String> terms, boolean isMatchAll) {
+        requireNonNull(terms);
+        ensureBuilt();
+        List<Map<Long, Integer>> matched = new ArrayList<>();
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                matched.add(posting);
+            } else if (isMatchAll) {
+                return new HashMap<>();
+            }
+        }
+        if (matched.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, Integer> scores = new HashMap<>();
+        if (!isMatchAll) {
+            for (Map<Long, Integer> posting : matched) {
+                posting.forEach((id, weight) -> scores.merge(id, weight, Integer::sum));
+            }
+            return scores;
+        }
+
+        // Only the ids in the shortest posting list can be in all of them
+        matched.sort(Comparator.comparingInt(Map::size));
+        for (Map.Entry<Long, Integer> entry : matched.get(0).entrySet()) {
+            int score = entry.getValue();
+            for (int i = 1; i < matched.size() && score > 0; i++) {
+                Integer weight = matched.get(i).get(entry.getKey());
+                score = weight == null ? 0 : score + weight;
+            }
+            if (score > 0) {
+                scores.put(entry.getKey(), score);
+            }
+        }
+        return scores;
+    }
+
+    @Override
+    void index(Task task) {
+        for (String term : toTerms(task.getName().fullName)) {
+            postings.computeIfAbsent(term, unused -> new HashMap<>())
+                    .merge(task.getId(), NAME_WEIGHT, Integer::sum);
+        }
+        for (String term : toTerms(task.getDescription().value)) {
+            postings.computeIfAbsent(term, unused -> new HashMap<>())
+                    .merge(task.getId(), DESCRIPTION_WEIGHT, Integer::sum);
+        }
+    }
+
+    @Override
+    void unindex(Task task) {
+        Set<String> terms = toTerms(task.getName().fullName);
+        terms.addAll(toTerms(task.getDescription().value));
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null && posting.remove(task.getId()) != null && posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    @Override
+    void clear() {
+        postings.clear();
+    }
+}
@@ -0,0 +1,274 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of the words in the names and tags of tasks by their trigrams, kept up to date by the
+ * {@link UniqueTaskList} that owns it, to find the words that start with a prefix or are spelt like
+ * a keyword. Words are folded as by {@link TextIndex#toTerms(String)}.
+ *
+ * <p>Trigrams index the distinct words rather than the tasks, so a search only reads the words that
+ * share trigrams with the keyword, however many tasks have them. Each word is padded as {@code
+ * $$word$}, so that a prefix of any length has at least one trigram.
+ */
+public class TrigramIndex extends LazyTaskIndex {
+
+    /** Ends a keyword that matches the words starting with the rest of it. */
+    public static final String PREFIX_WILDCARD = "*";
+
+    private static final String PADDING = "$";
+
+    // The ids of the tasks with each word in their names or tags
+    private final Map<String, Set<Long>> wordPostings = new HashMap<>();
+    // The words with each trigram
+    private final Map<String, Set<String>> trigramWords = new HashMap<>();
+
+    TrigramIndex(List<Task> tasks) {
+        super(tasks);
+    }
+
+    /**
+     * Returns the number of spelling mistakes allowed in a keyword of {@code length} characters:
+     * none in the shortest keywords, which would otherwise match most short words.
+     */
+    public static int getMaxTypos(int length) {
+        return length <= 2 ? 0 : length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the ids of the tasks with a word similar to each of {@code keywords} in their names
+     * or tags, for all of the keywords if {@code isMatchAll} is true and any of them otherwise.
+     * Each id is mapped to the sum, over the keywords, of the similarity of the task's most similar
+     * word.
+     *
+     * <p>A keyword ending with {@link #PREFIX_WILDCARD} matches the words that start with the rest
+     * of it, with a similarity of how much of the word the prefix is. Any other keyword matches the
+     * words within {@link #getMaxTypos(int)} edits of it, with a similarity of 1 for the word
+     * itself, and less the more edits are needed.
+     */
+    public Map<Long, Double> search(Collection<String> keywords, boolean isMatchAll) {
+        requireNonNull(keywords);
+        ensureBuilt();
+        List<Map<Long, Double>> keywordScores = new ArrayList<>();
+        for (String keyword : keywords) {
+            Map<Long, Double> scores = new HashMap<>();
+            findSimilarWords(keyword)
+                    .forEach(
+                            (word, similarity) -> {
+                                for (long id : wordPostings.get(word)) {
+                                    scores.merge(id, similarity, Math::max);
+                                }
+                            });
+            if (scores.isEmpty() && isMatchAll) {
+                return new HashMap<>();
+            }
+            keywordScores.add(scores);
+        }
+
+        Map<Long, Double> totals = new HashMap<>();
+        if (!isMatchAll) {
+            for (Map<Long, Double> scores : keywordScores) {
+                scores.forEach((id, score) -> totals.merge(id, score, Double::sum));
+            }
+            return totals;
+        }
+        if (keywordScores.isEmpty()) {
+            return totals;
+        }
+
+        keywordScores.sort(Comparator.comparingInt(Map::size));
+        for (Map.Entry<Long, Double> entry : keywordScores.get(0).entrySet()) {
+            double total = entry.getValue();
+            for (int i = 1; i < keywordScores.size() && total > 0; i++) {
+                Double score = keywordScores.get(i).get(entry.getKey());
+                total = score == null ? 0 : total + score;
+            }
+            if (total > 0) {
+                totals.put(entry.getKey(), total);
+            }
+        }
+        return totals;
+    }
+
+    /** Returns the indexed words that match {@code keyword}, mapped to their similarity to it. */
+    private Map<String, Double> findSimilarWords(String keyword) {
+        String folded = keyword.toLowerCase(Locale.ROOT);
+        Map<String, Double> similarWords = new HashMap<>();
+        if (folded.endsWith(PREFIX_WILDCARD)) {
+            String prefix = stripWildcards(folded);
+            if (prefix.isEmpty()) {
+                return similarWords;
+            }
+            for (String word : findWordsWithAllTrigrams(toTrigrams(PADDING + PADDING + prefix))) {
+                if (word.startsWith(prefix)) {
+                    similarWords.put(word, (double) prefix.length() / word.length());
+                }
+            }
+            return similarWords;
+        }
+
+        // Words within k edits of the keyword share all but at most 3k of its trigrams
+        Set<String> trigrams = toPaddedTrigrams(folded);
+        int maxTypos = getMaxTypos(folded.length());
+        int minShared = Math.max(1, trigrams.size() - 3 * maxTypos);
+        Map<String, Integer> sharedCounts = new HashMap<>();
+        for (String trigram : trigrams) {
+            for (String word : trigramWords.getOrDefault(trigram, Collections.emptySet())) {
+                sharedCounts.merge(word, 1, Integer::sum);
+            }
+        }
+        sharedCounts.forEach(
+                (word, sharedCount) -> {
+                    if (sharedCount < minShared) {
+                        return;
+                    }
+                    int distance = getEditDistance(folded, word, maxTypos);
+                    if (distance <= maxTypos) {
+                        int length = Math.max(folded.length(), word.length());
+                        similarWords.put(word, 1 - (double) distance / length);
+                    }
+                });
+        return similarWords;
+    }
+
+    private Set<String> findWordsWithAllTrigrams(Set<String> trigrams) {
+        List<Set<String>> wordSets = new ArrayList<>();
+        for (String trigram : trigrams) {
+            Set<String> words = trigramWords.get(trigram);
+            if (words == null) {
+                return new HashSet<>();
+            }
+            wordSets.add(words);
+        }
+        wordSets.sort(Comparator.comparingInt(Set::size));
+        Set<String> words = new HashSet<>(wordSets.get(0));
+        for (int i = 1; i < wordSets.size(); i++) {
+            words.retainAll(wordSets.get(i));
+        }
+        return words;
+    }
+
+    @Override
+    void index(Task task) {
+        for (String word : toWords(task)) {
+            Set<Long> ids = wordPostings.get(word);
+            if (ids == null) {
+                ids = new HashSet<>();
+                wordPostings.put(word, ids);
+                for (String trigram : toPaddedTrigrams(word)) {
+                    trigramWords.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+            }
+            ids.add(task.getId());
+        }
+    }
+
+    @Override
+    void unindex(Task task) {
+        for (String word : toWords(task)) {
+            Set<Long> ids = wordPostings.get(word);
+            if (ids == null || !ids.remove(task.getId()) || !ids.isEmpty()) {
+                continue;
+            }
+            wordPostings.remove(word);
+            for (String trigram : toPaddedTrigrams(word)) {
+                Set<String> words = trigramWords.get(trigram);
+                words.remove(word);
+                if (words.isEmpty()) {
+                    trigramWords.remove(trigram);
+                }
+            }
+        }
+    }
+
+    @Override
+    void clear() {
+        wordPostings.clear();
+        trigramWords.clear();
+    }
+
+    /** Returns the distinct words in the name and tags of {@code task}. */
+    private static Set<String> toWords(Task task) {
+        Set<String> words = TextIndex.toTerms(task.getName().fullName);
+        for (Tag tag : task.getTags()) {
+            words.addAll(TextIndex.toTerms(tag.tagName));
+        }
+        return words;
+    }
+
+    private static String stripWildcards(String keyword) {
+        int end = keyword.length();
+        while (end > 0 && keyword.startsWith(PREFIX_WILDCARD, end - 1)) {
+            end--;
+        }
+        return keyword.substring(0, end);
+    }
+
+    private static Set<String> toPaddedTrigrams(String word) {
+        return toTrigrams(PADDING + PADDING + word + PADDING);
+    }
+
+    private static Set<String> toTrigrams(String padded) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the number of insertions, deletions, substitutions and swaps of adjacent characters
+     * that turn {@code a} into {@code b}, or {@code maxDistance + 1} if it is more than {@code
+     * maxDistance}.
+     */
+    static int getEditDistance(String a, String b, int maxDistance) {
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int distance =
+                        Math.min(
+                                Math.min(previous[j] + 1, current[j - 1] + 1),
+                                previous[j - 1] + cost);
+                if (i > 1
+                        && j > 1
+                        && a.charAt(i - 1) == b.charAt(j - 2)
+                        && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    distance = Math.min(distance, beforePrevious[j - 2] + 1);
+                }
+                current[j] = distance;
+                rowMin = Math.min(rowMin, distance);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], maxDistance + 1);
+    }
+}
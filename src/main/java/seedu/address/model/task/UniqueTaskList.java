@@ -3,10 +3,20 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
 
@@ -18,31 +28,125 @@ import seedu.address.model.task.exceptions.TaskNotFoundException;
  * person uses Task#equals(Object) so as to ensure that the person with exactly the same fields will
  * be removed.
  *
- * <p>Supports a minimal set of list operations.
+ * <p>Supports a minimal set of list operations. The identities of the tasks are kept in a hash set
+ * next to the list, so checking for a duplicate takes constant time however long the list is.
+ * Tasks are also indexed by their {@link Task#getId() id}, which must be unique in the list, so
+ * that the task to edit or remove is found without a scan. These {@link LazyTaskIndex lazily
+ * built} indexes are kept up to date with the list: a {@link TagIndex} of the tasks with each tag,
+ * a {@link TextIndex} of the words in their names and descriptions, a {@link TrigramIndex} of the
+ * spelling of the words in their names and tags, and a {@link ReminderIndex} of their reminders.
+ * They are changed before the list is, so that listeners of the list see the indexes as they are
+ * after the change.
+ *
+ * <p>A {@link TaskBatch} of adds, edits and removals is made with {@link #applyBatch(TaskBatch)} as
+ * one change to the list, so listeners such as the UI refresh once for the whole batch.
+ *
+ * <p>The tasks are held in a {@link PersistentList}, so a {@link Snapshot} of the list is taken in
+ * O(1) and shares all but the changed tasks with the list and with other snapshots. Restoring a
+ * snapshot is O(1) as well: the identities and slots of its tasks, like the indexes, are only
+ * found again when they are next needed.
  *
  * @see Task#isSameTask(Task)
  */
 public class UniqueTaskList implements Iterable<Task> {
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final TaskObservableList internalList = new TaskObservableList();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // The identities of the tasks in internalList, so that duplicates are found without a scan.
+    // This and slots are null after a snapshot is restored, until ensureLookups() is called.
+    private Set<Identity> identities = new HashSet<>();
+
+    // The slot in internalList of the task with each id. A removal shifts the tasks after it, so
+    // the slots from firstStaleSlot on are only brought up to date when one of them is looked up.
+    private Map<Long, Integer> slots = new HashMap<>();
+    private int firstStaleSlot = Integer.MAX_VALUE;
+
+    private final TagIndex tagIndex = new TagIndex(internalList);
+    private final TextIndex textIndex = new TextIndex(internalList);
+    private final TrigramIndex trigramIndex = new TrigramIndex(internalList);
+    private final ReminderIndex reminderIndex = new ReminderIndex(internalList);
+
     /** Returns true if the list contains an equivalent person as the given argument. */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        ensureLookups();
+        return identities.contains(new Identity(toCheck));
+    }
+
+    /** Returns true if the list contains a task with the given {@code id}. */
+    public boolean containsId(long id) {
+        ensureLookups();
+        return slots.containsKey(id);
+    }
+
+    /** Returns the task with the given {@code id}, or {@code Optional.empty()} if there is none. */
+    public Optional<Task> get(long id) {
+        int slot = slotOf(id);
+        return slot == -1 ? Optional.empty() : Optional.of(internalList.get(slot));
+    }
+
+    /** Returns the index of the tasks with each tag, which is kept up to date with this list. */
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /** Returns the index of the words in the tasks, which is kept up to date with this list. */
+    public TextIndex getTextIndex() {
+        return textIndex;
+    }
+
+    /**
+     * Returns the index of the words in the tasks' names and tags by their trigrams, which is kept
+     * up to date with this list.
+     */
+    public TrigramIndex getTrigramIndex() {
+        return trigramIndex;
     }
 
-    /** Adds a person to the list. The person must not already exist in the list. */
+    /** Returns the index of the tasks' reminders, which is kept up to date with this list. */
+    public ReminderIndex getReminderIndex() {
+        return reminderIndex;
+    }
+
+    /**
+     * Adds a person to the list. The person must not already exist in the list, and its id must
+     * not be used by another task.
+     */
     public void add(Task toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        ensureLookups();
+        if (slots.containsKey(toAdd.getId()) || !identities.add(new Identity(toAdd))) {
             throw new DuplicateTaskException();
         }
+        slots.put(toAdd.getId(), internalList.size());
+        addToIndexes(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds the tasks in {@code toAdd} that are not already in the list, in order, as a single
+     * change to the list. A task that is the same as an earlier one in {@code toAdd}, or whose id
+     * is already used, is not added either.
+     *
+     * @return the number of tasks added.
+     */
+    public int addAll(List<Task> toAdd) {
+        requireAllNonNull(toAdd);
+        ensureLookups();
+        List<Task> added = new ArrayList<>();
+        for (Task task : toAdd) {
+            if (!slots.containsKey(task.getId()) && identities.add(new Identity(task))) {
+                slots.put(task.getId(), internalList.size() + added.size());
+                addToIndexes(task);
+                added.add(task);
+            }
+        }
+        internalList.addAll(added);
+        return added.size();
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedTask}. {@code target} must
      * exist in the list. The person identity of {@code editedTask} must not be the same as another
@@ -50,15 +154,31 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
+        ensureLookups();
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
 
-        if (!target.isSameTask(editedTask) && contains(editedTask)) {
+        Task targetInList = internalList.get(index);
+        long targetId = targetInList.getId();
+        boolean isIdChanged = targetId != editedTask.getId();
+        if (isIdChanged && slots.containsKey(editedTask.getId())) {
             throw new DuplicateTaskException();
         }
+        if (!target.isSameTask(editedTask)) {
+            if (!identities.add(new Identity(editedTask))) {
+                throw new DuplicateTaskException();
+            }
+            identities.remove(new Identity(target));
+        }
+        if (isIdChanged) {
+            slots.remove(targetId);
+            slots.put(editedTask.getId(), index);
+        }
+        removeFromIndexes(targetInList);
+        addToIndexes(editedTask);
 
         internalList.set(index, editedTask);
     }
@@ -66,27 +186,185 @@ public class UniqueTaskList implements Iterable<Task> {
     /** Removes the equivalent person from the list. The person must exist in the list. */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        ensureLookups();
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+        Task removed = internalList.get(index);
+        removeFromIndexes(removed);
+        internalList.remove(index);
+        identities.remove(new Identity(removed));
+        slots.remove(removed.getId());
+        firstStaleSlot = Math.min(firstStaleSlot, index);
+    }
+
+    /**
+     * Makes the changes in {@code batch} as a single change to the list. Nothing is changed if any
+     * of them could not be made: if a task to edit or remove is not in the list or is the target
+     * of more than one change, or if the list would then hold two of the same task or two tasks
+     * with the same id.
+     *
+     * @throws TaskNotFoundException if a task to edit or remove is not in the list, or is the
+     *     target of another change in the batch.
+     * @throws DuplicateTaskException if the list would hold duplicate tasks or ids.
+     */
+    public void applyBatch(TaskBatch batch) {
+        requireNonNull(batch);
+        ensureLookups();
+        List<Task> setTargets = batch.getSetTargets();
+        List<Task> editedTasks = batch.getEditedTasks();
+        List<Task> toRemove = batch.getTasksToRemove();
+        List<Task> toAdd = batch.getTasksToAdd();
+
+        // Check the whole batch against the list as it is before changing anything
+        Map<Integer, Task> setSlots = new HashMap<>();
+        Set<Integer> removedSlots = new HashSet<>();
+        Set<Identity> freedIdentities = new HashSet<>();
+        Set<Long> freedIds = new HashSet<>();
+        for (int i = 0; i < setTargets.size() + toRemove.size(); i++) {
+            boolean isSet = i < setTargets.size();
+            Task target = isSet ? setTargets.get(i) : toRemove.get(i - setTargets.size());
+            int slot = indexOf(target);
+            if (slot == -1 || setSlots.containsKey(slot) || removedSlots.contains(slot)) {
+                throw new TaskNotFoundException();
+            }
+            if (isSet) {
+                setSlots.put(slot, editedTasks.get(i));
+            } else {
+                removedSlots.add(slot);
+            }
+            Task targetInList = internalList.get(slot);
+            freedIdentities.add(new Identity(targetInList));
+            freedIds.add(targetInList.getId());
+        }
+        List<Task> newTasks = new ArrayList<>(editedTasks);
+        newTasks.addAll(toAdd);
+        Set<Identity> newIdentities = new HashSet<>();
+        Set<Long> newIds = new HashSet<>();
+        for (Task task : newTasks) {
+            Identity identity = new Identity(task);
+            if (!newIdentities.add(identity)
+                    || (identities.contains(identity) && !freedIdentities.contains(identity))
+                    || !newIds.add(task.getId())
+                    || (slots.containsKey(task.getId()) && !freedIds.contains(task.getId()))) {
+                throw new DuplicateTaskException();
+            }
+        }
+
+        for (Map.Entry<Integer, Task> entry : setSlots.entrySet()) {
+            removeFromIndexes(internalList.get(entry.getKey()));
+            addToIndexes(entry.getValue());
+        }
+        for (int slot : removedSlots) {
+            removeFromIndexes(internalList.get(slot));
+        }
+        toAdd.forEach(this::addToIndexes);
+        identities.removeAll(freedIdentities);
+        identities.addAll(newIdentities);
+        slots.keySet().removeAll(freedIds);
+        for (Map.Entry<Integer, Task> entry : setSlots.entrySet()) {
+            slots.put(entry.getValue().getId(), entry.getKey());
+        }
+        int firstAddedSlot = internalList.size() - removedSlots.size();
+        for (int i = 0; i < toAdd.size(); i++) {
+            slots.put(toAdd.get(i).getId(), firstAddedSlot + i);
+        }
+        int[] sortedRemovedSlots =
+                removedSlots.stream().mapToInt(Integer::intValue).sorted().toArray();
+        if (sortedRemovedSlots.length > 0) {
+            firstStaleSlot = Math.min(firstStaleSlot, sortedRemovedSlots[0]);
+        }
+
+        internalList.applyInOneChange(setSlots, sortedRemovedSlots, toAdd);
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
+        replacement.ensureLookups();
+        resetIndexes();
         internalList.setAll(replacement.internalList);
+        identities = new HashSet<>(replacement.identities);
+        slots = new HashMap<>(replacement.slots);
+        firstStaleSlot = replacement.firstStaleSlot;
     }
 
     /**
      * Replaces the contents of this list with {@code persons}. {@code persons} must not contain
-     * duplicate persons.
+     * duplicate persons, or tasks with the same id.
      */
     public void setTasks(List<Task> tasks) {
         requireAllNonNull(tasks);
-        if (!tasksAreUnique(tasks)) {
-            throw new DuplicateTaskException();
+        Set<Identity> replacementIdentities = new HashSet<>();
+        Map<Long, Integer> replacementSlots = new HashMap<>();
+        for (Task task : tasks) {
+            if (!replacementIdentities.add(new Identity(task))
+                    || replacementSlots.put(task.getId(), replacementSlots.size()) != null) {
+                throw new DuplicateTaskException();
+            }
         }
 
+        resetIndexes();
         internalList.setAll(tasks);
+        identities = replacementIdentities;
+        slots = replacementSlots;
+        firstStaleSlot = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the tasks as they are now, which later changes to the list do not affect. Can be
+     * called on any thread, and returns the tasks as of the last change made on the list.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(internalList.tasks);
+    }
+
+    /**
+     * Returns an unmodifiable list of {@code tasks} that never changes. The list of a {@link
+     * Snapshot} is returned as it is, in O(1); any other list is copied.
+     */
+    public static List<Task> immutableCopyOf(List<Task> tasks) {
+        requireNonNull(tasks);
+        return tasks instanceof SnapshotObservableList
+                ? tasks
+                : new SnapshotObservableList(PersistentList.of(tasks));
+    }
+
+    /**
+     * Returns the ranges in which {@code newTasks} differs from {@code oldTasks}, in order. If
+     * both are lists of snapshots, or {@link #immutableCopyOf(List) immutable copies}, only the
+     * tasks that the two do not share are visited, which for snapshots of the same list takes
+     * time in proportion to the changes made between them. Otherwise the whole of both lists is
+     * returned as one range.
+     */
+    public static List<ChangedRange> changedRanges(List<Task> oldTasks, List<Task> newTasks) {
+        requireAllNonNull(oldTasks, newTasks);
+        if (oldTasks instanceof SnapshotObservableList
+                && newTasks instanceof SnapshotObservableList) {
+            return PersistentList.changedRanges(
+                    ((SnapshotObservableList) oldTasks).tasks,
+                    ((SnapshotObservableList) newTasks).tasks);
+        }
+        return List.of(new ChangedRange(0, oldTasks.size(), 0, newTasks.size()));
+    }
+
+    /** Returns true if the tasks are the same as when {@code snapshot} was taken of this list. */
+    boolean isUnchangedSince(Snapshot snapshot) {
+        return internalList.tasks == snapshot.tasks;
+    }
+
+    /**
+     * Replaces the contents of this list with the tasks in {@code snapshot}, as a single change to
+     * the list. Takes O(1), as the identities, slots and indexes of the tasks are only found again
+     * when they are next used.
+     */
+    public void restore(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        resetIndexes();
+        identities = null;
+        slots = null;
+        firstStaleSlot = Integer.MAX_VALUE;
+        internalList.restore(snapshot.tasks);
     }
 
     /** Returns the backing list as an unmodifiable {@code ObservableList}. */
@@ -96,7 +374,7 @@ public class UniqueTaskList implements Iterable<Task> {
 
     @Override
     public Iterator<Task> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -111,15 +389,308 @@ public class UniqueTaskList implements Iterable<Task> {
         return internalList.hashCode();
     }
 
-    /** Returns true if {@code persons} contains only unique persons. */
-    private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
+    private void addToIndexes(Task task) {
+        tagIndex.add(task);
+        textIndex.add(task);
+        trigramIndex.add(task);
+        reminderIndex.add(task);
+    }
+
+    private void removeFromIndexes(Task task) {
+        tagIndex.remove(task);
+        textIndex.remove(task);
+        trigramIndex.remove(task);
+        reminderIndex.remove(task);
+    }
+
+    /** Finds the identities and slots of the tasks, if they were dropped by a restore. */
+    private void ensureLookups() {
+        if (slots != null) {
+            return;
+        }
+        identities = new HashSet<>();
+        slots = new HashMap<>();
+        int slot = 0;
+        for (Task task : internalList) {
+            identities.add(new Identity(task));
+            slots.put(task.getId(), slot++);
+        }
+    }
+
+    private void resetIndexes() {
+        tagIndex.reset();
+        textIndex.reset();
+        trigramIndex.reset();
+        reminderIndex.reset();
+    }
+
+    /**
+     * Returns the slot of the task equal to {@code target}, or -1 if there is none. The task is
+     * looked up by id, and only searched for if the list holds an equal task under another id.
+     */
+    private int indexOf(Task target) {
+        int slot = slotOf(target.getId());
+        if (slot != -1 && internalList.get(slot).equals(target)) {
+            return slot;
+        }
+        return internalList.indexOf(target);
+    }
+
+    /** Returns the slot of the task with the given {@code id}, or -1 if there is none. */
+    private int slotOf(long id) {
+        ensureLookups();
+        Integer slot = slots.get(id);
+        if (slot == null) {
+            return -1;
+        }
+        if (slot >= firstStaleSlot) {
+            Iterator<Task> staleTasks = internalList.tasks.iterator(firstStaleSlot);
+            for (int i = firstStaleSlot; staleTasks.hasNext(); i++) {
+                slots.put(staleTasks.next().getId(), i);
+            }
+            firstStaleSlot = Integer.MAX_VALUE;
+            slot = slots.get(id);
+        }
+        return slot;
+    }
+
+    /**
+     * An observable list of tasks that can make several edits, removals and additions as one
+     * change, which {@code FXCollections.observableArrayList()} cannot. The tasks are held in a
+     * {@link PersistentList}, which is replaced with a new one on every change.
+     */
+    private static class TaskObservableList extends ModifiableObservableListBase<Task> {
+
+        // Listeners such as FilteredList take a pass over their list for each part of a change, so
+        // a change in more parts than this is reported as a replacement of the whole list instead
+        private static final int MAX_CHANGE_PARTS = 16;
+
+        // Volatile so that a snapshot taken on another thread sees the tasks as of a whole change
+        private volatile PersistentList<Task> tasks = PersistentList.empty();
+
+        @Override
+        public Task get(int index) {
+            return tasks.get(index);
+        }
+
+        @Override
+        public int size() {
+            return tasks.size();
+        }
+
+        @Override
+        public Iterator<Task> iterator() {
+            return tasks.iterator();
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return tasks.indexOf(o);
+        }
+
+        @Override
+        protected void doAdd(int index, Task element) {
+            tasks = tasks.plus(index, element);
+        }
+
+        @Override
+        protected Task doSet(int index, Task element) {
+            Task old = tasks.get(index);
+            tasks = tasks.with(index, element);
+            return old;
+        }
+
+        @Override
+        protected Task doRemove(int index) {
+            Task old = tasks.get(index);
+            tasks = tasks.minus(index);
+            return old;
+        }
+
+        /** Replaces the tasks with {@code snapshot}, as a replacement of the whole list. */
+        void restore(PersistentList<Task> snapshot) {
+            PersistentList<Task> oldTasks = tasks;
+            beginChange();
+            try {
+                tasks = snapshot;
+                nextReplace(0, tasks.size(), oldTasks);
+            } finally {
+                endChange();
+            }
+        }
+
+        /**
+         * Replaces the task in each slot of {@code setSlots}, removes the tasks in {@code
+         * sortedRemovedSlots}, and then appends {@code toAdd}, as one change. The slots are those
+         * before the change, and a slot is not both replaced and removed.
+         */
+        void applyInOneChange(
+                Map<Integer, Task> setSlots, int[] sortedRemovedSlots, List<Task> toAdd) {
+            int removedRuns = 0;
+            for (int i = 0; i < sortedRemovedSlots.length; i++) {
+                if (i == 0 || sortedRemovedSlots[i] != sortedRemovedSlots[i - 1] + 1) {
+                    removedRuns++;
+                }
+            }
+            boolean isReplacedWhole =
+                    setSlots.size() + removedRuns + (toAdd.isEmpty() ? 0 : 1) > MAX_CHANGE_PARTS;
+            PersistentList<Task> oldTasks = tasks;
+
+            beginChange();
+            try {
+                for (Map.Entry<Integer, Task> entry : setSlots.entrySet()) {
+                    Task old = tasks.get(entry.getKey());
+                    tasks = tasks.with(entry.getKey(), entry.getValue());
+                    if (!isReplacedWhole) {
+                        nextSet(entry.getKey(), old);
+                    }
+                }
+                removeSlots(sortedRemovedSlots, !isReplacedWhole);
+                int firstAdded = tasks.size();
+                tasks = tasks.plusAll(toAdd);
+                if (isReplacedWhole) {
+                    nextReplace(0, tasks.size(), oldTasks);
+                } else if (!toAdd.isEmpty()) {
+                    nextAdd(firstAdded, tasks.size());
+                }
+            } finally {
+                endChange();
+            }
+        }
+
+        /**
+         * Removes the tasks in {@code sortedRemovedSlots}, reporting each run of adjacent slots as
+         * a removal if {@code isReported}.
+         */
+        private void removeSlots(int[] sortedRemovedSlots, boolean isReported) {
+            if (isReported) {
+                int removedBefore = 0;
+                List<Task> run = new ArrayList<>();
+                for (int i = 0; i < sortedRemovedSlots.length; i++) {
+                    run.add(tasks.get(sortedRemovedSlots[i]));
+                    if (i + 1 == sortedRemovedSlots.length
+                            || sortedRemovedSlots[i + 1] != sortedRemovedSlots[i] + 1) {
+                        // The earlier runs have been reported as removed, so this one starts
+                        // where the tasks kept before it end
+                        int runStart = sortedRemovedSlots[i] + 1 - run.size();
+                        nextRemove(runStart - removedBefore, run);
+                        removedBefore += run.size();
+                        run = new ArrayList<>();
+                    }
                 }
             }
+            tasks = tasks.minusAll(sortedRemovedSlots);
+        }
+
+        // The inherited versions change the tasks one at a time
+
+        @Override
+        public boolean setAll(Collection<? extends Task> replacement) {
+            PersistentList<Task> oldTasks = tasks;
+            beginChange();
+            try {
+                tasks = PersistentList.of(replacement);
+                nextReplace(0, tasks.size(), oldTasks);
+            } finally {
+                endChange();
+            }
+            return true;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            List<Task> removed = new ArrayList<>(tasks.subList(fromIndex, toIndex));
+            beginChange();
+            try {
+                tasks = tasks.minusAll(IntStream.range(fromIndex, toIndex).toArray());
+                nextRemove(fromIndex, removed);
+            } finally {
+                endChange();
+            }
+        }
+    }
+
+    /**
+     * The tasks of a list at one point in time, which later changes to the list do not affect. A
+     * snapshot shares its tasks, and the tree that holds them, with the list it was taken of. It
+     * never changes, so it can be read from any thread without locks.
+     */
+    public static final class Snapshot {
+        private final PersistentList<Task> tasks;
+        private final ObservableList<Task> observableTasks;
+
+        private Snapshot(PersistentList<Task> tasks) {
+            this.tasks = tasks;
+            observableTasks = new SnapshotObservableList(tasks);
+        }
+
+        /** Returns the number of tasks in the snapshot. */
+        public int size() {
+            return tasks.size();
+        }
+
+        /**
+         * Returns the tasks as an unmodifiable {@code ObservableList}, which never reports a
+         * change.
+         */
+        public ObservableList<Task> asUnmodifiableObservableList() {
+            return observableTasks;
+        }
+    }
+
+    /** An observable list of the tasks of a snapshot, which cannot be changed. */
+    private static class SnapshotObservableList extends ObservableListBase<Task> {
+        private final PersistentList<Task> tasks;
+
+        SnapshotObservableList(PersistentList<Task> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        public Task get(int index) {
+            return tasks.get(index);
+        }
+
+        @Override
+        public int size() {
+            return tasks.size();
+        }
+
+        @Override
+        public Iterator<Task> iterator() {
+            return tasks.iterator();
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return tasks.indexOf(o);
+        }
+    }
+
+    /**
+     * The fields of a task that {@link Task#isSameTask(Task)} compares. Two tasks are the same
+     * task exactly when their identities are equal.
+     */
+    private static class Identity {
+        private final Name name;
+        private final Priority priority;
+
+        Identity(Task task) {
+            name = task.getName();
+            priority = task.getPriority();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Identity
+                            && name.equals(((Identity) other).name)
+                            && priority.equals(((Identity) other).priority));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + priority.hashCode();
         }
-        return true;
     }
 }
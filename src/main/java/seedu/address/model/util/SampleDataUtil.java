@@ -17,32 +17,32 @@ public class SampleDataUtil {
         return new Task[] {
             new Task(
                     new Name("Alex Yeoh"),
-                    new Priority("1"),
+                    Priority.of("1"),
                     new Description(""),
                     getTagSet("friends")),
             new Task(
                     new Name("Bernice Yu"),
-                    new Priority("1"),
+                    Priority.of("1"),
                     new Description(""),
                     getTagSet("colleagues", "friends")),
             new Task(
                     new Name("Charlotte Oliveiro"),
-                    new Priority("1"),
+                    Priority.of("1"),
                     new Description(""),
                     getTagSet("neighbours")),
             new Task(
                     new Name("David Li"),
-                    new Priority("1"),
+                    Priority.of("1"),
                     new Description(""),
                     getTagSet("family")),
             new Task(
                     new Name("Irfan Ibrahim"),
-                    new Priority("1"),
+                    Priority.of("1"),
                     new Description(""),
                     getTagSet("classmates")),
             new Task(
                     new Name("Roy Balakrishnan"),
-                    new Priority("1"),
+                    Priority.of("1"),
                     new Description(""),
                     getTagSet("colleagues"))
         };
@@ -58,6 +58,6 @@ public class SampleDataUtil {
 
     /** Returns a tag set containing the list of strings given. */
     public static Set<Tag> getTagSet(String... strings) {
-        return Arrays.stream(strings).map(Tag::new).collect(Collectors.toSet());
+        return Arrays.stream(strings).map(Tag::of).collect(Collectors.toSet());
     }
 }
@@ -0,0 +1,38 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import seedu.address.model.ReadOnlyTaskArchive;
+import seedu.address.model.task.Task;
+
+/** Represents a storage for {@link seedu.address.model.TaskArchive}. */
+public interface ArchiveStorage {
+
+    /** Returns the file path of the archive file. */
+    Path getArchiveFilePath();
+
+    /**
+     * Returns the tasks in the archive, oldest first, including those saved by this storage.
+     * Returns an empty list if the archive file is not found.
+     *
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<Task> readArchive() throws IOException;
+
+    /**
+     * Saves the newly archived tasks of {@code archive} that this storage has not saved yet. Tasks
+     * that were taken back out of the archive stay saved until {@link #saveArchiveRemovals}.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveArchive(ReadOnlyTaskArchive archive) throws IOException;
+
+    /**
+     * Saves the tasks that this storage saved as archived, but that were taken back out of {@code
+     * archive} since, e.g. by undoing their move to the archive, as no longer archived.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveArchiveRemovals(ReadOnlyTaskArchive archive) throws IOException;
+}
@@ -0,0 +1,248 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads and writes the sectioned binary files used by the binary storages. A file is laid out as
+ *
+ * <pre>
+ * magic (4 bytes) | format version (short) | section count (short) | section*
+ * section = payload length (int) | payload | CRC32 of payload (int)
+ * </pre>
+ *
+ * All numbers are big-endian. Strings inside a payload are written as their UTF-8 length (int)
+ * followed by the UTF-8 bytes.
+ */
+class BinaryFile {
+
+    public static final short FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_WRONG_MAGIC = "%s is not a %s file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "%s has unsupported format version %d";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Section %d of %s is corrupt";
+    public static final String MESSAGE_TRUNCATED = "%s is truncated";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryFile.class);
+
+    private BinaryFile() {}
+
+    /**
+     * Writes {@code sections} to {@code filePath} after the header for {@code magic}, overwriting
+     * any existing file.
+     */
+    public static void write(Path filePath, String magic, List<byte[]> sections)
+            throws IOException {
+        requireNonNull(filePath);
+        FileUtil.writeAtomically(filePath, out -> write(out, magic, sections));
+    }
+
+    /** Returns the contents of a file holding {@code sections} after the header for {@code magic}. */
+    public static byte[] toBytes(String magic, List<byte[]> sections) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        write(bytes, magic, sections);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Similar to {@link #write(Path, String, List)}, but writes the contents of the file to {@code
+     * stream}.
+     */
+    public static void write(OutputStream stream, String magic, List<byte[]> sections)
+            throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.write(magic.getBytes(StandardCharsets.US_ASCII));
+        out.writeShort(FORMAT_VERSION);
+        out.writeShort(sections.size());
+        for (byte[] section : sections) {
+            out.writeInt(section.length);
+            out.write(section);
+            out.writeInt((int) checksumOf(section));
+        }
+        out.flush();
+    }
+
+    /**
+     * Returns the sections stored in the file at {@code filePath}, or {@code Optional.empty()} if
+     * the file is not found. Every section is checked against its CRC before it is returned.
+     *
+     * @throws DataConversionException if the file has a different magic, an unsupported version, is
+     *     truncated or any section does not match its CRC.
+     */
+    public static Optional<List<ByteBuffer>> read(Path filePath, String magic)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            return Optional.of(read(in, Files.size(filePath), filePath.toString(), magic));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Similar to {@link #read(Path, String)}, but reads the sections from the file contents {@code
+     * contents}, which came from {@code source}.
+     */
+    public static List<ByteBuffer> fromBytes(byte[] contents, String source, String magic)
+            throws DataConversionException {
+        requireNonNull(contents);
+        return read(new ByteArrayInputStream(contents), contents.length, source, magic);
+    }
+
+    /**
+     * Similar to {@link #read(Path, String)}, but reads the sections from {@code stream}, which
+     * holds the {@code size} bytes of a file read from {@code source}.
+     */
+    public static List<ByteBuffer> read(InputStream stream, long size, String source, String magic)
+            throws DataConversionException {
+        DataInputStream in = new DataInputStream(stream);
+        try {
+            byte[] fileMagic = new byte[magic.length()];
+            in.readFully(fileMagic);
+            if (!Arrays.equals(fileMagic, magic.getBytes(StandardCharsets.US_ASCII))) {
+                throw new IllegalValueException(String.format(MESSAGE_WRONG_MAGIC, source, magic));
+            }
+            short version = in.readShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_UNSUPPORTED_VERSION, source, version));
+            }
+
+            int sectionCount = in.readUnsignedShort();
+            List<ByteBuffer> sections = new ArrayList<>(sectionCount);
+            for (int i = 0; i < sectionCount; i++) {
+                int length = in.readInt();
+                if (length < 0 || length > size) {
+                    throw new IllegalValueException(String.format(MESSAGE_TRUNCATED, source));
+                }
+                byte[] section = new byte[length];
+                in.readFully(section);
+                if ((int) checksumOf(section) != in.readInt()) {
+                    throw new IllegalValueException(
+                            String.format(MESSAGE_CHECKSUM_MISMATCH, i, source));
+                }
+                sections.add(ByteBuffer.wrap(section));
+            }
+            return sections;
+        } catch (EOFException e) {
+            logger.warning("Error reading from binary file " + source + ": " + e);
+            throw new DataConversionException(
+                    new IllegalValueException(String.format(MESSAGE_TRUNCATED, source), e));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from binary file " + source + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /** Returns a stream that collects a section's payload. */
+    public static SectionWriter newSection() {
+        return new SectionWriter(new ByteArrayOutputStream());
+    }
+
+    /**
+     * Reads an int from {@code section}.
+     *
+     * @throws EOFException if the section has no more data.
+     */
+    public static int readInt(ByteBuffer section) throws EOFException {
+        if (section.remaining() < Integer.BYTES) {
+            throw new EOFException("Section ends in the middle of a record");
+        }
+        return section.getInt();
+    }
+
+    /**
+     * Reads a long from {@code section}.
+     *
+     * @throws EOFException if the section has no more data.
+     */
+    public static long readLong(ByteBuffer section) throws EOFException {
+        if (section.remaining() < Long.BYTES) {
+            throw new EOFException("Section ends in the middle of a record");
+        }
+        return section.getLong();
+    }
+
+    /**
+     * Reads a string written by {@link SectionWriter#writeString(String)} from {@code section}.
+     *
+     * @throws EOFException if the string does not fit in the rest of the section.
+     */
+    public static String readString(ByteBuffer section) throws EOFException {
+        int length = readInt(section);
+        if (length < 0 || length > section.remaining()) {
+            throw new EOFException("String of " + length + " bytes does not fit its section");
+        }
+        String value =
+                new String(
+                        section.array(),
+                        section.arrayOffset() + section.position(),
+                        length,
+                        StandardCharsets.UTF_8);
+        section.position(section.position() + length);
+        return value;
+    }
+
+    /** Returns the CRC32 of {@code bytes}. */
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    /** Collects the payload of a single section. */
+    static class SectionWriter extends DataOutputStream {
+        private final ByteArrayOutputStream bytes;
+
+        private SectionWriter(ByteArrayOutputStream bytes) {
+            super(new BufferedOutputStream(bytes, BUFFER_SIZE));
+            this.bytes = bytes;
+        }
+
+        /** Writes {@code value} as its UTF-8 length followed by its UTF-8 bytes. */
+        public void writeString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            write(bytes);
+        }
+
+        /** Returns the bytes written so far. */
+        public byte[] toByteArray() throws IOException {
+            flush();
+            return bytes.toByteArray();
+        }
+    }
+}
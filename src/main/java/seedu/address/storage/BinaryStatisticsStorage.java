@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyStatistics;
+import seedu.address.model.Statistics;
+
+/** A class to access Statistics data stored as a binary file on the hard disk. */
+public class BinaryStatisticsStorage implements StatisticsStorage {
+
+    public static final String MAGIC = "PTSB";
+
+    public static final String MESSAGE_MISSING_SECTIONS = "Statistics file has %d of 1 sections";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryStatisticsStorage.class);
+
+    private Path filePath;
+
+    public BinaryStatisticsStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getStatisticsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyStatistics> readStatistics() throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<List<ByteBuffer>> sections = BinaryFile.read(filePath, MAGIC);
+        if (!sections.isPresent()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(decode(sections.get(), filePath.toString()));
+    }
+
+    @Override
+    public void saveStatistics(ReadOnlyStatistics statistics) throws IOException {
+        requireNonNull(statistics);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        BinaryFile.write(filePath, MAGIC, encode(statistics));
+    }
+
+    /**
+     * Returns the statistics stored in {@code contents}, the contents of a binary statistics file
+     * read from {@code source}.
+     *
+     * @throws DataConversionException if the contents are not in the correct format.
+     */
+    static Statistics fromBytes(byte[] contents, String source) throws DataConversionException {
+        return decode(BinaryFile.fromBytes(contents, source, MAGIC), source);
+    }
+
+    /** Returns the contents of a binary statistics file holding {@code statistics}. */
+    static byte[] toBytes(ReadOnlyStatistics statistics) throws IOException {
+        requireNonNull(statistics);
+        return BinaryFile.toBytes(MAGIC, encode(statistics));
+    }
+
+    private static List<byte[]> encode(ReadOnlyStatistics statistics) throws IOException {
+        BinaryFile.SectionWriter dayDatas = BinaryFile.newSection();
+        dayDatas.writeInt(statistics.getDayCount());
+        // A day visitor cannot throw IOException, so it is passed out unchecked
+        try {
+            statistics.forEachDay(
+                    (epochDay, pomDuration, tasksDone) -> {
+                        try {
+                            dayDatas.writeString(LocalDate.ofEpochDay(epochDay).toString());
+                            dayDatas.writeString(String.valueOf(pomDuration));
+                            dayDatas.writeString(String.valueOf(tasksDone));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return Collections.singletonList(dayDatas.toByteArray());
+    }
+
+    private static Statistics decode(List<ByteBuffer> sections, String source)
+            throws DataConversionException {
+        try {
+            if (sections.size() != 1) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_MISSING_SECTIONS, sections.size()));
+            }
+            ByteBuffer in = sections.get(0);
+            Statistics statistics = new Statistics();
+            int count = BinaryFile.readInt(in);
+            for (int i = 0; i < count; i++) {
+                String date = BinaryFile.readString(in);
+                String pomDurationData = BinaryFile.readString(in);
+                String tasksDoneData = BinaryFile.readString(in);
+                new JsonAdaptedDayData(date, pomDurationData, tasksDoneData).addTo(statistics);
+            }
+            return statistics;
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + source + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+}
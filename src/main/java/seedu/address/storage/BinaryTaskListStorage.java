@@ -0,0 +1,227 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access TaskList data stored as a binary file on the hard disk. The file holds four
+ * sections: a string table with every distinct tag name, the tasks, whose tags are stored as
+ * indices into the string table, the day each task was done, or an empty string if it is not
+ * known, and the id of each task.
+ */
+public class BinaryTaskListStorage implements TaskListStorage {
+
+    public static final String MAGIC = "PTLB";
+
+    public static final String MESSAGE_MISSING_SECTIONS = "Task list file has %d of 4 sections";
+    public static final String MESSAGE_DONE_DAY_COUNT =
+            "Task list file has %d done days for %d tasks";
+    public static final String MESSAGE_ID_COUNT = "Task list file has %d ids for %d tasks";
+    public static final String MESSAGE_INVALID_TAG_INDEX =
+            "Tag index %d is not in the string table";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskListStorage.class);
+
+    private Path filePath;
+
+    public BinaryTaskListStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getTaskListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException {
+        return readTaskList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskList()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyTaskList> readTaskList(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<List<ByteBuffer>> sections = BinaryFile.read(filePath, MAGIC);
+        if (!sections.isPresent()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(decode(sections.get(), filePath.toString()));
+    }
+
+    /**
+     * Returns the task list stored in {@code in}, the {@code size} bytes of a binary task list file
+     * read from {@code source}.
+     *
+     * @throws DataConversionException if the contents are not in the correct format.
+     */
+    static TaskList read(InputStream in, long size, String source) throws DataConversionException {
+        return decode(BinaryFile.read(in, size, source, MAGIC), source);
+    }
+
+    /** Writes the contents of a binary task list file holding {@code tasks} to {@code out}. */
+    static void write(List<Task> tasks, OutputStream out) throws IOException {
+        requireNonNull(tasks);
+        BinaryFile.write(out, MAGIC, encode(tasks));
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
+        saveTaskList(taskList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskList(ReadOnlyTaskList)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveTaskList(ReadOnlyTaskList taskList, Path filePath) throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        BinaryFile.write(filePath, MAGIC, encode(taskList.getTaskList()));
+    }
+
+    private static List<byte[]> encode(List<Task> taskListItems) throws IOException {
+        Map<String, Integer> stringTable = new HashMap<>();
+        BinaryFile.SectionWriter strings = BinaryFile.newSection();
+        BinaryFile.SectionWriter tasks = BinaryFile.newSection();
+
+        BinaryFile.SectionWriter doneDays = BinaryFile.newSection();
+        BinaryFile.SectionWriter ids = BinaryFile.newSection();
+        List<String> tagNames = new ArrayList<>();
+        tasks.writeInt(taskListItems.size());
+        doneDays.writeInt(taskListItems.size());
+        ids.writeInt(taskListItems.size());
+        for (Task task : taskListItems) {
+            ids.writeLong(task.getId());
+            tasks.writeString(task.getName().fullName);
+            tasks.writeString(task.getPriority().value);
+            tasks.writeString(task.getDescription().value);
+            tasks.writeString(task.getDone().toString());
+            doneDays.writeString(task.getDone().getDoneOn().map(LocalDate::toString).orElse(""));
+            tasks.writeInt(task.getTags().size());
+            for (Tag tag : task.getTags()) {
+                Integer index = stringTable.get(tag.tagName);
+                if (index == null) {
+                    index = tagNames.size();
+                    stringTable.put(tag.tagName, index);
+                    tagNames.add(tag.tagName);
+                }
+                tasks.writeInt(index);
+            }
+        }
+        strings.writeInt(tagNames.size());
+        for (String tagName : tagNames) {
+            strings.writeString(tagName);
+        }
+        return Arrays.asList(
+                strings.toByteArray(),
+                tasks.toByteArray(),
+                doneDays.toByteArray(),
+                ids.toByteArray());
+    }
+
+    private static TaskList decode(List<ByteBuffer> sections, String source)
+            throws DataConversionException {
+        try {
+            if (sections.size() != 4) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_MISSING_SECTIONS, sections.size()));
+            }
+            String[] stringTable = readStrings(sections.get(0));
+            String[] doneDays = readStrings(sections.get(2));
+            long[] ids = readLongs(sections.get(3));
+            return readTasks(sections.get(1), stringTable, doneDays, ids);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + source + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static String[] readStrings(ByteBuffer in) throws IOException {
+        int count = BinaryFile.readInt(in);
+        String[] strings = new String[Math.max(count, 0)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = BinaryFile.readString(in);
+        }
+        return strings;
+    }
+
+    private static long[] readLongs(ByteBuffer in) throws IOException {
+        int count = BinaryFile.readInt(in);
+        long[] values = new long[Math.max(count, 0)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = BinaryFile.readLong(in);
+        }
+        return values;
+    }
+
+    private static TaskList readTasks(
+            ByteBuffer in, String[] stringTable, String[] doneDays, long[] ids)
+            throws IOException, IllegalValueException {
+        TaskList taskList = new TaskList();
+        int count = BinaryFile.readInt(in);
+        if (doneDays.length != count) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_DONE_DAY_COUNT, doneDays.length, count));
+        }
+        if (ids.length != count) {
+            throw new IllegalValueException(String.format(MESSAGE_ID_COUNT, ids.length, count));
+        }
+        for (int i = 0; i < count; i++) {
+            String name = BinaryFile.readString(in);
+            String priority = BinaryFile.readString(in);
+            String description = BinaryFile.readString(in);
+            String done = BinaryFile.readString(in);
+            int tagCount = BinaryFile.readInt(in);
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            for (int j = 0; j < tagCount; j++) {
+                int index = BinaryFile.readInt(in);
+                if (index < 0 || index >= stringTable.length) {
+                    throw new IllegalValueException(
+                            String.format(MESSAGE_INVALID_TAG_INDEX, index));
+                }
+                tags.add(new JsonAdaptedTag(stringTable[index]));
+            }
+
+            // Validated through the JSON adapter so both formats accept exactly the same data
+            String doneOn = doneDays[i].isEmpty() ? null : doneDays[i];
+            Task task =
+                    new JsonAdaptedTask(ids[i], name, priority, description, done, doneOn, tags)
+                            .toModelType();
+            if (taskList.hasTask(task) || taskList.hasTaskId(task.getId())) {
+                throw new IllegalValueException(JsonSerializableTaskList.MESSAGE_DUPLICATE_TASK);
+            }
+            taskList.addTask(task);
+        }
+        return taskList;
+    }
+}
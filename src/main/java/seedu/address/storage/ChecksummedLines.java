@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * Formats the lines of the append-only files, which are prefixed with the CRC32 of their contents
+ * so that a line that was only partly written when the app was killed can be detected.
+ */
+class ChecksummedLines {
+
+    private ChecksummedLines() {}
+
+    /** Returns {@code contents}, which must not contain a line break, as a checksummed line. */
+    static String format(String contents) {
+        return String.format("%08x", checksumOf(contents)) + ' ' + contents + '\n';
+    }
+
+    /**
+     * Returns the contents of {@code line}, without its line break, or {@code Optional.empty()} if
+     * the line is incomplete or does not match its checksum.
+     */
+    static Optional<String> parse(String line) {
+        int separator = line.indexOf(' ');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        String contents = line.substring(separator + 1);
+        try {
+            long checksum = Long.parseLong(line.substring(0, separator), 16);
+            return checksum == checksumOf(contents) ? Optional.of(contents) : Optional.empty();
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static long checksumOf(String contents) {
+        CRC32 crc = new CRC32();
+        crc.update(contents.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,673 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyPet;
+import seedu.address.model.ReadOnlyPomodoro;
+import seedu.address.model.ReadOnlyStatistics;
+import seedu.address.model.ReadOnlyTaskArchive;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.TaskList;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
+
+/**
+ * Manages storage of every store in a single {@link DataContainer} file. On the first read, the
+ * directory and the raw bytes of the small stores are read under the lock of this storage, and
+ * the small stores are kept in memory. Every store, the task list included, is decoded outside the
+ * lock, so they can be read concurrently: the task list is decoded as it is streamed out of the
+ * file, from the container opened by that first read if the task list is what asked for it.
+ *
+ * <p>Changes to the task list, and the new contents of the other stores, are appended to a {@link
+ * TaskListJournal} next to the container. Saving a store therefore appends a few records, and the
+ * container is only rewritten, in a single atomic step, once the journal is compacted.
+ *
+ * <p>Done tasks that were archived are appended to a {@link JsonArchiveStorage} next to the
+ * container, so they are not read until they are asked for.
+ *
+ * <p>The task list and statistics are stored in the {@link StorageFormat} this storage was created
+ * with; the pet and pomodoro are always stored as json. User prefs are kept in a file of their own.
+ */
+public class ContainerStorage implements Storage {
+
+    public static final String TASK_LIST_SECTION = "taskList";
+    public static final String PET_SECTION = "pet";
+    public static final String POMODORO_SECTION = "pomodoro";
+    public static final String STATISTICS_SECTION = "statistics";
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Section %s cannot be stored as %s";
+
+    private static final Logger logger = LogsCenter.getLogger(ContainerStorage.class);
+
+    private final Path filePath;
+    private final StorageFormat format;
+    private final int journalCompactionThreshold;
+    private final UserPrefsStorage userPrefsStorage;
+    private final TaskListJournal journal;
+    private final JsonArchiveStorage archiveStorage;
+
+    // The stores other than the task list as of the last read or save of filePath, with the
+    // journal applied, or null if it has not been read yet
+    private Map<String, DataContainer.Payload> stores;
+    private Map<String, DataConversionException> sectionFailures = new HashMap<>();
+    private DataConversionException containerFailure;
+    private boolean hasContainer;
+    // The format of the task list section, or null if the container has none
+    private StorageFormat taskListFormat;
+    private long snapshotSequence;
+    // Counts the rewrites of the container, so a task list decoded meanwhile is read again
+    private long generation;
+
+    /**
+     * Creates a storage for the container at {@code filePath} that stores the task list and
+     * statistics in {@code format}, and compacts the journal after {@code
+     * journalCompactionThreshold} records.
+     */
+    public ContainerStorage(
+            Path filePath,
+            StorageFormat format,
+            int journalCompactionThreshold,
+            UserPrefsStorage userPrefsStorage) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(userPrefsStorage);
+        this.filePath = filePath;
+        this.format = format;
+        this.journalCompactionThreshold = journalCompactionThreshold;
+        this.userPrefsStorage = userPrefsStorage;
+        this.journal =
+                new TaskListJournal(
+                        JournaledTaskListStorage.getJournalFilePath(filePath),
+                        journalCompactionThreshold);
+        this.archiveStorage =
+                new JsonArchiveStorage(JsonArchiveStorage.getArchiveFilePath(filePath));
+    }
+
+    public Path getDataFilePath() {
+        return filePath;
+    }
+
+    /** Returns true if the container file exists. */
+    public boolean exists() {
+        return Files.exists(filePath);
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return userPrefsStorage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return userPrefsStorage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        userPrefsStorage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ TaskList methods ==============================
+
+    @Override
+    public Path getTaskListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException, IOException {
+        List<Task> tasks = null;
+        while (tasks == null) {
+            DataContainer container;
+            long readGeneration;
+            synchronized (this) {
+                container = openTaskList();
+                if (container == null) {
+                    return Optional.empty();
+                }
+                readGeneration = generation;
+            }
+            long sequence = container.getJournalSequence();
+
+            // The other stores can be read while the task list is decoded
+            List<Task> snapshotTasks = null;
+            DataConversionException failure = null;
+            try (DataContainer opened = container) {
+                snapshotTasks = readTasks(opened);
+            } catch (DataConversionException e) {
+                failure = e;
+            }
+
+            synchronized (this) {
+                if (generation != readGeneration) {
+                    // The container was rewritten while the task list was decoded
+                    continue;
+                }
+                if (failure != null) {
+                    throw failure;
+                }
+                tasks = replayTasks(snapshotTasks, sequence);
+            }
+        }
+        return Optional.of(JournaledTaskListStorage.toTaskList(tasks));
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList(Path filePath)
+            throws DataConversionException, IOException {
+        return filePath.equals(this.filePath) ? readTaskList() : storageAt(filePath).readTaskList();
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
+        requireNonNull(taskList);
+        saveAll(taskList, null, null, null);
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList, Path filePath) throws IOException {
+        if (filePath.equals(this.filePath)) {
+            saveTaskList(taskList);
+        } else {
+            storageAt(filePath).saveTaskList(taskList);
+        }
+    }
+
+    // ================ Pet methods ==============================
+
+    @Override
+    public Path getPetFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyPet> readPet() throws DataConversionException, IOException {
+        Optional<DataContainer.Payload> payload = getPayload(PET_SECTION);
+        if (!payload.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(
+                    readJson(PET_SECTION, payload.get(), JsonAdaptedPet.class).toModelType());
+        } catch (IllegalValueException ive) {
+            throw conversionFailure(PET_SECTION, ive);
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyPet> readPet(Path filePath)
+            throws DataConversionException, IOException {
+        return filePath.equals(this.filePath) ? readPet() : storageAt(filePath).readPet();
+    }
+
+    @Override
+    public void savePet(ReadOnlyPet pet) throws IOException {
+        requireNonNull(pet);
+        saveAll(null, pet, null, null);
+    }
+
+    @Override
+    public void savePet(ReadOnlyPet pet, Path filePath) throws IOException {
+        if (filePath.equals(this.filePath)) {
+            savePet(pet);
+        } else {
+            storageAt(filePath).savePet(pet);
+        }
+    }
+
+    // ================ Pomodoro methods ==============================
+
+    @Override
+    public Optional<ReadOnlyPomodoro> readPomodoro() throws DataConversionException, IOException {
+        Optional<DataContainer.Payload> payload = getPayload(POMODORO_SECTION);
+        if (!payload.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(
+                    readJson(POMODORO_SECTION, payload.get(), JsonAdaptedPomodoro.class)
+                            .toModelType());
+        } catch (IllegalValueException ive) {
+            throw conversionFailure(POMODORO_SECTION, ive);
+        }
+    }
+
+    @Override
+    public void savePomodoro(ReadOnlyPomodoro pomodoro) throws IOException {
+        requireNonNull(pomodoro);
+        saveAll(null, null, pomodoro, null);
+    }
+
+    // ================ Statistics methods ==============================
+
+    @Override
+    public Optional<ReadOnlyStatistics> readStatistics()
+            throws DataConversionException, IOException {
+        Optional<DataContainer.Payload> payload = getPayload(STATISTICS_SECTION);
+        if (!payload.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(decodeStatistics(payload.get()));
+    }
+
+    @Override
+    public void saveStatistics(ReadOnlyStatistics statistics) throws IOException {
+        requireNonNull(statistics);
+        saveAll(null, null, null, statistics);
+    }
+
+    // ================ Archive methods ==============================
+
+    @Override
+    public Path getArchiveFilePath() {
+        return archiveStorage.getArchiveFilePath();
+    }
+
+    @Override
+    public List<Task> readArchive() throws IOException {
+        return archiveStorage.readArchive();
+    }
+
+    @Override
+    public void saveArchive(ReadOnlyTaskArchive archive) throws IOException {
+        archiveStorage.saveArchive(archive);
+    }
+
+    @Override
+    public void saveArchiveRemovals(ReadOnlyTaskArchive archive) throws IOException {
+        archiveStorage.saveArchiveRemovals(archive);
+    }
+
+    // ================ Combined methods ==============================
+
+    /**
+     * Saves the given stores with a single append to the journal. The container is rewritten
+     * instead, in a single atomic step, if the journal needs compacting or the container does not
+     * exist yet.
+     */
+    @Override
+    public synchronized void saveAll(
+            ReadOnlyTaskList taskList,
+            ReadOnlyPet pet,
+            ReadOnlyPomodoro pomodoro,
+            ReadOnlyStatistics statistics)
+            throws IOException {
+        loadForSave();
+        Map<String, DataContainer.Payload> changed = new LinkedHashMap<>();
+        if (pet != null) {
+            changed.put(PET_SECTION, writeJson(new JsonAdaptedPet(pet)));
+        }
+        if (pomodoro != null) {
+            changed.put(POMODORO_SECTION, writeJson(new JsonAdaptedPomodoro(pomodoro)));
+        }
+        if (statistics != null) {
+            changed.put(STATISTICS_SECTION, encodeStatistics(statistics));
+        }
+        List<Task> tasks = taskList == null ? null : taskList.getTaskList();
+        if (tasks == null && changed.isEmpty()) {
+            return;
+        }
+
+        // Task changes are only journaled against a task list section they can be applied to
+        boolean canAppend = hasContainer && (tasks == null || taskListFormat != null);
+        if (canAppend && journal.append(tasks, changed)) {
+            stores.putAll(changed);
+            sectionFailures.keySet().removeAll(changed.keySet());
+            return;
+        }
+        compact(tasks, changed);
+    }
+
+    /**
+     * Rewrites the task list and statistics sections that are stored in a format other than the one
+     * of this storage. Returns true if the container was rewritten.
+     *
+     * @throws DataConversionException if a section that needs converting, or the task list, cannot
+     *     be read.
+     */
+    public synchronized boolean convertSections() throws DataConversionException, IOException {
+        load(false);
+        List<Task> tasks = null;
+        if (taskListFormat != null && taskListFormat != format) {
+            logConversion(TASK_LIST_SECTION);
+            tasks = getSavedTasks();
+        }
+        Map<String, DataContainer.Payload> changed = new LinkedHashMap<>();
+        for (Map.Entry<String, DataContainer.Payload> store : stores.entrySet()) {
+            String name = store.getKey();
+            StorageFormat storeFormat = store.getValue().getFormat();
+            if (storeFormat == formatOf(name)) {
+                continue;
+            }
+            logConversion(name);
+            if (!name.equals(STATISTICS_SECTION)) {
+                throw conversionFailure(
+                        name,
+                        new IllegalValueException(
+                                String.format(MESSAGE_UNSUPPORTED_FORMAT, name, storeFormat)));
+            }
+            changed.put(name, encodeStatistics(decodeStatistics(store.getValue())));
+        }
+        if (tasks == null && changed.isEmpty()) {
+            return false;
+        }
+        if (tasks == null && taskListFormat != null) {
+            // Make sure the rewrite does not leave out a task list that cannot be read
+            getSavedTasks();
+        }
+        compact(tasks, changed);
+        return true;
+    }
+
+    /**
+     * Returns the contents of the store called {@code name}, reading the container if it has not
+     * been read yet.
+     *
+     * @throws DataConversionException if the container, or the section, is corrupt.
+     */
+    private synchronized Optional<DataContainer.Payload> getPayload(String name)
+            throws DataConversionException, IOException {
+        load(false);
+        if (sectionFailures.containsKey(name)) {
+            throw sectionFailures.get(name);
+        }
+        return Optional.ofNullable(stores.get(name));
+    }
+
+    /**
+     * Returns the container, open for its task list to be read, or null if it has no task list.
+     * The container is only opened again if it was read already.
+     */
+    private DataContainer openTaskList() throws DataConversionException, IOException {
+        DataContainer container = load(true);
+        if (taskListFormat == null) {
+            if (container != null) {
+                container.close();
+            }
+            return null;
+        }
+        return container != null ? container : DataContainer.open(filePath).orElse(null);
+    }
+
+    /**
+     * Returns the tasks as of the last read or save. If they are not known, they are read while
+     * holding the lock, as only a rewrite of the container needs them then.
+     *
+     * @throws DataConversionException if the task list cannot be read.
+     */
+    private List<Task> getSavedTasks() throws DataConversionException, IOException {
+        Optional<List<Task>> savedTasks = journal.getSavedTasks();
+        if (savedTasks.isPresent()) {
+            return savedTasks.get();
+        }
+        try (DataContainer container =
+                DataContainer.open(filePath)
+                        .orElseThrow(() -> new NoSuchFileException(filePath.toString()))) {
+            return replayTasks(readTasks(container), container.getJournalSequence());
+        }
+    }
+
+    /**
+     * Reads the container, but for the task list, and the stores in the journal, unless the
+     * container has been read already. Returns the container, still open, if it was read now and
+     * {@code isKeptOpen}, so that the task list can be read from it; otherwise returns null.
+     */
+    private DataContainer load(boolean isKeptOpen) throws DataConversionException, IOException {
+        if (stores != null) {
+            if (containerFailure != null) {
+                throw containerFailure;
+            }
+            return null;
+        }
+
+        Optional<DataContainer> container;
+        sectionFailures = new HashMap<>();
+        taskListFormat = null;
+        snapshotSequence = 0;
+        try {
+            container = DataContainer.open(filePath);
+        } catch (DataConversionException e) {
+            // The container cannot be used, so the next save starts a new one
+            stores = new LinkedHashMap<>();
+            hasContainer = false;
+            containerFailure = e;
+            throw e;
+        }
+
+        stores = new LinkedHashMap<>();
+        containerFailure = null;
+        hasContainer = container.isPresent();
+        if (!hasContainer) {
+            // A journal without its container cannot be replayed, so the next save drops it
+            return null;
+        }
+
+        DataContainer opened = container.get();
+        boolean isReturned = false;
+        try {
+            for (String name : opened.getSectionNames()) {
+                if (name.equals(TASK_LIST_SECTION)) {
+                    continue;
+                }
+                try {
+                    stores.put(
+                            name,
+                            opened.read(
+                                    name,
+                                    (sectionFormat, length, payload) ->
+                                            new DataContainer.Payload(
+                                                    sectionFormat, payload.readAllBytes())));
+                } catch (DataConversionException e) {
+                    sectionFailures.put(name, e);
+                }
+            }
+            snapshotSequence = opened.getJournalSequence();
+            taskListFormat = opened.getFormat(TASK_LIST_SECTION).orElse(null);
+            replayStores();
+            isReturned = isKeptOpen;
+            return isKeptOpen ? opened : null;
+        } finally {
+            if (!isReturned) {
+                opened.close();
+            }
+        }
+    }
+
+    /**
+     * Applies the stores in the journal. The tasks in it are replayed once the task list has been
+     * decoded.
+     */
+    private void replayStores() throws IOException {
+        try {
+            journal.replayStores(snapshotSequence);
+        } catch (IllegalValueException ive) {
+            // Nothing in the journal can be used, so the next save compacts and drops it
+            logger.info("Illegal values found in " + journal.getJournalPath() + ": " + ive);
+            return;
+        }
+        stores.putAll(journal.getStores());
+        sectionFailures.keySet().removeAll(journal.getStores().keySet());
+    }
+
+    /** Decodes the task list section of {@code container}. */
+    private List<Task> readTasks(DataContainer container) throws DataConversionException {
+        return container.read(TASK_LIST_SECTION, this::decodeTaskList).getTaskList();
+    }
+
+    /**
+     * Returns {@code snapshotTasks}, read from the container written after journal record {@code
+     * sequence}, with the journal replayed onto them.
+     *
+     * @throws DataConversionException if the journal does not apply to the tasks.
+     */
+    private List<Task> replayTasks(List<Task> snapshotTasks, long sequence)
+            throws DataConversionException, IOException {
+        try {
+            return journal.replay(snapshotTasks, sequence);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journal.getJournalPath() + ": " + ive);
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /** Reads the container before a save, so that the stores not being saved are kept. */
+    private void loadForSave() throws IOException {
+        try {
+            load(false);
+        } catch (DataConversionException e) {
+            logger.warning("Replacing unreadable data container " + filePath);
+        }
+    }
+
+    /**
+     * Rewrites the container with {@code tasks}, or the saved tasks if that is null, and every
+     * other store with {@code changed} applied, and clears the journal that this folds in.
+     */
+    private void compact(List<Task> tasks, Map<String, DataContainer.Payload> changed)
+            throws IOException {
+        List<Task> compactedTasks = tasks;
+        if (compactedTasks == null && taskListFormat != null) {
+            try {
+                compactedTasks = getSavedTasks();
+            } catch (DataConversionException e) {
+                logger.warning("Leaving out the unreadable task list of " + filePath);
+            }
+        }
+        Map<String, DataContainer.Payload> updated = new LinkedHashMap<>(stores);
+        updated.putAll(changed);
+
+        List<DataContainer.Section> sections = new ArrayList<>();
+        if (compactedTasks != null) {
+            List<Task> sectionTasks = compactedTasks;
+            sections.add(
+                    new DataContainer.Section(
+                            TASK_LIST_SECTION, format, out -> encodeTaskList(sectionTasks, out)));
+        }
+        for (Map.Entry<String, DataContainer.Payload> store : updated.entrySet()) {
+            sections.add(store.getValue().toSection(store.getKey()));
+        }
+
+        logger.fine("Compacting journal of " + filePath);
+        journal.beforeCompaction();
+        long sequence = journal.getLastSequence();
+        DataContainer.write(filePath, sequence, sections);
+        journal.compacted(compactedTasks == null ? new ArrayList<>() : compactedTasks);
+
+        stores = updated;
+        sectionFailures = new HashMap<>();
+        containerFailure = null;
+        hasContainer = true;
+        taskListFormat = compactedTasks == null ? null : format;
+        snapshotSequence = sequence;
+        generation++;
+    }
+
+    /** Returns a storage for another container, with the same settings as this one. */
+    private ContainerStorage storageAt(Path filePath) {
+        requireNonNull(filePath);
+        return new ContainerStorage(filePath, format, journalCompactionThreshold, userPrefsStorage);
+    }
+
+    /** Returns the format that the section called {@code name} is written in. */
+    private StorageFormat formatOf(String name) {
+        return name.equals(TASK_LIST_SECTION) || name.equals(STATISTICS_SECTION)
+                ? format
+                : StorageFormat.JSON;
+    }
+
+    private void logConversion(String name) {
+        logger.info("Converting section " + name + " of " + filePath + " to " + format);
+    }
+
+    private void encodeTaskList(List<Task> tasks, OutputStream out) throws IOException {
+        if (format == StorageFormat.BINARY) {
+            BinaryTaskListStorage.write(tasks, out);
+        } else {
+            JsonTaskListCodec.write(tasks, out);
+        }
+    }
+
+    private TaskList decodeTaskList(StorageFormat sectionFormat, long length, InputStream payload)
+            throws DataConversionException {
+        String source = describe(TASK_LIST_SECTION);
+        return sectionFormat == StorageFormat.BINARY
+                ? BinaryTaskListStorage.read(payload, length, source)
+                : JsonTaskListCodec.read(payload, source);
+    }
+
+    private DataContainer.Payload encodeStatistics(ReadOnlyStatistics statistics)
+            throws IOException {
+        if (format == StorageFormat.BINARY) {
+            return new DataContainer.Payload(format, BinaryStatisticsStorage.toBytes(statistics));
+        }
+        return writeJson(new JsonSerializableDayDataList(statistics));
+    }
+
+    private ReadOnlyStatistics decodeStatistics(DataContainer.Payload payload)
+            throws DataConversionException {
+        if (payload.getFormat() == StorageFormat.BINARY) {
+            return BinaryStatisticsStorage.fromBytes(
+                    payload.getBytes(), describe(STATISTICS_SECTION));
+        }
+        try {
+            return readJson(STATISTICS_SECTION, payload, JsonSerializableDayDataList.class)
+                    .toModelType();
+        } catch (IllegalValueException ive) {
+            throw conversionFailure(STATISTICS_SECTION, ive);
+        }
+    }
+
+    private static DataContainer.Payload writeJson(Object adapted) throws IOException {
+        return new DataContainer.Payload(
+                StorageFormat.JSON,
+                JsonUtil.toJsonString(adapted).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private <T> T readJson(String name, DataContainer.Payload payload, Class<T> adaptedClass)
+            throws DataConversionException {
+        if (payload.getFormat() != StorageFormat.JSON) {
+            throw conversionFailure(
+                    name,
+                    new IllegalValueException(
+                            String.format(MESSAGE_UNSUPPORTED_FORMAT, name, payload.getFormat())));
+        }
+        try {
+            return JsonUtil.fromJsonString(
+                    new String(payload.getBytes(), StandardCharsets.UTF_8), adaptedClass);
+        } catch (IOException e) {
+            logger.warning("Error reading from " + describe(name) + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    private DataConversionException conversionFailure(String name, IllegalValueException ive) {
+        logger.info("Illegal values found in " + describe(name) + ": " + ive.getMessage());
+        return new DataConversionException(ive);
+    }
+
+    private String describe(String name) {
+        return "section " + name + " of " + filePath;
+    }
+}
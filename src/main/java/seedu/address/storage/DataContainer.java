@@ -0,0 +1,438 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * The single file that holds every store of the app. Each store is kept in a named section, whose
+ * payload is the contents the store would have as a file of its own. A container is laid out as
+ *
+ * <pre>
+ * magic (4 bytes) | format version (short) | journal sequence (long) | payload*
+ *     | section count (short) | directory entry* | directory offset (long)
+ * directory entry = name (string) | format (string) | payload offset (long)
+ *     | payload length (long) | CRC32 of payload (int)
+ * </pre>
+ *
+ * All numbers are big-endian, and strings are written as their UTF-8 length (int) followed by the
+ * UTF-8 bytes. The directory comes after the payloads, so that each payload is streamed into the
+ * file as it is encoded and streamed out of it as it is decoded, and is never held in memory as a
+ * whole. Every payload has its own CRC, so a corrupt section only loses the store in it.
+ *
+ * <p>A container is read by opening it, which reads its directory, and then reading the sections
+ * that are needed from the open file, one at a time, so that each can be read at its own pace.
+ */
+class DataContainer implements Closeable {
+
+    public static final String MAGIC = "PTDC";
+    public static final short FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_CORRUPT_SECTION = "Section %s of %s is corrupt";
+
+    private static final int HEADER_LENGTH = MAGIC.length() + Short.BYTES + Long.BYTES;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(DataContainer.class);
+
+    private final Path filePath;
+    private final FileChannel channel;
+    private final long journalSequence;
+    private final Map<String, Entry> entries;
+
+    private DataContainer(
+            Path filePath, FileChannel channel, long journalSequence, Map<String, Entry> entries) {
+        this.filePath = filePath;
+        this.channel = channel;
+        this.journalSequence = journalSequence;
+        this.entries = entries;
+    }
+
+    /** Writes the payload of a section. */
+    @FunctionalInterface
+    interface PayloadWriter {
+        void writeTo(OutputStream payload) throws IOException;
+    }
+
+    /** Decodes the payload of a section as it is read. */
+    @FunctionalInterface
+    interface SectionReader<T> {
+        /**
+         * Decodes the {@code length} bytes of {@code payload}, the contents of a section in {@code
+         * format}.
+         *
+         * @throws DataConversionException if the payload is not in {@code format}.
+         */
+        T read(StorageFormat format, long length, InputStream payload)
+                throws DataConversionException, IOException;
+    }
+
+    /** A section to be written: the contents of a single store in {@code format}. */
+    static class Section {
+        private final String name;
+        private final StorageFormat format;
+        private final PayloadWriter payload;
+
+        Section(String name, StorageFormat format, PayloadWriter payload) {
+            this.name = requireNonNull(name);
+            this.format = requireNonNull(format);
+            this.payload = requireNonNull(payload);
+        }
+    }
+
+    /** The payload of a small section held in memory, along with the format it is in. */
+    static class Payload {
+        private final StorageFormat format;
+        private final byte[] bytes;
+
+        Payload(StorageFormat format, byte[] bytes) {
+            this.format = requireNonNull(format);
+            this.bytes = requireNonNull(bytes);
+        }
+
+        public StorageFormat getFormat() {
+            return format;
+        }
+
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        /** Returns a section called {@code name} holding this payload. */
+        public Section toSection(String name) {
+            return new Section(name, format, out -> out.write(bytes));
+        }
+    }
+
+    /**
+     * Returns the sequence number of the last task list journal record included in the sections.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /** Returns the names of the sections, in the order they were written. */
+    public Set<String> getSectionNames() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Returns the format of the section called {@code name}, or {@code Optional.empty()} if there
+     * is no such section.
+     */
+    public Optional<StorageFormat> getFormat(String name) {
+        return Optional.ofNullable(entries.get(name)).map(entry -> entry.format);
+    }
+
+    /**
+     * Replaces the container at {@code filePath} with one holding {@code sections}, in a single
+     * atomic step. Each payload is streamed into the file as it is written.
+     */
+    public static void write(Path filePath, long journalSequence, List<Section> sections)
+            throws IOException {
+        requireNonNull(filePath);
+        FileUtil.writeAtomically(
+                filePath,
+                contents -> {
+                    DataOutputStream out = new DataOutputStream(contents);
+                    out.write(MAGIC.getBytes(StandardCharsets.US_ASCII));
+                    out.writeShort(FORMAT_VERSION);
+                    out.writeLong(journalSequence);
+
+                    BinaryFile.SectionWriter directory = BinaryFile.newSection();
+                    directory.writeShort(sections.size());
+                    long offset = HEADER_LENGTH;
+                    for (Section section : sections) {
+                        PayloadOutputStream payload = new PayloadOutputStream(out);
+                        section.payload.writeTo(payload);
+                        payload.flush();
+                        directory.writeString(section.name);
+                        directory.writeString(section.format.name());
+                        directory.writeLong(offset);
+                        directory.writeLong(payload.length);
+                        directory.writeInt((int) payload.crc.getValue());
+                        offset += payload.length;
+                    }
+                    out.write(directory.toByteArray());
+                    out.writeLong(offset);
+                    out.flush();
+                });
+    }
+
+    /**
+     * Opens the container at {@code filePath} and reads its directory. Returns the open container,
+     * which must be closed once its sections have been read, or {@code Optional.empty()} if the
+     * file is not found.
+     *
+     * @throws DataConversionException if the file is not a container, or its directory is
+     *     truncated.
+     */
+    public static Optional<DataContainer> open(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Data container " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        boolean isOpened = false;
+        try {
+            long size = channel.size();
+            DataInputStream header =
+                    new DataInputStream(new PayloadInputStream(channel, 0, size));
+            byte[] magic = new byte[MAGIC.length()];
+            header.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC.getBytes(StandardCharsets.US_ASCII))) {
+                throw new IllegalValueException(
+                        String.format(BinaryFile.MESSAGE_WRONG_MAGIC, filePath, MAGIC));
+            }
+            short version = header.readShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(
+                        String.format(BinaryFile.MESSAGE_UNSUPPORTED_VERSION, filePath, version));
+            }
+            long journalSequence = header.readLong();
+            Map<String, Entry> entries = new LinkedHashMap<>();
+            for (Entry entry : readDirectory(channel, size)) {
+                entries.put(entry.name, entry);
+            }
+            isOpened = true;
+            return Optional.of(new DataContainer(filePath, channel, journalSequence, entries));
+        } catch (EOFException e) {
+            logger.warning("Error reading from data container " + filePath + ": " + e);
+            throw new DataConversionException(
+                    new IllegalValueException(
+                            String.format(BinaryFile.MESSAGE_TRUNCATED, filePath), e));
+        } catch (IllegalArgumentException | IllegalValueException e) {
+            logger.warning("Error reading from data container " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } finally {
+            if (!isOpened) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Hands the payload of the section called {@code name} to {@code reader} as a stream, and
+     * returns what the reader made of it. The payload is checked against its CRC once the reader
+     * is done with it.
+     *
+     * @throws DataConversionException if the reader cannot decode the section, fails while reading
+     *     it, or the payload does not match its CRC.
+     */
+    public <T> T read(String name, SectionReader<T> reader) throws DataConversionException {
+        requireNonNull(reader);
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("No section " + name + " in " + filePath);
+        }
+
+        CheckedInputStream checked =
+                new CheckedInputStream(
+                        new PayloadInputStream(channel, entry.offset, entry.offset + entry.length),
+                        new CRC32());
+        T result = null;
+        DataConversionException failure = null;
+        try {
+            InputStream payload = new BufferedInputStream(checked, BUFFER_SIZE);
+            result = reader.read(entry.format, entry.length, payload);
+        } catch (DataConversionException e) {
+            failure = e;
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Error reading section " + name + " of " + filePath + ": " + e);
+            failure = new DataConversionException(e);
+        }
+        try {
+            // The CRC covers the whole payload, including whatever the reader did not need
+            checked.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            logger.warning("Error reading section " + name + " of " + filePath + ": " + e);
+            throw failure != null ? failure : new DataConversionException(e);
+        }
+
+        if ((int) checked.getChecksum().getValue() != entry.checksum) {
+            String message = String.format(MESSAGE_CORRUPT_SECTION, name, filePath);
+            logger.warning(message);
+            throw new DataConversionException(new IllegalValueException(message));
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /** Reads the directory at the end of a container. */
+    private static List<Entry> readDirectory(FileChannel channel, long size)
+            throws IOException, IllegalValueException {
+        if (size < HEADER_LENGTH + Short.BYTES + Long.BYTES) {
+            throw new EOFException("Directory offset is missing");
+        }
+        ByteBuffer trailer = ByteBuffer.allocate(Long.BYTES);
+        readFully(channel, trailer, size - Long.BYTES);
+        long directoryOffset = trailer.getLong(0);
+        if (directoryOffset < HEADER_LENGTH || directoryOffset > size - Long.BYTES) {
+            throw new EOFException("Directory offset " + directoryOffset + " is out of range");
+        }
+
+        DataInputStream in =
+                new DataInputStream(
+                        new BufferedInputStream(
+                                new PayloadInputStream(
+                                        channel, directoryOffset, size - Long.BYTES)));
+        int sectionCount = in.readUnsignedShort();
+        List<Entry> entries = new ArrayList<>(sectionCount);
+        for (int i = 0; i < sectionCount; i++) {
+            String name = readString(in, size);
+            StorageFormat format = StorageFormat.fromName(readString(in, size));
+            long offset = in.readLong();
+            long length = in.readLong();
+            if (offset < HEADER_LENGTH || length < 0 || length > directoryOffset - offset) {
+                throw new EOFException("Section " + name + " is truncated");
+            }
+            entries.add(new Entry(name, format, offset, length, in.readInt()));
+        }
+        return entries;
+    }
+
+    private static String readString(DataInputStream in, long size) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > size) {
+            throw new EOFException("String of " + length + " bytes does not fit the container");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Container ends at " + (position + buffer.position()));
+            }
+        }
+    }
+
+    /** The directory entry of a section that is being read. */
+    private static class Entry {
+        private final String name;
+        private final StorageFormat format;
+        private final long offset;
+        private final long length;
+        private final int checksum;
+
+        Entry(String name, StorageFormat format, long offset, long length, int checksum) {
+            this.name = name;
+            this.format = format;
+            this.offset = offset;
+            this.length = length;
+            this.checksum = checksum;
+        }
+    }
+
+    /**
+     * Reads the bytes of a channel between two positions, without moving the channel. Closing it
+     * leaves the channel open, as that belongs to the container being read.
+     */
+    private static class PayloadInputStream extends InputStream {
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        PayloadInputStream(FileChannel channel, long start, long end) {
+            this.channel = channel;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : Byte.toUnsignedInt(single[0]);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, (int) Math.min(len, end - position));
+            int count = channel.read(buffer, position);
+            if (count < 0) {
+                throw new EOFException("Container ends at " + position);
+            }
+            position += count;
+            return count;
+        }
+    }
+
+    /**
+     * Passes a payload on to the container file while working out its length and CRC. Closing it
+     * only flushes, so that a codec that closes its stream does not close the file.
+     */
+    private static class PayloadOutputStream extends FilterOutputStream {
+        private final CRC32 crc = new CRC32();
+        private long length;
+
+        PayloadOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            crc.update(b);
+            length++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            crc.update(b, off, len);
+            length += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access TaskList data stored as a json snapshot plus an append-only journal of the
+ * changes made since. Saving appends only the tasks that were added, replaced or removed since the
+ * last save; once the journal would hold more than {@code compactionThreshold} records, or the
+ * tasks were reordered, the snapshot is rewritten and the journal is cleared. See {@link
+ * TaskListJournal} for how torn records are handled.
+ */
+public class JournaledTaskListStorage implements TaskListStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTaskListStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final TaskListJournal journal;
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath} that compacts its journal after {@code
+     * compactionThreshold} records.
+     */
+    public JournaledTaskListStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.journal = new TaskListJournal(getJournalFilePath(filePath), compactionThreshold);
+    }
+
+    public Path getTaskListFilePath() {
+        return filePath;
+    }
+
+    /** Returns the journal file used for the snapshot at {@code filePath}. */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskList> readTaskList() throws DataConversionException, IOException {
+        return readTaskList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskList()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot is not in the correct format, or the journal
+     *     does not apply to it.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTaskList> readTaskList(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        // Other locations are read through a journal of their own, so that this one keeps its state
+        TaskListJournal journal =
+                filePath.equals(this.filePath)
+                        ? this.journal
+                        : new TaskListJournal(getJournalFilePath(filePath), compactionThreshold);
+        Optional<JsonTaskListCodec.DecodedTaskList> snapshot = JsonTaskListCodec.read(filePath);
+        if (!snapshot.isPresent() && !journal.exists()) {
+            return Optional.empty();
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        long sequence = 0;
+        if (snapshot.isPresent()) {
+            tasks.addAll(snapshot.get().getTaskList().getTaskList());
+            sequence = snapshot.get().getJournalSequence();
+        }
+        try {
+            tasks = journal.replay(tasks, sequence);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return Optional.of(toTaskList(tasks));
+    }
+
+    /**
+     * Returns a task list holding {@code tasks}.
+     *
+     * @throws DataConversionException if {@code tasks} holds duplicates.
+     */
+    static TaskList toTaskList(List<Task> tasks) throws DataConversionException {
+        TaskList taskList = new TaskList();
+        for (Task task : tasks) {
+            if (taskList.hasTask(task) || taskList.hasTaskId(task.getId())) {
+                throw new DataConversionException(
+                        new IllegalValueException(JsonSerializableTaskList.MESSAGE_DUPLICATE_TASK));
+            }
+            taskList.addTask(task);
+        }
+        return taskList;
+    }
+
+    @Override
+    public void saveTaskList(ReadOnlyTaskList taskList) throws IOException {
+        saveTaskList(taskList, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskList(ReadOnlyTaskList)}. Only {@link #getTaskListFilePath()} is
+     * journaled; other locations always receive a full snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveTaskList(ReadOnlyTaskList taskList, Path filePath)
+            throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(filePath);
+
+        List<Task> tasks = taskList.getTaskList();
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(tasks, filePath, 0);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return;
+        }
+
+        if (journal.append(tasks)) {
+            return;
+        }
+
+        logger.fine("Compacting journal of " + filePath);
+        journal.beforeCompaction();
+        writeSnapshot(tasks, filePath, journal.getLastSequence());
+        journal.compacted(tasks);
+    }
+
+    private static void writeSnapshot(List<Task> tasks, Path filePath, long journalSequence)
+            throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.setTasks(tasks);
+        FileUtil.createIfMissing(filePath);
+        JsonTaskListCodec.write(taskList, journalSequence, filePath);
+    }
+}
@@ -2,7 +2,9 @@ package seedu.address.storage;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDate;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.Statistics;
 import seedu.address.model.dayData.Date;
 import seedu.address.model.dayData.DayData;
 import seedu.address.model.dayData.PomDurationData;
@@ -28,20 +30,20 @@ class JsonAdaptedDayData {
         this.tasksDoneData = tasksDoneData;
     }
 
-    /** Converts a given {@code Task} into this class for Jackson use. */
-    public JsonAdaptedDayData(DayData source) {
-        date = source.getDate().value;
-        pomDurationData = source.getPomDurationData().value;
-        tasksDoneData = source.getTasksDoneData().value;
+    /** Converts the record of a day in the statistics into this class for Jackson use. */
+    public JsonAdaptedDayData(long epochDay, int pomDuration, int tasksDone) {
+        date = LocalDate.ofEpochDay(epochDay).toString();
+        pomDurationData = String.valueOf(pomDuration);
+        tasksDoneData = String.valueOf(tasksDone);
     }
 
     /**
-     * Converts this Jackson-friendly adapted person object into the model's {@code DayData} object.
+     * Records this Jackson-friendly adapted day in {@code statistics}.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted
-     *     person.
+     *     day.
      */
-    public DayData toModelType() throws IllegalValueException {
+    public void addTo(Statistics statistics) throws IllegalValueException {
         if (date == null) {
             throw new IllegalValueException(
                     String.format(MISSING_FIELD_MESSAGE_FORMAT, Date.class.getSimpleName()));
@@ -49,7 +51,6 @@ class JsonAdaptedDayData {
         if (!Date.isValidDate(date)) {
             throw new IllegalValueException(Date.MESSAGE_CONSTRAINTS);
         }
-        final Date modelDate = new Date(date);
 
         if (pomDurationData == null) {
             throw new IllegalValueException(
@@ -59,7 +60,6 @@ class JsonAdaptedDayData {
         if (!PomDurationData.isValidPomDurationData(pomDurationData)) {
             throw new IllegalValueException(PomDurationData.MESSAGE_CONSTRAINTS);
         }
-        final PomDurationData modelPomDurationData = new PomDurationData(pomDurationData);
 
         if (tasksDoneData == null) {
             throw new IllegalValueException(
@@ -69,8 +69,10 @@ class JsonAdaptedDayData {
         if (!TasksDoneData.isValidTasksDoneData(tasksDoneData)) {
             throw new IllegalValueException(TasksDoneData.MESSAGE_CONSTRAINTS);
         }
-        final TasksDoneData modelTasksDoneData = new TasksDoneData(tasksDoneData);
 
-        return new DayData(modelDate, modelPomDurationData, modelTasksDoneData);
+        statistics.setDay(
+                LocalDate.parse(date),
+                Integer.parseInt(pomDurationData),
+                Integer.parseInt(tasksDoneData));
     }
 }
@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.task.Task;
+
+/**
+ * Jackson-friendly version of a single change to the task list, as stored in the task list journal.
+ * A record can also hold the new contents of another store that is saved along with the task list.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record %d cannot be applied!";
+
+    /** The kinds of change that can be journaled. */
+    enum Type {
+        ADD,
+        SET,
+        REMOVE,
+        STORE
+    }
+
+    private final long sequence;
+    private final Type type;
+    private final int index;
+    private final JsonAdaptedTask task;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String store;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String format;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final byte[] payload;
+
+    /** Constructs a {@code JsonAdaptedJournalRecord} with the given details. */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(
+            @JsonProperty("sequence") long sequence,
+            @JsonProperty("type") Type type,
+            @JsonProperty("index") int index,
+            @JsonProperty("task") JsonAdaptedTask task,
+            @JsonProperty("store") String store,
+            @JsonProperty("format") String format,
+            @JsonProperty("payload") byte[] payload) {
+        this.sequence = sequence;
+        this.type = type;
+        this.index = index;
+        this.task = task;
+        this.store = store;
+        this.format = format;
+        this.payload = payload;
+    }
+
+    /** Returns a record that inserts {@code task} at {@code index}. */
+    public static JsonAdaptedJournalRecord add(long sequence, int index, Task task) {
+        return new JsonAdaptedJournalRecord(
+                sequence, Type.ADD, index, new JsonAdaptedTask(task), null, null, null);
+    }
+
+    /** Returns a record that replaces the task at {@code index} with {@code task}. */
+    public static JsonAdaptedJournalRecord set(long sequence, int index, Task task) {
+        return new JsonAdaptedJournalRecord(
+                sequence, Type.SET, index, new JsonAdaptedTask(task), null, null, null);
+    }
+
+    /** Returns a record that removes the task at {@code index}. */
+    public static JsonAdaptedJournalRecord remove(long sequence, int index) {
+        return new JsonAdaptedJournalRecord(sequence, Type.REMOVE, index, null, null, null, null);
+    }
+
+    /** Returns a record that replaces the contents of the store called {@code store}. */
+    public static JsonAdaptedJournalRecord store(
+            long sequence, String store, DataContainer.Payload payload) {
+        return new JsonAdaptedJournalRecord(
+                sequence,
+                Type.STORE,
+                0,
+                null,
+                store,
+                payload.getFormat().name(),
+                payload.getBytes());
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /** Returns true if this record holds the contents of a store rather than a task change. */
+    public boolean isStore() {
+        return type == Type.STORE;
+    }
+
+    public String getStore() {
+        return store;
+    }
+
+    /**
+     * Returns the contents of the store held by this record.
+     *
+     * @throws IllegalValueException if the record is incomplete or its format is unknown.
+     */
+    public DataContainer.Payload toPayload() throws IllegalValueException {
+        if (!isStore() || store == null || format == null || payload == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, sequence));
+        }
+        try {
+            return new DataContainer.Payload(StorageFormat.fromName(format), payload);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, sequence), e);
+        }
+    }
+
+    /**
+     * Applies this change to {@code tasks}.
+     *
+     * @throws IllegalValueException if the record is incomplete or does not fit {@code tasks}.
+     */
+    public void applyTo(List<Task> tasks) throws IllegalValueException {
+        if (type == null || type == Type.STORE) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, sequence));
+        }
+        int size = type == Type.ADD ? tasks.size() + 1 : tasks.size();
+        if (index < 0 || index >= size || (type != Type.REMOVE && task == null)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, sequence));
+        }
+
+        switch (type) {
+            case ADD:
+                tasks.add(index, task.toModelType());
+                break;
+            case SET:
+                tasks.set(index, task.toModelType());
+                break;
+            case REMOVE:
+                tasks.remove(index);
+                break;
+            default:
+                throw new AssertionError(type);
+        }
+    }
+}
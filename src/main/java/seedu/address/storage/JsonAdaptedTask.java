@@ -1,10 +1,14 @@
 package seedu.address.storage;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -19,40 +23,82 @@ import seedu.address.model.task.Task;
 class JsonAdaptedTask {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Task's %s field is missing!";
+    public static final String INVALID_DONE_ON_MESSAGE =
+            "Task's done date should be a date in the format yyyy-MM-dd, on a done task";
+
+    // Tasks saved before ids were stored have none, and are given a new one when read
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long id;
 
     private final String name;
     private final String priority;
     private final String description;
     private final String done;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String doneOn;
+
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /** Constructs a {@code JsonAdaptedTask} with the given person details. */
     @JsonCreator
     public JsonAdaptedTask(
+            @JsonProperty("id") Long id,
             @JsonProperty("name") String name,
             @JsonProperty("priority") String priority,
             @JsonProperty("description") String description,
             @JsonProperty("done") String done,
+            @JsonProperty("doneOn") String doneOn,
             @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.name = name;
         this.priority = priority;
         this.description = description;
         this.done = done;
+        this.doneOn = doneOn;
         if (tagged != null) {
             this.tagged.addAll(tagged);
         }
     }
 
+    /** Constructs a {@code JsonAdaptedTask} for a task without an id. */
+    public JsonAdaptedTask(
+            String name,
+            String priority,
+            String description,
+            String done,
+            String doneOn,
+            List<JsonAdaptedTag> tagged) {
+        this(null, name, priority, description, done, doneOn, tagged);
+    }
+
+    /** Constructs a {@code JsonAdaptedTask} for a task whose done date is not known. */
+    public JsonAdaptedTask(
+            String name,
+            String priority,
+            String description,
+            String done,
+            List<JsonAdaptedTag> tagged) {
+        this(name, priority, description, done, null, tagged);
+    }
+
     /** Converts a given {@code Task} into this class for Jackson use. */
     public JsonAdaptedTask(Task source) {
+        id = source.getId();
         name = source.getName().fullName;
         priority = source.getPriority().value;
         description = source.getDescription().value;
         done = source.getDone().toString();
+        doneOn = source.getDone().getDoneOn().map(LocalDate::toString).orElse(null);
         tagged.addAll(
                 source.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList()));
     }
 
+    /** Returns a copy of this task without its id, so that it becomes a new task when read. */
+    public JsonAdaptedTask withoutId() {
+        return new JsonAdaptedTask(null, name, priority, description, done, doneOn, tagged);
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Task} object.
      *
@@ -81,7 +127,7 @@ class JsonAdaptedTask {
         if (!Priority.isValidPriority(priority)) {
             throw new IllegalValueException(Priority.MESSAGE_CONSTRAINTS);
         }
-        final Priority modelPriority = new Priority(priority);
+        final Priority modelPriority = Priority.of(priority);
 
         if (description == null) {
             throw new IllegalValueException(
@@ -92,12 +138,35 @@ class JsonAdaptedTask {
         }
         final Description modelDescription = new Description(description);
 
-        if (!Done.isValidDone(done)) {
+        // Tasks written before done was recorded are not done
+        final String isDone = done == null ? Done.NOT_DONE : done;
+        if (!Done.isValidDone(isDone)) {
             throw new IllegalValueException(Done.MESSAGE_CONSTRAINTS);
         }
-        final Done modelDone = new Done(done);
+        final Done modelDone;
+        if (doneOn == null) {
+            modelDone = Done.of(isDone);
+        } else if (!isDone.equals(Done.DONE)) {
+            throw new IllegalValueException(INVALID_DONE_ON_MESSAGE);
+        } else {
+            try {
+                modelDone = Done.of(LocalDate.parse(doneOn));
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(INVALID_DONE_ON_MESSAGE, e);
+            }
+        }
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Task(modelName, modelPriority, modelDescription, modelDone, modelTags);
+        if (id == null) {
+            return new Task(modelName, modelPriority, modelDescription, modelDone, modelTags);
+        }
+        return new Task(
+                id,
+                modelName,
+                modelPriority,
+                modelDescription,
+                modelDone,
+                modelTags,
+                Optional.empty());
     }
 }
@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTaskArchive;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access the archive of done tasks stored as a file on the hard disk. The archive is
+ * only ever appended to: every task is one line of json, prefixed with its CRC32, so saving a task
+ * never reads or rewrites the tasks archived before it. A task taken back out of the archive, by
+ * undoing the move, is appended as a line with its id that cancels the task's earlier line. A line
+ * that is corrupt, e.g. because it was only partly written when the app was killed, loses only the
+ * task on it.
+ */
+public class JsonArchiveStorage implements ArchiveStorage {
+
+    public static final String ARCHIVE_FILE_SUFFIX = ".archive";
+
+    private static final String UNARCHIVED_PREFIX = "unarchived ";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonArchiveStorage.class);
+
+    private final Path filePath;
+
+    // The length of the file before this storage first appended to it, or -1 if not known yet
+    private long storedLength = -1;
+    // The position among the newly archived tasks of each one that has been appended, and not
+    // taken out or dropped from the archive since, by task id
+    private final Map<Long, Integer> savedPositions = new HashMap<>();
+    private boolean hasAppended;
+
+    public JsonArchiveStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /** Returns the archive file used next to the data file at {@code dataFilePath}. */
+    public static Path getArchiveFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + ARCHIVE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getArchiveFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized List<Task> readArchive() throws IOException {
+        if (!Files.exists(filePath)) {
+            logger.info("Archive file " + filePath + " not found");
+            return Collections.emptyList();
+        }
+
+        String archive = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+
+        List<Task> tasks = new ArrayList<>();
+        int corruptLines = 0;
+        for (String line : archive.split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            Optional<String> lineContents = ChecksummedLines.parse(line);
+            Optional<Long> unarchivedId =
+                    lineContents.flatMap(JsonArchiveStorage::parseUnarchivedId);
+            if (unarchivedId.isPresent()) {
+                long id = unarchivedId.get();
+                tasks.removeIf(task -> task.getId() == id);
+                continue;
+            }
+            Optional<Task> task = lineContents.flatMap(JsonArchiveStorage::parseTask);
+            if (task.isPresent()) {
+                tasks.add(task.get());
+            } else {
+                corruptLines++;
+            }
+        }
+        if (corruptLines > 0) {
+            logger.warning("Skipped " + corruptLines + " corrupt tasks in " + filePath);
+        }
+        return tasks;
+    }
+
+    @Override
+    public synchronized void saveArchive(ReadOnlyTaskArchive archive) throws IOException {
+        requireNonNull(archive);
+        forgetDroppedTasks(archive);
+        StringBuilder lines = new StringBuilder();
+        Map<Long, Integer> appendedPositions = new HashMap<>();
+        List<Task> tasks = archive.getNewlyArchivedTasks();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (!savedPositions.containsKey(task.getId())) {
+                lines.append(
+                        ChecksummedLines.format(
+                                JsonUtil.toCompactJsonString(new JsonAdaptedTask(task))));
+                appendedPositions.put(task.getId(), archive.getDroppedTaskCount() + i);
+            }
+        }
+        if (appendedPositions.isEmpty()) {
+            return;
+        }
+        append(lines);
+        savedPositions.putAll(appendedPositions);
+    }
+
+    @Override
+    public synchronized void saveArchiveRemovals(ReadOnlyTaskArchive archive) throws IOException {
+        requireNonNull(archive);
+        forgetDroppedTasks(archive);
+        Set<Long> removedIds = new HashSet<>(savedPositions.keySet());
+        for (Task task : archive.getNewlyArchivedTasks()) {
+            removedIds.remove(task.getId());
+        }
+        if (removedIds.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (long id : removedIds) {
+            lines.append(ChecksummedLines.format(UNARCHIVED_PREFIX + id));
+        }
+        append(lines);
+        savedPositions.keySet().removeAll(removedIds);
+    }
+
+    /**
+     * Forgets the saved tasks that {@code archive} dropped from memory, as they can no longer be
+     * taken back out of it.
+     */
+    private void forgetDroppedTasks(ReadOnlyTaskArchive archive) {
+        savedPositions.values().removeIf(position -> position < archive.getDroppedTaskCount());
+    }
+
+    private void append(StringBuilder lines) throws IOException {
+        if (getStoredLength() > 0 && !hasAppended && !endsWithLineBreak()) {
+            // Keep a torn last line on its own, so it does not corrupt the next line too
+            lines.insert(0, '\n');
+        }
+        FileUtil.append(filePath, lines.toString().getBytes(StandardCharsets.UTF_8));
+        hasAppended = true;
+    }
+
+    private long getStoredLength() throws IOException {
+        if (storedLength < 0) {
+            storedLength = Files.exists(filePath) ? Files.size(filePath) : 0;
+        }
+        return storedLength;
+    }
+
+    private boolean endsWithLineBreak() throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath)) {
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.read(lastByte, channel.size() - 1);
+            return lastByte.get(0) == '\n';
+        }
+    }
+
+    private static Optional<Long> parseUnarchivedId(String contents) {
+        if (!contents.startsWith(UNARCHIVED_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(contents.substring(UNARCHIVED_PREFIX.length())));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Task> parseTask(String json) {
+        try {
+            return Optional.of(JsonUtil.fromJsonString(json, JsonAdaptedTask.class).toModelType());
+        } catch (IOException | IllegalValueException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -5,11 +5,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyStatistics;
 import seedu.address.model.Statistics;
-import seedu.address.model.dayData.DayData;
 
 /** An Immutable TaskList that is serializable to JSON format. */
 @JsonRootName(value = "statistics")
@@ -31,11 +29,9 @@ class JsonSerializableDayDataList {
      *     JsonSerializableTaskList}.
      */
     public JsonSerializableDayDataList(ReadOnlyStatistics source) {
-        dayDatas.addAll(
-                source.getDayDataList()
-                        .stream()
-                        .map(JsonAdaptedDayData::new)
-                        .collect(Collectors.toList()));
+        source.forEachDay(
+                (epochDay, pomDuration, tasksDone) ->
+                        dayDatas.add(new JsonAdaptedDayData(epochDay, pomDuration, tasksDone)));
     }
 
     /**
@@ -44,11 +40,10 @@ class JsonSerializableDayDataList {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Statistics toModelType() throws IllegalValueException {
-        Statistics dayDataList = new Statistics();
+        Statistics statistics = new Statistics();
         for (JsonAdaptedDayData jsonAdaptedDayData : dayDatas) {
-            DayData dayData = jsonAdaptedDayData.toModelType();
-            dayDataList.addDayData(dayData);
+            jsonAdaptedDayData.addTo(statistics);
         }
-        return dayDataList;
+        return statistics;
     }
 }
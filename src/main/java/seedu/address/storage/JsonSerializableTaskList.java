@@ -18,11 +18,19 @@ class JsonSerializableTaskList {
     public static final String MESSAGE_DUPLICATE_TASK = "Tasks list contains duplicate task(s).";
 
     private final List<JsonAdaptedTask> tasks = new ArrayList<>();
+    private final long journalSequence;
 
-    /** Constructs a {@code JsonSerializableTaskList} with the given tasks. */
+    /**
+     * Constructs a {@code JsonSerializableTaskList} with the given tasks. {@code journalSequence}
+     * is the sequence number of the last journal record already included in the tasks, and may be
+     * missing from files that were never journaled.
+     */
     @JsonCreator
-    public JsonSerializableTaskList(@JsonProperty("tasks") List<JsonAdaptedTask> tasks) {
+    public JsonSerializableTaskList(
+            @JsonProperty("tasks") List<JsonAdaptedTask> tasks,
+            @JsonProperty("journalSequence") Long journalSequence) {
         this.tasks.addAll(tasks);
+        this.journalSequence = journalSequence == null ? 0 : journalSequence;
     }
 
     /**
@@ -32,11 +40,24 @@ class JsonSerializableTaskList {
      *     JsonSerializableTaskList}.
      */
     public JsonSerializableTaskList(ReadOnlyTaskList source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyTaskList} that includes every journal record up to {@code
+     * journalSequence} into this class for Jackson use.
+     */
+    public JsonSerializableTaskList(ReadOnlyTaskList source, long journalSequence) {
         tasks.addAll(
-                source.getTaskList()
-                        .stream()
+                source.getTaskList().stream()
                         .map(JsonAdaptedTask::new)
                         .collect(Collectors.toList()));
+        this.journalSequence = journalSequence;
+    }
+
+    /** Returns the sequence number of the last journal record included in this task list. */
+    public long getJournalSequence() {
+        return journalSequence;
     }
 
     /**
@@ -48,7 +69,7 @@ class JsonSerializableTaskList {
         TaskList taskList = new TaskList();
         for (JsonAdaptedTask jsonAdaptedTask : tasks) {
             Task task = jsonAdaptedTask.toModelType();
-            if (taskList.hasTask(task)) {
+            if (taskList.hasTask(task) || taskList.hasTaskId(task.getId())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
             }
             taskList.addTask(task);
@@ -0,0 +1,250 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+
+/**
+ * Reads and writes task list files in the format of {@link JsonSerializableTaskList} one task at a
+ * time, so that neither the file contents nor the list of {@link JsonAdaptedTask} are ever held in
+ * memory as a whole.
+ */
+class JsonTaskListCodec {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Expected a JSON object at %s";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonTaskListCodec.class);
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private JsonTaskListCodec() {}
+
+    /** A task list read from a file, along with the journal sequence number stored with it. */
+    static class DecodedTaskList {
+        private final TaskList taskList;
+        private final long journalSequence;
+
+        DecodedTaskList(TaskList taskList, long journalSequence) {
+            this.taskList = taskList;
+            this.journalSequence = journalSequence;
+        }
+
+        public TaskList getTaskList() {
+            return taskList;
+        }
+
+        public long getJournalSequence() {
+            return journalSequence;
+        }
+    }
+
+    /**
+     * Returns the task list stored at {@code filePath}, or {@code Optional.empty()} if the file is
+     * not found.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static Optional<DecodedTaskList> read(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+                JsonParser parser = jsonFactory.createParser(in)) {
+            return Optional.of(readTaskList(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Writes {@code taskList} to {@code filePath}, overwriting any existing file.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void write(ReadOnlyTaskList taskList, long journalSequence, Path filePath)
+            throws IOException {
+        requireNonNull(taskList);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomically(
+                filePath, out -> write(taskList.getTaskList(), journalSequence, out));
+    }
+
+    /**
+     * Returns the task list stored in {@code in}, the contents of a task list file read from {@code
+     * source}. The stream is read up to the end of the task list object.
+     *
+     * @throws DataConversionException if the contents are not in the correct format.
+     */
+    public static TaskList read(InputStream in, String source) throws DataConversionException {
+        requireNonNull(in);
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            return readTaskList(parser).getTaskList();
+        } catch (IOException e) {
+            logger.warning("Error reading from " + source + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + source + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /** Writes the contents of a task list file holding {@code tasks} to {@code out}. */
+    public static void write(List<Task> tasks, OutputStream out) throws IOException {
+        requireNonNull(tasks);
+        write(tasks, 0, out);
+    }
+
+    private static void write(List<Task> tasks, long journalSequence, OutputStream out)
+            throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.setPrettyPrinter(new DefaultPrettyPrinter());
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("tasks");
+            for (Task task : tasks) {
+                writeTask(generator, task);
+            }
+            generator.writeEndArray();
+            generator.writeNumberField("journalSequence", journalSequence);
+            generator.writeEndObject();
+        }
+    }
+
+    private static DecodedTaskList readTaskList(JsonParser parser)
+            throws IOException, IllegalValueException {
+        TaskList taskList = new TaskList();
+        long journalSequence = 0;
+
+        expectStartObject(parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (field.equals("tasks") && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    Task task = readTask(parser).toModelType();
+                    if (taskList.hasTask(task) || taskList.hasTaskId(task.getId())) {
+                        throw new IllegalValueException(
+                                JsonSerializableTaskList.MESSAGE_DUPLICATE_TASK);
+                    }
+                    taskList.addTask(task);
+                }
+            } else if (field.equals("journalSequence") && value.isNumeric()) {
+                journalSequence = parser.getLongValue();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new DecodedTaskList(taskList, journalSequence);
+    }
+
+    /** Reads the task object that {@code parser} is positioned at. */
+    private static JsonAdaptedTask readTask(JsonParser parser)
+            throws IOException, IllegalValueException {
+        Long id = null;
+        String name = null;
+        String priority = null;
+        String description = null;
+        String done = null;
+        String doneOn = null;
+        List<JsonAdaptedTag> tagged = new ArrayList<>();
+
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_NOT_AN_OBJECT, parser.getCurrentLocation()));
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id":
+                    if (value.isNumeric()) {
+                        id = parser.getLongValue();
+                    }
+                    break;
+                case "name":
+                    name = parser.getValueAsString();
+                    break;
+                case "priority":
+                    priority = parser.getValueAsString();
+                    break;
+                case "description":
+                    description = parser.getValueAsString();
+                    break;
+                case "done":
+                    done = parser.getValueAsString();
+                    break;
+                case "doneOn":
+                    doneOn = parser.getValueAsString();
+                    break;
+                case "tagged":
+                    if (value == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            tagged.add(new JsonAdaptedTag(parser.getValueAsString()));
+                        }
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return new JsonAdaptedTask(id, name, priority, description, done, doneOn, tagged);
+    }
+
+    private static void writeTask(JsonGenerator generator, Task task) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", task.getId());
+        generator.writeStringField("name", task.getName().fullName);
+        generator.writeStringField("priority", task.getPriority().value);
+        generator.writeStringField("description", task.getDescription().value);
+        generator.writeStringField("done", task.getDone().toString());
+        if (task.getDone().getDoneOn().isPresent()) {
+            generator.writeStringField("doneOn", task.getDone().getDoneOn().get().toString());
+        }
+        generator.writeArrayFieldStart("tagged");
+        for (Tag tag : task.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void expectStartObject(JsonParser parser)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_NOT_AN_OBJECT, parser.getCurrentLocation()));
+        }
+    }
+}
@@ -5,19 +5,13 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
-import java.util.logging.Logger;
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyTaskList;
 
 /** A class to access TaskList data stored as a json file on the hard disk. */
 public class JsonTaskListStorage implements TaskListStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonTaskListStorage.class);
-
     private Path filePath;
 
     public JsonTaskListStorage(Path filePath) {
@@ -42,18 +36,7 @@ public class JsonTaskListStorage implements TaskListStorage {
     public Optional<ReadOnlyTaskList> readTaskList(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTaskList> jsonTaskList =
-                JsonUtil.readJsonFile(filePath, JsonSerializableTaskList.class);
-        if (!jsonTaskList.isPresent()) {
-            return Optional.empty();
-        }
-
-        try {
-            return Optional.of(jsonTaskList.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        return JsonTaskListCodec.read(filePath).map(JsonTaskListCodec.DecodedTaskList::getTaskList);
     }
 
     @Override
@@ -71,6 +54,6 @@ public class JsonTaskListStorage implements TaskListStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTaskList(taskList), filePath);
+        JsonTaskListCodec.write(taskList, 0, filePath);
     }
 }
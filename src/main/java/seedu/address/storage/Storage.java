@@ -4,13 +4,21 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyPet;
+import seedu.address.model.ReadOnlyPomodoro;
+import seedu.address.model.ReadOnlyStatistics;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 /** API of the Storage component */
 public interface Storage
-        extends TaskListStorage, UserPrefsStorage, PetStorage, PomodoroStorage, StatisticsStorage {
+        extends TaskListStorage,
+                UserPrefsStorage,
+                PetStorage,
+                PomodoroStorage,
+                StatisticsStorage,
+                ArchiveStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -26,4 +34,16 @@ public interface Storage
 
     @Override
     void saveTaskList(ReadOnlyTaskList taskList) throws IOException;
+
+    /**
+     * Saves the given stores together. A {@code null} store has not changed and is not saved.
+     *
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void saveAll(
+            ReadOnlyTaskList taskList,
+            ReadOnlyPet pet,
+            ReadOnlyPomodoro pomodoro,
+            ReadOnlyStatistics statistics)
+            throws IOException;
 }
@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyPet;
+import seedu.address.model.ReadOnlyPomodoro;
+import seedu.address.model.ReadOnlyStatistics;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.ReadOnlyUserPrefs;
+
+/**
+ * Creates the task list and statistics storages for a {@link StorageFormat}, and moves the data in
+ * the separate files used before {@link ContainerStorage} into a container.
+ */
+public class StorageConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(StorageConverter.class);
+
+    private StorageConverter() {}
+
+    /** Returns a storage for the task list at {@code filePath} in {@code format}. */
+    public static TaskListStorage createTaskListStorage(
+            StorageFormat format, Path filePath, int journalCompactionThreshold) {
+        requireNonNull(format);
+        switch (format) {
+            case BINARY:
+                return new BinaryTaskListStorage(filePath);
+            case JSON:
+                return new JournaledTaskListStorage(filePath, journalCompactionThreshold);
+            default:
+                throw new AssertionError(format);
+        }
+    }
+
+    /** Returns a storage for the statistics at {@code filePath} in {@code format}. */
+    public static StatisticsStorage createStatisticsStorage(StorageFormat format, Path filePath) {
+        requireNonNull(format);
+        switch (format) {
+            case BINARY:
+                return new BinaryStatisticsStorage(filePath);
+            case JSON:
+                return new JsonStatisticsStorage(filePath);
+            default:
+                throw new AssertionError(format);
+        }
+    }
+
+    /**
+     * Moves the data in the separate task list, pet, pomodoro and statistics files named in {@code
+     * userPrefs} into {@code container} with a single save, if the container does not exist yet.
+     * The task list and statistics are read from whichever format was saved last. A store whose
+     * file is missing or cannot be read is left out, so it starts out as it did before. The
+     * separate files are left in place. Returns true if any data was moved.
+     *
+     * @throws IOException if the container cannot be written.
+     */
+    public static boolean migrateToContainer(
+            ReadOnlyUserPrefs userPrefs, ContainerStorage container) throws IOException {
+        requireNonNull(userPrefs);
+        requireNonNull(container);
+        if (container.exists()) {
+            return false;
+        }
+
+        ReadOnlyTaskList taskList = null;
+        Optional<StorageFormat> taskListFormat = findNewest(userPrefs.getTaskListFilePath());
+        if (taskListFormat.isPresent()) {
+            Path path = taskListFormat.get().withFileExtension(userPrefs.getTaskListFilePath());
+            taskList =
+                    readLegacy(
+                            path,
+                            () ->
+                                    createTaskListStorage(
+                                                    taskListFormat.get(),
+                                                    path,
+                                                    userPrefs.getJournalCompactionThreshold())
+                                            .readTaskList());
+        }
+
+        ReadOnlyStatistics statistics = null;
+        Optional<StorageFormat> statisticsFormat = findNewest(userPrefs.getStatisticsFilePath());
+        if (statisticsFormat.isPresent()) {
+            Path path = statisticsFormat.get().withFileExtension(userPrefs.getStatisticsFilePath());
+            statistics =
+                    readLegacy(
+                            path,
+                            () ->
+                                    createStatisticsStorage(statisticsFormat.get(), path)
+                                            .readStatistics());
+        }
+
+        ReadOnlyPet pet =
+                readLegacy(
+                        userPrefs.getPetFilePath(),
+                        () -> new JsonPetStorage(userPrefs.getPetFilePath()).readPet());
+        ReadOnlyPomodoro pomodoro =
+                readLegacy(
+                        userPrefs.getPomodoroFilePath(),
+                        () ->
+                                new JsonPomodoroStorage(userPrefs.getPomodoroFilePath())
+                                        .readPomodoro());
+
+        if (taskList == null && pet == null && pomodoro == null && statistics == null) {
+            return false;
+        }
+        logger.info("Moving the separate data files into " + container.getDataFilePath());
+        container.saveAll(taskList, pet, pomodoro, statistics);
+        return true;
+    }
+
+    /**
+     * Returns the store read by {@code reader} from {@code filePath}, or null if the file is not
+     * found or cannot be read.
+     */
+    private static <T> T readLegacy(Path filePath, LegacyReader<T> reader) {
+        try {
+            return reader.read().orElse(null);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Leaving out unreadable data file " + filePath + ": " + e);
+            return null;
+        }
+    }
+
+    /** Returns the format whose file next to {@code filePath} was modified most recently. */
+    private static Optional<StorageFormat> findNewest(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        StorageFormat newest = null;
+        FileTime newestTime = null;
+        for (StorageFormat format : StorageFormat.values()) {
+            Optional<FileTime> time = lastModified(format.withFileExtension(filePath));
+            if (time.isPresent() && (newestTime == null || time.get().compareTo(newestTime) > 0)) {
+                newest = format;
+                newestTime = time.get();
+            }
+        }
+        return Optional.ofNullable(newest);
+    }
+
+    /** Returns the time the data at {@code filePath} was last changed, including its journal. */
+    private static Optional<FileTime> lastModified(Path filePath) throws IOException {
+        FileTime latest = null;
+        for (Path path :
+                new Path[] {filePath, JournaledTaskListStorage.getJournalFilePath(filePath)}) {
+            if (Files.exists(path)) {
+                FileTime time = Files.getLastModifiedTime(path);
+                latest = latest == null || time.compareTo(latest) > 0 ? time : latest;
+            }
+        }
+        return Optional.ofNullable(latest);
+    }
+
+    /** Reads a store from a separate data file. */
+    @FunctionalInterface
+    private interface LegacyReader<T> {
+        Optional<? extends T> read() throws DataConversionException, IOException;
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import seedu.address.commons.core.TaskFileFormat;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.task.Done;
+import seedu.address.model.task.Task;
+
+/**
+ * Reads the tasks in a {@link TaskFileFormat} file a chunk at a time, so that a file of any size
+ * can be imported without holding all of its rows at once. Every row is checked through {@link
+ * JsonAdaptedTask}, exactly as tasks in the data file are. Rows that are not valid tasks are
+ * skipped, and the first few of them are kept for reporting. Imported tasks are new tasks, so they
+ * get new ids even if the file has them.
+ *
+ * <p>CSV files have the columns of {@link TaskFileWriter#CSV_HEADER}. The header row is optional,
+ * an empty done column means the task is not done, and tags are separated by spaces.
+ */
+public class TaskFileReader implements Closeable {
+
+    public static final String MESSAGE_INVALID_ROW = "Row %1$d: %2$s";
+    public static final String MESSAGE_INVALID_JSON = "not a JSON object (%1$s)";
+
+    /** The number of invalid rows whose errors are kept. */
+    public static final int MAX_REPORTED_ERRORS = 5;
+
+    private static final int NAME_COLUMN = 0;
+    private static final int PRIORITY_COLUMN = 1;
+    private static final int DESCRIPTION_COLUMN = 2;
+    private static final int DONE_COLUMN = 3;
+    private static final int DONE_ON_COLUMN = 4;
+    private static final int TAGS_COLUMN = 5;
+
+    private final TaskFileFormat format;
+    private final BufferedReader reader;
+    private final List<String> errors = new ArrayList<>();
+
+    private int rowCount;
+    private int invalidRowCount;
+
+    /** Opens the file at {@code filePath} for reading as {@code format}. */
+    public TaskFileReader(Path filePath, TaskFileFormat format) throws IOException {
+        requireNonNull(filePath);
+        this.format = requireNonNull(format);
+        reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the next valid tasks in the file, at most {@code maxTasks} of them. Returns an empty
+     * list once the whole file has been read.
+     */
+    public List<Task> readChunk(int maxTasks) throws IOException {
+        List<Task> chunk = new ArrayList<>();
+        while (chunk.size() < maxTasks) {
+            Optional<List<String>> row =
+                    format == TaskFileFormat.CSV ? readCsvRecord() : readJsonLine();
+            if (!row.isPresent()) {
+                break;
+            }
+            rowCount++;
+            try {
+                toTask(row.get()).ifPresent(chunk::add);
+            } catch (IllegalValueException e) {
+                invalidRowCount++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(String.format(MESSAGE_INVALID_ROW, rowCount, e.getMessage()));
+                }
+            }
+        }
+        return chunk;
+    }
+
+    /** Returns the number of rows read so far that were not valid tasks. */
+    public int getInvalidRowCount() {
+        return invalidRowCount;
+    }
+
+    /** Returns why the first {@link #MAX_REPORTED_ERRORS} invalid rows were skipped. */
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Returns the task in {@code row}, or {@code Optional.empty()} if the row is blank or is the
+     * CSV header.
+     */
+    private Optional<Task> toTask(List<String> row) throws IllegalValueException {
+        if (format == TaskFileFormat.JSON_LINES) {
+            try {
+                return Optional.of(
+                        JsonUtil.fromJsonString(row.get(0), JsonAdaptedTask.class)
+                                .withoutId()
+                                .toModelType());
+            } catch (JsonProcessingException e) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_INVALID_JSON, e.getOriginalMessage()), e);
+            } catch (IOException e) {
+                throw new IllegalValueException(e.getMessage(), e);
+            }
+        }
+
+        if (row.size() == 1 && row.get(0).trim().isEmpty()) {
+            return Optional.empty();
+        }
+        if (rowCount == 1 && TaskFileWriter.CSV_HEADER.get(0).equalsIgnoreCase(row.get(0))) {
+            return Optional.empty();
+        }
+        String done = trimmed(column(row, DONE_COLUMN));
+        String doneOn = trimmed(column(row, DONE_ON_COLUMN));
+        String tags = trimmed(column(row, TAGS_COLUMN));
+        List<JsonAdaptedTag> tagged = new ArrayList<>();
+        if (tags != null && !tags.isEmpty()) {
+            for (String tagName : tags.split("\\s+")) {
+                tagged.add(new JsonAdaptedTag(tagName));
+            }
+        }
+        return Optional.of(
+                new JsonAdaptedTask(
+                                trimmed(column(row, NAME_COLUMN)),
+                                trimmed(column(row, PRIORITY_COLUMN)),
+                                column(row, DESCRIPTION_COLUMN),
+                                done == null || done.isEmpty() ? Done.NOT_DONE : done,
+                                doneOn == null || doneOn.isEmpty() ? null : doneOn,
+                                tagged)
+                        .toModelType());
+    }
+
+    /** Returns the value in {@code column} of {@code row}, or null if the row is shorter. */
+    private static String column(List<String> row, int column) {
+        return column < row.size() ? row.get(column) : null;
+    }
+
+    private static String trimmed(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    /** Returns the next line of the file as a single-value row. */
+    private Optional<List<String>> readJsonLine() throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.trim().isEmpty()) {
+            line = reader.readLine();
+        }
+        return Optional.ofNullable(line).map(Collections::singletonList);
+    }
+
+    /**
+     * Returns the values of the next CSV record. Values may be quoted with {@code "}, in which case
+     * they may contain commas, line breaks and doubled quotes.
+     */
+    private Optional<List<String>> readCsvRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return Optional.empty();
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (c == -1) {
+                    break;
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        isQuoted = false;
+                        continue;
+                    }
+                }
+                value.append((char) c);
+            } else if (c == -1 || c == '\n') {
+                break;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else if (c == '"' && value.length() == 0) {
+                isQuoted = true;
+            } else if (c != '\r') {
+                value.append((char) c);
+            }
+            c = reader.read();
+        }
+        values.add(value.toString());
+        return Optional.of(values);
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import seedu.address.commons.core.TaskFileFormat;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.task.Task;
+
+/**
+ * Writes tasks to a {@link TaskFileFormat} file one row at a time, so exporting uses the same
+ * memory however many tasks there are. The file is replaced atomically, like the data file.
+ */
+public class TaskFileWriter {
+
+    public static final List<String> CSV_HEADER =
+            Arrays.asList("name", "priority", "description", "done", "doneOn", "tags");
+
+    private TaskFileWriter() {}
+
+    /**
+     * Replaces the file at {@code filePath} with {@code tasks} in {@code format}.
+     *
+     * @return the number of tasks written.
+     */
+    public static int write(Path filePath, TaskFileFormat format, Iterable<Task> tasks)
+            throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(tasks);
+        int[] count = new int[1];
+        FileUtil.writeAtomically(
+                filePath,
+                out -> {
+                    Writer writer =
+                            new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                    if (format == TaskFileFormat.CSV) {
+                        writeCsvRecord(writer, CSV_HEADER);
+                    }
+                    for (Task task : tasks) {
+                        if (format == TaskFileFormat.CSV) {
+                            writeCsvRecord(writer, toCsvRecord(task));
+                        } else {
+                            writer.write(JsonUtil.toCompactJsonString(new JsonAdaptedTask(task)));
+                            writer.write('\n');
+                        }
+                        count[0]++;
+                    }
+                    writer.flush();
+                });
+        return count[0];
+    }
+
+    private static List<String> toCsvRecord(Task task) {
+        String tags =
+                task.getTags().stream()
+                        .map(tag -> tag.tagName)
+                        .sorted()
+                        .collect(Collectors.joining(" "));
+        return Arrays.asList(
+                task.getName().fullName,
+                task.getPriority().value,
+                task.getDescription().value,
+                task.getDone().toString(),
+                task.getDone().getDoneOn().map(LocalDate::toString).orElse(""),
+                tags);
+    }
+
+    private static void writeCsvRecord(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(quoteIfNeeded(values.get(i)));
+        }
+        writer.write('\n');
+    }
+
+    /** Returns {@code value} quoted if it holds a character that has a meaning in CSV. */
+    static String quoteIfNeeded(String value) {
+        if (value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')
+                && value.trim().equals(value)) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,332 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.task.ChangedRange;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.UniqueTaskList;
+
+/**
+ * The append-only journal of the changes made to a task list since its snapshot was last written.
+ * The journal does not know how the snapshot is stored; its owner reads and writes the snapshot and
+ * tells the journal about it through {@link #replay(List, long)} and {@link #compacted(List)}.
+ * Other small stores that are kept with the snapshot can be journaled too, as records holding their
+ * new contents, so that saving them does not rewrite the snapshot either.
+ *
+ * <p>Every record is one line prefixed with its CRC32, so a record that was only partly written
+ * when the app was killed is detected on replay and skipped, along with anything after it. The next
+ * save then compacts, so nothing is ever appended after a torn record.
+ */
+class TaskListJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(TaskListJournal.class);
+
+    private final Path journalPath;
+    private final int compactionThreshold;
+
+    // The tasks as of the last replay or save, as an immutable list that shares its tasks with the
+    // snapshot saved, or null if they are not known
+    private List<Task> savedTasks;
+    // The stores journaled since the snapshot, as of the last replay or save
+    private Map<String, DataContainer.Payload> savedStores = new LinkedHashMap<>();
+    private boolean isSequenceKnown;
+    private long lastSequence;
+    private int journalRecords;
+    private boolean isTornJournal;
+
+    /**
+     * Creates a journal at {@code journalPath} that asks for compaction after {@code
+     * compactionThreshold} records.
+     */
+    TaskListJournal(Path journalPath, int compactionThreshold) {
+        requireNonNull(journalPath);
+        this.journalPath = journalPath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    public boolean exists() {
+        return Files.exists(journalPath);
+    }
+
+    /** Returns the sequence number of the last record in the journal or its snapshot. */
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Returns the saved tasks, or {@code Optional.empty()} if they are not known because the
+     * journal has not been replayed.
+     */
+    public synchronized Optional<List<Task>> getSavedTasks() {
+        return Optional.ofNullable(savedTasks);
+    }
+
+    /** Returns the latest contents of each store journaled since the snapshot, by store name. */
+    public synchronized Map<String, DataContainer.Payload> getStores() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(savedStores));
+    }
+
+    /**
+     * Returns {@code snapshotTasks} with the journal records after {@code snapshotSequence}
+     * applied, and remembers the result as the saved tasks.
+     *
+     * @throws IllegalValueException if a record does not apply to the tasks.
+     */
+    public synchronized List<Task> replay(List<Task> snapshotTasks, long snapshotSequence)
+            throws IOException, IllegalValueException {
+        List<Task> tasks = new ArrayList<>(snapshotTasks);
+        Map<String, DataContainer.Payload> stores = new LinkedHashMap<>();
+        List<JsonAdaptedJournalRecord> records = readRecords(snapshotSequence);
+        for (JsonAdaptedJournalRecord record : records) {
+            if (record.isStore()) {
+                stores.put(record.getStore(), record.toPayload());
+            } else {
+                record.applyTo(tasks);
+            }
+        }
+
+        savedTasks = UniqueTaskList.immutableCopyOf(tasks);
+        replayed(records, stores, snapshotSequence);
+        return tasks;
+    }
+
+    /**
+     * Reads only the store records after {@code snapshotSequence}, for when the snapshot of the
+     * tasks cannot be read. The saved tasks stay unknown, so the next save of the tasks compacts,
+     * but stores can still be appended.
+     *
+     * @throws IllegalValueException if a store record is incomplete.
+     */
+    public synchronized void replayStores(long snapshotSequence)
+            throws IOException, IllegalValueException {
+        Map<String, DataContainer.Payload> stores = new LinkedHashMap<>();
+        List<JsonAdaptedJournalRecord> records = readRecords(snapshotSequence);
+        for (JsonAdaptedJournalRecord record : records) {
+            if (record.isStore()) {
+                stores.put(record.getStore(), record.toPayload());
+            }
+        }
+
+        savedTasks = null;
+        replayed(records, stores, snapshotSequence);
+    }
+
+    private void replayed(
+            List<JsonAdaptedJournalRecord> records,
+            Map<String, DataContainer.Payload> stores,
+            long snapshotSequence) {
+        savedStores = stores;
+        isSequenceKnown = true;
+        lastSequence =
+                records.isEmpty()
+                        ? snapshotSequence
+                        : records.get(records.size() - 1).getSequence();
+        // A torn tail must not be appended to, so force the next save to compact
+        journalRecords = isTornJournal ? Integer.MAX_VALUE : records.size();
+    }
+
+    /**
+     * Returns the records after {@code snapshotSequence}, up to the first torn or corrupt one.
+     */
+    private List<JsonAdaptedJournalRecord> readRecords(long snapshotSequence) throws IOException {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        isTornJournal = false;
+        if (!exists()) {
+            return records;
+        }
+
+        String journal = FileUtil.readFromFile(journalPath);
+        int start = 0;
+        int end;
+        while ((end = journal.indexOf('\n', start)) >= 0) {
+            Optional<JsonAdaptedJournalRecord> record = parseRecord(journal.substring(start, end));
+            if (!record.isPresent()) {
+                break;
+            }
+            start = end + 1;
+            if (record.get().getSequence() <= snapshotSequence) {
+                // Already included in the snapshot by an interrupted compaction
+                continue;
+            }
+            records.add(record.get());
+        }
+        if (start < journal.length()) {
+            logger.warning("Skipping torn or corrupt records at the end of " + journalPath);
+            isTornJournal = true;
+        }
+        return records;
+    }
+
+    /**
+     * Appends the records that turn the saved tasks into {@code tasks}. Returns false, without
+     * writing anything, if the snapshot should be rewritten instead: because the saved tasks are
+     * not known, the tasks were reordered or the journal would grow past its threshold.
+     */
+    public synchronized boolean append(List<Task> tasks) throws IOException {
+        requireNonNull(tasks);
+        return append(tasks, Collections.emptyMap());
+    }
+
+    /**
+     * Similar to {@link #append(List)}, but also appends a record for each of {@code stores}, in a
+     * single write. {@code tasks} is null if the tasks did not change, and then only the journal
+     * itself has to be known.
+     */
+    public synchronized boolean append(List<Task> tasks, Map<String, DataContainer.Payload> stores)
+            throws IOException {
+        requireNonNull(stores);
+        if (!isSequenceKnown) {
+            return false;
+        }
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (tasks != null) {
+            Optional<List<JsonAdaptedJournalRecord>> changes =
+                    savedTasks == null ? Optional.empty() : diff(savedTasks, tasks, lastSequence);
+            if (!changes.isPresent()) {
+                return false;
+            }
+            records.addAll(changes.get());
+        }
+        long sequence = lastSequence + records.size();
+        for (Map.Entry<String, DataContainer.Payload> store : stores.entrySet()) {
+            records.add(
+                    JsonAdaptedJournalRecord.store(++sequence, store.getKey(), store.getValue()));
+        }
+        if (records.size() > compactionThreshold - journalRecords) {
+            return false;
+        }
+
+        appendToJournal(records);
+        lastSequence += records.size();
+        journalRecords += records.size();
+        if (tasks != null) {
+            savedTasks = UniqueTaskList.immutableCopyOf(tasks);
+        }
+        savedStores.putAll(stores);
+        return true;
+    }
+
+    /**
+     * Prepares for a snapshot holding every record up to {@link #getLastSequence()} to be written.
+     * Must be called before the snapshot is written.
+     */
+    public synchronized void beforeCompaction() throws IOException {
+        if (savedTasks == null) {
+            // Nothing is known about an existing journal, so it cannot be kept until the end
+            Files.deleteIfExists(journalPath);
+        }
+    }
+
+    /**
+     * Records that a snapshot of {@code tasks} holding every record up to {@link
+     * #getLastSequence()} has been written, and clears the journal. The snapshot stores that
+     * sequence number, so a crash before the journal is deleted does not cause its records to be
+     * applied twice.
+     */
+    public synchronized void compacted(List<Task> tasks) throws IOException {
+        logger.fine("Compacted journal " + journalPath);
+        Files.deleteIfExists(journalPath);
+        journalRecords = 0;
+        savedTasks = UniqueTaskList.immutableCopyOf(tasks);
+        savedStores = new LinkedHashMap<>();
+        isSequenceKnown = true;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(ChecksummedLines.format(JsonUtil.toCompactJsonString(record)));
+        }
+        FileUtil.append(journalPath, lines.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the record stored on {@code line}, or {@code Optional.empty()} if the line is
+     * incomplete or does not match its checksum.
+     */
+    private static Optional<JsonAdaptedJournalRecord> parseRecord(String line) {
+        Optional<String> json = ChecksummedLines.parse(line);
+        if (!json.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JsonUtil.fromJsonString(json.get(), JsonAdaptedJournalRecord.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the records that turn {@code oldTasks} into {@code newTasks}, numbered from {@code
+     * lastSequence + 1}, or {@code Optional.empty()} if the tasks were reordered. Only the {@link
+     * UniqueTaskList#changedRanges(List, List) ranges that changed} are compared, so for snapshots
+     * of the same task list this takes time in proportion to the change rather than to the list.
+     * Tasks are immutable, so an unchanged task is the same instance in both lists and is skipped.
+     */
+    static Optional<List<JsonAdaptedJournalRecord>> diff(
+            List<Task> oldTasks, List<Task> newTasks, long lastSequence) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        long sequence = lastSequence;
+        for (ChangedRange range : UniqueTaskList.changedRanges(oldTasks, newTasks)) {
+            List<Task> oldRange = oldTasks.subList(range.getOldFrom(), range.getOldTo());
+            List<Task> newRange = newTasks.subList(range.getNewFrom(), range.getNewTo());
+            Set<Task> oldSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            oldSet.addAll(oldRange);
+            Set<Task> newSet = Collections.newSetFromMap(new IdentityHashMap<>());
+            newSet.addAll(newRange);
+
+            // A task moved from one range to another is removed from one and added to the other
+            int oldIndex = 0;
+            int newIndex = 0;
+            while (oldIndex < oldRange.size() || newIndex < newRange.size()) {
+                Task oldTask = oldIndex < oldRange.size() ? oldRange.get(oldIndex) : null;
+                Task newTask = newIndex < newRange.size() ? newRange.get(newIndex) : null;
+                boolean isOldRemoved = oldTask != null && !newSet.contains(oldTask);
+                boolean isNewAdded = newTask != null && !oldSet.contains(newTask);
+                int index = range.getNewFrom() + newIndex;
+
+                if (oldTask != null && oldTask == newTask) {
+                    oldIndex++;
+                    newIndex++;
+                } else if (isOldRemoved && isNewAdded) {
+                    records.add(JsonAdaptedJournalRecord.set(++sequence, index, newTask));
+                    oldIndex++;
+                    newIndex++;
+                } else if (isOldRemoved) {
+                    records.add(JsonAdaptedJournalRecord.remove(++sequence, index));
+                    oldIndex++;
+                } else if (isNewAdded) {
+                    records.add(JsonAdaptedJournalRecord.add(++sequence, index, newTask));
+                    newIndex++;
+                } else {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.of(records);
+    }
+}
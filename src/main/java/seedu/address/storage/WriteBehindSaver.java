@@ -0,0 +1,374 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.ReadOnlyPet;
+import seedu.address.model.ReadOnlyPomodoro;
+import seedu.address.model.ReadOnlyStatistics;
+import seedu.address.model.ReadOnlyTaskArchive;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.task.Task;
+
+/**
+ * Persists the model to {@code Storage} on a background thread. Callers hand over snapshots of the
+ * stores and return immediately; snapshots submitted within the same coalescing window replace each
+ * other, so a burst of commands results in a single write of the stores that changed.
+ *
+ * <p>A failed write is retried on its own, after a delay that doubles with every failure in a row,
+ * so the data is saved once the cause goes away without a failing disk being written in a loop.
+ */
+public class WriteBehindSaver {
+
+    public static final long DEFAULT_COALESCE_DELAY_MILLIS = 200;
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 1000;
+    private static final long MIN_RETRY_DELAY_MILLIS = 100;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Storage storage;
+    private final long coalesceDelayMillis;
+    private final ScheduledThreadPoolExecutor executor;
+
+    // Guarded by this
+    private final PendingStore<ReadOnlyTaskList> taskListStore = new PendingStore<>();
+    private final PendingStore<ReadOnlyPet> petStore = new PendingStore<>();
+    private final PendingStore<ReadOnlyPomodoro> pomodoroStore = new PendingStore<>();
+    private final PendingStore<ReadOnlyStatistics> statisticsStore = new PendingStore<>();
+    private final PendingStore<ReadOnlyTaskArchive> archiveStore = new PendingStore<>();
+    private boolean isFlushScheduled;
+    private IOException failure;
+    // The delay before the next retry of a failed write, or 0 if the last write succeeded
+    private long retryDelayMillis;
+
+    private volatile long lastFlushLatencyNanos;
+
+    public WriteBehindSaver(Storage storage) {
+        this(storage, DEFAULT_COALESCE_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a saver that writes to {@code storage}, waiting {@code coalesceDelayMillis} after the
+     * first submission of a burst before writing.
+     */
+    public WriteBehindSaver(Storage storage, long coalesceDelayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.coalesceDelayMillis = coalesceDelayMillis;
+        this.executor =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "write-behind-saver");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * Records the given stores as already persisted, e.g. because they were just read from disk.
+     * Later submissions are only written once their version moves past this point.
+     */
+    public synchronized void markSaved(
+            ReadOnlyTaskList taskList,
+            ReadOnlyPet pet,
+            ReadOnlyPomodoro pomodoro,
+            ReadOnlyStatistics statistics,
+            ReadOnlyTaskArchive archive) {
+        taskListStore.markSaved(taskList.getVersion());
+        petStore.markSaved(pet.getVersion());
+        pomodoroStore.markSaved(pomodoro.getVersion());
+        statisticsStore.markSaved(statistics.getVersion());
+        archiveStore.markSaved(archive.getVersion());
+    }
+
+    /**
+     * Queues snapshots of the given stores to be written. Only stores whose version differs from
+     * the last one queued are copied, so unchanged stores cost nothing. The task list and
+     * statistics snapshots are taken in O(1), as they share their data with the stores. The
+     * snapshots are taken on the calling thread, so the stores may be modified as soon as this
+     * method returns.
+     */
+    public synchronized void submit(
+            ReadOnlyTaskList taskList,
+            ReadOnlyPet pet,
+            ReadOnlyPomodoro pomodoro,
+            ReadOnlyStatistics statistics,
+            ReadOnlyTaskArchive archive) {
+        boolean hasChanges = taskListStore.offer(taskList.getVersion(), taskList::snapshot);
+        hasChanges |= petStore.offer(pet.getVersion(), () -> new Pet(pet));
+        hasChanges |= pomodoroStore.offer(pomodoro.getVersion(), () -> new Pomodoro(pomodoro));
+        hasChanges |= statisticsStore.offer(statistics.getVersion(), statistics::snapshot);
+        hasChanges |= archiveStore.offer(archive.getVersion(), () -> snapshotOf(archive));
+        if (hasChanges) {
+            scheduleFlush(coalesceDelayMillis);
+        }
+    }
+
+    /**
+     * Blocks until every snapshot submitted before this call has been written.
+     *
+     * @throws IOException if any of the pending writes failed.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while flushing pending saves", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Unexpected error while flushing pending saves", e.getCause());
+        }
+        rethrowFailure();
+    }
+
+    /**
+     * Rethrows, and clears, the error of the most recent failed background write.
+     *
+     * @throws IOException if a background write has failed since the last call.
+     */
+    public synchronized void rethrowFailure() throws IOException {
+        IOException pendingFailure = failure;
+        failure = null;
+        if (pendingFailure != null) {
+            throw pendingFailure;
+        }
+    }
+
+    /** Returns true if {@code archive} is on disk as it is now. */
+    public synchronized boolean isSaved(ReadOnlyTaskArchive archive) {
+        return archiveStore.isSaved(archive.getVersion());
+    }
+
+    /** Returns the number of stores with a snapshot waiting to be written. */
+    public synchronized int getQueueDepth() {
+        int depth = 0;
+        depth += taskListStore.hasPending() ? 1 : 0;
+        depth += petStore.hasPending() ? 1 : 0;
+        depth += pomodoroStore.hasPending() ? 1 : 0;
+        depth += statisticsStore.hasPending() ? 1 : 0;
+        depth += archiveStore.hasPending() ? 1 : 0;
+        return depth;
+    }
+
+    /** Returns how long the most recent flush took to write its snapshots. */
+    public Duration getLastFlushLatency() {
+        return Duration.ofNanos(lastFlushLatencyNanos);
+    }
+
+    /** Stops the background thread. Snapshots that have not been flushed are discarded. */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void scheduleFlush(long delayMillis) {
+        assert Thread.holdsLock(this);
+        if (isFlushScheduled) {
+            return;
+        }
+        isFlushScheduled = true;
+        executor.schedule(this::writePending, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes every pending snapshot with a single call to {@link Storage#saveAll}, between saving
+     * the tasks added to and taken out of the archive. Runs on the saver thread only.
+     */
+    private void writePending() {
+        ReadOnlyTaskList taskList;
+        ReadOnlyPet pet;
+        ReadOnlyPomodoro pomodoro;
+        ReadOnlyStatistics statistics;
+        ReadOnlyTaskArchive archive;
+        synchronized (this) {
+            isFlushScheduled = false;
+            taskList = taskListStore.take();
+            pet = petStore.take();
+            pomodoro = pomodoroStore.take();
+            statistics = statisticsStore.take();
+            archive = archiveStore.take();
+        }
+        if (taskList == null
+                && pet == null
+                && pomodoro == null
+                && statistics == null
+                && archive == null) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            // Stores written together share one directory sync
+            FileUtil.groupCommit(
+                    () -> {
+                        // Archived tasks are saved before they are saved as removed from the task
+                        // list, and tasks taken back out of the archive after they are saved back
+                        // in it, so a crash in between cannot lose them
+                        if (archive != null) {
+                            storage.saveArchive(archive);
+                        }
+                        storage.saveAll(taskList, pet, pomodoro, statistics);
+                        if (archive != null) {
+                            storage.saveArchiveRemovals(archive);
+                        }
+                    });
+            synchronized (this) {
+                taskListStore.saved();
+                petStore.saved();
+                pomodoroStore.saved();
+                statisticsStore.saved();
+                archiveStore.saved();
+                retryDelayMillis = 0;
+            }
+        } catch (IOException ioe) {
+            failed(ioe);
+        } catch (RuntimeException e) {
+            failed(new IOException("Unexpected error while saving", e));
+        }
+        lastFlushLatencyNanos = System.nanoTime() - start;
+        logger.fine("Flushed pending saves in " + getLastFlushLatency().toMillis() + "ms");
+    }
+
+    /**
+     * Records {@code ioe} as the failure to report, queues the snapshots that were being written
+     * again, and schedules a flush to retry them after a delay twice as long as the last one.
+     */
+    private void failed(IOException ioe) {
+        synchronized (this) {
+            failure = ioe;
+            taskListStore.retry();
+            petStore.retry();
+            pomodoroStore.retry();
+            statisticsStore.retry();
+            archiveStore.retry();
+            retryDelayMillis =
+                    retryDelayMillis == 0
+                            ? Math.max(coalesceDelayMillis, MIN_RETRY_DELAY_MILLIS)
+                            : Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+            logger.warning(
+                    "Background save failed, retrying in " + retryDelayMillis + "ms: " + ioe);
+            scheduleFlush(retryDelayMillis);
+        }
+    }
+
+    /**
+     * Returns a copy of {@code archive} that is unaffected by later changes. Only the newly archived
+     * tasks held in memory are copied, as those are the only ones that are saved.
+     */
+    private static ReadOnlyTaskArchive snapshotOf(ReadOnlyTaskArchive archive) {
+        List<Task> tasks =
+                Collections.unmodifiableList(new ArrayList<>(archive.getNewlyArchivedTasks()));
+        int droppedTaskCount = archive.getDroppedTaskCount();
+        long version = archive.getVersion();
+        return new ReadOnlyTaskArchive() {
+            @Override
+            public List<Task> getNewlyArchivedTasks() {
+                return tasks;
+            }
+
+            @Override
+            public int getDroppedTaskCount() {
+                return droppedTaskCount;
+            }
+
+            @Override
+            public long getVersion() {
+                return version;
+            }
+        };
+    }
+
+    /**
+     * The write-behind state of a single store. {@code queuedVersion} is the latest version handed
+     * to the saver, {@code savedVersion} the latest version known to be on disk.
+     */
+    private static class PendingStore<T> {
+        private T pending;
+        private long pendingVersion;
+        private T taken;
+        private long queuedVersion;
+        private long savedVersion;
+        private boolean isTaken;
+        private long takenVersion;
+
+        /**
+         * Queues a snapshot of version {@code version} unless that version is already queued.
+         * Returns true if a snapshot was queued.
+         */
+        boolean offer(long version, Supplier<T> snapshot) {
+            if (version == queuedVersion) {
+                return false;
+            }
+            pending = snapshot.get();
+            pendingVersion = version;
+            queuedVersion = version;
+            return true;
+        }
+
+        void markSaved(long version) {
+            pending = null;
+            queuedVersion = version;
+            savedVersion = version;
+        }
+
+        boolean hasPending() {
+            return pending != null;
+        }
+
+        boolean isSaved(long version) {
+            return savedVersion == version;
+        }
+
+        /** Removes and returns the pending snapshot, or null if there is none. */
+        T take() {
+            taken = pending;
+            isTaken = taken != null;
+            takenVersion = pendingVersion;
+            pending = null;
+            return taken;
+        }
+
+        /** Records that the snapshot returned by the last {@link #take()} is on disk. */
+        void saved() {
+            if (isTaken) {
+                savedVersion = takenVersion;
+                isTaken = false;
+            }
+            taken = null;
+        }
+
+        /**
+         * Queues the snapshot returned by the last {@link #take()} again, unless a newer snapshot
+         * is already queued.
+         */
+        void retry() {
+            if (isTaken && pending == null) {
+                pending = taken;
+                pendingVersion = takenVersion;
+            }
+            isTaken = false;
+            taken = null;
+        }
+    }
+}
@@ -2,8 +2,6 @@ package seedu.address.ui;
 
 import java.nio.file.Paths;
 import java.util.logging.Logger;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
@@ -13,7 +11,6 @@ import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
@@ -24,7 +21,6 @@ import seedu.address.logic.commands.PomCommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyPet;
-import seedu.address.model.task.Reminder;
 
 /**
  * The Main Window. Provides the basic application layout containing a menu bar and space where
@@ -187,7 +183,8 @@ public class MainWindow extends UiPart<Stage> {
                         primaryStage.getWidth(),
                         primaryStage.getHeight(),
                         (int) primaryStage.getX(),
-                        (int) primaryStage.getY());
+                        (int) primaryStage.getY(),
+                        logic.getGuiSettings().getTaskSortOrder());
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
         primaryStage.hide();
@@ -275,9 +272,7 @@ public class MainWindow extends UiPart<Stage> {
                     pomodoroDisplay.setTaskInProgressText(pomCommandResult.getPommedTask());
                     pomodoro.start(pomCommandResult.getTimerAmountInMin());
                     pomodoro.setDoneParams(
-                            pomCommandResult.getModel(),
-                            pomCommandResult.getOriginList(),
-                            pomCommandResult.getTaskIndex());
+                            pomCommandResult.getModel(), pomCommandResult.getTaskId());
                 }
             } catch (ClassCastException ce) {
 
@@ -302,23 +297,9 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
-    @FXML
-    public static void triggerReminder(Reminder reminder, String name, String description) {
-        long delay = reminder.getDelay();
-        Timeline timeline =
-                new Timeline(
-                        new KeyFrame(
-                                Duration.seconds(delay),
-                                ae -> {
-                                    MainWindow.showReminder(name, description);
-                                    reminder.setHasFired();
-                                }));
-        timeline.play();
-    }
-
     @FXML
     /**
-     * Is triggered at the delayed time in Duke itself.
+     * Is shown on the JavaFX application thread when the reminder of a task fires.
      * https://thecodinginterface.com/blog/javafx-alerts-and-dialogs/#informational-alert
      */
     public static void showReminder(String name, String description) {
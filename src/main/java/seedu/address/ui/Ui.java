@@ -1,10 +1,14 @@
 package seedu.address.ui;
 
 import javafx.stage.Stage;
+import seedu.address.model.task.Task;
 
 /** API of UI component */
 public interface Ui {
 
     /** Starts the UI (and the App). */
     void start(Stage primaryStage);
+
+    /** Shows the reminder of {@code task}. May be called from any thread. */
+    void showReminder(Task task);
 }
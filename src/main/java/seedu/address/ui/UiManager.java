@@ -11,6 +11,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.PomodoroManager;
+import seedu.address.model.task.Task;
 
 /** The manager of the UI component. */
 public class UiManager implements Ui {
@@ -48,6 +49,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showReminder(Task task) {
+        String name = task.getName().toString();
+        String description = task.getDescription().toString();
+        Platform.runLater(() -> MainWindow.showReminder(name, description));
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
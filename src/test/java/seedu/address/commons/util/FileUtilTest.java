@@ -1,13 +1,30 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.core.Durability;
 
 public class FileUtilTest {
 
+    @TempDir public Path testFolder;
+
+    @AfterEach
+    public void tearDown() {
+        FileUtil.setDurability(Durability.FSYNC);
+    }
+
     @Test
     public void isValidPath() {
         // valid path
@@ -19,4 +36,87 @@ public class FileUtilTest {
         // null path -> throws NullPointerException
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
+
+    @Test
+    public void writeAtomically_replacesContentsWithoutLeavingTempFile() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("data.bin");
+        FileUtil.writeAtomically(file, "old".getBytes(StandardCharsets.UTF_8));
+        FileUtil.writeAtomically(file, "new".getBytes(StandardCharsets.UTF_8));
+
+        assertArrayEquals("new".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeAtomically_writerThrows_oldContentsKeptWithoutTempFile() throws Exception {
+        Path file = testFolder.resolve("sub").resolve("data.bin");
+        FileUtil.writeAtomically(file, "old".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(
+                IOException.class,
+                () ->
+                        FileUtil.writeAtomically(
+                                file,
+                                out -> {
+                                    out.write("partial".getBytes(StandardCharsets.UTF_8));
+                                    throw new IOException("write failed");
+                                }));
+
+        assertArrayEquals("old".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file));
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeAtomically_everyDurability_writesContents() throws Exception {
+        for (Durability durability : Durability.values()) {
+            FileUtil.setDurability(durability);
+            Path file = testFolder.resolve(durability + ".txt");
+            FileUtil.writeToFile(file, "old");
+            FileUtil.writeToFile(file, durability.toString());
+
+            assertEquals(durability.toString(), FileUtil.readFromFile(file));
+        }
+    }
+
+    @Test
+    public void writeAtomically_writerClosesStream_contentsKept() throws Exception {
+        Path file = testFolder.resolve("closed.txt");
+        FileUtil.writeAtomically(
+                file,
+                out -> {
+                    out.write("closed".getBytes(StandardCharsets.UTF_8));
+                    out.close();
+                });
+
+        assertEquals("closed", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void groupCommit_severalFiles_oneDirectorySync() throws Exception {
+        long syncs = FileUtil.getDirectorySyncCount();
+        FileUtil.groupCommit(
+                () -> {
+                    FileUtil.writeToFile(testFolder.resolve("a.json"), "a");
+                    FileUtil.writeToFile(testFolder.resolve("b.json"), "b");
+                    FileUtil.append(testFolder.resolve("c.journal"), new byte[] {'c'});
+                });
+        assertEquals(syncs + 1, FileUtil.getDirectorySyncCount());
+
+        FileUtil.writeToFile(testFolder.resolve("a.json"), "a");
+        FileUtil.writeToFile(testFolder.resolve("b.json"), "b");
+        assertEquals(syncs + 3, FileUtil.getDirectorySyncCount());
+    }
+
+    @Test
+    public void append_existingFile_contentsAppended() throws Exception {
+        Path file = testFolder.resolve("journal");
+        FileUtil.append(file, "a\n".getBytes(StandardCharsets.UTF_8));
+        FileUtil.append(file, "b\n".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals("a\nb\n", FileUtil.readFromFile(file));
+    }
 }
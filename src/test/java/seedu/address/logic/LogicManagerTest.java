@@ -11,9 +11,11 @@ import static seedu.address.testutil.TypicalTasks.TASK1;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
@@ -21,44 +23,44 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyPet;
+import seedu.address.model.ReadOnlyPomodoro;
+import seedu.address.model.ReadOnlyStatistics;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.task.Task;
-import seedu.address.storage.JsonPetStorage;
-import seedu.address.storage.JsonPomodoroStorage;
-import seedu.address.storage.JsonStatisticsStorage;
-import seedu.address.storage.JsonTaskListStorage;
+import seedu.address.storage.ContainerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
-import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.testutil.TaskBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 10;
 
     @TempDir public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private WriteBehindSaver saver;
     private Logic logic;
 
     @BeforeEach
     public void setUp() {
-        JsonTaskListStorage taskListStorage =
-                new JsonTaskListStorage(temporaryFolder.resolve("taskList.json"));
-        JsonPetStorage petStorage = new JsonPetStorage(temporaryFolder.resolve("pet.json"));
-        JsonPomodoroStorage pomodoroStorage =
-                new JsonPomodoroStorage(temporaryFolder.resolve("pomodoro.json"));
-        JsonStatisticsStorage statisticsStorage =
-                new JsonStatisticsStorage(temporaryFolder.resolve("statistics.json"));
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage =
-                new StorageManager(
-                        taskListStorage,
-                        petStorage,
-                        pomodoroStorage,
-                        statisticsStorage,
-                        userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        ContainerStorage storage =
+                new ContainerStorage(
+                        temporaryFolder.resolve("data.dat"),
+                        StorageFormat.JSON,
+                        JOURNAL_COMPACTION_THRESHOLD,
+                        new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        saver = new WriteBehindSaver(storage);
+        logic = new LogicManager(model, saver);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        saver.flush();
+        saver.shutdown();
     }
 
     @Test
@@ -80,27 +82,16 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        // Setup LogicManager with JsonTaskListIoExceptionThrowingStub
-        JsonTaskListStorage taskListStorage =
-                new JsonTaskListStorage(temporaryFolder.resolve("taskList.json"));
-        JsonPetStorage petStorage = new JsonPetStorage(temporaryFolder.resolve("pet.json"));
-        JsonPomodoroStorage pomodoroStorage =
-                new JsonPomodoroStorage(temporaryFolder.resolve("pomodoro.json"));
-        JsonStatisticsStorage statisticsStorage =
-                new JsonStatisticsStorage(temporaryFolder.resolve("statistics.json"));
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage =
-                new StorageManager(
-                        taskListStorage,
-                        petStorage,
-                        pomodoroStorage,
-                        statisticsStorage,
-                        userPrefsStorage);
-        logic = new LogicManager(model, storage);
-
-        // Execute add command
+    public void execute_storageThrowsIoException_flushThrowsIoException() throws Exception {
+        // Setup LogicManager with ContainerIoExceptionThrowingStub
+        ContainerStorage storage =
+                new ContainerIoExceptionThrowingStub(
+                        temporaryFolder.resolve("data.dat"),
+                        new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        WriteBehindSaver failingSaver = new WriteBehindSaver(storage);
+        logic = new LogicManager(model, failingSaver);
+
+        // Execute add command, the save happens in the background and fails on flush
         String addCommand =
                 AddCommand.COMMAND_WORD
                         + NAME_DESC_TASK1
@@ -109,8 +100,10 @@ public class LogicManagerTest {
         Task expectedTask = new TaskBuilder(TASK1).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addTask(expectedTask);
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        logic.execute(addCommand);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), failingSaver::flush);
+        assertEquals(expectedModel, model);
+        failingSaver.shutdown();
     }
 
     @Test
@@ -191,13 +184,18 @@ public class LogicManagerTest {
     }
 
     /** A stub class to throw an {@code IOException} when the save method is called. */
-    private static class JsonTaskListIoExceptionThrowingStub extends JsonTaskListStorage {
-        private JsonTaskListIoExceptionThrowingStub(Path filePath) {
-            super(filePath);
+    private static class ContainerIoExceptionThrowingStub extends ContainerStorage {
+        private ContainerIoExceptionThrowingStub(Path filePath, UserPrefsStorage userPrefsStorage) {
+            super(filePath, StorageFormat.JSON, JOURNAL_COMPACTION_THRESHOLD, userPrefsStorage);
         }
 
         @Override
-        public void saveTaskList(ReadOnlyTaskList taskList, Path filePath) throws IOException {
+        public synchronized void saveAll(
+                ReadOnlyTaskList taskList,
+                ReadOnlyPet pet,
+                ReadOnlyPomodoro pomodoro,
+                ReadOnlyStatistics statistics)
+                throws IOException {
             throw DUMMY_IO_EXCEPTION;
         }
     }
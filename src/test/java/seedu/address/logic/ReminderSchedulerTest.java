@@ -0,0 +1,163 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.task.Reminder;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.UniqueTaskList;
+import seedu.address.testutil.TaskBuilder;
+
+public class ReminderSchedulerTest {
+
+    private static final long FIRE_DELAY_MILLIS = 50;
+    private static final long WAIT_MILLIS = 5000;
+
+    private final LocalDateTime reminderDateTime = LocalDateTime.now().plusDays(1).withNano(0);
+    // The scheduler sees the reminder as just about due
+    private final Clock clock =
+            Clock.fixed(
+                    reminderDateTime
+                            .minusNanos(FIRE_DELAY_MILLIS * 1_000_000)
+                            .atZone(ZoneId.systemDefault())
+                            .toInstant(),
+                    ZoneId.systemDefault());
+
+    private final List<Task> fired = new CopyOnWriteArrayList<>();
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private final ReminderScheduler scheduler =
+            new ReminderScheduler(
+                    task -> {
+                        fired.add(task);
+                        latch.countDown();
+                    },
+                    clock);
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ReminderScheduler(null));
+    }
+
+    @Test
+    public void schedule_reminderDue_firesOnce() throws Exception {
+        Task task = withReminder(new TaskBuilder().build(), reminderDateTime);
+        scheduler.schedule(task);
+        assertEquals(1, scheduler.getScheduledCount());
+
+        assertTrue(latch.await(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        Thread.sleep(FIRE_DELAY_MILLIS * 2);
+        assertEquals(List.of(task), fired);
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    public void schedule_sameTimeAgain_firesLatestTaskOnce() throws Exception {
+        Task task = withReminder(new TaskBuilder().build(), reminderDateTime);
+        Task editedTask =
+                withReminder(
+                        new TaskBuilder(task).withName("Edited homework").build(),
+                        reminderDateTime);
+        scheduler.schedule(task);
+        scheduler.schedule(editedTask);
+        assertEquals(1, scheduler.getScheduledCount());
+
+        assertTrue(latch.await(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        Thread.sleep(FIRE_DELAY_MILLIS * 2);
+        assertEquals(1, fired.size());
+        assertSame(editedTask, fired.get(0));
+    }
+
+    @Test
+    public void schedule_laterTime_movesReminder() throws Exception {
+        Task task = withReminder(new TaskBuilder().build(), reminderDateTime);
+        scheduler.schedule(task);
+        scheduler.schedule(withReminder(task, reminderDateTime.plusHours(1)));
+        assertEquals(1, scheduler.getScheduledCount());
+
+        assertFalse(latch.await(FIRE_DELAY_MILLIS * 4, TimeUnit.MILLISECONDS));
+        assertTrue(fired.isEmpty());
+    }
+
+    @Test
+    public void schedule_doneOrNoReminder_notScheduled() throws Exception {
+        scheduler.schedule(new TaskBuilder().build());
+        scheduler.schedule(withReminder(new TaskBuilder().withDone("Y").build(), reminderDateTime));
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    public void schedule_markedDone_cancelsReminder() throws Exception {
+        Task task = withReminder(new TaskBuilder().build(), reminderDateTime);
+        scheduler.schedule(task);
+        Task doneTask = new TaskBuilder(task).withDone("Y").build();
+        scheduler.schedule(withReminder(doneTask, reminderDateTime));
+        assertEquals(0, scheduler.getScheduledCount());
+    }
+
+    @Test
+    public void cancel_scheduledReminder_doesNotFire() throws Exception {
+        Task task = withReminder(new TaskBuilder().build(), reminderDateTime);
+        scheduler.schedule(task);
+        scheduler.cancel(task.getId());
+        assertEquals(0, scheduler.getScheduledCount());
+
+        assertFalse(latch.await(FIRE_DELAY_MILLIS * 4, TimeUnit.MILLISECONDS));
+        assertTrue(fired.isEmpty());
+    }
+
+    @Test
+    public void watch_listChanges_followed() throws Exception {
+        UniqueTaskList tasks = new UniqueTaskList();
+        Task first = withReminder(new TaskBuilder().withName("First").build(), reminderDateTime);
+        tasks.add(first);
+        scheduler.watch(tasks.asUnmodifiableObservableList());
+        assertEquals(1, scheduler.getScheduledCount());
+
+        Task second = withReminder(new TaskBuilder().withName("Second").build(), reminderDateTime);
+        tasks.add(second);
+        tasks.add(new TaskBuilder().withName("Third").build());
+        assertEquals(2, scheduler.getScheduledCount());
+
+        // Editing a task keeps its single reminder
+        Task editedFirst =
+                withReminder(new TaskBuilder(first).withName("Edited").build(), reminderDateTime);
+        tasks.setTask(first, editedFirst);
+        assertEquals(2, scheduler.getScheduledCount());
+
+        tasks.remove(second);
+        assertEquals(1, scheduler.getScheduledCount());
+
+        assertTrue(latch.await(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        Thread.sleep(FIRE_DELAY_MILLIS * 2);
+        assertEquals(List.of(editedFirst), fired);
+    }
+
+    private static Task withReminder(Task task, LocalDateTime reminderDateTime) throws Exception {
+        return new Task(
+                task.getId(),
+                task.getName(),
+                task.getPriority(),
+                task.getDescription(),
+                task.getDone(),
+                task.getTags(),
+                Optional.of(new Reminder(reminderDateTime)));
+    }
+}
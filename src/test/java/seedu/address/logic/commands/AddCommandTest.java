@@ -7,22 +7,34 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.TaskSortOrder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyPet;
 import seedu.address.model.ReadOnlyPomodoro;
 import seedu.address.model.ReadOnlyStatistics;
+import seedu.address.model.ReadOnlyTaskArchive;
 import seedu.address.model.ReadOnlyTaskList;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.Statistics;
 import seedu.address.model.TaskList;
+import seedu.address.model.task.TagIndex;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskBatch;
+import seedu.address.model.task.TaskQuery;
+import seedu.address.model.task.TaskQueryPlan;
+import seedu.address.model.task.TextIndex;
+import seedu.address.model.task.TrigramIndex;
 import seedu.address.testutil.TaskBuilder;
 
 public class AddCommandTest {
@@ -118,6 +130,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int addTasks(List<Task> tasks) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<Task> getTask(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TagIndex getTagIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TextIndex getTextIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TrigramIndex getTrigramIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setTaskList(ReadOnlyTaskList newData) {
             throw new AssertionError("This method should not be called.");
@@ -143,6 +180,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void applyBatch(TaskBatch batch) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Task> getFilteredTaskList() {
             throw new AssertionError("This method should not be called.");
@@ -153,6 +195,22 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredTaskList(
+                Predicate<Task> predicate, Comparator<Task> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TaskQueryPlan planTaskQuery(TaskQuery query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setTaskSortOrder(TaskSortOrder sortOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyPet getPet() {
             throw new AssertionError("This method should not be called.");
@@ -192,6 +250,51 @@ public class AddCommandTest {
         public void setStatistics(String temp) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public boolean canUndoTaskList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoTaskList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoTaskList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoTaskList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTaskList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int archiveDoneTasks(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyTaskArchive getTaskArchive() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void archiveSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> getArchivedTasks() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /** A Model stub that contains a single person. */
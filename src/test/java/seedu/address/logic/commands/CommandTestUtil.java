@@ -9,14 +9,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.TaskList;
-import seedu.address.model.task.NameContainsKeywordsPredicate;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TextIndex;
 import seedu.address.testutil.EditTaskDescriptorBuilder;
 
 /** Contains helper methods for testing commands. */
@@ -128,10 +128,17 @@ public class CommandTestUtil {
         assertTrue(targetIndex.getZeroBased() < model.getFilteredTaskList().size());
 
         Task task = model.getFilteredTaskList().get(targetIndex.getZeroBased());
-        final String[] splitName = task.getName().fullName.split("\\s+");
-        model.updateFilteredTaskList(
-                new NameContainsKeywordsPredicate(Arrays.asList(splitName[0])));
+        Map<Long, Integer> scores =
+                model.getTextIndex().search(TextIndex.toTerms(task.getName().fullName), true);
+        model.updateFilteredTaskList(shown -> scores.containsKey(shown.getId()));
 
         assertEquals(1, model.getFilteredTaskList().size());
     }
+
+    /** Deletes the first task in {@code model}'s filtered list, and commits the task list. */
+    public static void deleteFirstTask(Model model) {
+        Task firstTask = model.getFilteredTaskList().get(0);
+        model.deleteTask(firstTask);
+        model.commitTaskList();
+    }
 }
@@ -0,0 +1,52 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ConvertCommandTest {
+
+    @Test
+    public void execute_otherFormat_updatesUserPrefs() {
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+        UserPrefs expectedPrefs = new UserPrefs();
+        expectedPrefs.setStorageFormat(StorageFormat.BINARY);
+        expectedModel.setUserPrefs(expectedPrefs);
+
+        assertCommandSuccess(
+                new ConvertCommand(StorageFormat.BINARY),
+                model,
+                String.format(ConvertCommand.MESSAGE_SUCCESS, "binary"),
+                expectedModel);
+        assertEquals(StorageFormat.BINARY, model.getUserPrefs().getStorageFormat());
+        assertEquals(
+                new UserPrefs().getDataFilePath(), model.getUserPrefs().getDataFilePath());
+    }
+
+    @Test
+    public void execute_sameFormat_throwsCommandException() {
+        assertCommandFailure(
+                new ConvertCommand(StorageFormat.JSON),
+                new ModelManager(),
+                String.format(ConvertCommand.MESSAGE_SAME_FORMAT, "json"));
+    }
+
+    @Test
+    public void equals() {
+        ConvertCommand toBinary = new ConvertCommand(StorageFormat.BINARY);
+
+        assertTrue(toBinary.equals(toBinary));
+        assertTrue(toBinary.equals(new ConvertCommand(StorageFormat.BINARY)));
+        assertFalse(toBinary.equals(new ConvertCommand(StorageFormat.JSON)));
+        assertFalse(toBinary.equals(null));
+    }
+}
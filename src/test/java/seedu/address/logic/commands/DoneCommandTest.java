@@ -47,6 +47,8 @@ public class DoneCommandTest {
                 model.getFilteredTaskList().get(INDEX_FIRST_PERSON.getZeroBased()), doneTask);
 
         assertCommandSuccess(doneCommand, model, expectedMessage.toString(), expectedModel);
+        // the task is still found by the id it had before it was done
+        assertTrue(model.getTask(taskToDone.getId()).get().getDone().isDone);
     }
 
     @Test
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+import static seedu.address.testutil.TypicalTasks.getTypicalTasks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.Statistics;
+import seedu.address.model.TaskList;
+import seedu.address.model.UserPrefs;
+
+public class ExportCommandTest {
+
+    @TempDir public Path testFolder;
+
+    private static Model getTypicalModel() {
+        return new ModelManager(
+                getTypicalTaskList(), new Pet(), new Pomodoro(), new Statistics(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_typicalTasks_importedBackUnchanged() throws Exception {
+        for (String fileName : new String[] {"tasks.csv", "tasks.jsonl"}) {
+            Path filePath = testFolder.resolve(fileName);
+            assertCommandSuccess(
+                    new ExportCommand(filePath),
+                    getTypicalModel(),
+                    String.format(
+                            ExportCommand.MESSAGE_SUCCESS, getTypicalTasks().size(), filePath),
+                    getTypicalModel());
+
+            Model model = new ModelManager();
+            new ImportCommand(filePath).execute(model);
+            assertEquals(getTypicalTaskList(), new TaskList(model.getTaskList()));
+        }
+    }
+
+    @Test
+    public void execute_directoryInTheWay_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("tasks.csv");
+        Files.createDirectories(filePath.resolve("child"));
+        ExportCommand exportCommand = new ExportCommand(filePath);
+        assertThrows(CommandException.class, () -> exportCommand.execute(getTypicalModel()));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCsv = new ExportCommand(Paths.get("tasks.csv"));
+
+        assertTrue(exportCsv.equals(exportCsv));
+        assertTrue(exportCsv.equals(new ExportCommand(Paths.get("tasks.csv"))));
+        assertFalse(exportCsv.equals(new ExportCommand(Paths.get("tasks.jsonl"))));
+        assertFalse(exportCsv.equals(null));
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.TUTORIAL_1;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.Statistics;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskHasTagsPredicate;
+import seedu.address.model.task.TaskQuery;
+import seedu.address.model.task.TaskQueryPlan;
+import seedu.address.testutil.TaskBuilder;
+
+/** Contains integration tests (interaction with the Model) for {@code FilterCommand}. */
+public class FilterCommandTest {
+    private static final Tag MA1521 = Tag.of("MA1521");
+    private static final Tag HELP = Tag.of("help");
+    private static final Set<Tag> BOTH_TAGS = new HashSet<>(Arrays.asList(MA1521, HELP));
+
+    private Model model =
+            new ModelManager(
+                    getTypicalTaskList(),
+                    new Pet(),
+                    new Pomodoro(),
+                    new Statistics(),
+                    new UserPrefs());
+    private Model expectedModel =
+            new ModelManager(
+                    getTypicalTaskList(),
+                    new Pet(),
+                    new Pomodoro(),
+                    new Statistics(),
+                    new UserPrefs());
+
+    @Test
+    public void equals() {
+        FilterCommand filterAllCommand = filterByTags(BOTH_TAGS, true);
+
+        // same object -> returns true
+        assertTrue(filterAllCommand.equals(filterAllCommand));
+
+        // same values -> returns true
+        assertTrue(filterAllCommand.equals(filterByTags(BOTH_TAGS, true)));
+
+        // different types -> returns false
+        assertFalse(filterAllCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterAllCommand.equals(null));
+
+        // different tags or matching -> returns false
+        assertFalse(filterAllCommand.equals(filterByTags(Collections.singleton(HELP), true)));
+        assertFalse(filterAllCommand.equals(filterByTags(BOTH_TAGS, false)));
+    }
+
+    @Test
+    public void execute_matchAll_noTaskFound() {
+        String expectedMessage = expectedMessage(0, 1, 2);
+        expectedModel.updateFilteredTaskList(
+                new TaskHasTagsPredicate(BOTH_TAGS, true, expectedModel.getTagIndex()));
+        assertCommandSuccess(filterByTags(BOTH_TAGS, true), model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_matchAny_multipleTasksFound() {
+        String expectedMessage = expectedMessage(3, 1, 2);
+        expectedModel.updateFilteredTaskList(
+                new TaskHasTagsPredicate(BOTH_TAGS, false, expectedModel.getTagIndex()));
+        assertCommandSuccess(filterByTags(BOTH_TAGS, false), model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(HOMEWORK10, LAB_3, TUTORIAL_1), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_explainQuery_tasksFromTagIndexAndPlanShown() {
+        TaskQuery query =
+                new TaskQuery()
+                        .withTags(Collections.singleton(MA1521), true)
+                        .withPriorities(Priority.of("2"), Priority.of("3"));
+        TaskQueryPlan plan = expectedModel.planTaskQuery(query);
+        expectedModel.updateFilteredTaskList(task -> task.equals(TUTORIAL_1));
+        String expectedMessage =
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1)
+                        + System.lineSeparator()
+                        + String.format(FilterCommand.MESSAGE_TAG_COUNT, MA1521, 2)
+                        + System.lineSeparator()
+                        + String.format(FilterCommand.MESSAGE_PLAN, plan.describe())
+                        + System.lineSeparator()
+                        + String.format(FilterCommand.MESSAGE_EXAMINED, 2, 1);
+
+        assertCommandSuccess(new FilterCommand(query, true), model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(TUTORIAL_1), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_tasksEditedWhileShown_filterFollowsEdits() {
+        TaskQuery query =
+                new TaskQuery()
+                        .withTags(Collections.singleton(MA1521), true)
+                        .withPriorities(Priority.of("2"), Priority.of("3"));
+        new FilterCommand(query, false).execute(model);
+        assertEquals(Collections.singletonList(TUTORIAL_1), model.getFilteredTaskList());
+
+        // edited out of the filter -> no longer shown
+        model.setTask(TUTORIAL_1, new TaskBuilder(TUTORIAL_1).withPriority("1").build());
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+
+        // edited into the filter -> shown
+        Task editedHomework = new TaskBuilder(HOMEWORK10).withPriority("3").build();
+        model.setTask(HOMEWORK10, editedHomework);
+        assertEquals(Collections.singletonList(editedHomework), model.getFilteredTaskList());
+    }
+
+    private static FilterCommand filterByTags(Set<Tag> tags, boolean isMatchAll) {
+        return new FilterCommand(new TaskQuery().withTags(tags, isMatchAll), false);
+    }
+
+    private static String expectedMessage(int listed, int helpCount, int ma1521Count) {
+        return String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, listed)
+                + System.lineSeparator()
+                + String.format(FilterCommand.MESSAGE_TAG_COUNT, HELP, helpCount)
+                + System.lineSeparator()
+                + String.format(FilterCommand.MESSAGE_TAG_COUNT, MA1521, ma1521Count);
+    }
+}
@@ -6,12 +6,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalTasks.FEED_CAT;
+import static seedu.address.testutil.TypicalTasks.GYM;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
 import static seedu.address.testutil.TypicalTasks.RUN;
 import static seedu.address.testutil.TypicalTasks.TUTORIAL_1;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -19,7 +24,7 @@ import seedu.address.model.Pet;
 import seedu.address.model.Pomodoro;
 import seedu.address.model.Statistics;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.task.NameContainsKeywordsPredicate;
+import seedu.address.model.task.Task;
 
 /** Contains integration tests (interaction with the Model) for {@code FindCommand}. */
 public class FindCommandTest {
@@ -30,19 +35,15 @@ public class FindCommandTest {
 
     @Test
     public void equals() {
-        NameContainsKeywordsPredicate firstPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("first"));
-        NameContainsKeywordsPredicate secondPredicate =
-                new NameContainsKeywordsPredicate(Collections.singletonList("second"));
-
-        FindCommand findFirstCommand = new FindCommand(firstPredicate);
-        FindCommand findSecondCommand = new FindCommand(secondPredicate);
+        FindCommand findFirstCommand = new FindCommand(Collections.singletonList("first"), false);
+        FindCommand findSecondCommand = new FindCommand(Collections.singletonList("second"), false);
 
         // same object -> returns true
         assertTrue(findFirstCommand.equals(findFirstCommand));
 
         // same values -> returns true
-        FindCommand findFirstCommandCopy = new FindCommand(firstPredicate);
+        FindCommand findFirstCommandCopy =
+                new FindCommand(Collections.singletonList("first"), false);
         assertTrue(findFirstCommand.equals(findFirstCommandCopy));
 
         // different types -> returns false
@@ -51,32 +52,67 @@ public class FindCommandTest {
         // null -> returns false
         assertFalse(findFirstCommand.equals(null));
 
-        // different person -> returns false
+        // different keywords or matching -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+        assertFalse(
+                findFirstCommand.equals(new FindCommand(Collections.singletonList("first"), true)));
     }
 
     @Test
-    public void execute_zeroKeywords_noTaskFound() {
-        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
-        NameContainsKeywordsPredicate predicate = preparePredicate(" ");
-        FindCommand command = new FindCommand(predicate);
-        expectedModel.updateFilteredTaskList(predicate);
-        assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+    public void execute_noTerms_noTaskFound() {
+        assertFindSuccess(prepareCommand("- !", false));
+    }
+
+    @Test
+    public void execute_multipleKeywords_multipleTasksFound() {
+        // Tutorial 1 also has "to" in its description, and Lab 3 only there
+        assertFindSuccess(
+                prepareCommand("mum tells me to", false), TUTORIAL_1, FEED_CAT, RUN, LAB_3);
     }
 
     @Test
-    public void execute_multipleKeywords_multipleTaskFound() {
-        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
-        NameContainsKeywordsPredicate predicate = preparePredicate("mum tells me to");
-        FindCommand command = new FindCommand(predicate);
-        expectedModel.updateFilteredTaskList(predicate);
+    public void execute_keywordsInNamesAndDescriptions_mostRelevantFirst() {
+        // "gym" is in the name of Gym, which outranks "100" in both descriptions
+        assertFindSuccess(prepareCommand("100 GYM", false), GYM, HOMEWORK10);
+    }
+
+    @Test
+    public void execute_matchAll_onlyTasksWithEveryKeyword() {
+        assertFindSuccess(prepareCommand("introduction calculus", true), TUTORIAL_1);
+        assertFindSuccess(prepareCommand("introduction missing", true));
+    }
+
+    @Test
+    public void execute_prefix_tasksWithWordsStartingWithPrefix() {
+        assertFindSuccess(prepareCommand("MU*", false), TUTORIAL_1, FEED_CAT, RUN);
+    }
+
+    @Test
+    public void execute_noExactMatch_similarTasksListed() {
+        FindCommand command = prepareCommand("tutoral", false);
+        List<Task> expectedList = Collections.singletonList(TUTORIAL_1);
+        expectedModel.updateFilteredTaskList(expectedList::contains);
+        String expectedMessage =
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1)
+                        + "\n"
+                        + FindCommand.MESSAGE_SIMILAR_TASKS;
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
-        assertEquals(Arrays.asList(TUTORIAL_1, FEED_CAT, RUN), model.getFilteredTaskList());
+        assertEquals(expectedList, model.getFilteredTaskList());
+    }
+
+    /** Returns a {@code FindCommand} for the keywords in {@code userInput}. */
+    private FindCommand prepareCommand(String userInput, boolean isMatchAll) {
+        return new FindCommand(Arrays.asList(userInput.split("\\s+")), isMatchAll);
     }
 
-    /** Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}. */
-    private NameContainsKeywordsPredicate preparePredicate(String userInput) {
-        return new NameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    /** Asserts that {@code command} lists exactly {@code expectedTasks}, in that order. */
+    private void assertFindSuccess(FindCommand command, Task... expectedTasks) {
+        List<Task> expectedList = Arrays.asList(expectedTasks);
+        expectedModel.updateFilteredTaskList(
+                expectedList::contains, Comparator.comparingInt(expectedList::indexOf));
+        String expectedMessage =
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedList.size());
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedList, model.getFilteredTaskList());
     }
 }
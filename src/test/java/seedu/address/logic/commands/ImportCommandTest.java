@@ -0,0 +1,110 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.core.TaskFileFormat;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.Statistics;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.Task;
+import seedu.address.storage.TaskFileWriter;
+import seedu.address.testutil.TaskBuilder;
+
+public class ImportCommandTest {
+
+    @TempDir public Path testFolder;
+
+    private static Model getTypicalModel() {
+        return new ModelManager(
+                getTypicalTaskList(), new Pet(), new Pomodoro(), new Statistics(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_unknownExtension_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ImportCommand(Paths.get("a.txt")));
+    }
+
+    @Test
+    public void execute_moreTasksThanOneChunk_allTasksAdded() throws Exception {
+        Path filePath = testFolder.resolve("tasks.csv");
+        int taskCount = ImportCommand.CHUNK_SIZE + 5;
+        StringBuilder contents = new StringBuilder();
+        for (int i = 0; i < taskCount; i++) {
+            contents.append("Task ").append(i).append(",1,Imported\n");
+        }
+        Files.write(filePath, contents.toString().getBytes(StandardCharsets.UTF_8));
+
+        Model model = new ModelManager();
+        assertEquals(
+                String.format(ImportCommand.MESSAGE_SUCCESS, taskCount, filePath),
+                new ImportCommand(filePath).execute(model).getFeedbackToUser());
+        assertEquals(taskCount, model.getTaskList().getTaskList().size());
+
+        // Importing the same file again only finds duplicates
+        assertEquals(
+                String.format(ImportCommand.MESSAGE_SUCCESS, 0, filePath)
+                        + String.format(ImportCommand.MESSAGE_DUPLICATES_SKIPPED, taskCount),
+                new ImportCommand(filePath).execute(model).getFeedbackToUser());
+        assertEquals(taskCount, model.getTaskList().getTaskList().size());
+    }
+
+    @Test
+    public void execute_duplicatesAndInvalidRows_skipped() throws Exception {
+        Path filePath = testFolder.resolve("tasks.csv");
+        Task newTask = new TaskBuilder().withName("Water plants").withPriority("3").build();
+        TaskFileWriter.write(filePath, TaskFileFormat.CSV, Arrays.asList(HOMEWORK10, newTask));
+        Files.write(
+                filePath,
+                "Bad priority,9,\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        Model model = getTypicalModel();
+        Model expectedModel = getTypicalModel();
+        expectedModel.addTask(newTask);
+
+        String expectedMessage =
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, filePath)
+                        + String.format(ImportCommand.MESSAGE_DUPLICATES_SKIPPED, 1)
+                        + String.format(ImportCommand.MESSAGE_INVALID_ROWS_SKIPPED, 1)
+                        + System.lineSeparator()
+                        + "Row 4: "
+                        + Priority.MESSAGE_CONSTRAINTS;
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        ImportCommand importCommand = new ImportCommand(testFolder.resolve("missing.csv"));
+        assertThrows(CommandException.class, () -> importCommand.execute(new ModelManager()));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsv = new ImportCommand(Paths.get("tasks.csv"));
+
+        assertTrue(importCsv.equals(importCsv));
+        assertTrue(importCsv.equals(new ImportCommand(Paths.get("tasks.csv"))));
+        assertFalse(importCsv.equals(new ImportCommand(Paths.get("tasks.jsonl"))));
+        assertFalse(importCsv.equals(new ExportCommand(Paths.get("tasks.csv"))));
+        assertFalse(importCsv.equals(null));
+    }
+}
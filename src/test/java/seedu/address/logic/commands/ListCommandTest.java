@@ -1,10 +1,15 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_LAB;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
 
+import java.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
@@ -12,6 +17,8 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.Pet;
 import seedu.address.model.Pomodoro;
 import seedu.address.model.Statistics;
+import seedu.address.model.TaskArchive;
+import seedu.address.model.TaskList;
 import seedu.address.model.UserPrefs;
 
 /** Contains integration tests (interaction with the Model) and unit tests for ListCommand. */
@@ -38,9 +45,36 @@ public class ListCommandTest {
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_archived_listsArchivedTasks() {
+        TaskArchive archive = new TaskArchive(() -> Arrays.asList(OPTIONAL_LAB));
+        archive.addTask(HOMEWORK10);
+        model =
+                new ModelManager(
+                        new TaskList(),
+                        new Pet(),
+                        new Pomodoro(),
+                        new Statistics(),
+                        archive,
+                        new UserPrefs());
+        String expectedMessage =
+                String.format(ListCommand.MESSAGE_ARCHIVED_SUCCESS, 2)
+                        + String.format("%n1. %s%n2. %s", OPTIONAL_LAB, HOMEWORK10);
+
+        assertEquals(expectedMessage, new ListCommand(true).execute(model).getFeedbackToUser());
+        assertEquals(new TaskList(), new TaskList(model.getTaskList()));
+    }
+
     @Test
     public void execute_listIsFiltered_showsEverything() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void equals() {
+        assertEquals(new ListCommand(true), new ListCommand(true));
+        assertEquals(new ListCommand(true).hashCode(), new ListCommand(true).hashCode());
+        assertNotEquals(new ListCommand(true), new ListCommand());
+    }
 }
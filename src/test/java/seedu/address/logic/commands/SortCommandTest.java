@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import seedu.address.commons.core.TaskSortOrder;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.Statistics;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+/** Contains integration tests (interaction with the Model) for {@code SortCommand}. */
+public class SortCommandTest {
+
+    private final Model model = newModel();
+    private final Model expectedModel = newModel();
+
+    @Test
+    public void equals() {
+        SortCommand sortCommand = new SortCommand(TaskSortOrder.NAME);
+
+        // same object -> returns true
+        assertTrue(sortCommand.equals(sortCommand));
+
+        // same values -> returns true
+        assertTrue(sortCommand.equals(new SortCommand(TaskSortOrder.NAME)));
+
+        // different types -> returns false
+        assertFalse(sortCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(sortCommand.equals(null));
+
+        // different order -> returns false
+        assertFalse(sortCommand.equals(new SortCommand(TaskSortOrder.DONE)));
+    }
+
+    @Test
+    public void execute_name_tasksShownByNameAndOrderSaved() {
+        expectedModel.setTaskSortOrder(TaskSortOrder.NAME);
+        String expectedMessage = String.format(SortCommand.MESSAGE_SUCCESS, "name");
+
+        assertCommandSuccess(
+                new SortCommand(TaskSortOrder.NAME), model, expectedMessage, expectedModel);
+        assertEquals(TaskSortOrder.NAME, model.getGuiSettings().getTaskSortOrder());
+        assertSortedByName(model.getFilteredTaskList());
+
+        // a task added later is shown in order
+        model.addTask(new TaskBuilder().withName("Aardvark").build());
+        assertSortedByName(model.getFilteredTaskList());
+        assertEquals("Aardvark", model.getFilteredTaskList().get(0).getName().fullName);
+    }
+
+    private static void assertSortedByName(List<Task> tasks) {
+        List<Task> expected = new ArrayList<>(tasks);
+        expected.sort(
+                Comparator.comparing(
+                        (Task task) -> task.getName().fullName, String.CASE_INSENSITIVE_ORDER));
+        assertEquals(expected, tasks);
+    }
+
+    private static Model newModel() {
+        return new ModelManager(
+                getTypicalTaskList(), new Pet(), new Pomodoro(), new Statistics(), new UserPrefs());
+    }
+}
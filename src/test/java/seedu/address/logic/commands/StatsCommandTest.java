@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.Statistics;
+import seedu.address.model.UserPrefs;
+
+/** Contains integration tests (interaction with the Model) for {@code StatsCommand}. */
+public class StatsCommandTest {
+    private static final LocalDate DAY = LocalDate.of(2020, 3, 1);
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(DAY, DAY.plusDays(6));
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same values -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(DAY, DAY.plusDays(6))));
+
+        // different types -> returns false
+        assertFalse(statsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(DAY, DAY.plusDays(7))));
+        assertFalse(statsCommand.equals(new StatsCommand(DAY.minusDays(1), DAY.plusDays(6))));
+    }
+
+    @Test
+    public void execute_daysInRange_totalsAveragesAndStreak() {
+        Statistics statistics = new Statistics();
+        statistics.setDay(DAY.minusDays(1), 100, 9);
+        statistics.setDay(DAY, 25, 2);
+        statistics.setDay(DAY.plusDays(1), 50, 0);
+        statistics.setDay(DAY.plusDays(3), 0, 1);
+        statistics.setDay(DAY.plusDays(7), 200, 9);
+        Model model = newModel(statistics);
+        Model expectedModel = newModel(statistics);
+
+        String expectedMessage =
+                String.format(
+                        StatsCommand.MESSAGE_SUCCESS,
+                        DAY,
+                        DAY.plusDays(3),
+                        4,
+                        75,
+                        18.75,
+                        3,
+                        0.75,
+                        1);
+        assertCommandSuccess(
+                new StatsCommand(DAY, DAY.plusDays(3)), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noDaysRecorded_zeroes() {
+        Model model = newModel(new Statistics());
+        String expectedMessage =
+                String.format(StatsCommand.MESSAGE_SUCCESS, DAY, DAY, 1, 0, 0.0, 0, 0.0, 0);
+        assertCommandSuccess(
+                new StatsCommand(DAY, DAY), model, expectedMessage, newModel(new Statistics()));
+    }
+
+    private static Model newModel(Statistics statistics) {
+        return new ModelManager(
+                getTypicalTaskList(), new Pet(), new Pomodoro(), statistics, new UserPrefs());
+    }
+}
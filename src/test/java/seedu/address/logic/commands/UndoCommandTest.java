@@ -0,0 +1,129 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.deleteFirstTask;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.Statistics;
+import seedu.address.model.TaskList;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+import seedu.address.testutil.TaskListBuilder;
+
+public class UndoCommandTest {
+
+    private final Model model =
+            new ModelManager(
+                    getTypicalTaskList(),
+                    new Pet(),
+                    new Pomodoro(),
+                    new Statistics(),
+                    new UserPrefs());
+    private final Model expectedModel =
+            new ModelManager(
+                    getTypicalTaskList(),
+                    new Pet(),
+                    new Pomodoro(),
+                    new Statistics(),
+                    new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        // set up of models' undo/redo history
+        deleteFirstTask(model);
+        deleteFirstTask(model);
+
+        deleteFirstTask(expectedModel);
+        deleteFirstTask(expectedModel);
+    }
+
+    @Test
+    public void execute() {
+        // multiple undoable states in model
+        expectedModel.undoTaskList();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single undoable state in model
+        expectedModel.undoTaskList();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // no undoable states in model
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_historyLimitReached_oldestStateDropped() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryLimit(1);
+        Model limitedModel =
+                new ModelManager(
+                        getTypicalTaskList(),
+                        new Pet(),
+                        new Pomodoro(),
+                        new Statistics(),
+                        userPrefs);
+        deleteFirstTask(limitedModel);
+        deleteFirstTask(limitedModel);
+
+        expectedModel.undoTaskList();
+        assertCommandSuccess(
+                new UndoCommand(), limitedModel, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), limitedModel, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_doneWithArchiveLimitReached_doneAndArchiveUndone() throws Exception {
+        TaskListBuilder taskListBuilder = new TaskListBuilder();
+        List<Task> doneTasks = new ArrayList<>();
+        for (int i = 0; i < UserPrefs.DEFAULT_ARCHIVE_DONE_TASK_LIMIT; i++) {
+            Task doneTask = new TaskBuilder().withName("Done " + i).withDone("Y").build();
+            doneTasks.add(doneTask);
+            taskListBuilder.withPerson(doneTask);
+        }
+        TaskList taskList = taskListBuilder.withPerson(HOMEWORK10).withPerson(LAB_3).build();
+        Model archivingModel =
+                new ModelManager(
+                        taskList, new Pet(), new Pomodoro(), new Statistics(), new UserPrefs());
+        archivingModel.deleteTask(HOMEWORK10);
+        archivingModel.commitTaskList();
+
+        Index lab = Index.fromZeroBased(archivingModel.getFilteredTaskList().indexOf(LAB_3));
+        new DoneCommand(new Index[] {lab}).execute(archivingModel);
+        archivingModel.commitTaskList();
+        assertEquals(Arrays.asList(doneTasks.get(0)), archivingModel.getArchivedTasks());
+
+        // undoing done takes the archived task back out of the archive
+        new UndoCommand().execute(archivingModel);
+        assertEquals(Collections.emptyList(), archivingModel.getArchivedTasks());
+        assertEquals(Optional.of(LAB_3), archivingModel.getTask(LAB_3.getId()));
+        assertTrue(archivingModel.hasTask(doneTasks.get(0)));
+
+        // the command before done can still be undone
+        new UndoCommand().execute(archivingModel);
+        assertTrue(archivingModel.hasTask(HOMEWORK10));
+
+        new RedoCommand().execute(archivingModel);
+        new RedoCommand().execute(archivingModel);
+        assertEquals(Arrays.asList(doneTasks.get(0)), archivingModel.getArchivedTasks());
+        assertFalse(archivingModel.hasTask(doneTasks.get(0)));
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.dayData.Date;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Done;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.TaskQuery;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    private final Set<Tag> tags = new HashSet<>(Arrays.asList(Tag.of("MA1521"), Tag.of("help")));
+
+    @Test
+    public void parse_noTags_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " any", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_unknownPreamble_throwsParseException() {
+        assertParseFailure(parser, " some t/MA1521", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, " t/MA1521 t/#help", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        assertParseSuccess(parser, " t/MA1521 t/help", filterByTags(true));
+        assertParseSuccess(parser, " \n t/help \t t/MA1521 ", filterByTags(true));
+        assertParseSuccess(parser, " ANY t/MA1521 t/help", filterByTags(false));
+    }
+
+    @Test
+    public void parse_invalidConditions_throwsParseException() {
+        assertParseFailure(parser, " p/4", Priority.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " p/1-2-3", Priority.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " p/3-1", TaskQuery.MESSAGE_INVALID_PRIORITY_RANGE);
+        assertParseFailure(parser, " done/maybe", Done.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " from/2020-02-30", Date.MESSAGE_CONSTRAINTS);
+        assertParseFailure(
+                parser,
+                " from/2020-03-02 to/2020-03-01",
+                TaskQuery.MESSAGE_INVALID_REMINDER_WINDOW);
+    }
+
+    @Test
+    public void parse_allConditions_returnsFilterCommand() {
+        TaskQuery query =
+                new TaskQuery()
+                        .withPriorities(Priority.of("2"), Priority.of("3"))
+                        .withDone(false)
+                        .withTags(tags, false)
+                        .withNameKeywords(Arrays.asList("Math", "homework"))
+                        .withReminderWindow(LocalDate.of(2020, 3, 1), LocalDate.of(2020, 3, 31));
+        assertParseSuccess(
+                parser,
+                " explain any p/2-3 done/n t/MA1521 t/help n/Math n/homework from/2020-03-01"
+                        + " to/2020-03-31",
+                new FilterCommand(query, true));
+
+        assertParseSuccess(
+                parser,
+                " p/2",
+                new FilterCommand(
+                        new TaskQuery().withPriorities(Priority.of("2"), Priority.of("2")), false));
+        assertParseSuccess(
+                parser,
+                " EXPLAIN to/2020-03-31",
+                new FilterCommand(
+                        new TaskQuery().withReminderWindow(null, LocalDate.of(2020, 3, 31)), true));
+    }
+
+    private FilterCommand filterByTags(boolean isMatchAll) {
+        return new FilterCommand(new TaskQuery().withTags(tags, isMatchAll), false);
+    }
+}
@@ -5,9 +5,9 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.FindCommand;
-import seedu.address.model.task.NameContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
 
@@ -24,11 +24,18 @@ public class FindCommandParserTest {
     @Test
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
-        FindCommand expectedFindCommand =
-                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")));
+        FindCommand expectedFindCommand = new FindCommand(Arrays.asList("Alice", "Bob"), false);
         assertParseSuccess(parser, "Alice Bob", expectedFindCommand);
 
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
+
+        // all keywords must match
+        assertParseSuccess(
+                parser, "ALL Alice Bob", new FindCommand(Arrays.asList("Alice", "Bob"), true));
+
+        // all as the only keyword is searched for
+        assertParseSuccess(
+                parser, "all", new FindCommand(Collections.singletonList("all"), false));
     }
 }
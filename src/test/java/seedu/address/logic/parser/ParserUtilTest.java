@@ -6,11 +6,13 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
+import seedu.address.commons.core.TaskFileFormat;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Name;
@@ -86,7 +88,7 @@ public class ParserUtilTest {
 
     @Test
     public void parsePriority_validValueWithoutWhitespace_returnsPriority() throws Exception {
-        Priority expectedPriority = new Priority(VALID_PRIORITY);
+        Priority expectedPriority = Priority.of(VALID_PRIORITY);
         assertEquals(expectedPriority, ParserUtil.parsePriority(VALID_PRIORITY));
     }
 
@@ -94,7 +96,7 @@ public class ParserUtilTest {
     public void parsePriority_validValueWithWhitespace_returnsTrimmedPriority() throws Exception {
         String priorityWithWhitespace = WHITESPACE + VALID_PRIORITY + WHITESPACE;
         System.out.println(priorityWithWhitespace);
-        Priority expectedPriority = new Priority(VALID_PRIORITY);
+        Priority expectedPriority = Priority.of(VALID_PRIORITY);
         assertEquals(expectedPriority, ParserUtil.parsePriority(priorityWithWhitespace));
     }
 
@@ -115,14 +117,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseTag_validValueWithoutWhitespace_returnsTag() throws Exception {
-        Tag expectedTag = new Tag(VALID_TAG_1);
+        Tag expectedTag = Tag.of(VALID_TAG_1);
         assertEquals(expectedTag, ParserUtil.parseTag(VALID_TAG_1));
     }
 
     @Test
     public void parseTag_validValueWithWhitespace_returnsTrimmedTag() throws Exception {
         String tagWithWhitespace = WHITESPACE + VALID_TAG_1 + WHITESPACE;
-        Tag expectedTag = new Tag(VALID_TAG_1);
+        Tag expectedTag = Tag.of(VALID_TAG_1);
         assertEquals(expectedTag, ParserUtil.parseTag(tagWithWhitespace));
     }
 
@@ -147,8 +149,25 @@ public class ParserUtilTest {
     public void parseTags_collectionWithValidTags_returnsTagSet() throws Exception {
         Set<Tag> actualTagSet = ParserUtil.parseTags(Arrays.asList(VALID_TAG_1, VALID_TAG_2));
         Set<Tag> expectedTagSet =
-                new HashSet<Tag>(Arrays.asList(new Tag(VALID_TAG_1), new Tag(VALID_TAG_2)));
+                new HashSet<Tag>(Arrays.asList(Tag.of(VALID_TAG_1), Tag.of(VALID_TAG_2)));
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseTaskFilePath_validPath_returnsTrimmedPath() throws Exception {
+        assertEquals(
+                Paths.get("data", "tasks.csv"), ParserUtil.parseTaskFilePath(" data/tasks.csv "));
+        assertEquals(Paths.get("TASKS.JSONL"), ParserUtil.parseTaskFilePath("TASKS.JSONL"));
+    }
+
+    @Test
+    public void parseTaskFilePath_invalidPath_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseTaskFilePath(""));
+        assertThrows(ParseException.class, () -> ParserUtil.parseTaskFilePath(".csv"));
+        assertThrows(
+                ParseException.class,
+                TaskFileFormat.MESSAGE_CONSTRAINTS,
+                () -> ParserUtil.parseTaskFilePath("tasks.txt"));
+    }
 }
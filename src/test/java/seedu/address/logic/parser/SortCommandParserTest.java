@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+import seedu.address.commons.core.TaskSortOrder;
+import seedu.address.logic.commands.SortCommand;
+
+public class SortCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " deadline", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " priority name", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, " priority", new SortCommand(TaskSortOrder.PRIORITY));
+        assertParseSuccess(parser, " Done ", new SortCommand(TaskSortOrder.DONE));
+        assertParseSuccess(parser, " REMINDER", new SortCommand(TaskSortOrder.REMINDER));
+        assertParseSuccess(parser, " added", new SortCommand(TaskSortOrder.ADDED));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.dayData.Date;
+
+public class StatsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+
+    private StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " fortnight", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " to/2020-03-01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " week from/2020-03-01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " from/2020-02-30", Date.MESSAGE_CONSTRAINTS);
+        assertParseFailure(
+                parser, " from/2020-03-02 to/2020-03-01", StatsCommand.MESSAGE_INVALID_RANGE);
+    }
+
+    @Test
+    public void parse_period_daysUpToToday() {
+        LocalDate today = LocalDate.now();
+        assertParseSuccess(parser, "", new StatsCommand(today.minusDays(6), today));
+        assertParseSuccess(parser, " week", new StatsCommand(today.minusDays(6), today));
+        assertParseSuccess(parser, " Month", new StatsCommand(today.minusDays(29), today));
+        assertParseSuccess(parser, " year", new StatsCommand(today.minusDays(364), today));
+        assertParseSuccess(parser, " 3 ", new StatsCommand(today.minusDays(2), today));
+    }
+
+    @Test
+    public void parse_dates_returnsStatsCommand() {
+        LocalDate start = LocalDate.of(2020, 3, 1);
+        assertParseSuccess(
+                parser,
+                " from/2020-03-01 to/2020-03-31",
+                new StatsCommand(start, LocalDate.of(2020, 3, 31)));
+        assertParseSuccess(parser, " from/2020-03-01", new StatsCommand(start, LocalDate.now()));
+    }
+}
@@ -7,23 +7,38 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.core.TaskSortOrder;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ConvertCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditTaskDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.task.NameContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskQuery;
 import seedu.address.testutil.EditTaskDescriptorBuilder;
 import seedu.address.testutil.TaskBuilder;
 import seedu.address.testutil.TaskUtil;
@@ -45,6 +60,49 @@ public class TaskListParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_sort() throws Exception {
+        assertEquals(
+                new SortCommand(TaskSortOrder.PRIORITY),
+                parser.parseCommand(SortCommand.COMMAND_WORD + " priority"));
+    }
+
+    @Test
+    public void parseCommand_importExport() throws Exception {
+        assertEquals(
+                new ImportCommand(Paths.get("tasks.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + " tasks.csv"));
+        assertEquals(
+                new ExportCommand(Paths.get("tasks.jsonl")),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + " tasks.jsonl"));
+        assertThrows(
+                ParseException.class,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE),
+                () -> parser.parseCommand(ExportCommand.COMMAND_WORD + " tasks.xml"));
+    }
+
+    @Test
+    public void parseCommand_convert() throws Exception {
+        assertEquals(
+                new ConvertCommand(StorageFormat.BINARY),
+                parser.parseCommand(ConvertCommand.COMMAND_WORD + " binary"));
+        assertEquals(
+                new ConvertCommand(StorageFormat.JSON),
+                parser.parseCommand(ConvertCommand.COMMAND_WORD + " JSON"));
+        assertThrows(
+                ParseException.class,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConvertCommand.MESSAGE_USAGE),
+                () -> parser.parseCommand(ConvertCommand.COMMAND_WORD + " xml"));
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command =
@@ -77,6 +135,23 @@ public class TaskListParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(
+                new StatsCommand(LocalDate.of(2020, 3, 1), LocalDate.of(2020, 3, 31)),
+                parser.parseCommand(
+                        StatsCommand.COMMAND_WORD + " from/2020-03-01 to/2020-03-31"));
+    }
+
+    @Test
+    public void parseCommand_filter() throws Exception {
+        FilterCommand command =
+                (FilterCommand)
+                        parser.parseCommand(FilterCommand.COMMAND_WORD + " any t/foo t/bar");
+        Set<Tag> tags = new HashSet<>(Arrays.asList(Tag.of("foo"), Tag.of("bar")));
+        assertEquals(new FilterCommand(new TaskQuery().withTags(tags, false), false), command);
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -86,7 +161,7 @@ public class TaskListParserTest {
                                 FindCommand.COMMAND_WORD
                                         + " "
                                         + keywords.stream().collect(Collectors.joining(" ")));
-        assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
+        assertEquals(new FindCommand(keywords, false), command);
     }
 
     @Test
@@ -99,6 +174,10 @@ public class TaskListParserTest {
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
+        assertEquals(
+                new ListCommand(true),
+                parser.parseCommand(
+                        ListCommand.COMMAND_WORD + " " + ListCommand.ARCHIVED_KEYWORD));
     }
 
     @Test
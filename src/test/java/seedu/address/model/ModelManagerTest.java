@@ -10,10 +10,20 @@ import static seedu.address.testutil.TypicalTasks.LAB_3;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javafx.collections.ListChangeListener;
 import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.model.task.NameContainsKeywordsPredicate;
+import seedu.address.commons.core.TaskSortOrder;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TextIndex;
+import seedu.address.testutil.TaskBuilder;
 import seedu.address.testutil.TaskListBuilder;
 
 public class ModelManagerTest {
@@ -93,6 +103,122 @@ public class ModelManagerTest {
                 () -> modelManager.getFilteredTaskList().remove(0));
     }
 
+    @Test
+    public void updateFilteredTaskList_withComparator_orderedUntilNextFilter() {
+        modelManager.addTask(HOMEWORK10);
+        modelManager.addTask(LAB_3);
+        Comparator<Task> byName = Comparator.comparing(task -> task.getName().fullName);
+        modelManager.updateFilteredTaskList(PREDICATE_SHOW_ALL_PERSONS, byName.reversed());
+        assertEquals(Arrays.asList(LAB_3, HOMEWORK10), modelManager.getFilteredTaskList());
+
+        modelManager.updateFilteredTaskList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(HOMEWORK10, LAB_3), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void setTask_taskMovesEarlierInSortOrder_shownInNewPlace() {
+        for (TaskSortOrder sortOrder : TaskSortOrder.values()) {
+            if (sortOrder == TaskSortOrder.ADDED) {
+                continue;
+            }
+            modelManager = new ModelManager();
+            modelManager.setTaskSortOrder(sortOrder);
+            List<Task> tasks = new ArrayList<>();
+            for (char c = 'a'; c <= 'h'; c++) {
+                tasks.add(new TaskBuilder().withName("Task " + c).build());
+            }
+            tasks.forEach(modelManager::addTask);
+
+            // The tasks are the same but for their names, so every order ends in name order
+            Task last = tasks.get(tasks.size() - 1);
+            Task edited = new TaskBuilder(last).withName("Task bb").build();
+            modelManager.setTask(last, edited);
+
+            tasks.remove(last);
+            tasks.add(2, edited);
+            assertEquals(tasks, modelManager.getFilteredTaskList());
+        }
+    }
+
+    @Test
+    public void archiveDoneTasks_doneLongAgo_movedToArchive() {
+        Task oldTask = new TaskBuilder().withName("Old").withDoneOn("2020-03-03").build();
+        Task recentTask = new TaskBuilder().withName("Recent").withDoneOn("2020-03-04").build();
+        TaskList taskList =
+                new TaskListBuilder()
+                        .withPerson(oldTask)
+                        .withPerson(recentTask)
+                        .withPerson(LAB_3)
+                        .build();
+        modelManager =
+                new ModelManager(
+                        taskList, new Pet(), new Pomodoro(), new Statistics(), new UserPrefs());
+
+        assertEquals(1, modelManager.archiveDoneTasks(LocalDate.parse("2020-03-10")));
+        assertEquals(Arrays.asList(oldTask), modelManager.getArchivedTasks());
+        assertFalse(modelManager.hasTask(oldTask));
+        assertTrue(modelManager.hasTask(recentTask));
+        assertTrue(modelManager.hasTask(LAB_3));
+    }
+
+    @Test
+    public void archiveDoneTasks_beyondDoneTaskLimit_doneLongestAgoArchived() {
+        Task undatedTask = new TaskBuilder().withName("Undated").withDone("Y").build();
+        Task earlierTask = new TaskBuilder().withName("Earlier").withDoneOn("2020-03-08").build();
+        Task laterTask = new TaskBuilder().withName("Later").withDoneOn("2020-03-09").build();
+        TaskList taskList =
+                new TaskListBuilder()
+                        .withPerson(laterTask)
+                        .withPerson(undatedTask)
+                        .withPerson(earlierTask)
+                        .build();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setArchiveDoneTaskLimit(1);
+        modelManager =
+                new ModelManager(taskList, new Pet(), new Pomodoro(), new Statistics(), userPrefs);
+
+        AtomicInteger changes = new AtomicInteger();
+        modelManager
+                .getTaskList()
+                .getTaskList()
+                .addListener((ListChangeListener<Task>) change -> changes.incrementAndGet());
+
+        assertEquals(2, modelManager.archiveDoneTasks(LocalDate.parse("2020-03-10")));
+        assertEquals(Arrays.asList(undatedTask, earlierTask), modelManager.getArchivedTasks());
+        assertEquals(Arrays.asList(laterTask), modelManager.getFilteredTaskList());
+        // Both tasks leave the list in a single change
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void getArchivedTasks_archiveNotLoaded_loadedOnce() {
+        Task storedTask = new TaskBuilder().withName("Stored").withDoneOn("2020-01-01").build();
+        Task doneTask = new TaskBuilder().withName("Done").withDoneOn("2020-03-01").build();
+        AtomicInteger loads = new AtomicInteger();
+        TaskArchive archive =
+                new TaskArchive(
+                        () -> {
+                            loads.incrementAndGet();
+                            return Arrays.asList(storedTask);
+                        });
+        modelManager =
+                new ModelManager(
+                        new TaskListBuilder().withPerson(doneTask).build(),
+                        new Pet(),
+                        new Pomodoro(),
+                        new Statistics(),
+                        archive,
+                        new UserPrefs());
+
+        modelManager.archiveDoneTasks(LocalDate.parse("2020-03-10"));
+        assertEquals(0, loads.get());
+        assertEquals(Arrays.asList(doneTask), archive.getNewlyArchivedTasks());
+
+        assertEquals(Arrays.asList(storedTask, doneTask), modelManager.getArchivedTasks());
+        assertEquals(Arrays.asList(storedTask, doneTask), modelManager.getArchivedTasks());
+        assertEquals(1, loads.get());
+    }
+
     @Test
     public void equals() {
         TaskList taskList = new TaskListBuilder().withPerson(HOMEWORK10).withPerson(LAB_3).build();
@@ -120,9 +246,11 @@ public class ModelManagerTest {
                         new ModelManager(differentTaskList, new Pet(), new Pomodoro(), new Statistics(), userPrefs)));
 
         // different filteredList -> returns false
-        String[] keywords = HOMEWORK10.getName().fullName.split("\\s+");
-        modelManager.updateFilteredTaskList(
-                new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        Map<Long, Integer> scores =
+                modelManager
+                        .getTextIndex()
+                        .search(TextIndex.toTerms(HOMEWORK10.getName().fullName), true);
+        modelManager.updateFilteredTaskList(task -> scores.containsKey(task.getId()));
         assertFalse(
                 modelManager.equals(
                         new ModelManager(taskList, new Pet(), new Pomodoro(), new Statistics(), userPrefs)));
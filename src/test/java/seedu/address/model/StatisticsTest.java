@@ -0,0 +1,207 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.dayData.Date;
+import seedu.address.model.dayData.DayData;
+import seedu.address.model.dayData.PomDurationData;
+import seedu.address.model.dayData.TasksDoneData;
+
+public class StatisticsTest {
+
+    private static final LocalDate DAY = LocalDate.of(2020, 3, 1);
+
+    private final Statistics statistics = new Statistics();
+
+    @Test
+    public void constructor() {
+        assertEquals(0, statistics.getDayCount());
+        assertFalse(statistics.hasDay(DAY));
+        assertEquals(0, statistics.getPomDuration(DAY));
+        assertEquals(0, statistics.getTasksDone(DAY));
+    }
+
+    @Test
+    public void setDay_invalidValues_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> statistics.setDay(DAY, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> statistics.setDay(DAY, 1440, 0));
+        assertThrows(IllegalArgumentException.class, () -> statistics.setDay(DAY, 0, -1));
+    }
+
+    @Test
+    public void setDay_daysEitherSideOfFirst_allRecorded() {
+        statistics.setDay(DAY, 25, 2);
+        statistics.setDay(DAY.minusDays(40), 50, 1);
+        statistics.setDay(DAY.plusDays(400), 0, 3);
+
+        assertEquals(3, statistics.getDayCount());
+        assertEquals(25, statistics.getPomDuration(DAY));
+        assertEquals(2, statistics.getTasksDone(DAY));
+        assertEquals(50, statistics.getPomDuration(DAY.minusDays(40)));
+        assertEquals(3, statistics.getTasksDone(DAY.plusDays(400)));
+        assertTrue(statistics.hasDay(DAY.plusDays(400)));
+        assertFalse(statistics.hasDay(DAY.plusDays(1)));
+    }
+
+    @Test
+    public void setDay_dayAlreadyRecorded_replaced() {
+        statistics.setDay(DAY, 25, 2);
+        statistics.setDay(DAY, 50, 3);
+        assertEquals(1, statistics.getDayCount());
+        assertEquals(50, statistics.getPomDuration(DAY));
+        assertEquals(3, statistics.getTasksDone(DAY));
+    }
+
+    @Test
+    public void removeTask_recordedDay_removed() {
+        statistics.addDayData(dayData("2020-03-01", "25", "2"));
+        assertTrue(statistics.hasTask(dayData("2020-03-01", "25", "2")));
+        assertFalse(statistics.hasTask(dayData("2020-03-01", "25", "3")));
+
+        statistics.removeTask(dayData("2020-03-01", "25", "2"));
+        assertFalse(statistics.hasDay(DAY));
+        assertEquals(0, statistics.getDayCount());
+    }
+
+    @Test
+    public void forEachDay_earliestFirst() {
+        statistics.setDay(DAY.plusDays(2), 3, 0);
+        statistics.setDay(DAY, 1, 0);
+        statistics.setDay(DAY.plusDays(1), 2, 0);
+
+        List<Integer> pomDurations = new ArrayList<>();
+        statistics.forEachDay((epochDay, pomDuration, tasksDone) -> pomDurations.add(pomDuration));
+        assertEquals(Arrays.asList(1, 2, 3), pomDurations);
+        assertEquals("2020-03-01", statistics.getDayDataList().get(0).getDate().value);
+    }
+
+    @Test
+    public void getBetween_rangeSums() {
+        statistics.setDay(DAY, 25, 2);
+        statistics.setDay(DAY.plusDays(2), 50, 1);
+        statistics.setDay(DAY.minusDays(30), 10, 4);
+
+        assertEquals(75, statistics.getPomDurationBetween(DAY, DAY.plusDays(6)));
+        assertEquals(3, statistics.getTasksDoneBetween(DAY, DAY.plusDays(6)));
+        assertEquals(85, statistics.getPomDurationBetween(DAY.minusYears(1), DAY.plusYears(1)));
+        assertEquals(0, statistics.getTasksDoneBetween(DAY.plusDays(3), DAY.plusDays(20)));
+        assertEquals(0, statistics.getPomDurationBetween(DAY.minusYears(2), DAY.minusYears(1)));
+
+        // changed and removed days are no longer counted
+        statistics.setDay(DAY, 5, 0);
+        statistics.removeTask(dayData("2020-03-03", "50", "1"));
+        assertEquals(5, statistics.getPomDurationBetween(DAY, DAY.plusDays(6)));
+        assertEquals(0, statistics.getTasksDoneBetween(DAY, DAY.plusDays(6)));
+
+        // sums survive the arrays growing towards earlier days
+        statistics.setDay(DAY.minusYears(1), 1, 1);
+        assertEquals(16, statistics.getPomDurationBetween(DAY.minusYears(1), DAY));
+    }
+
+    @Test
+    public void getStreak_consecutiveActiveDays() {
+        statistics.setDay(DAY, 25, 0);
+        statistics.setDay(DAY.plusDays(1), 0, 1);
+        statistics.setDay(DAY.plusDays(2), 10, 1);
+        statistics.setDay(DAY.plusDays(4), 10, 1);
+        statistics.setDay(DAY.plusDays(5), 0, 0);
+
+        assertEquals(3, statistics.getStreak(DAY.plusDays(2)));
+        assertEquals(0, statistics.getStreak(DAY.plusDays(3)));
+        assertEquals(1, statistics.getStreak(DAY.plusDays(4)));
+        assertEquals(0, statistics.getStreak(DAY.plusDays(5)));
+        assertEquals(0, statistics.getStreak(DAY.plusYears(1)));
+    }
+
+    @Test
+    public void equals() {
+        statistics.setDay(DAY, 25, 2);
+        Statistics sameDays = new Statistics();
+        sameDays.setDay(DAY.minusDays(100), 5, 0);
+        sameDays.setDay(DAY, 25, 2);
+        sameDays.removeTask(dayData("2019-11-22", "5", "0"));
+
+        assertEquals(statistics, sameDays);
+        assertEquals(statistics, new Statistics(statistics));
+        sameDays.setDay(DAY, 25, 3);
+        assertNotEquals(statistics, sameDays);
+    }
+
+    private static DayData dayData(String date, String pomDuration, String tasksDone) {
+        return new DayData(
+                new Date(date), new PomDurationData(pomDuration), new TasksDoneData(tasksDone));
+    }
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        statistics.setDay(DAY, 25, 1);
+        statistics.setDay(DAY.plusDays(1), 50, 2);
+
+        Statistics snapshot = statistics.snapshot();
+        statistics.setDay(DAY, 30, 3);
+        statistics.setDay(DAY.minusDays(40), 5, 0);
+        statistics.removeTask(dayData("2020-03-02", "50", "2"));
+
+        assertEquals(2, snapshot.getDayCount());
+        assertEquals(25, snapshot.getPomDuration(DAY));
+        assertEquals(75, snapshot.getPomDurationBetween(DAY, DAY.plusDays(1)));
+        assertEquals(3, snapshot.getTasksDoneBetween(DAY, DAY.plusDays(1)));
+        assertFalse(snapshot.hasDay(DAY.minusDays(40)));
+        assertEquals(30, statistics.getPomDuration(DAY));
+        assertEquals(35, statistics.getPomDurationBetween(DAY.minusDays(40), DAY.plusDays(1)));
+    }
+
+    @Test
+    public void snapshot_snapshotChanged_statisticsUnchanged() {
+        statistics.setDay(DAY, 25, 1);
+
+        Statistics snapshot = statistics.snapshot();
+        snapshot.setDay(DAY, 30, 3);
+
+        assertEquals(25, statistics.getPomDuration(DAY));
+        assertEquals(1, statistics.getTasksDoneBetween(DAY, DAY));
+        assertEquals(30, snapshot.getPomDuration(DAY));
+    }
+
+    @Test
+    public void snapshot_takenOnAnotherThreadWhileChanged_daysOfItsVersion() throws Exception {
+        long firstVersion = statistics.getVersion();
+        AtomicBoolean isDone = new AtomicBoolean();
+        CompletableFuture<Integer> mismatches =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            int count = 0;
+                            while (!isDone.get()) {
+                                Statistics snapshot = statistics.snapshot();
+                                // Each change records one more day of one minute and one task
+                                long days = snapshot.getVersion() - firstVersion;
+                                LocalDate lastDay = DAY.plusDays(days - 1);
+                                if (snapshot.getDayCount() != days
+                                        || snapshot.getPomDurationBetween(DAY, lastDay) != days
+                                        || snapshot.getTasksDoneBetween(DAY, lastDay) != days) {
+                                    count++;
+                                }
+                            }
+                            return count;
+                        });
+
+        for (int i = 0; i < 1000; i++) {
+            statistics.setDay(DAY.plusDays(i), 1, 1);
+        }
+        isDone.set(true);
+
+        assertEquals(0, mismatches.get());
+        assertEquals(1000, statistics.snapshot().getDayCount());
+    }
+}
@@ -7,12 +7,16 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION_TAS
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_MA1521;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.TASK2;
 import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import org.junit.jupiter.api.Test;
@@ -87,6 +91,91 @@ public class TaskListTest {
         assertThrows(UnsupportedOperationException.class, () -> taskList.getTaskList().remove(0));
     }
 
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        taskList.resetData(getTypicalTaskList());
+        List<Task> tasksBefore = new ArrayList<>(taskList.getTaskList());
+        long versionBefore = taskList.getVersion();
+
+        ReadOnlyTaskList snapshot = taskList.snapshot();
+        taskList.removeTask(HOMEWORK10);
+        taskList.addTask(TASK2);
+
+        assertEquals(tasksBefore, snapshot.getTaskList());
+        assertEquals(versionBefore, snapshot.getVersion());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getTaskList().remove(0));
+    }
+
+    @Test
+    public void snapshot_readOnAnotherThread_seesTasksWhenTaken() throws Exception {
+        taskList.resetData(getTypicalTaskList());
+        ReadOnlyTaskList snapshot = taskList.snapshot();
+        List<Task> tasksBefore = new ArrayList<>(snapshot.getTaskList());
+        CompletableFuture<List<Task>> read =
+                CompletableFuture.supplyAsync(() -> new ArrayList<>(snapshot.getTaskList()));
+
+        for (int i = 0; i < 100; i++) {
+            taskList.addTask(new TaskBuilder().withName("Task " + i).build());
+        }
+
+        assertEquals(tasksBefore, read.get());
+    }
+
+    @Test
+    public void snapshot_takenOnAnotherThreadWhileChanged_tasksOfItsVersion() throws Exception {
+        long firstVersion = taskList.getVersion();
+        AtomicBoolean isDone = new AtomicBoolean();
+        CompletableFuture<Integer> mismatches =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            int count = 0;
+                            while (!isDone.get()) {
+                                ReadOnlyTaskList snapshot = taskList.snapshot();
+                                List<Task> tasks = new ArrayList<>(snapshot.getTaskList());
+                                // Each change adds one task, so the version gives the tasks
+                                if (tasks.size() != snapshot.getVersion() - firstVersion) {
+                                    count++;
+                                }
+                                for (int i = 0; i < tasks.size(); i++) {
+                                    if (!tasks.get(i).getName().fullName.equals("Task " + i)) {
+                                        count++;
+                                    }
+                                }
+                            }
+                            return count;
+                        });
+
+        for (int i = 0; i < 1000; i++) {
+            taskList.addTask(new TaskBuilder().withName("Task " + i).build());
+        }
+        isDone.set(true);
+
+        assertEquals(0, mismatches.get());
+        assertEquals(1000, taskList.snapshot().getTaskList().size());
+    }
+
+    @Test
+    public void restore_snapshot_tasksRestored() {
+        taskList.resetData(getTypicalTaskList());
+        TaskListSnapshot snapshot = taskList.snapshot();
+        taskList.removeTask(HOMEWORK10);
+        long versionBefore = taskList.getVersion();
+
+        taskList.restore(snapshot);
+
+        assertEquals(getTypicalTaskList(), taskList);
+        assertTrue(taskList.hasTask(HOMEWORK10));
+        assertTrue(taskList.getVersion() > versionBefore);
+    }
+
+    @Test
+    public void snapshot_otherReadOnlyTaskList_copied() {
+        TaskListStub stub = new TaskListStub(Arrays.asList(HOMEWORK10));
+        ReadOnlyTaskList snapshot = stub.snapshot();
+        stub.tasks.add(TASK2);
+        assertEquals(Arrays.asList(HOMEWORK10), snapshot.getTaskList());
+    }
+
     /** A stub ReadOnlyTaskList whose persons list can violate interface constraints. */
     private static class TaskListStub implements ReadOnlyTaskList {
         private final ObservableList<Task> tasks = FXCollections.observableArrayList();
@@ -99,5 +188,10 @@ public class TaskListTest {
         public ObservableList<Task> getTaskList() {
             return tasks;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 }
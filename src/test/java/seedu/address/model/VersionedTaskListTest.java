@@ -0,0 +1,175 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.TASK2;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskBatch;
+import seedu.address.testutil.TaskBuilder;
+
+public class VersionedTaskListTest {
+
+    private final TaskList typicalTaskList = getTypicalTaskList();
+    private final VersionedTaskList versionedTaskList =
+            new VersionedTaskList(typicalTaskList, UserPrefs.DEFAULT_UNDO_HISTORY_LIMIT);
+
+    @Test
+    public void constructor_initialStateOnly_nothingToUndoOrRedo() {
+        assertEquals(typicalTaskList, versionedTaskList);
+        assertFalse(versionedTaskList.canUndo());
+        assertFalse(versionedTaskList.canRedo());
+        assertThrows(
+                VersionedTaskList.NoUndoableStateException.class, versionedTaskList::undo);
+        assertThrows(
+                VersionedTaskList.NoRedoableStateException.class, versionedTaskList::redo);
+    }
+
+    @Test
+    public void undoRedo_committedChanges_statesRestored() {
+        versionedTaskList.removeTask(HOMEWORK10);
+        versionedTaskList.commit();
+        TaskList afterRemove = new TaskList(versionedTaskList);
+        versionedTaskList.addTask(TASK2);
+        versionedTaskList.commit();
+        TaskList afterAdd = new TaskList(versionedTaskList);
+
+        versionedTaskList.undo();
+        assertEquals(afterRemove, versionedTaskList);
+        versionedTaskList.undo();
+        assertEquals(typicalTaskList, versionedTaskList);
+        assertFalse(versionedTaskList.canUndo());
+
+        versionedTaskList.redo();
+        assertEquals(afterRemove, versionedTaskList);
+        versionedTaskList.redo();
+        assertEquals(afterAdd, versionedTaskList);
+        assertFalse(versionedTaskList.canRedo());
+    }
+
+    @Test
+    public void commit_unchanged_noNewState() {
+        versionedTaskList.commit();
+        assertFalse(versionedTaskList.canUndo());
+    }
+
+    @Test
+    public void commit_afterUndo_redoStatesDiscarded() {
+        versionedTaskList.removeTask(HOMEWORK10);
+        versionedTaskList.commit();
+        versionedTaskList.undo();
+
+        versionedTaskList.addTask(TASK2);
+        versionedTaskList.commit();
+
+        assertFalse(versionedTaskList.canRedo());
+        versionedTaskList.undo();
+        assertEquals(typicalTaskList, versionedTaskList);
+    }
+
+    @Test
+    public void undo_uncommittedChanges_changesUndone() {
+        versionedTaskList.removeTask(HOMEWORK10);
+        assertTrue(versionedTaskList.canUndo());
+
+        versionedTaskList.undo();
+
+        assertEquals(typicalTaskList, versionedTaskList);
+        assertTrue(versionedTaskList.canRedo());
+    }
+
+    @Test
+    public void undo_bulkDelete_lookupsAndIndexesRestored() {
+        List<Task> tasks = new ArrayList<>();
+        TaskBatch batch = new TaskBatch();
+        for (int i = 0; i < 1000; i++) {
+            Task task = new TaskBuilder().withName("Task " + i).withTags("bulk").build();
+            tasks.add(task);
+            batch.remove(task);
+        }
+        versionedTaskList.addTasks(tasks);
+        versionedTaskList.commit();
+        versionedTaskList.applyBatch(batch);
+        versionedTaskList.commit();
+        assertEquals(0, versionedTaskList.getTagIndex().count(Tag.of("bulk")));
+
+        versionedTaskList.undo();
+
+        int expectedSize = typicalTaskList.getTaskList().size() + tasks.size();
+        assertEquals(expectedSize, versionedTaskList.getTaskList().size());
+        assertTrue(versionedTaskList.hasTask(tasks.get(500)));
+        Task lastTask = tasks.get(999);
+        assertEquals(Optional.of(lastTask), versionedTaskList.getTask(lastTask.getId()));
+        assertEquals(1000, versionedTaskList.getTagIndex().count(Tag.of("bulk")));
+        versionedTaskList.removeTask(tasks.get(0));
+        assertFalse(versionedTaskList.hasTaskId(tasks.get(0).getId()));
+    }
+
+    @Test
+    public void commit_historyLimitReached_oldestStateDropped() {
+        VersionedTaskList limited = new VersionedTaskList(typicalTaskList, 1);
+        limited.removeTask(HOMEWORK10);
+        limited.commit();
+        limited.removeTask(LAB_3);
+        limited.commit();
+
+        limited.undo();
+        assertFalse(limited.canUndo());
+        assertFalse(limited.hasTask(HOMEWORK10));
+    }
+
+    @Test
+    public void archiveSaved_tasksBeyondHistory_droppedFromMemory() {
+        // The saved archive has every task archived so far
+        TaskArchive archive = new TaskArchive(() -> List.of(HOMEWORK10, LAB_3));
+        VersionedTaskList limited = new VersionedTaskList(typicalTaskList, archive, 1);
+        limited.removeTask(HOMEWORK10);
+        archive.addTask(HOMEWORK10);
+        limited.commit();
+        limited.removeTask(LAB_3);
+        archive.addTask(LAB_3);
+        limited.commit();
+
+        // Moving HOMEWORK10 can no longer be undone, so it is not held
+        limited.archiveSaved();
+        assertEquals(List.of(LAB_3), archive.getNewlyArchivedTasks());
+        assertEquals(1, archive.getDroppedTaskCount());
+        assertEquals(List.of(HOMEWORK10, LAB_3), archive.getArchivedTasks());
+
+        limited.undo();
+        assertTrue(limited.hasTask(LAB_3));
+        assertEquals(List.of(HOMEWORK10), archive.getArchivedTasks());
+        limited.redo();
+        assertEquals(List.of(LAB_3), archive.getNewlyArchivedTasks());
+    }
+
+    @Test
+    public void historyLimitZero_cannotUndo() {
+        VersionedTaskList noHistory = new VersionedTaskList(typicalTaskList, 0);
+        noHistory.removeTask(HOMEWORK10);
+        assertFalse(noHistory.canUndo());
+        noHistory.commit();
+        assertFalse(noHistory.canUndo());
+    }
+
+    @Test
+    public void discardHistory_cannotUndo() {
+        versionedTaskList.removeTask(HOMEWORK10);
+        versionedTaskList.commit();
+
+        versionedTaskList.discardHistory();
+
+        assertFalse(versionedTaskList.canUndo());
+        assertFalse(versionedTaskList.hasTask(HOMEWORK10));
+    }
+}
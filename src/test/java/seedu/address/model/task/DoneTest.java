@@ -0,0 +1,42 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class DoneTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Done.of((String) null));
+        assertThrows(NullPointerException.class, () -> Done.of((LocalDate) null));
+    }
+
+    @Test
+    public void of_invalidDone_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Done.of("yes"));
+    }
+
+    @Test
+    public void of_sameValue_returnsSameInstance() {
+        assertSame(Done.of(Done.NOT_DONE), Done.notDone());
+        assertSame(Done.of(Done.DONE), Done.of(new String(Done.DONE)));
+        assertSame(Done.of(LocalDate.of(2020, 3, 1)), Done.of(LocalDate.parse("2020-03-01")));
+    }
+
+    @Test
+    public void of_doneOn_isDoneOnThatDay() {
+        Done done = Done.of(LocalDate.of(2020, 3, 1));
+        assertTrue(done.isDone);
+        assertEquals(Optional.of(LocalDate.of(2020, 3, 1)), done.getDoneOn());
+        assertNotEquals(Done.of(Done.DONE), done);
+        assertFalse(Done.notDone().isDone);
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_HOMEWORK;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class NameOrTagSimilarToKeywordsPredicateTest {
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+
+    @Test
+    public void equals() {
+        TrigramIndex trigramIndex = uniqueTaskList.getTrigramIndex();
+        List<String> firstKeywords = Collections.singletonList("first");
+        NameOrTagSimilarToKeywordsPredicate firstPredicate =
+                new NameOrTagSimilarToKeywordsPredicate(firstKeywords, false, trigramIndex);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(
+                firstPredicate.equals(
+                        new NameOrTagSimilarToKeywordsPredicate(
+                                firstKeywords, false, trigramIndex)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords or matching -> returns false
+        assertFalse(
+                firstPredicate.equals(
+                        new NameOrTagSimilarToKeywordsPredicate(
+                                Arrays.asList("first", "second"), false, trigramIndex)));
+        assertFalse(
+                firstPredicate.equals(
+                        new NameOrTagSimilarToKeywordsPredicate(
+                                firstKeywords, true, trigramIndex)));
+    }
+
+    @Test
+    public void test_prefixAndTypos_matchingTasksMostSimilarFirst() {
+        uniqueTaskList.setTasks(Arrays.asList(HOMEWORK10, LAB_3, OPTIONAL_HOMEWORK));
+        NameOrTagSimilarToKeywordsPredicate predicate =
+                new NameOrTagSimilarToKeywordsPredicate(
+                        Arrays.asList("homewrk", "Opt*"), false, uniqueTaskList.getTrigramIndex());
+
+        assertTrue(predicate.test(HOMEWORK10));
+        assertTrue(predicate.test(OPTIONAL_HOMEWORK));
+        assertFalse(predicate.test(LAB_3));
+
+        List<Task> sorted = new ArrayList<>(Arrays.asList(HOMEWORK10, OPTIONAL_HOMEWORK));
+        sorted.sort(predicate.getComparator());
+        assertEquals(Arrays.asList(OPTIONAL_HOMEWORK, HOMEWORK10), sorted);
+    }
+
+    @Test
+    public void test_keywordWithPunctuation_splitIntoWords() {
+        uniqueTaskList.setTasks(Arrays.asList(HOMEWORK10, LAB_3));
+        NameOrTagSimilarToKeywordsPredicate predicate =
+                new NameOrTagSimilarToKeywordsPredicate(
+                        Collections.singletonList("lab-3*"),
+                        true,
+                        uniqueTaskList.getTrigramIndex());
+
+        assertTrue(predicate.test(LAB_3));
+        assertFalse(predicate.test(HOMEWORK10));
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_sameElementsInOrder() {
+        assertEquals(Collections.emptyList(), PersistentList.of(Collections.emptyList()));
+        assertEquals(Arrays.asList(1, 2, 3), PersistentList.of(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void changes_oldListUnchanged() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+        PersistentList<String> changed = list.with(1, "x").plus(0, "y").minus(3).plus("z");
+
+        assertEquals(Arrays.asList("y", "a", "x", "z"), changed);
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(42);
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                list = list.plus(index, i);
+                expected.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                list = list.with(index, i);
+                expected.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                list = list.minus(index);
+                expected.remove(index);
+            }
+        }
+        assertEquals(expected, list);
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void minusAll_randomIndices_sameAsArrayList() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = random.nextInt(500); i > 0; i--) {
+                expected.add(expected.size());
+            }
+            PersistentList<Integer> list = PersistentList.of(expected);
+            int[] indices =
+                    IntStream.range(0, expected.size())
+                            .filter(unused -> random.nextInt(4) == 0)
+                            .toArray();
+
+            PersistentList<Integer> removed = list.minusAll(indices);
+            for (int i = indices.length - 1; i >= 0; i--) {
+                expected.remove(indices[i]);
+            }
+
+            assertEquals(expected, removed);
+        }
+    }
+
+    @Test
+    public void minusAll_unsortedIndices_throwsIllegalArgumentException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b", "c"));
+        assertThrows(IllegalArgumentException.class, () -> list.minusAll(new int[] {2, 0}));
+        assertThrows(IllegalArgumentException.class, () -> list.minusAll(new int[] {1, 1}));
+    }
+
+    @Test
+    public void changedRanges_randomChanges_restOfListShared() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<Integer> elements = new ArrayList<>();
+            for (int i = random.nextInt(1000); i > 0; i--) {
+                elements.add(elements.size());
+            }
+            PersistentList<Integer> older = PersistentList.of(elements);
+            PersistentList<Integer> newer = older;
+            for (int i = random.nextInt(5); i > 0; i--) {
+                int operation = newer.isEmpty() ? 0 : random.nextInt(3);
+                if (operation == 0) {
+                    newer = newer.plus(random.nextInt(newer.size() + 1), -i);
+                } else if (operation == 1) {
+                    newer = newer.with(random.nextInt(newer.size()), -i);
+                } else {
+                    newer = newer.minus(random.nextInt(newer.size()));
+                }
+            }
+
+            // Replacing each range of the old list with that of the new one gives the new list
+            List<Integer> rebuilt = new ArrayList<>();
+            int oldFrom = 0;
+            for (ChangedRange range : PersistentList.changedRanges(older, newer)) {
+                rebuilt.addAll(older.subList(oldFrom, range.getOldFrom()));
+                assertEquals(rebuilt.size(), range.getNewFrom());
+                rebuilt.addAll(newer.subList(range.getNewFrom(), range.getNewTo()));
+                oldFrom = range.getOldTo();
+            }
+            rebuilt.addAll(older.subList(oldFrom, older.size()));
+            assertEquals(newer, rebuilt);
+        }
+    }
+
+    @Test
+    public void changedRanges_oneElementReplaced_smallRanges() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> older = PersistentList.of(elements);
+
+        assertEquals(Collections.emptyList(), PersistentList.changedRanges(older, older));
+        int changed = 0;
+        for (ChangedRange range : PersistentList.changedRanges(older, older.with(5000, -1))) {
+            changed += range.getNewTo() - range.getNewFrom();
+        }
+        assertTrue(changed <= 20);
+    }
+
+    @Test
+    public void iterator_fromIndex_elementsFromIndex() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> list = PersistentList.of(elements);
+        for (int from = 0; from <= elements.size(); from++) {
+            Iterator<Integer> iterator = list.iterator(from);
+            for (int i = from; i < elements.size(); i++) {
+                assertEquals(i, iterator.next());
+            }
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    public void indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.plus(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.minus(2));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.task;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION_TASK2;
@@ -11,7 +12,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
 import static seedu.address.testutil.TypicalTasks.TASK2;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import org.junit.jupiter.api.Test;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.TaskBuilder;
 
 public class PersonTest {
@@ -98,4 +102,25 @@ public class PersonTest {
         editedAlice = new TaskBuilder(HOMEWORK10).withTags(VALID_TAG_HELP).build();
         assertFalse(HOMEWORK10.equals(editedAlice));
     }
+
+    @Test
+    public void hashCode_equalTasks_sameHashCode() {
+        Task taggedOneWay =
+                new TaskBuilder(HOMEWORK10).withTags(VALID_TAG_MA1521, VALID_TAG_HELP).build();
+        Task taggedOtherWay =
+                new TaskBuilder(HOMEWORK10).withTags(VALID_TAG_HELP, VALID_TAG_MA1521).build();
+        assertTrue(taggedOneWay.equals(taggedOtherWay));
+        assertEquals(taggedOneWay.hashCode(), taggedOtherWay.hashCode());
+        assertEquals(new TaskBuilder(HOMEWORK10).build().hashCode(), HOMEWORK10.hashCode());
+    }
+
+    @Test
+    public void getTags_sameTagsAsGiven() {
+        Task task = new TaskBuilder().withTags(VALID_TAG_MA1521, VALID_TAG_HELP).build();
+        assertEquals(
+                new HashSet<>(Arrays.asList(Tag.of(VALID_TAG_MA1521), Tag.of(VALID_TAG_HELP))),
+                task.getTags());
+        assertTrue(task.getTags().contains(Tag.of(VALID_TAG_HELP)));
+        assertTrue(new TaskBuilder().withTags().build().getTags().isEmpty());
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.model.task;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -9,14 +10,20 @@ import org.junit.jupiter.api.Test;
 public class PriorityTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Priority(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Priority.of(null));
     }
 
     @Test
-    public void constructor_invalidPriority_throwsIllegalArgumentException() {
+    public void of_invalidPriority_throwsIllegalArgumentException() {
         String invalidPriority = "";
-        assertThrows(IllegalArgumentException.class, () -> new Priority(invalidPriority));
+        assertThrows(IllegalArgumentException.class, () -> Priority.of(invalidPriority));
+    }
+
+    @Test
+    public void of_samePriority_returnsSameInstance() {
+        assertSame(Priority.of("1"), Priority.of(new String("1")));
+        assertSame(Priority.of("3"), Priority.of("3"));
     }
 
     @Test
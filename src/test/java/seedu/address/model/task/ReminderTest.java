@@ -0,0 +1,38 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.task.exceptions.InvalidReminderException;
+
+public class ReminderTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Reminder(null));
+    }
+
+    @Test
+    public void constructor_pastTime_throwsInvalidReminderException() {
+        assertThrows(
+                InvalidReminderException.class,
+                () -> new Reminder(LocalDateTime.now().minusMinutes(1)));
+    }
+
+    @Test
+    public void constructor_futureTime_success() throws Exception {
+        LocalDateTime reminderDateTime = LocalDateTime.now().plusDays(1);
+        assertEquals(reminderDateTime, new Reminder(reminderDateTime).getReminderDateTime());
+    }
+
+    @Test
+    public void isValidReminder() {
+        assertTrue(Reminder.isValidReminder("04/11/20@10:30"));
+        assertFalse(Reminder.isValidReminder("04/11/2020@10:30"));
+        assertFalse(Reminder.isValidReminder("32/11/20@10:30"));
+    }
+}
@@ -0,0 +1,202 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.getTypicalTasks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.Test;
+import seedu.address.commons.core.TaskSortOrder;
+import seedu.address.testutil.TaskBuilder;
+
+public class SortedTaskViewTest {
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+
+    @Test
+    public void constructor_typicalTasks_sortedByOrder() {
+        uniqueTaskList.setTasks(getTypicalTasks());
+
+        for (TaskSortOrder sortOrder : TaskSortOrder.values()) {
+            SortedTaskView view =
+                    new SortedTaskView(uniqueTaskList.asUnmodifiableObservableList(), sortOrder);
+            assertEquals(sorted(getTypicalTasks(), sortOrder), view);
+        }
+    }
+
+    @Test
+    public void comparatorOf_priority_highestPriorityFirst() {
+        Task low = new TaskBuilder().withName("Low").withPriority("1").build();
+        Task high = new TaskBuilder().withName("High").withPriority("3").build();
+        uniqueTaskList.setTasks(Arrays.asList(low, high));
+
+        SortedTaskView view =
+                new SortedTaskView(
+                        uniqueTaskList.asUnmodifiableObservableList(), TaskSortOrder.PRIORITY);
+
+        assertEquals(Arrays.asList(high, low), view);
+    }
+
+    @Test
+    public void comparatorOf_reminder_earliestFirstAndNoReminderLast() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        Task none = new TaskBuilder().withName("A").build();
+        Task later = withReminder(new TaskBuilder().withName("B").build(), now.plusDays(2));
+        Task sooner = withReminder(new TaskBuilder().withName("C").build(), now.plusDays(1));
+        uniqueTaskList.setTasks(Arrays.asList(none, later, sooner));
+
+        SortedTaskView view =
+                new SortedTaskView(
+                        uniqueTaskList.asUnmodifiableObservableList(), TaskSortOrder.REMINDER);
+
+        assertEquals(Arrays.asList(sooner, later, none), view);
+    }
+
+    @Test
+    public void sourceChanged_addEditRemove_sameAsSortingAgain() {
+        Random random = new Random(42);
+        for (TaskSortOrder sortOrder : TaskSortOrder.values()) {
+            UniqueTaskList source = new UniqueTaskList();
+            SortedTaskView view =
+                    new SortedTaskView(source.asUnmodifiableObservableList(), sortOrder);
+            for (int i = 0; i < 300; i++) {
+                List<Task> tasks = source.asUnmodifiableObservableList();
+                int operation = tasks.isEmpty() ? 0 : random.nextInt(3);
+                Task task = randomTask(random);
+                if (source.contains(task)) {
+                    continue;
+                }
+                if (operation == 0) {
+                    source.add(task);
+                } else {
+                    Task target = tasks.get(random.nextInt(tasks.size()));
+                    if (operation == 1) {
+                        source.setTask(target, task);
+                    } else {
+                        source.remove(target);
+                    }
+                }
+                assertEquals(sorted(source.asUnmodifiableObservableList(), sortOrder), view);
+            }
+        }
+    }
+
+    @Test
+    public void sourceChanged_batchEditsTaskIntoRemovedTaskPlace_sameAsSortingAgain() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(new TaskBuilder().withName("Task " + (char) ('a' + i)).build());
+        }
+        uniqueTaskList.setTasks(tasks);
+        SortedTaskView view =
+                new SortedTaskView(
+                        uniqueTaskList.asUnmodifiableObservableList(), TaskSortOrder.NAME);
+
+        // The edited task sorts the same as the task removed in the same batch
+        Task removed = tasks.get(5);
+        Task edited = new TaskBuilder(removed).withId(1000).withTags("rare").build();
+        uniqueTaskList.applyBatch(new TaskBatch().set(tasks.get(0), edited).remove(removed));
+
+        assertEquals(
+                sorted(uniqueTaskList.asUnmodifiableObservableList(), TaskSortOrder.NAME), view);
+    }
+
+    @Test
+    public void sourceChanged_add_oneAddition() {
+        uniqueTaskList.setTasks(getTypicalTasks());
+        SortedTaskView view =
+                new SortedTaskView(
+                        uniqueTaskList.asUnmodifiableObservableList(), TaskSortOrder.NAME);
+        List<Integer> addedSizes = new ArrayList<>();
+        view.addListener(
+                (ListChangeListener<Task>)
+                        c -> {
+                            while (c.next()) {
+                                assertTrue(c.wasAdded() && !c.wasRemoved());
+                                addedSizes.add(c.getAddedSize());
+                            }
+                        });
+
+        Task task = new TaskBuilder().withName("Aardvark").build();
+        uniqueTaskList.add(task);
+
+        assertEquals(Collections.singletonList(1), addedSizes);
+        assertEquals(task, view.get(0));
+        int sourceIndex = uniqueTaskList.asUnmodifiableObservableList().size() - 1;
+        assertEquals(0, view.getViewIndex(sourceIndex));
+    }
+
+    @Test
+    public void sourceChanged_permutationInAddedOrder_oneReplacement() {
+        ObservableList<Task> source = FXCollections.observableArrayList(getTypicalTasks());
+        SortedTaskView view = new SortedTaskView(source, TaskSortOrder.ADDED);
+        List<Integer> replacedSizes = new ArrayList<>();
+        view.addListener(
+                (ListChangeListener<Task>)
+                        c -> {
+                            while (c.next()) {
+                                assertTrue(c.wasReplaced());
+                                replacedSizes.add(c.getAddedSize());
+                            }
+                        });
+
+        FXCollections.sort(source, SortedTaskView.comparatorOf(TaskSortOrder.NAME).reversed());
+
+        assertEquals(Collections.singletonList(source.size()), replacedSizes);
+        assertEquals(source, view);
+    }
+
+    @Test
+    public void setSortOrder_newOrder_sortedByNewOrder() {
+        uniqueTaskList.setTasks(Arrays.asList(LAB_3, HOMEWORK10));
+        SortedTaskView view =
+                new SortedTaskView(
+                        uniqueTaskList.asUnmodifiableObservableList(), TaskSortOrder.ADDED);
+
+        view.setSortOrder(TaskSortOrder.NAME);
+
+        assertEquals(TaskSortOrder.NAME, view.getSortOrder());
+        assertEquals(sorted(Arrays.asList(LAB_3, HOMEWORK10), TaskSortOrder.NAME), view);
+        assertEquals(
+                uniqueTaskList.asUnmodifiableObservableList().indexOf(view.get(1)),
+                view.getSourceIndex(1));
+    }
+
+    private static List<Task> sorted(List<Task> tasks, TaskSortOrder sortOrder) {
+        List<Task> sorted = new ArrayList<>(tasks);
+        if (sortOrder != TaskSortOrder.ADDED) {
+            sorted.sort(SortedTaskView.comparatorOf(sortOrder));
+        }
+        return sorted;
+    }
+
+    private static Task randomTask(Random random) {
+        return new TaskBuilder()
+                .withName("Task " + random.nextInt(50))
+                .withPriority(String.valueOf(1 + random.nextInt(3)))
+                .withDone(random.nextBoolean() ? "Y" : "N")
+                .build();
+    }
+
+    private static Task withReminder(Task task, LocalDateTime reminderDateTime)
+            throws Exception {
+        return new Task(
+                task.getName(),
+                task.getPriority(),
+                task.getDescription(),
+                task.getDone(),
+                task.getTags(),
+                Optional.of(new Reminder(reminderDateTime)));
+    }
+}
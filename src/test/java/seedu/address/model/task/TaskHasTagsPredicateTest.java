@@ -0,0 +1,87 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HELP;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_MA1521;
+import static seedu.address.testutil.TypicalTasks.BUY_MILK;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.TASK2;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskHasTagsPredicateTest {
+
+    private static final Set<Tag> BOTH_TAGS =
+            new HashSet<>(Arrays.asList(Tag.of(VALID_TAG_MA1521), Tag.of(VALID_TAG_HELP)));
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+
+    @Test
+    public void equals() {
+        TagIndex tagIndex = uniqueTaskList.getTagIndex();
+        Set<Tag> oneTag = Collections.singleton(Tag.of(VALID_TAG_MA1521));
+        TaskHasTagsPredicate firstPredicate = new TaskHasTagsPredicate(oneTag, true, tagIndex);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new TaskHasTagsPredicate(oneTag, true, tagIndex)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different tags, matching or index -> returns false
+        assertFalse(firstPredicate.equals(new TaskHasTagsPredicate(BOTH_TAGS, true, tagIndex)));
+        assertFalse(firstPredicate.equals(new TaskHasTagsPredicate(oneTag, false, tagIndex)));
+        assertFalse(
+                firstPredicate.equals(
+                        new TaskHasTagsPredicate(
+                                oneTag, true, new UniqueTaskList().getTagIndex())));
+    }
+
+    @Test
+    public void test_matchAll_onlyTasksWithEveryTag() {
+        uniqueTaskList.setTasks(Arrays.asList(HOMEWORK10, TASK2, BUY_MILK));
+        TaskHasTagsPredicate predicate =
+                new TaskHasTagsPredicate(BOTH_TAGS, true, uniqueTaskList.getTagIndex());
+
+        assertTrue(predicate.test(TASK2));
+        assertFalse(predicate.test(HOMEWORK10));
+        assertFalse(predicate.test(BUY_MILK));
+    }
+
+    @Test
+    public void test_matchAny_tasksWithAnyTag() {
+        uniqueTaskList.setTasks(Arrays.asList(HOMEWORK10, TASK2, BUY_MILK));
+        TaskHasTagsPredicate predicate =
+                new TaskHasTagsPredicate(BOTH_TAGS, false, uniqueTaskList.getTagIndex());
+
+        assertTrue(predicate.test(TASK2));
+        assertTrue(predicate.test(HOMEWORK10));
+        assertFalse(predicate.test(BUY_MILK));
+    }
+
+    @Test
+    public void test_taskEditedAfterCreation_usesCurrentTags() {
+        uniqueTaskList.setTasks(Arrays.asList(HOMEWORK10, BUY_MILK));
+        TaskHasTagsPredicate predicate =
+                new TaskHasTagsPredicate(BOTH_TAGS, true, uniqueTaskList.getTagIndex());
+        assertFalse(predicate.test(BUY_MILK));
+
+        Task taggedMilk =
+                new TaskBuilder(BUY_MILK).withTags(VALID_TAG_MA1521, VALID_TAG_HELP).build();
+        uniqueTaskList.setTask(BUY_MILK, taggedMilk);
+        assertTrue(predicate.test(taggedMilk));
+    }
+}
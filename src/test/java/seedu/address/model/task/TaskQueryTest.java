@@ -0,0 +1,207 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskQueryTest {
+
+    private static final Tag RARE = Tag.of("rare");
+    private static final Tag COMMON = Tag.of("common");
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+
+    @Test
+    public void withPriorities_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new TaskQuery().withPriorities(Priority.of("3"), Priority.of("1")));
+    }
+
+    @Test
+    public void withReminderWindow_invalidWindow_throwsIllegalArgumentException() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new TaskQuery().withReminderWindow(null, null));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new TaskQuery().withReminderWindow(TODAY, TODAY.minusDays(1)));
+    }
+
+    @Test
+    public void plan_noIndexedCondition_examinesEveryTask() {
+        uniqueTaskList.setTasks(getTasks());
+        TaskQuery query = new TaskQuery().withDone(false);
+
+        TaskQueryPlan.Result result = query.plan(uniqueTaskList).execute();
+
+        assertEquals(getTasks().size(), result.getExaminedCount());
+        assertMatches(query, result);
+    }
+
+    @Test
+    public void plan_rareTag_examinesOnlyTasksWithRareTag() {
+        uniqueTaskList.setTasks(getTasks());
+        TaskQuery query =
+                new TaskQuery()
+                        .withTags(new HashSet<>(Arrays.asList(RARE, COMMON)), true)
+                        .withDone(false);
+
+        TaskQueryPlan plan = query.plan(uniqueTaskList);
+        TaskQueryPlan.Result result = plan.execute();
+
+        assertTrue(plan.describe().contains("tag " + RARE));
+        assertEquals(uniqueTaskList.getTagIndex().count(RARE), result.getExaminedCount());
+        assertMatches(query, result);
+    }
+
+    @Test
+    public void plan_narrowReminderWindow_examinesOnlyTasksInWindow() {
+        uniqueTaskList.setTasks(getTasks());
+        TaskQuery query =
+                new TaskQuery()
+                        .withTags(Collections.singleton(COMMON), true)
+                        .withReminderWindow(TODAY.plusDays(3), TODAY.plusDays(4));
+
+        TaskQueryPlan plan = query.plan(uniqueTaskList);
+        TaskQueryPlan.Result result = plan.execute();
+
+        assertTrue(plan.describe().contains("reminder index"));
+        assertFalse(plan.describe().contains("check reminder"));
+        assertEquals(2, result.getExaminedCount());
+        assertMatches(query, result);
+    }
+
+    @Test
+    public void plan_nameKeywords_namesCheckedAgain() {
+        uniqueTaskList.setTasks(getTasks());
+        // Every task has "notes" in its description, but only some in their names
+        TaskQuery query = new TaskQuery().withNameKeywords(Collections.singletonList("NOTES"));
+
+        TaskQueryPlan plan = query.plan(uniqueTaskList);
+        TaskQueryPlan.Result result = plan.execute();
+
+        assertTrue(plan.describe().contains("check name has [notes]"));
+        assertMatches(query, result);
+    }
+
+    @Test
+    public void plan_randomQueries_sameAsCheckingEveryTask() {
+        uniqueTaskList.setTasks(getTasks());
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            TaskQuery query = new TaskQuery();
+            if (random.nextBoolean()) {
+                int min = 1 + random.nextInt(3);
+                int max = min + random.nextInt(4 - min);
+                query.withPriorities(
+                        Priority.of(String.valueOf(min)), Priority.of(String.valueOf(max)));
+            }
+            if (random.nextBoolean()) {
+                query.withDone(random.nextBoolean());
+            }
+            if (random.nextBoolean()) {
+                Set<Tag> tags = new HashSet<>();
+                tags.add(random.nextBoolean() ? RARE : COMMON);
+                tags.add(random.nextBoolean() ? RARE : Tag.of("missing"));
+                query.withTags(tags, random.nextBoolean());
+            }
+            if (random.nextBoolean()) {
+                query.withNameKeywords(Collections.singletonList("task" + random.nextInt(5)));
+            }
+            if (random.nextBoolean()) {
+                LocalDate from = TODAY.plusDays(1 + random.nextInt(10));
+                query.withReminderWindow(
+                        random.nextBoolean() ? from : null, from.plusDays(random.nextInt(5)));
+            }
+            assertMatches(query, query.plan(uniqueTaskList).execute());
+        }
+    }
+
+    @Test
+    public void asPredicate_listChanged_onlyChangedTasksChecked() {
+        uniqueTaskList.setTasks(getTasks());
+        TaskQuery query = new TaskQuery().withTags(Collections.singleton(RARE), true);
+        TaskQueryPlan.Result result = query.plan(uniqueTaskList).execute();
+        Task addedTask = new TaskBuilder().withName("Added").withTags("rare").build();
+
+        // While the list is unchanged, the tasks the plan found are all that match
+        assertFalse(result.asPredicate().test(addedTask));
+
+        uniqueTaskList.add(addedTask);
+        assertTrue(result.asPredicate().test(addedTask));
+        assertFalse(result.asPredicate().test(new TaskBuilder().withName("Other").build()));
+    }
+
+    /** Asserts that {@code result} has the tasks that match {@code query}, checked one by one. */
+    private void assertMatches(TaskQuery query, TaskQueryPlan.Result result) {
+        UniqueTaskList everyTask = new UniqueTaskList();
+        List<Task> expected = new ArrayList<>();
+        for (Task task : uniqueTaskList) {
+            everyTask.setTasks(Collections.singletonList(task));
+            if (query.plan(everyTask).execute().getMatchCount() == 1) {
+                expected.add(task);
+            }
+        }
+        assertEquals(expected.size(), result.getMatchCount());
+        for (Task task : expected) {
+            assertTrue(result.matches(task.getId()));
+        }
+    }
+
+    /**
+     * Returns tasks with every third one done, every fourth tagged {@link #COMMON}, one in twenty
+     * tagged {@link #RARE}, and a reminder a day later for every other one.
+     */
+    private static List<Task> getTasks() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Task task =
+                    new TaskBuilder()
+                            .withName("Task" + (i % 5) + (i % 7 == 0 ? " notes" : "") + " " + i)
+                            .withDescription("notes")
+                            .withPriority(String.valueOf(1 + i % 3))
+                            .withDone(i % 3 == 0 ? "Y" : "N")
+                            .withTags(
+                                    i % 20 == 0 ? "rare" : "other",
+                                    i % 4 == 0 ? "common" : "other")
+                            .build();
+            if (i % 2 == 0) {
+                task = withReminder(task, TODAY.plusDays(1 + i / 2).atTime(9, 0));
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static Task withReminder(Task task, LocalDateTime reminderDateTime) {
+        try {
+            return new Task(
+                    task.getId(),
+                    task.getName(),
+                    task.getPriority(),
+                    task.getDescription(),
+                    task.getDone(),
+                    task.getTags(),
+                    Optional.of(new Reminder(reminderDateTime)));
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalTasks.BUY_MILK;
+import static seedu.address.testutil.TypicalTasks.FEED_CAT;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import seedu.address.testutil.TaskBuilder;
+
+public class TextIndexTest {
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+    private final TextIndex textIndex = uniqueTaskList.getTextIndex();
+
+    @Test
+    public void toTerms() {
+        assertEquals(Collections.emptySet(), TextIndex.toTerms(" - ! "));
+        assertEquals(
+                Arrays.asList("complete", "2", "4km", "run"),
+                Arrays.asList(TextIndex.toTerms("Complete 2.4km run, RUN!").toArray()));
+    }
+
+    @Test
+    public void search_namesAndDescriptions_weightedScores() {
+        uniqueTaskList.setTasks(Arrays.asList(FEED_CAT, BUY_MILK));
+
+        Map<Long, Integer> expected = new HashMap<>();
+        expected.put(FEED_CAT.getId(), TextIndex.NAME_WEIGHT + TextIndex.DESCRIPTION_WEIGHT);
+        expected.put(BUY_MILK.getId(), TextIndex.DESCRIPTION_WEIGHT);
+        assertEquals(expected, textIndex.search(Arrays.asList("cat", "hungry"), false));
+
+        assertEquals(
+                Collections.emptyMap(), textIndex.search(Arrays.asList("cat", "hungry"), true));
+        assertEquals(
+                Collections.singletonMap(
+                        FEED_CAT.getId(), 2 * TextIndex.NAME_WEIGHT + TextIndex.DESCRIPTION_WEIGHT),
+                textIndex.search(Arrays.asList("cat", "feed"), true));
+        assertEquals(Collections.emptyMap(), textIndex.search(Arrays.asList("cat", "dog"), true));
+    }
+
+    @Test
+    public void search_afterEditAndRemove_upToDate() {
+        uniqueTaskList.setTasks(Arrays.asList(FEED_CAT, BUY_MILK));
+        assertEquals(1, textIndex.count("hungry"));
+        Task editedMilk = new TaskBuilder(BUY_MILK).withDescription("For the cat").build();
+        uniqueTaskList.setTask(BUY_MILK, editedMilk);
+        assertEquals(0, textIndex.count("hungry"));
+        assertEquals(2, textIndex.count("cat"));
+
+        uniqueTaskList.remove(FEED_CAT);
+        assertEquals(
+                Collections.singletonMap(BUY_MILK.getId(), TextIndex.DESCRIPTION_WEIGHT),
+                textIndex.search(Collections.singletonList("cat"), false));
+        assertEquals(0, textIndex.count("feed"));
+    }
+
+    @Test
+    public void search_mixedCaseOrNoKeywords() {
+        uniqueTaskList.setTasks(Arrays.asList(FEED_CAT, BUY_MILK));
+
+        assertEquals(
+                Collections.singleton(FEED_CAT.getId()),
+                textIndex.search(TextIndex.toTerms("fEEd CaT"), true).keySet());
+        assertEquals(Collections.emptyMap(), textIndex.search(Collections.emptyList(), false));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_HOMEWORK;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import seedu.address.testutil.TaskBuilder;
+
+public class TrigramIndexTest {
+
+    private final UniqueTaskList uniqueTaskList = new UniqueTaskList();
+    private final TrigramIndex trigramIndex = uniqueTaskList.getTrigramIndex();
+
+    @Test
+    public void getEditDistance() {
+        assertEquals(0, TrigramIndex.getEditDistance("homework", "homework", 2));
+        assertEquals(1, TrigramIndex.getEditDistance("homwork", "homework", 2));
+        assertEquals(1, TrigramIndex.getEditDistance("hoemwork", "homework", 2));
+        assertEquals(2, TrigramIndex.getEditDistance("hmewrok", "homework", 2));
+        // beyond the maximum
+        assertEquals(2, TrigramIndex.getEditDistance("lab", "gym", 1));
+        assertEquals(2, TrigramIndex.getEditDistance("a", "abc", 1));
+    }
+
+    @Test
+    public void search_prefix_wordsStartingWithPrefix() {
+        uniqueTaskList.setTasks(Arrays.asList(HOMEWORK10, LAB_3, OPTIONAL_HOMEWORK));
+
+        Map<Long, Double> scores = trigramIndex.search(Collections.singletonList("HOME*"), false);
+        assertEquals(2, scores.size());
+        assertEquals(0.5, scores.get(HOMEWORK10.getId()));
+        assertEquals(0.5, scores.get(OPTIONAL_HOMEWORK.getId()));
+
+        // a single character has no trigram of its own
+        assertEquals(
+                Collections.singleton(LAB_3.getId()),
+                trigramIndex.search(Collections.singletonList("l*"), false).keySet());
+        assertTrue(trigramIndex.search(Collections.singletonList("*"), false).isEmpty());
+    }
+
+    @Test
+    public void search_typos_similarWordsRanked() {
+        uniqueTaskList.setTasks(Arrays.asList(HOMEWORK10, LAB_3, OPTIONAL_HOMEWORK));
+
+        Map<Long, Double> scores = trigramIndex.search(Arrays.asList("homwork", "optinal"), false);
+        assertEquals(2, scores.size());
+        assertTrue(scores.get(OPTIONAL_HOMEWORK.getId()) > scores.get(HOMEWORK10.getId()));
+
+        // tags are searched too
+        assertEquals(
+                Collections.singleton(LAB_3.getId()),
+                trigramIndex.search(Collections.singletonList("hepl"), false).keySet());
+
+        // every keyword must match
+        assertEquals(
+                Collections.singleton(OPTIONAL_HOMEWORK.getId()),
+                trigramIndex.search(Arrays.asList("homwork", "optinal"), true).keySet());
+
+        // too many typos
+        assertTrue(trigramIndex.search(Collections.singletonList("hmwrk"), false).isEmpty());
+    }
+
+    @Test
+    public void search_afterEditAndRemove_upToDate() {
+        uniqueTaskList.setTasks(Arrays.asList(HOMEWORK10, LAB_3));
+        assertEquals(
+                Collections.singleton(LAB_3.getId()),
+                trigramIndex.search(Collections.singletonList("lab*"), false).keySet());
+        Task renamedLab = new TaskBuilder(LAB_3).withName("Tutorial 3").build();
+        uniqueTaskList.setTask(LAB_3, renamedLab);
+        assertTrue(trigramIndex.search(Collections.singletonList("lab*"), false).isEmpty());
+        assertEquals(
+                Collections.singleton(LAB_3.getId()),
+                trigramIndex.search(Collections.singletonList("tut*"), false).keySet());
+
+        uniqueTaskList.remove(renamedLab);
+        assertTrue(trigramIndex.search(Collections.singletonList("tut*"), false).isEmpty());
+    }
+}
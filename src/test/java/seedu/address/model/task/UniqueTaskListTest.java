@@ -4,15 +4,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DESCRIPTION_TASK2;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HELP;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_MA1521;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_LAB;
 import static seedu.address.testutil.TypicalTasks.TASK2;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import javafx.collections.ListChangeListener;
 import org.junit.jupiter.api.Test;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
 import seedu.address.testutil.TaskBuilder;
@@ -169,10 +176,223 @@ public class UniqueTaskListTest {
                 DuplicateTaskException.class, () -> uniqueTaskList.setTasks(listWithDuplicateTask));
     }
 
+    @Test
+    public void contains_afterIdentityEditedOrRemoved_followsList() {
+        uniqueTaskList.add(HOMEWORK10);
+        uniqueTaskList.setTask(HOMEWORK10, TASK2);
+        assertFalse(uniqueTaskList.contains(HOMEWORK10));
+        assertTrue(uniqueTaskList.contains(TASK2));
+
+        // The old identity is free again
+        uniqueTaskList.add(HOMEWORK10);
+        uniqueTaskList.remove(TASK2);
+        assertFalse(uniqueTaskList.contains(TASK2));
+        uniqueTaskList.add(TASK2);
+        assertTrue(uniqueTaskList.contains(TASK2));
+    }
+
+    @Test
+    public void setPersons_duplicateEditFails_listUnchanged() {
+        uniqueTaskList.add(HOMEWORK10);
+        uniqueTaskList.add(TASK2);
+        assertThrows(
+                DuplicateTaskException.class, () -> uniqueTaskList.setTask(HOMEWORK10, TASK2));
+        assertTrue(uniqueTaskList.contains(HOMEWORK10));
+        uniqueTaskList.remove(TASK2);
+        assertFalse(uniqueTaskList.contains(TASK2));
+    }
+
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueTaskList.addAll(null));
+    }
+
+    @Test
+    public void addAll_duplicateTasks_skipsDuplicates() {
+        uniqueTaskList.add(HOMEWORK10);
+        Task sameIdentity = new TaskBuilder(HOMEWORK10).withTags(VALID_TAG_MA1521).build();
+        assertEquals(1, uniqueTaskList.addAll(Arrays.asList(sameIdentity, TASK2, TASK2)));
+        UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
+        expectedUniqueTaskList.add(HOMEWORK10);
+        expectedUniqueTaskList.add(TASK2);
+        assertEquals(expectedUniqueTaskList, uniqueTaskList);
+    }
+
+    @Test
+    public void add_duplicateId_throwsDuplicateTaskException() {
+        uniqueTaskList.add(HOMEWORK10);
+        Task sameId = new TaskBuilder(TASK2).withId(HOMEWORK10.getId()).build();
+        assertThrows(DuplicateTaskException.class, () -> uniqueTaskList.add(sameId));
+    }
+
+    @Test
+    public void setTasks_listWithDuplicateIds_throwsDuplicateTaskException() {
+        Task sameId = new TaskBuilder(TASK2).withId(HOMEWORK10.getId()).build();
+        List<Task> listWithDuplicateIds = Arrays.asList(HOMEWORK10, sameId);
+        assertThrows(
+                DuplicateTaskException.class, () -> uniqueTaskList.setTasks(listWithDuplicateIds));
+    }
+
+    @Test
+    public void get_afterRemovesAndEdits_findsTasksById() {
+        uniqueTaskList.setTasks(Arrays.asList(HOMEWORK10, TASK2, LAB_3, OPTIONAL_LAB));
+        uniqueTaskList.remove(TASK2);
+        uniqueTaskList.remove(HOMEWORK10);
+
+        assertEquals(Optional.empty(), uniqueTaskList.get(TASK2.getId()));
+        assertEquals(Optional.of(LAB_3), uniqueTaskList.get(LAB_3.getId()));
+        assertEquals(Optional.of(OPTIONAL_LAB), uniqueTaskList.get(OPTIONAL_LAB.getId()));
+
+        Task editedLab =
+                new TaskBuilder(OPTIONAL_LAB).withDescription(VALID_DESCRIPTION_TASK2).build();
+        uniqueTaskList.setTask(OPTIONAL_LAB, editedLab);
+        assertEquals(editedLab, uniqueTaskList.get(OPTIONAL_LAB.getId()).get());
+        assertTrue(uniqueTaskList.containsId(OPTIONAL_LAB.getId()));
+        assertFalse(uniqueTaskList.containsId(HOMEWORK10.getId()));
+    }
+
+    @Test
+    public void getTagIndex_afterChanges_countsUpToDate() {
+        Tag ma1521 = Tag.of(VALID_TAG_MA1521);
+        Tag help = Tag.of(VALID_TAG_HELP);
+        uniqueTaskList.setTasks(Arrays.asList(HOMEWORK10, TASK2));
+        TagIndex tagIndex = uniqueTaskList.getTagIndex();
+        assertEquals(2, tagIndex.count(ma1521));
+        assertEquals(1, tagIndex.count(help));
+
+        uniqueTaskList.setTask(HOMEWORK10, new TaskBuilder(HOMEWORK10).withTags().build());
+        assertEquals(1, tagIndex.count(ma1521));
+        assertFalse(tagIndex.isTagged(HOMEWORK10.getId(), ma1521));
+
+        uniqueTaskList.remove(TASK2);
+        assertEquals(0, tagIndex.count(help));
+        assertTrue(tagIndex.getTags().isEmpty());
+
+        UniqueTaskList replacement = new UniqueTaskList();
+        replacement.add(TASK2);
+        uniqueTaskList.setTasks(replacement);
+        assertTrue(tagIndex.isTagged(TASK2.getId(), help));
+    }
+
+    @Test
+    public void getTagIndex_changedBeforeFirstRead_builtFromList() {
+        TagIndex tagIndex = uniqueTaskList.getTagIndex();
+        uniqueTaskList.add(HOMEWORK10);
+        uniqueTaskList.add(TASK2);
+        uniqueTaskList.remove(HOMEWORK10);
+        assertEquals(1, tagIndex.count(Tag.of(VALID_TAG_MA1521)));
+        assertFalse(tagIndex.isTagged(HOMEWORK10.getId(), Tag.of(VALID_TAG_MA1521)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(
                 UnsupportedOperationException.class,
                 () -> uniqueTaskList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void applyBatch_validBatch_appliedAsOneChange() {
+        Task buyMilk = new TaskBuilder().withName("Buy milk").build();
+        Task feedCat = new TaskBuilder().withName("Feed cat").build();
+        uniqueTaskList.setTasks(Arrays.asList(HOMEWORK10, LAB_3, buyMilk, feedCat));
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        uniqueTaskList
+                .asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Task>) changes::add);
+
+        Task editedLab = new TaskBuilder(LAB_3).withTags(VALID_TAG_MA1521).build();
+        uniqueTaskList.applyBatch(
+                new TaskBatch()
+                        .remove(HOMEWORK10)
+                        .set(LAB_3, editedLab)
+                        .remove(feedCat)
+                        .add(TASK2));
+
+        assertEquals(
+                Arrays.asList(editedLab, buyMilk, TASK2),
+                uniqueTaskList.asUnmodifiableObservableList());
+        assertEquals(1, changes.size());
+        assertEquals(Optional.of(editedLab), uniqueTaskList.get(LAB_3.getId()));
+        assertEquals(Optional.of(TASK2), uniqueTaskList.get(TASK2.getId()));
+        assertFalse(uniqueTaskList.containsId(HOMEWORK10.getId()));
+        assertFalse(uniqueTaskList.contains(feedCat));
+        assertEquals(2, uniqueTaskList.getTagIndex().count(Tag.of(VALID_TAG_MA1521)));
+    }
+
+    @Test
+    public void applyBatch_manyScatteredRemovals_listenersSeeFinalList() {
+        List<Task> tasks = new ArrayList<>();
+        TaskBatch batch = new TaskBatch();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new TaskBuilder().withName("Task " + i).build());
+            if (i % 3 == 0) {
+                batch.remove(tasks.get(i));
+            }
+        }
+        uniqueTaskList.setTasks(tasks);
+        List<Task> copy = new ArrayList<>(tasks);
+        uniqueTaskList
+                .asUnmodifiableObservableList()
+                .addListener(
+                        (ListChangeListener<Task>)
+                                change -> {
+                                    while (change.next()) {
+                                        int from = change.getFrom();
+                                        copy.subList(from, from + change.getRemovedSize()).clear();
+                                        copy.addAll(from, change.getAddedSubList());
+                                    }
+                                });
+
+        uniqueTaskList.applyBatch(batch);
+
+        assertEquals(66, uniqueTaskList.asUnmodifiableObservableList().size());
+        assertEquals(uniqueTaskList.asUnmodifiableObservableList(), copy);
+        assertEquals(Optional.of(tasks.get(98)), uniqueTaskList.get(tasks.get(98).getId()));
+    }
+
+    @Test
+    public void applyBatch_invalidChange_nothingChanged() {
+        uniqueTaskList.setTasks(Arrays.asList(HOMEWORK10, LAB_3));
+        Task editedLab = new TaskBuilder(LAB_3).withTags(VALID_TAG_MA1521).build();
+        int ma1521Count = uniqueTaskList.getTagIndex().count(Tag.of(VALID_TAG_MA1521));
+
+        // task to remove not in list
+        assertThrows(
+                TaskNotFoundException.class,
+                () -> uniqueTaskList.applyBatch(new TaskBatch().remove(LAB_3).remove(TASK2)));
+
+        // same task edited and removed
+        assertThrows(
+                TaskNotFoundException.class,
+                () ->
+                        uniqueTaskList.applyBatch(
+                                new TaskBatch().set(LAB_3, editedLab).remove(LAB_3)));
+
+        // added task already in list
+        assertThrows(
+                DuplicateTaskException.class,
+                () ->
+                        uniqueTaskList.applyBatch(
+                                new TaskBatch().set(LAB_3, editedLab).add(HOMEWORK10)));
+
+        // two added tasks the same
+        assertThrows(
+                DuplicateTaskException.class,
+                () -> uniqueTaskList.applyBatch(new TaskBatch().add(TASK2).add(TASK2)));
+
+        assertEquals(
+                Arrays.asList(HOMEWORK10, LAB_3), uniqueTaskList.asUnmodifiableObservableList());
+        assertEquals(ma1521Count, uniqueTaskList.getTagIndex().count(Tag.of(VALID_TAG_MA1521)));
+        assertTrue(uniqueTaskList.containsId(LAB_3.getId()));
+    }
+
+    @Test
+    public void applyBatch_removedTaskAddedBack_success() {
+        uniqueTaskList.setTasks(Arrays.asList(HOMEWORK10, LAB_3));
+        Task newHomework = new TaskBuilder(HOMEWORK10).withDescription("new").build();
+        uniqueTaskList.applyBatch(new TaskBatch().remove(HOMEWORK10).add(newHomework));
+        assertEquals(
+                Arrays.asList(LAB_3, newHomework), uniqueTaskList.asUnmodifiableObservableList());
+    }
 }
@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Statistics;
+import seedu.address.model.dayData.Date;
+import seedu.address.model.dayData.DayData;
+import seedu.address.model.dayData.PomDurationData;
+import seedu.address.model.dayData.TasksDoneData;
+
+public class BinaryStatisticsStorageTest {
+
+    @TempDir public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.bin");
+        assertFalse(new BinaryStatisticsStorage(filePath).readStatistics().isPresent());
+    }
+
+    @Test
+    public void readAndSaveStatistics_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("statistics.bin");
+        Statistics original = new Statistics();
+        original.addDayData(dayData("2020-03-01", "25", "2"));
+        original.addDayData(dayData("2020-03-02", "0", "0"));
+        BinaryStatisticsStorage storage = new BinaryStatisticsStorage(filePath);
+
+        storage.saveStatistics(original);
+        List<DayData> readBack = storage.readStatistics().get().getDayDataList();
+
+        assertEquals(original.getDayDataList().size(), readBack.size());
+        for (int i = 0; i < readBack.size(); i++) {
+            DayData expected = original.getDayDataList().get(i);
+            assertEquals(expected.getDate(), readBack.get(i).getDate());
+            assertEquals(
+                    expected.getPomDurationData().value,
+                    readBack.get(i).getPomDurationData().value);
+            assertEquals(
+                    expected.getTasksDoneData().value, readBack.get(i).getTasksDoneData().value);
+        }
+    }
+
+    @Test
+    public void read_corruptSection_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("statistics.bin");
+        Statistics original = new Statistics();
+        original.addDayData(dayData("2020-03-01", "25", "2"));
+        new BinaryStatisticsStorage(filePath).saveStatistics(original);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 6] ^= 0x01;
+        Files.write(filePath, bytes);
+
+        assertThrows(
+                DataConversionException.class,
+                () -> new BinaryStatisticsStorage(filePath).readStatistics());
+    }
+
+    private static DayData dayData(String date, String pomDuration, String tasksDone) {
+        return new DayData(
+                new Date(date), new PomDurationData(pomDuration), new TasksDoneData(tasksDone));
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_LAB;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.Statistics;
+import seedu.address.model.TaskList;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class BinaryTaskListStorageTest {
+
+    @TempDir public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.bin");
+        assertFalse(new BinaryTaskListStorage(filePath).readTaskList().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskList_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.bin");
+        TaskList original = getTypicalTaskList();
+        original.setTask(HOMEWORK10, new TaskBuilder(HOMEWORK10).withDone("Y").build());
+        original.setTask(LAB_3, new TaskBuilder(LAB_3).withDoneOn("2020-03-01").build());
+        BinaryTaskListStorage storage = new BinaryTaskListStorage(filePath);
+
+        storage.saveTaskList(original);
+        ReadOnlyTaskList readBack = storage.readTaskList().get();
+        assertEquals(original, new TaskList(readBack));
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            Task expected = original.getTaskList().get(i);
+            assertEquals(expected.getDone(), readBack.getTaskList().get(i).getDone());
+            assertEquals(expected.getTags(), readBack.getTaskList().get(i).getTags());
+            assertEquals(expected.getId(), readBack.getTaskList().get(i).getId());
+        }
+
+        original.addTask(OPTIONAL_LAB);
+        storage.saveTaskList(original, filePath);
+        assertEquals(original, new TaskList(storage.readTaskList(filePath).get()));
+    }
+
+    @Test
+    public void read_corruptSection_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.bin");
+        new BinaryTaskListStorage(filePath).saveTaskList(getTypicalTaskList());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 20] ^= 0x01;
+        Files.write(filePath, bytes);
+
+        assertThrows(
+                DataConversionException.class,
+                () -> new BinaryTaskListStorage(filePath).readTaskList());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.bin");
+        new BinaryTaskListStorage(filePath).saveTaskList(getTypicalTaskList());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(
+                DataConversionException.class,
+                () -> new BinaryTaskListStorage(filePath).readTaskList());
+    }
+
+    @Test
+    public void read_sectionMissing_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.bin");
+        new BinaryTaskListStorage(filePath).saveTaskList(getTypicalTaskList());
+        List<ByteBuffer> sections = BinaryFile.read(filePath, BinaryTaskListStorage.MAGIC).get();
+        List<byte[]> firstThreeSections = new ArrayList<>();
+        for (ByteBuffer section : sections.subList(0, 3)) {
+            byte[] bytes = new byte[section.remaining()];
+            section.get(bytes);
+            firstThreeSections.add(bytes);
+        }
+        BinaryFile.write(filePath, BinaryTaskListStorage.MAGIC, firstThreeSections);
+
+        assertThrows(
+                DataConversionException.class,
+                () -> new BinaryTaskListStorage(filePath).readTaskList());
+    }
+
+    @Test
+    public void read_statisticsFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("statistics.bin");
+        new BinaryStatisticsStorage(filePath).saveStatistics(new Statistics());
+
+        assertThrows(
+                DataConversionException.class,
+                () -> new BinaryTaskListStorage(filePath).readTaskList());
+    }
+
+    @Test
+    public void save_sharedTags_storedOnce() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.bin");
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 10; i++) {
+            taskList.addTask(
+                    new TaskBuilder()
+                            .withName("Task " + i)
+                            .withTags("averyveryverylongtag")
+                            .build());
+        }
+        new BinaryTaskListStorage(filePath).saveTaskList(taskList);
+
+        String contents = new String(Files.readAllBytes(filePath), "UTF-8");
+        assertEquals(
+                contents.indexOf("averyveryverylongtag"),
+                contents.lastIndexOf("averyveryverylongtag"));
+        assertTrue(new BinaryTaskListStorage(filePath).readTaskList().isPresent());
+    }
+}
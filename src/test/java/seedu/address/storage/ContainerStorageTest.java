@@ -0,0 +1,361 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_LAB;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.ReadOnlyPet;
+import seedu.address.model.ReadOnlyPomodoro;
+import seedu.address.model.ReadOnlyStatistics;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.Statistics;
+import seedu.address.model.TaskList;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.dayData.Date;
+import seedu.address.model.dayData.DayData;
+import seedu.address.model.dayData.PomDurationData;
+import seedu.address.model.dayData.TasksDoneData;
+
+public class ContainerStorageTest {
+
+    private static final int THRESHOLD = 10;
+
+    @TempDir public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private JsonUserPrefsStorage userPrefsStorage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("data.dat");
+        journalPath = JournaledTaskListStorage.getJournalFilePath(filePath);
+        userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs.json"));
+    }
+
+    private ContainerStorage createStorage(StorageFormat format) {
+        return new ContainerStorage(filePath, format, THRESHOLD, userPrefsStorage);
+    }
+
+    private static Statistics getStatistics() {
+        Statistics statistics = new Statistics();
+        statistics.addDayData(
+                new DayData(
+                        new Date("2020-03-01"), new PomDurationData("25"), new TasksDoneData("2")));
+        return statistics;
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        ContainerStorage storage = createStorage(StorageFormat.JSON);
+        assertFalse(storage.readTaskList().isPresent());
+        assertFalse(storage.readPet().isPresent());
+        assertFalse(storage.readPomodoro().isPresent());
+        assertFalse(storage.readStatistics().isPresent());
+    }
+
+    @Test
+    public void prefsReadSave() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the ContainerStorage is properly wired to
+         * the {@link JsonUserPrefsStorage} class.
+         * More extensive testing of UserPref saving/reading is done in {@link JsonUserPrefsStorageTest} class.
+         */
+        ContainerStorage storage = createStorage(StorageFormat.JSON);
+        UserPrefs original = new UserPrefs();
+        original.setGuiSettings(new GuiSettings(300, 600, 4, 6));
+        storage.saveUserPrefs(original);
+        assertEquals(original, storage.readUserPrefs().get());
+    }
+
+    @Test
+    public void saveAll_allStores_oneFileReadBack() throws Exception {
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        createStorage(StorageFormat.JSON)
+                .saveAll(getTypicalTaskList(), pet, new Pomodoro(), getStatistics());
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalPath));
+
+        ContainerStorage storage = createStorage(StorageFormat.JSON);
+        assertEquals(getTypicalTaskList(), new TaskList(storage.readTaskList().get()));
+        assertEquals("Rex", storage.readPet().get().getName());
+        assertEquals(
+                new Pomodoro().getDefaultTime(), storage.readPomodoro().get().getDefaultTime());
+        assertEquals(
+                new Date("2020-03-01"),
+                storage.readStatistics().get().getDayDataList().get(0).getDate());
+    }
+
+    @Test
+    public void save_singleStore_otherSectionsKept() throws Exception {
+        createStorage(StorageFormat.BINARY)
+                .saveAll(getTypicalTaskList(), new Pet(), new Pomodoro(), getStatistics());
+
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        createStorage(StorageFormat.BINARY).savePet(pet);
+
+        ContainerStorage storage = createStorage(StorageFormat.BINARY);
+        assertEquals("Rex", storage.readPet().get().getName());
+        assertEquals(getTypicalTaskList(), new TaskList(storage.readTaskList().get()));
+        assertEquals(1, storage.readStatistics().get().getDayDataList().size());
+    }
+
+    @Test
+    public void read_concurrently_allStoresRead() throws Exception {
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        createStorage(StorageFormat.JSON)
+                .saveAll(getTypicalTaskList(), pet, new Pomodoro(), getStatistics());
+
+        ContainerStorage storage = createStorage(StorageFormat.JSON);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Optional<ReadOnlyTaskList>> taskList =
+                    executor.submit(() -> storage.readTaskList());
+            Future<Optional<ReadOnlyPet>> readPet = executor.submit(() -> storage.readPet());
+            Future<Optional<ReadOnlyPomodoro>> pomodoro =
+                    executor.submit(() -> storage.readPomodoro());
+            Future<Optional<ReadOnlyStatistics>> statistics =
+                    executor.submit(() -> storage.readStatistics());
+
+            assertEquals(getTypicalTaskList(), new TaskList(taskList.get().get()));
+            assertEquals("Rex", readPet.get().get().getName());
+            assertTrue(pomodoro.get().isPresent());
+            assertEquals(1, statistics.get().get().getDayDataList().size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void saveTaskList_afterRead_appendsToJournal() throws Exception {
+        ContainerStorage storage = createStorage(StorageFormat.JSON);
+        storage.saveAll(getTypicalTaskList(), new Pet(), new Pomodoro(), new Statistics());
+        byte[] container = Files.readAllBytes(filePath);
+
+        TaskList model = new TaskList(storage.readTaskList().get());
+        model.addTask(OPTIONAL_LAB);
+        storage.saveTaskList(model);
+
+        assertTrue(Files.exists(journalPath));
+        assertEquals(container.length, Files.readAllBytes(filePath).length);
+        assertEquals(model, new TaskList(createStorage(StorageFormat.JSON).readTaskList().get()));
+
+        // Rewriting the container for another store keeps the journal valid
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        storage.savePet(pet);
+        assertEquals(model, new TaskList(createStorage(StorageFormat.JSON).readTaskList().get()));
+    }
+
+    @Test
+    public void saveAll_smallStoresOnly_appendsToJournal() throws Exception {
+        ContainerStorage storage = createStorage(StorageFormat.JSON);
+        storage.saveAll(getTypicalTaskList(), new Pet(), new Pomodoro(), getStatistics());
+        byte[] container = Files.readAllBytes(filePath);
+
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        storage.saveAll(null, pet, null, new Statistics());
+
+        // The task list section is not rewritten for the pet and statistics
+        assertTrue(Files.exists(journalPath));
+        assertArrayEquals(container, Files.readAllBytes(filePath));
+
+        ContainerStorage reopened = createStorage(StorageFormat.JSON);
+        assertEquals("Rex", reopened.readPet().get().getName());
+        assertTrue(reopened.readStatistics().get().getDayDataList().isEmpty());
+        assertEquals(getTypicalTaskList(), new TaskList(reopened.readTaskList().get()));
+    }
+
+    @Test
+    public void savePet_thresholdReached_compactsJournalIntoContainer() throws Exception {
+        ContainerStorage storage = createStorage(StorageFormat.BINARY);
+        storage.saveAll(getTypicalTaskList(), new Pet(), new Pomodoro(), getStatistics());
+        TaskList model = new TaskList(storage.readTaskList().get());
+        model.addTask(OPTIONAL_LAB);
+        storage.saveTaskList(model);
+
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        for (int i = 0; i < THRESHOLD; i++) {
+            storage.savePet(pet);
+        }
+
+        assertFalse(Files.exists(journalPath));
+        ContainerStorage reopened = createStorage(StorageFormat.BINARY);
+        assertEquals(model, new TaskList(reopened.readTaskList().get()));
+        assertEquals("Rex", reopened.readPet().get().getName());
+        assertEquals(1, reopened.readStatistics().get().getDayDataList().size());
+    }
+
+    @Test
+    public void savePet_thresholdReachedBeforeTaskListRead_keepsJournaledTasks() throws Exception {
+        ContainerStorage storage = createStorage(StorageFormat.JSON);
+        storage.saveAll(getTypicalTaskList(), new Pet(), new Pomodoro(), getStatistics());
+        TaskList model = new TaskList(storage.readTaskList().get());
+        model.addTask(OPTIONAL_LAB);
+        storage.saveTaskList(model);
+
+        // Only the small stores have been read when the journal is compacted
+        ContainerStorage reopened = createStorage(StorageFormat.JSON);
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        for (int i = 0; i < THRESHOLD; i++) {
+            reopened.savePet(pet);
+        }
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(model, new TaskList(createStorage(StorageFormat.JSON).readTaskList().get()));
+    }
+
+    @Test
+    public void saveTaskList_thresholdReached_compactsIntoContainer() throws Exception {
+        ContainerStorage storage =
+                new ContainerStorage(filePath, StorageFormat.JSON, 0, userPrefsStorage);
+        storage.saveTaskList(getTypicalTaskList());
+        TaskList model = new TaskList(storage.readTaskList().get());
+        model.addTask(OPTIONAL_LAB);
+        storage.saveTaskList(model);
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(model, new TaskList(createStorage(StorageFormat.JSON).readTaskList().get()));
+    }
+
+    @Test
+    public void read_corruptSection_onlyThatStoreFails() throws Exception {
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        createStorage(StorageFormat.JSON)
+                .saveAll(getTypicalTaskList(), pet, new Pomodoro(), getStatistics());
+
+        // Flip a byte of the date in the statistics payload
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[indexOf(bytes, "2020-03-01".getBytes(StandardCharsets.UTF_8))] ^= 0x1;
+        Files.write(filePath, bytes);
+
+        ContainerStorage storage = createStorage(StorageFormat.JSON);
+        assertThrows(DataConversionException.class, storage::readStatistics);
+        assertEquals("Rex", storage.readPet().get().getName());
+        assertEquals(getTypicalTaskList(), new TaskList(storage.readTaskList().get()));
+    }
+
+    @Test
+    public void read_sectionReaderFails_onlyThatSectionFails() throws Exception {
+        createStorage(StorageFormat.JSON)
+                .saveAll(getTypicalTaskList(), new Pet(), new Pomodoro(), getStatistics());
+
+        try (DataContainer container = DataContainer.open(filePath).get()) {
+            DataContainer.SectionReader<Object> failingReader =
+                    (format, length, payload) -> {
+                        throw new IllegalStateException("Reader failed");
+                    };
+            assertThrows(
+                    DataConversionException.class,
+                    () -> container.read(ContainerStorage.PET_SECTION, failingReader));
+            for (String name : container.getSectionNames()) {
+                if (!name.equals(ContainerStorage.PET_SECTION)) {
+                    container.read(name, (format, length, payload) -> payload.readAllBytes());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void read_corruptTaskList_smallStoresRead() throws Exception {
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        createStorage(StorageFormat.JSON)
+                .saveAll(getTypicalTaskList(), pet, new Pomodoro(), getStatistics());
+
+        // Flip a byte of a task name in the task list payload
+        byte[] bytes = Files.readAllBytes(filePath);
+        String name = getTypicalTaskList().getTaskList().get(0).getName().toString();
+        bytes[indexOf(bytes, name.getBytes(StandardCharsets.UTF_8))] ^= 0x1;
+        Files.write(filePath, bytes);
+
+        ContainerStorage storage = createStorage(StorageFormat.JSON);
+        assertEquals("Rex", storage.readPet().get().getName());
+        assertEquals(1, storage.readStatistics().get().getDayDataList().size());
+        assertThrows(DataConversionException.class, storage::readTaskList);
+    }
+
+    @Test
+    public void read_notAContainer_throwsDataConversionException() throws Exception {
+        Files.write(filePath, "not a container".getBytes());
+        ContainerStorage storage = createStorage(StorageFormat.JSON);
+        assertThrows(DataConversionException.class, storage::readTaskList);
+
+        // Saving replaces the unreadable container
+        storage.saveTaskList(getTypicalTaskList());
+        assertEquals(
+                getTypicalTaskList(),
+                new TaskList(createStorage(StorageFormat.JSON).readTaskList().get()));
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsDataConversionException() throws Exception {
+        createStorage(StorageFormat.JSON).saveTaskList(getTypicalTaskList());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[DataContainer.MAGIC.length() + 1] = DataContainer.FORMAT_VERSION + 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(
+                DataConversionException.class, createStorage(StorageFormat.JSON)::readTaskList);
+    }
+
+    @Test
+    public void convertSections_otherFormat_rewritesSections() throws Exception {
+        createStorage(StorageFormat.JSON)
+                .saveAll(getTypicalTaskList(), new Pet(), new Pomodoro(), getStatistics());
+
+        ContainerStorage binaryStorage = createStorage(StorageFormat.BINARY);
+        assertTrue(binaryStorage.convertSections());
+        assertFalse(createStorage(StorageFormat.BINARY).convertSections());
+
+        ContainerStorage storage = createStorage(StorageFormat.BINARY);
+        assertEquals(getTypicalTaskList(), new TaskList(storage.readTaskList().get()));
+        assertEquals(1, storage.readStatistics().get().getDayDataList().size());
+    }
+
+    @Test
+    public void saveTaskList_otherFilePath_writesOtherContainer() throws Exception {
+        Path otherPath = testFolder.resolve("other.dat");
+        ContainerStorage storage = createStorage(StorageFormat.JSON);
+        storage.saveTaskList(getTypicalTaskList(), otherPath);
+
+        assertFalse(Files.exists(filePath));
+        assertEquals(getTypicalTaskList(), new TaskList(storage.readTaskList(otherPath).get()));
+    }
+
+    private static int indexOf(byte[] bytes, byte[] target) {
+        for (int i = 0; i + target.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Bytes not found");
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_HOMEWORK;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_LAB;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.TaskList;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class JournaledTaskListStorageTest {
+
+    private static final int THRESHOLD = 10;
+
+    @TempDir public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("tasklist.json");
+        journalPath = JournaledTaskListStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournaledTaskListStorage(filePath, THRESHOLD).readTaskList().isPresent());
+    }
+
+    @Test
+    public void save_afterRead_appendsOnlyChanges() throws Exception {
+        TaskList original = getTypicalTaskList();
+        JournaledTaskListStorage storage = new JournaledTaskListStorage(filePath, THRESHOLD);
+        storage.saveTaskList(original);
+        assertFalse(Files.exists(journalPath));
+
+        TaskList model = new TaskList(storage.readTaskList().get());
+        String snapshot = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        model.addTask(OPTIONAL_LAB);
+        model.setTask(LAB_3, new TaskBuilder(LAB_3).withDone("Y").build());
+        model.removeTask(HOMEWORK10);
+        storage.saveTaskList(model);
+
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertSameTasks(
+                model, new JournaledTaskListStorage(filePath, THRESHOLD).readTaskList().get());
+    }
+
+    @Test
+    public void save_unchangedTaskList_appendsNothing() throws Exception {
+        JournaledTaskListStorage storage = new JournaledTaskListStorage(filePath, THRESHOLD);
+        storage.saveTaskList(getTypicalTaskList());
+
+        ReadOnlyTaskList readBack = storage.readTaskList().get();
+        storage.saveTaskList(readBack);
+
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void save_thresholdReached_compactsJournal() throws Exception {
+        JournaledTaskListStorage storage = new JournaledTaskListStorage(filePath, 2);
+        storage.saveTaskList(new TaskList());
+        TaskList model = new TaskList(storage.readTaskList().get());
+
+        model.addTask(OPTIONAL_LAB);
+        storage.saveTaskList(model);
+        model.addTask(OPTIONAL_HOMEWORK);
+        storage.saveTaskList(model);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+
+        model.addTask(HOMEWORK10);
+        storage.saveTaskList(model);
+        assertFalse(Files.exists(journalPath));
+        assertSameTasks(model, new JournaledTaskListStorage(filePath, 2).readTaskList().get());
+    }
+
+    @Test
+    public void read_tornTrailingRecord_skipsRecord() throws Exception {
+        JournaledTaskListStorage storage = new JournaledTaskListStorage(filePath, THRESHOLD);
+        storage.saveTaskList(new TaskList());
+        TaskList model = new TaskList(storage.readTaskList().get());
+        model.addTask(OPTIONAL_LAB);
+        storage.saveTaskList(model);
+        TaskList expected = new TaskList(model);
+
+        model.addTask(OPTIONAL_HOMEWORK);
+        storage.saveTaskList(model);
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 10));
+
+        JournaledTaskListStorage reopened = new JournaledTaskListStorage(filePath, THRESHOLD);
+        assertSameTasks(expected, reopened.readTaskList().get());
+
+        // The next save compacts instead of appending after the torn record
+        expected.addTask(HOMEWORK10);
+        reopened.saveTaskList(expected);
+        assertFalse(Files.exists(journalPath));
+        assertSameTasks(
+                expected, new JournaledTaskListStorage(filePath, THRESHOLD).readTaskList().get());
+    }
+
+    @Test
+    public void read_corruptTrailingRecord_skipsRecord() throws Exception {
+        JournaledTaskListStorage storage = new JournaledTaskListStorage(filePath, THRESHOLD);
+        storage.saveTaskList(new TaskList());
+        TaskList model = new TaskList(storage.readTaskList().get());
+        model.addTask(OPTIONAL_LAB);
+        storage.saveTaskList(model);
+
+        String corrupt = Files.readAllLines(journalPath).get(0).replace("Bonus", "Bogus") + "\n";
+        Files.write(
+                journalPath, corrupt.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertSameTasks(
+                model, new JournaledTaskListStorage(filePath, THRESHOLD).readTaskList().get());
+    }
+
+    @Test
+    public void read_journalAlreadyInSnapshot_recordsNotReapplied() throws Exception {
+        JournaledTaskListStorage storage = new JournaledTaskListStorage(filePath, 1);
+        storage.saveTaskList(new TaskList());
+        TaskList model = new TaskList(storage.readTaskList().get());
+        model.addTask(OPTIONAL_LAB);
+        storage.saveTaskList(model);
+        List<String> journal = Files.readAllLines(journalPath);
+
+        // Compaction that was interrupted before the journal was deleted
+        model.addTask(OPTIONAL_HOMEWORK);
+        storage.saveTaskList(model);
+        Files.write(journalPath, journal);
+
+        assertSameTasks(model, new JournaledTaskListStorage(filePath, 1).readTaskList().get());
+    }
+
+    @Test
+    public void read_journalDoesNotApply_throwsDataConversionException() throws Exception {
+        JournaledTaskListStorage storage = new JournaledTaskListStorage(filePath, THRESHOLD);
+        storage.saveTaskList(getTypicalTaskList());
+        TaskList model = new TaskList(storage.readTaskList().get());
+        model.removeTask(HOMEWORK10);
+        storage.saveTaskList(model);
+
+        // Snapshot replaced behind the journal's back
+        new JsonTaskListStorage(filePath).saveTaskList(new TaskList());
+
+        assertThrows(
+                DataConversionException.class,
+                () -> new JournaledTaskListStorage(filePath, THRESHOLD).readTaskList());
+    }
+
+    @Test
+    public void saveTaskList_otherFilePath_writesSnapshot() throws Exception {
+        Path otherPath = testFolder.resolve("other.json");
+        JournaledTaskListStorage storage = new JournaledTaskListStorage(filePath, THRESHOLD);
+        storage.saveTaskList(getTypicalTaskList(), otherPath);
+
+        assertFalse(Files.exists(JournaledTaskListStorage.getJournalFilePath(otherPath)));
+        assertTrue(new JsonTaskListStorage(otherPath).readTaskList().isPresent());
+    }
+
+    /** Asserts that both task lists hold equal tasks in the same order, including their status. */
+    private static void assertSameTasks(ReadOnlyTaskList expected, ReadOnlyTaskList actual) {
+        List<Task> expectedTasks = expected.getTaskList();
+        List<Task> actualTasks = actual.getTaskList();
+        assertEquals(expectedTasks, actualTasks);
+        for (int i = 0; i < expectedTasks.size(); i++) {
+            assertEquals(expectedTasks.get(i).getDone(), actualTasks.get(i).getDone());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.model.task.Done.DONE;
 import static seedu.address.storage.JsonAdaptedTask.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -12,8 +14,11 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.task.Description;
+import seedu.address.model.task.Done;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Priority;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -34,6 +39,54 @@ public class JsonAdaptedPersonTest {
         assertEquals(LAB_3, person.toModelType());
     }
 
+    @Test
+    public void toModelType_savedTask_keepsId() throws Exception {
+        assertEquals(LAB_3.getId(), new JsonAdaptedTask(LAB_3).toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_withoutId_newId() throws Exception {
+        JsonAdaptedTask withoutId = new JsonAdaptedTask(LAB_3).withoutId();
+        assertNotEquals(LAB_3.getId(), withoutId.toModelType().getId());
+        assertNotEquals(withoutId.toModelType().getId(), withoutId.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_doneOn_keepsDoneDay() throws Exception {
+        Task doneTask = new TaskBuilder(LAB_3).withDoneOn("2020-03-01").build();
+        assertEquals(
+                doneTask.getDone(), new JsonAdaptedTask(doneTask).toModelType().getDone());
+    }
+
+    @Test
+    public void toModelType_invalidDoneOn_throwsIllegalValueException() {
+        JsonAdaptedTask task =
+                new JsonAdaptedTask(
+                        VALID_NAME,
+                        VALID_PRIORITY,
+                        VALID_DESCRIPTION,
+                        VALID_DONE,
+                        "2020-13-01",
+                        VALID_TAGS);
+        assertThrows(
+                IllegalValueException.class,
+                JsonAdaptedTask.INVALID_DONE_ON_MESSAGE,
+                task::toModelType);
+
+        JsonAdaptedTask notDoneTask =
+                new JsonAdaptedTask(
+                        VALID_NAME,
+                        VALID_PRIORITY,
+                        VALID_DESCRIPTION,
+                        Done.NOT_DONE,
+                        "2020-03-01",
+                        VALID_TAGS);
+        assertThrows(
+                IllegalValueException.class,
+                JsonAdaptedTask.INVALID_DONE_ON_MESSAGE,
+                notDoneTask::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedTask person =
@@ -80,6 +133,14 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, expectedMessage, task::toModelType);
     }
 
+    @Test
+    public void toModelType_nullDone_notDone() throws Exception {
+        JsonAdaptedTask task =
+                new JsonAdaptedTask(
+                        VALID_NAME, VALID_PRIORITY, VALID_DESCRIPTION, null, VALID_TAGS);
+        assertFalse(task.toModelType().getDone().isDone);
+    }
+
     @Test
     public void toModelType_invalidTags_throwsIllegalValueException() {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
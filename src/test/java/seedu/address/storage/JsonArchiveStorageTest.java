@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTasks.HOMEWORK10;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_LAB;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.model.TaskArchive;
+import seedu.address.model.TaskList;
+import seedu.address.model.VersionedTaskList;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class JsonArchiveStorageTest {
+
+    @TempDir public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("data.dat.archive");
+    }
+
+    @Test
+    public void readArchive_missingFile_noTasks() throws Exception {
+        assertTrue(new JsonArchiveStorage(filePath).readArchive().isEmpty());
+    }
+
+    @Test
+    public void saveArchive_newTasks_appendedOnce() throws Exception {
+        Task doneTask = new TaskBuilder(LAB_3).withDoneOn("2020-03-01").build();
+        TaskArchive archive = new TaskArchive();
+        archive.addTask(doneTask);
+        JsonArchiveStorage storage = new JsonArchiveStorage(filePath);
+        storage.saveArchive(archive);
+        storage.saveArchive(archive);
+
+        archive.addTask(HOMEWORK10);
+        storage.saveArchive(archive);
+
+        assertEquals(
+                Arrays.asList(doneTask, HOMEWORK10),
+                new JsonArchiveStorage(filePath).readArchive());
+        assertEquals(
+                doneTask.getDone(),
+                new JsonArchiveStorage(filePath).readArchive().get(0).getDone());
+    }
+
+    @Test
+    public void saveArchiveRemovals_tasksTakenOut_leftOutWhenRead() throws Exception {
+        TaskArchive archive = new TaskArchive();
+        archive.addTask(HOMEWORK10);
+        archive.addTask(LAB_3);
+        JsonArchiveStorage storage = new JsonArchiveStorage(filePath);
+        storage.saveArchive(archive);
+
+        // LAB_3 taken back out of the archive
+        TaskArchive undoneArchive = new TaskArchive();
+        undoneArchive.addTask(HOMEWORK10);
+        storage.saveArchive(undoneArchive);
+        storage.saveArchiveRemovals(undoneArchive);
+        assertEquals(Arrays.asList(HOMEWORK10), new JsonArchiveStorage(filePath).readArchive());
+
+        // LAB_3 archived again
+        storage.saveArchive(archive);
+        storage.saveArchiveRemovals(archive);
+        assertEquals(
+                Arrays.asList(HOMEWORK10, LAB_3), new JsonArchiveStorage(filePath).readArchive());
+    }
+
+    @Test
+    public void readArchive_afterSave_tasksSavedByThisStorageIncluded() throws Exception {
+        TaskArchive earlierArchive = new TaskArchive();
+        earlierArchive.addTask(HOMEWORK10);
+        new JsonArchiveStorage(filePath).saveArchive(earlierArchive);
+
+        JsonArchiveStorage storage = new JsonArchiveStorage(filePath);
+        TaskArchive archive = new TaskArchive();
+        archive.addTask(LAB_3);
+        storage.saveArchive(archive);
+
+        assertEquals(Arrays.asList(HOMEWORK10, LAB_3), storage.readArchive());
+    }
+
+    @Test
+    public void saveArchiveRemovals_tasksDropped_keptArchived() throws Exception {
+        TaskArchive archive = new TaskArchive();
+        VersionedTaskList taskList = new VersionedTaskList(new TaskList(), archive, 0);
+        archive.addTask(HOMEWORK10);
+        taskList.commit();
+        JsonArchiveStorage storage = new JsonArchiveStorage(filePath);
+        storage.saveArchive(archive);
+
+        // Without undo history, HOMEWORK10 is dropped from memory once it is saved
+        taskList.archiveSaved();
+        archive.addTask(LAB_3);
+        taskList.commit();
+        storage.saveArchive(archive);
+        storage.saveArchiveRemovals(archive);
+
+        assertEquals(Arrays.asList(LAB_3), archive.getNewlyArchivedTasks());
+        assertEquals(
+                Arrays.asList(HOMEWORK10, LAB_3), new JsonArchiveStorage(filePath).readArchive());
+    }
+
+    @Test
+    public void readArchive_tornAndCorruptLines_otherTasksRead() throws Exception {
+        TaskArchive earlierArchive = new TaskArchive();
+        earlierArchive.addTask(HOMEWORK10);
+        new JsonArchiveStorage(filePath).saveArchive(earlierArchive);
+        Files.write(
+                filePath,
+                "0000000 {\"name\":\"corrupt\"}\n1234 {\"na".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        TaskArchive archive = new TaskArchive();
+        archive.addTask(OPTIONAL_LAB);
+        new JsonArchiveStorage(filePath).saveArchive(archive);
+
+        assertEquals(
+                Arrays.asList(HOMEWORK10, OPTIONAL_LAB),
+                new JsonArchiveStorage(filePath).readArchive());
+    }
+}
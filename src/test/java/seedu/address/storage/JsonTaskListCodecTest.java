@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.LAB_3;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.TaskList;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class JsonTaskListCodecTest {
+
+    private static final Path TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableTaskListTest");
+
+    @TempDir public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonTaskListCodec.read(testFolder.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void read_typicalTasksFile_success() throws Exception {
+        TaskList taskList =
+                JsonTaskListCodec.read(TEST_DATA_FOLDER.resolve("typicalTasks.json"))
+                        .get()
+                        .getTaskList();
+        assertEquals(getTypicalTaskList(), taskList);
+    }
+
+    @Test
+    public void read_invalidTask_throwsDataConversionException() {
+        assertThrows(
+                DataConversionException.class,
+                () -> JsonTaskListCodec.read(TEST_DATA_FOLDER.resolve("invalidTask.json")));
+    }
+
+    @Test
+    public void read_duplicateTasks_throwsDataConversionException() {
+        assertThrows(
+                DataConversionException.class,
+                () -> JsonTaskListCodec.read(TEST_DATA_FOLDER.resolve("duplicateTask.json")));
+    }
+
+    @Test
+    public void read_notAnObject_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("array.json");
+        Files.write(filePath, "[]".getBytes());
+        assertThrows(DataConversionException.class, () -> JsonTaskListCodec.read(filePath));
+    }
+
+    @Test
+    public void write_typicalTasks_sameAsDataBinding() throws Exception {
+        Path streamed = testFolder.resolve("streamed.json");
+        Path bound = testFolder.resolve("bound.json");
+        TaskList taskList = getTypicalTaskList();
+        taskList.setTask(LAB_3, new TaskBuilder(LAB_3).withDoneOn("2020-03-01").build());
+
+        JsonTaskListCodec.write(taskList, 42, streamed);
+        JsonUtil.saveJsonFile(new JsonSerializableTaskList(taskList, 42), bound);
+
+        assertEquals(
+                new String(Files.readAllBytes(bound), "UTF-8"),
+                new String(Files.readAllBytes(streamed), "UTF-8"));
+    }
+
+    @Test
+    public void writeThenRead_typicalTasks_sameTasksAndSequence() throws Exception {
+        Path filePath = testFolder.resolve("tasklist.json");
+        TaskList taskList = getTypicalTaskList();
+        Task doneTask = new TaskBuilder(LAB_3).withDoneOn("2020-03-01").build();
+        taskList.setTask(LAB_3, doneTask);
+        JsonTaskListCodec.write(taskList, 7, filePath);
+
+        JsonTaskListCodec.DecodedTaskList decoded = JsonTaskListCodec.read(filePath).get();
+        assertEquals(taskList, decoded.getTaskList());
+        assertEquals(doneTask.getDone(), decoded.getTaskList().getTaskList().get(1).getDone());
+        assertEquals(7, decoded.getJournalSequence());
+        for (int i = 0; i < taskList.getTaskList().size(); i++) {
+            assertEquals(
+                    taskList.getTaskList().get(i).getId(),
+                    decoded.getTaskList().getTaskList().get(i).getId());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTasks.OPTIONAL_LAB;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.Pet;
+import seedu.address.model.Statistics;
+import seedu.address.model.TaskList;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.dayData.Date;
+import seedu.address.model.dayData.DayData;
+import seedu.address.model.dayData.PomDurationData;
+import seedu.address.model.dayData.TasksDoneData;
+
+public class StorageConverterTest {
+
+    private static final int THRESHOLD = 10;
+
+    @TempDir public Path testFolder;
+
+    private UserPrefs userPrefs;
+
+    @BeforeEach
+    public void setUp() {
+        userPrefs = new UserPrefs();
+        userPrefs.setTaskListFilePath(testFolder.resolve("tasklist.json"));
+        userPrefs.setPetFilePath(testFolder.resolve("pet.json"));
+        userPrefs.setPomodoroFilePath(testFolder.resolve("pomodoro.json"));
+        userPrefs.setStatisticsFilePath(testFolder.resolve("statistics.json"));
+        userPrefs.setDataFilePath(testFolder.resolve("data.dat"));
+    }
+
+    private ContainerStorage createContainer() {
+        return new ContainerStorage(
+                userPrefs.getDataFilePath(),
+                StorageFormat.JSON,
+                THRESHOLD,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    @Test
+    public void migrateToContainer_separateFiles_movedIntoContainer() throws Exception {
+        new JournaledTaskListStorage(userPrefs.getTaskListFilePath(), THRESHOLD)
+                .saveTaskList(getTypicalTaskList());
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        new JsonPetStorage(userPrefs.getPetFilePath()).savePet(pet);
+        Statistics statistics = new Statistics();
+        statistics.addDayData(
+                new DayData(
+                        new Date("2020-03-01"), new PomDurationData("25"), new TasksDoneData("2")));
+        new BinaryStatisticsStorage(testFolder.resolve("statistics.bin"))
+                .saveStatistics(statistics);
+
+        assertTrue(StorageConverter.migrateToContainer(userPrefs, createContainer()));
+
+        ContainerStorage container = createContainer();
+        assertEquals(getTypicalTaskList(), new TaskList(container.readTaskList().get()));
+        assertEquals("Rex", container.readPet().get().getName());
+        assertFalse(container.readPomodoro().isPresent());
+        assertEquals(1, container.readStatistics().get().getDayDataList().size());
+        // Already migrated
+        assertFalse(StorageConverter.migrateToContainer(userPrefs, createContainer()));
+    }
+
+    @Test
+    public void migrateToContainer_binaryNewerThanJson_readsBinary() throws Exception {
+        Path jsonPath = userPrefs.getTaskListFilePath();
+        new JsonTaskListStorage(jsonPath).saveTaskList(getTypicalTaskList());
+        TaskList updated = getTypicalTaskList();
+        updated.addTask(OPTIONAL_LAB);
+        new BinaryTaskListStorage(testFolder.resolve("tasklist.bin")).saveTaskList(updated);
+        Files.setLastModifiedTime(jsonPath, FileTime.fromMillis(0));
+
+        assertTrue(StorageConverter.migrateToContainer(userPrefs, createContainer()));
+
+        assertEquals(updated, new TaskList(createContainer().readTaskList().get()));
+    }
+
+    @Test
+    public void migrateToContainer_unreadableFile_otherStoresMoved() throws Exception {
+        Files.write(userPrefs.getTaskListFilePath(), "not json".getBytes());
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        new JsonPetStorage(userPrefs.getPetFilePath()).savePet(pet);
+
+        assertTrue(StorageConverter.migrateToContainer(userPrefs, createContainer()));
+
+        ContainerStorage container = createContainer();
+        assertFalse(container.readTaskList().isPresent());
+        assertEquals("Rex", container.readPet().get().getName());
+    }
+
+    @Test
+    public void migrateToContainer_noSeparateFiles_nothingWritten() throws Exception {
+        assertFalse(StorageConverter.migrateToContainer(userPrefs, createContainer()));
+        assertFalse(Files.exists(userPrefs.getDataFilePath()));
+    }
+}
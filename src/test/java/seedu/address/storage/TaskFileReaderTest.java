@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalTasks.getTypicalTasks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.core.TaskFileFormat;
+import seedu.address.model.task.Done;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskFileReaderTest {
+
+    private static final Task QUOTED_TASK =
+            new TaskBuilder()
+                    .withName("Read notes")
+                    .withDescription(" Chapters \"1, 2\"\nand 3")
+                    .withDoneOn("2020-03-01")
+                    .withTags("exam", "cs")
+                    .build();
+
+    @TempDir public Path testFolder;
+
+    private static List<Task> getTasksToWrite() {
+        List<Task> tasks = new ArrayList<>(getTypicalTasks());
+        tasks.add(QUOTED_TASK);
+        return tasks;
+    }
+
+    private static List<Task> readAll(Path filePath, TaskFileFormat format, int chunkSize)
+            throws IOException {
+        List<Task> tasks = new ArrayList<>();
+        try (TaskFileReader reader = new TaskFileReader(filePath, format)) {
+            List<Task> chunk = reader.readChunk(chunkSize);
+            while (!chunk.isEmpty()) {
+                assertTrue(chunk.size() <= chunkSize);
+                tasks.addAll(chunk);
+                chunk = reader.readChunk(chunkSize);
+            }
+            assertEquals(0, reader.getInvalidRowCount());
+        }
+        return tasks;
+    }
+
+    private void assertRoundTrip(TaskFileFormat format) throws IOException {
+        Path filePath = testFolder.resolve("tasks" + format.getFileExtension());
+        List<Task> tasks = getTasksToWrite();
+        assertEquals(tasks.size(), TaskFileWriter.write(filePath, format, tasks));
+
+        List<Task> read = readAll(filePath, format, 3);
+        assertEquals(tasks, read);
+        Task quoted = read.get(read.size() - 1);
+        assertEquals(QUOTED_TASK.getDescription(), quoted.getDescription());
+        assertEquals(QUOTED_TASK.getDone(), quoted.getDone());
+    }
+
+    @Test
+    public void read_csvWrittenByWriter_sameTasks() throws Exception {
+        assertRoundTrip(TaskFileFormat.CSV);
+    }
+
+    @Test
+    public void read_jsonLinesWrittenByWriter_sameTasks() throws Exception {
+        assertRoundTrip(TaskFileFormat.JSON_LINES);
+    }
+
+    @Test
+    public void read_jsonLinesWithIds_newIdsGiven() throws Exception {
+        Path filePath = testFolder.resolve("tasks.jsonl");
+        List<Task> tasks = getTasksToWrite();
+        TaskFileWriter.write(filePath, TaskFileFormat.JSON_LINES, tasks);
+
+        List<Task> read = readAll(filePath, TaskFileFormat.JSON_LINES, 10);
+        for (int i = 0; i < tasks.size(); i++) {
+            assertNotEquals(tasks.get(i).getId(), read.get(i).getId());
+        }
+    }
+
+    @Test
+    public void read_csvWithoutHeaderOrOptionalColumns_defaultsUsed() throws Exception {
+        Path filePath = testFolder.resolve("tasks.csv");
+        Files.write(
+                filePath,
+                "Buy eggs,2,From the market\r\n\r\nPay rent,1,,Y,2020-03-01,home bills\n"
+                        .getBytes(StandardCharsets.UTF_8));
+
+        List<Task> tasks = readAll(filePath, TaskFileFormat.CSV, 10);
+        assertEquals(2, tasks.size());
+        assertEquals(Priority.of("2"), tasks.get(0).getPriority());
+        assertFalse(tasks.get(0).getDone().isDone);
+        assertTrue(tasks.get(0).getTags().isEmpty());
+        assertEquals(Done.of(LocalDate.of(2020, 3, 1)), tasks.get(1).getDone());
+        assertEquals(2, tasks.get(1).getTags().size());
+    }
+
+    @Test
+    public void read_invalidRows_skippedAndReported() throws Exception {
+        Path filePath = testFolder.resolve("tasks.csv");
+        StringBuilder contents = new StringBuilder("name,priority,description\n");
+        contents.append("Valid task,1,\n");
+        contents.append("Bad priority,7,\n");
+        contents.append("B@d name,1,\n");
+        for (int i = 0; i < TaskFileReader.MAX_REPORTED_ERRORS; i++) {
+            contents.append("Bad tag,1,,N,,#tag\n");
+        }
+        Files.write(filePath, contents.toString().getBytes(StandardCharsets.UTF_8));
+
+        try (TaskFileReader reader = new TaskFileReader(filePath, TaskFileFormat.CSV)) {
+            assertEquals(1, reader.readChunk(10).size());
+            assertTrue(reader.readChunk(10).isEmpty());
+            assertEquals(TaskFileReader.MAX_REPORTED_ERRORS + 2, reader.getInvalidRowCount());
+            assertEquals(TaskFileReader.MAX_REPORTED_ERRORS, reader.getErrors().size());
+            assertEquals(
+                    String.format(
+                            TaskFileReader.MESSAGE_INVALID_ROW, 3, Priority.MESSAGE_CONSTRAINTS),
+                    reader.getErrors().get(0));
+        }
+    }
+
+    @Test
+    public void read_invalidJsonLine_skipped() throws Exception {
+        Path filePath = testFolder.resolve("tasks.jsonl");
+        Files.write(
+                filePath,
+                ("{\"name\":\"Valid task\",\"priority\":\"1\",\"description\":\"\"}\n"
+                                + "not json\n")
+                        .getBytes(StandardCharsets.UTF_8));
+
+        try (TaskFileReader reader = new TaskFileReader(filePath, TaskFileFormat.JSON_LINES)) {
+            List<Task> tasks = reader.readChunk(10);
+            assertEquals(1, tasks.size());
+            assertFalse(tasks.get(0).getDone().isDone);
+            assertEquals(1, reader.getInvalidRowCount());
+            assertTrue(reader.getErrors().get(0).startsWith("Row 2: "));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.core.TaskFileFormat;
+import seedu.address.testutil.TaskBuilder;
+
+public class TaskFileWriterTest {
+
+    @TempDir public Path testFolder;
+
+    @Test
+    public void quoteIfNeeded() {
+        assertEquals("plain text", TaskFileWriter.quoteIfNeeded("plain text"));
+        assertEquals("", TaskFileWriter.quoteIfNeeded(""));
+        assertEquals("\"a, b\"", TaskFileWriter.quoteIfNeeded("a, b"));
+        assertEquals("\"say \"\"hi\"\"\"", TaskFileWriter.quoteIfNeeded("say \"hi\""));
+        assertEquals("\"two\nlines\"", TaskFileWriter.quoteIfNeeded("two\nlines"));
+        assertEquals("\" padded\"", TaskFileWriter.quoteIfNeeded(" padded"));
+    }
+
+    @Test
+    public void write_csv_headerThenOneRowPerTask() throws Exception {
+        Path filePath = testFolder.resolve("tasks.csv");
+        TaskFileWriter.write(
+                filePath,
+                TaskFileFormat.CSV,
+                Arrays.asList(
+                        new TaskBuilder()
+                                .withName("Pay rent")
+                                .withPriority("1")
+                                .withDescription("Rent, bills")
+                                .withDoneOn("2020-03-01")
+                                .withTags("home", "bills")
+                                .build()));
+
+        assertEquals(
+                "name,priority,description,done,doneOn,tags\n"
+                        + "Pay rent,1,\"Rent, bills\",Y,2020-03-01,bills home\n",
+                new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+    }
+}
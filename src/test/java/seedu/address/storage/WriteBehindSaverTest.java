@@ -0,0 +1,249 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalTasks.getTypicalTaskList;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.Pet;
+import seedu.address.model.Pomodoro;
+import seedu.address.model.ReadOnlyPet;
+import seedu.address.model.ReadOnlyPomodoro;
+import seedu.address.model.ReadOnlyStatistics;
+import seedu.address.model.ReadOnlyTaskList;
+import seedu.address.model.Statistics;
+import seedu.address.model.TaskArchive;
+import seedu.address.model.TaskList;
+import seedu.address.testutil.TaskBuilder;
+import seedu.address.testutil.TypicalTasks;
+
+public class WriteBehindSaverTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 10;
+
+    @TempDir public Path testFolder;
+
+    private CountingStorage storage;
+    private WriteBehindSaver saver;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new CountingStorage(testFolder);
+        saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        saver.shutdown();
+    }
+
+    @Test
+    public void submit_burstOfCommands_oneWritePerFile() throws Exception {
+        TaskList taskList = new TaskList();
+        Pet pet = new Pet();
+        Pomodoro pomodoro = new Pomodoro();
+        Statistics statistics = new Statistics();
+        TaskArchive archive = new TaskArchive();
+        for (int i = 0; i < 50; i++) {
+            taskList.addTask(new TaskBuilder().withName("Task " + i).build());
+            pet.incrementExp();
+            pomodoro.setTask(null);
+            statistics.setDayDatas(new ArrayList<>());
+            archive.addTask(new TaskBuilder().withName("Archived " + i).build());
+            saver.submit(taskList, pet, pomodoro, statistics, archive);
+        }
+        assertEquals(5, saver.getQueueDepth());
+
+        saver.flush();
+
+        assertEquals(0, saver.getQueueDepth());
+        assertEquals(1, storage.saveAllCalls);
+        assertEquals(1, storage.taskListSaves);
+        assertEquals(1, storage.petSaves);
+        assertEquals(1, storage.pomodoroSaves);
+        assertEquals(1, storage.statisticsSaves);
+        assertEquals(taskList, new TaskList(storage.readTaskList().get()));
+        assertEquals(
+                archive.getNewlyArchivedTasks(),
+                new JsonArchiveStorage(storage.getArchiveFilePath()).readArchive());
+    }
+
+    @Test
+    public void submit_unchangedStores_doesNotWrite() throws Exception {
+        TaskList taskList = getTypicalTaskList();
+        Pet pet = new Pet();
+        Pomodoro pomodoro = new Pomodoro();
+        Statistics statistics = new Statistics();
+        TaskArchive archive = new TaskArchive();
+        saver.markSaved(taskList, pet, pomodoro, statistics, archive);
+
+        saver.submit(taskList, pet, pomodoro, statistics, archive);
+        saver.flush();
+
+        assertEquals(0, storage.taskListSaves + storage.petSaves);
+        assertEquals(0, storage.pomodoroSaves + storage.statisticsSaves);
+    }
+
+    @Test
+    public void submit_petOnlyChange_writesPetOnly() throws Exception {
+        TaskList taskList = getTypicalTaskList();
+        Pet pet = new Pet();
+        Pomodoro pomodoro = new Pomodoro();
+        Statistics statistics = new Statistics();
+        TaskArchive archive = new TaskArchive();
+        saver.markSaved(taskList, pet, pomodoro, statistics, archive);
+
+        pet.setName("Rex");
+        saver.submit(taskList, pet, pomodoro, statistics, archive);
+        saver.flush();
+
+        assertEquals(1, storage.petSaves);
+        assertEquals(0, storage.taskListSaves);
+        assertEquals(0, storage.pomodoroSaves + storage.statisticsSaves);
+    }
+
+    @Test
+    public void submit_laterChangesToModel_snapshotUnaffected() throws Exception {
+        TaskList taskList = getTypicalTaskList();
+        saver.submit(taskList, new Pet(), new Pomodoro(), new Statistics(), new TaskArchive());
+        taskList.addTask(TypicalTasks.OPTIONAL_LAB);
+
+        saver.flush();
+
+        assertEquals(getTypicalTaskList(), new TaskList(storage.readTaskList().get()));
+    }
+
+    @Test
+    public void flush_nothingPending_doesNotWrite() throws Exception {
+        saver.flush();
+        assertEquals(0, storage.taskListSaves);
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_retriedOnNextSubmit() throws Exception {
+        TaskList taskList = getTypicalTaskList();
+        storage.isFailing = true;
+        saver.submit(taskList, new Pet(), new Pomodoro(), new Statistics(), new TaskArchive());
+        assertThrows(IOException.class, () -> saver.flush());
+
+        storage.isFailing = false;
+        saver.submit(taskList, new Pet(), new Pomodoro(), new Statistics(), new TaskArchive());
+        saver.flush();
+        assertEquals(taskList, new TaskList(storage.readTaskList().get()));
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_retriedWithoutNewSubmit() throws Exception {
+        WriteBehindSaver quickSaver = new WriteBehindSaver(storage, 0);
+        TaskList taskList = getTypicalTaskList();
+        storage.isFailing = true;
+        quickSaver.submit(taskList, new Pet(), new Pomodoro(), new Statistics(), new TaskArchive());
+        assertThrows(IOException.class, () -> quickSaver.flush());
+
+        storage.isFailing = false;
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (quickSaver.getQueueDepth() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        quickSaver.shutdown();
+        assertEquals(0, quickSaver.getQueueDepth());
+        assertEquals(taskList, new TaskList(storage.readTaskList().get()));
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_otherStoresRetried() throws Exception {
+        TaskList taskList = getTypicalTaskList();
+        Pet pet = new Pet();
+        pet.setName("Rex");
+        storage.isFailing = true;
+        saver.submit(taskList, pet, new Pomodoro(), new Statistics(), new TaskArchive());
+        assertThrows(IOException.class, () -> saver.flush());
+
+        storage.isFailing = false;
+        saver.submit(taskList, pet, new Pomodoro(), new Statistics(), new TaskArchive());
+        saver.flush();
+        assertEquals(2, storage.saveAllCalls);
+        assertEquals(1, storage.petSaves);
+    }
+
+    @Test
+    public void flush_storageThrowsRuntimeException_reportedAndRetried() throws Exception {
+        TaskList taskList = getTypicalTaskList();
+        storage.isBroken = true;
+        saver.submit(taskList, new Pet(), new Pomodoro(), new Statistics(), new TaskArchive());
+        assertThrows(IOException.class, () -> saver.flush());
+
+        storage.isBroken = false;
+        saver.submit(taskList, new Pet(), new Pomodoro(), new Statistics(), new TaskArchive());
+        saver.flush();
+        assertEquals(taskList, new TaskList(storage.readTaskList().get()));
+    }
+
+    @Test
+    public void flush_storageThrowsIoException_archiveSavedFirstAndOnce() throws Exception {
+        TaskList taskList = getTypicalTaskList();
+        TaskArchive archive = new TaskArchive();
+        archive.addTask(TypicalTasks.OPTIONAL_LAB);
+        storage.isFailing = true;
+        saver.submit(taskList, new Pet(), new Pomodoro(), new Statistics(), archive);
+        assertThrows(IOException.class, () -> saver.flush());
+
+        JsonArchiveStorage archiveStorage = new JsonArchiveStorage(storage.getArchiveFilePath());
+        assertEquals(archive.getNewlyArchivedTasks(), archiveStorage.readArchive());
+
+        storage.isFailing = false;
+        saver.submit(taskList, new Pet(), new Pomodoro(), new Statistics(), archive);
+        saver.flush();
+        assertEquals(
+                archive.getNewlyArchivedTasks(),
+                new JsonArchiveStorage(storage.getArchiveFilePath()).readArchive());
+    }
+
+    /** A {@code ContainerStorage} that counts the number of writes to each store. */
+    private static class CountingStorage extends ContainerStorage {
+        private int saveAllCalls;
+        private int taskListSaves;
+        private int petSaves;
+        private int pomodoroSaves;
+        private int statisticsSaves;
+        private volatile boolean isFailing;
+        private boolean isBroken;
+
+        CountingStorage(Path folder) {
+            super(
+                    folder.resolve("data.dat"),
+                    StorageFormat.JSON,
+                    JOURNAL_COMPACTION_THRESHOLD,
+                    new JsonUserPrefsStorage(folder.resolve("prefs.json")));
+        }
+
+        @Override
+        public synchronized void saveAll(
+                ReadOnlyTaskList taskList,
+                ReadOnlyPet pet,
+                ReadOnlyPomodoro pomodoro,
+                ReadOnlyStatistics statistics)
+                throws IOException {
+            saveAllCalls++;
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            if (isBroken) {
+                throw new IllegalStateException("dummy exception");
+            }
+            taskListSaves += taskList == null ? 0 : 1;
+            petSaves += pet == null ? 0 : 1;
+            pomodoroSaves += pomodoro == null ? 0 : 1;
+            statisticsSaves += statistics == null ? 0 : 1;
+            super.saveAll(taskList, pet, pomodoro, statistics);
+        }
+    }
+}
@@ -40,7 +40,7 @@ public class EditTaskDescriptorBuilder {
 
     /** Sets the {@code Priority} of the {@code EditPersonDescriptor} that we are building. */
     public EditTaskDescriptorBuilder withPriority(String priority) {
-        descriptor.setPriority(new Priority(priority));
+        descriptor.setPriority(Priority.of(priority));
         return this;
     }
 
@@ -55,7 +55,7 @@ public class EditTaskDescriptorBuilder {
      * EditPersonDescriptor} that we are building.
      */
     public EditTaskDescriptorBuilder withTags(String... tags) {
-        Set<Tag> tagSet = Stream.of(tags).map(Tag::new).collect(Collectors.toSet());
+        Set<Tag> tagSet = Stream.of(tags).map(Tag::of).collect(Collectors.toSet());
         descriptor.setTags(tagSet);
         return this;
     }
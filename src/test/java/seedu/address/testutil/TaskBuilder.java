@@ -1,6 +1,8 @@
 package seedu.address.testutil;
 
+import java.time.LocalDate;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Description;
@@ -23,12 +25,13 @@ public class TaskBuilder {
     private Description description;
     private Done done;
     private Set<Tag> tags;
+    private Long id;
 
     public TaskBuilder() {
         name = new Name(DEFAULT_NAME);
-        priority = new Priority(DEFAULT_PRIORITY);
+        priority = Priority.of(DEFAULT_PRIORITY);
         description = new Description(DEFAULT_DESCRIPTION);
-        done = new Done(DEFAULT_DONE);
+        done = Done.of(DEFAULT_DONE);
         tags = new HashSet<>();
     }
 
@@ -39,6 +42,7 @@ public class TaskBuilder {
         description = taskToCopy.getDescription();
         done = taskToCopy.getDone();
         tags = new HashSet<>(taskToCopy.getTags());
+        id = taskToCopy.getId();
     }
 
     /** Sets the {@code Name} of the {@code Person} that we are building. */
@@ -64,16 +68,31 @@ public class TaskBuilder {
 
     /** Sets the {@code Priority} of the {@code Person} that we are building. */
     public TaskBuilder withPriority(String priority) {
-        this.priority = new Priority(priority);
+        this.priority = Priority.of(priority);
         return this;
     }
 
     public TaskBuilder withDone(String done) {
-        this.done = new Done(done);
+        this.done = Done.of(done);
+        return this;
+    }
+
+    /** Sets the {@code Done} of the {@code Task} that we are building to done on {@code doneOn}. */
+    public TaskBuilder withDoneOn(String doneOn) {
+        this.done = Done.of(LocalDate.parse(doneOn));
+        return this;
+    }
+
+    /** Sets the id of the {@code Task} that we are building. */
+    public TaskBuilder withId(long id) {
+        this.id = id;
         return this;
     }
 
     public Task build() {
+        if (id != null) {
+            return new Task(id, name, priority, description, done, tags, Optional.empty());
+        }
         return new Task(name, priority, description, done, tags);
     }
 }